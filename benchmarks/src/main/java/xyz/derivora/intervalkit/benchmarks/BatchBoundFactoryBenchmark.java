@@ -0,0 +1,86 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the batch methods {@link BoundFactory#getFiniteBounds(long[])} and
+ * {@link BoundFactory#getFiniteBounds(double[])} with creating the same bounds one value at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBoundFactoryBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private final BoundFactory boundFactory = BoundFactory.immutable();
+
+    private long[] longValues;
+
+    private double[] doubleValues;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(size);
+        longValues = random.longs(size).toArray();
+        doubleValues = random.doubles(size, -1_000_000, 1_000_000).toArray();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public FiniteBound<Long>[] longsOneByOne() {
+        FiniteBound<Long>[] bounds = (FiniteBound<Long>[]) new FiniteBound<?>[longValues.length];
+        for (int i = 0; i < longValues.length; i++) {
+            bounds[i] = boundFactory.getFiniteBound(longValues[i]);
+        }
+
+        return bounds;
+    }
+
+    @Benchmark
+    public FiniteBound<Long>[] longsBatch() {
+        return boundFactory.getFiniteBounds(longValues);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public FiniteBound<Double>[] doublesOneByOne() {
+        FiniteBound<Double>[] bounds = (FiniteBound<Double>[]) new FiniteBound<?>[doubleValues.length];
+        for (int i = 0; i < doubleValues.length; i++) {
+            bounds[i] = boundFactory.getFiniteBound(doubleValues[i]);
+        }
+
+        return bounds;
+    }
+
+    @Benchmark
+    public FiniteBound<Double>[] doublesBatch() {
+        return boundFactory.getFiniteBounds(doubleValues);
+    }
+}
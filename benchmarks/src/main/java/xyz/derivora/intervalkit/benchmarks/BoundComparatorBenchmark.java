@@ -0,0 +1,64 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BoundComparator#compare(Bound, Bound)} over pairs of boundaries of different type mixes.
+ * <p>
+ * Every invocation performs {@code size} comparisons, so scores are reported per batch.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundComparatorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"LONG", "INT", "DOUBLE", "BOXED_LONG", "BIG_DECIMAL", "MIXED", "MIXED_WITH_INFINITE"})
+    public BoundData.ValueMix mix;
+
+    private final BoundComparator comparator = BoundComparator.getInstance();
+
+    private Bound[] bounds;
+
+    @Setup
+    public void setUp() {
+        bounds = BoundData.createBounds(mix, size);
+    }
+
+    @Benchmark
+    public int compare() {
+        int result = 0;
+        for (int i = 1; i < bounds.length; i++) {
+            result += comparator.compare(bounds[i - 1], bounds[i]);
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible benchmark data sets of numbers, numeric strings and boundaries.
+ * <p>
+ * All data sets are derived from a fixed seed, so every fork of a benchmark works on the same values.
+ * </p>
+ */
+final class BoundData {
+
+    /**
+     * The seed used for all generated data sets.
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    /**
+     * The fraction of infinite boundaries in data sets of {@link ValueMix#MIXED_WITH_INFINITE}.
+     */
+    private static final int INFINITE_BOUND_RATIO = 16;
+
+    /**
+     * The value types cycled through by {@link ValueMix#MIXED} and {@link ValueMix#MIXED_WITH_INFINITE}.
+     */
+    private static final ValueMix[] MIXED_VALUE_TYPES = {
+            ValueMix.LONG, ValueMix.INT, ValueMix.DOUBLE, ValueMix.BIG_DECIMAL
+    };
+
+    /**
+     * The composition of the values of a generated data set.
+     */
+    enum ValueMix {
+
+        /**
+         * {@code Long} values, stored in primitive-backed bounds by the factory.
+         */
+        LONG,
+
+        /**
+         * {@code Integer} values, stored in primitive-backed bounds by the factory.
+         */
+        INT,
+
+        /**
+         * {@code Double} values, stored in primitive-backed bounds by the factory.
+         */
+        DOUBLE,
+
+        /**
+         * {@code Long} values wrapped directly in {@link ImmutableFiniteBound}.
+         */
+        BOXED_LONG,
+
+        /**
+         * {@code BigDecimal} values with two fractional digits.
+         */
+        BIG_DECIMAL,
+
+        /**
+         * An even mix of {@code Long}, {@code Integer}, {@code Double} and {@code BigDecimal} values.
+         */
+        MIXED,
+
+        /**
+         * The same mix as {@link #MIXED}, with one in {@value #INFINITE_BOUND_RATIO} boundaries being infinite.
+         */
+        MIXED_WITH_INFINITE
+    }
+
+    private BoundData() {
+    }
+
+    /**
+     * Creates an array of numbers of the given composition.
+     * <p>
+     * Infinite values are not representable as numbers, so {@link ValueMix#MIXED_WITH_INFINITE} produces
+     * the same numbers as {@link ValueMix#MIXED}.
+     * </p>
+     *
+     * @param mix  the composition of the values
+     * @param size the number of values
+     * @return a new array of numbers
+     */
+    static Number[] createNumbers(ValueMix mix, int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Number[] numbers = new Number[size];
+        for (int i = 0; i < size; i++) {
+            numbers[i] = createNumber(mix, i, random);
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Creates an array of the string representations of numbers of the given composition.
+     * <p>
+     * {@code BigDecimal} values are written in plain notation, all other values with {@link String#valueOf(Object)}.
+     * </p>
+     *
+     * @param mix  the composition of the values
+     * @param size the number of strings
+     * @return a new array of numeric strings
+     */
+    static String[] createStrings(ValueMix mix, int size) {
+        Number[] numbers = createNumbers(mix, size);
+        String[] strings = new String[size];
+        for (int i = 0; i < size; i++) {
+            strings[i] = numbers[i] instanceof BigDecimal decimal
+                    ? decimal.toPlainString()
+                    : String.valueOf(numbers[i]);
+        }
+
+        return strings;
+    }
+
+    /**
+     * Creates an array of boundaries of the given composition.
+     *
+     * @param mix  the composition of the values
+     * @param size the number of boundaries
+     * @return a new array of boundaries
+     */
+    static Bound[] createBounds(ValueMix mix, int size) {
+        BoundFactory boundFactory = BoundFactory.immutable();
+        SplittableRandom random = new SplittableRandom(SEED);
+        Bound[] bounds = new Bound[size];
+        for (int i = 0; i < size; i++) {
+            if (mix == ValueMix.MIXED_WITH_INFINITE && random.nextInt(INFINITE_BOUND_RATIO) == 0) {
+                bounds[i] = boundFactory.getInfiniteBound(random.nextBoolean());
+            } else if (mix == ValueMix.BOXED_LONG) {
+                bounds[i] = new ImmutableFiniteBound<>(random.nextLong(-1_000_000, 1_000_000));
+            } else {
+                bounds[i] = boundFactory.getFiniteBound(createNumber(mix, i, random));
+            }
+        }
+
+        return bounds;
+    }
+
+    private static Number createNumber(ValueMix mix, int index, SplittableRandom random) {
+        return switch (mix) {
+            case LONG, BOXED_LONG -> random.nextLong(-1_000_000, 1_000_000);
+            case INT -> random.nextInt(-1_000_000, 1_000_000);
+            case DOUBLE -> random.nextDouble(-1_000_000, 1_000_000);
+            case BIG_DECIMAL -> BigDecimal.valueOf(random.nextLong(-100_000_000, 100_000_000), 2);
+            case MIXED, MIXED_WITH_INFINITE ->
+                    createNumber(MIXED_VALUE_TYPES[index % MIXED_VALUE_TYPES.length], index, random);
+        };
+    }
+}
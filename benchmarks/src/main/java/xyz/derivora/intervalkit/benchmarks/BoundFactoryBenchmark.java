@@ -0,0 +1,72 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the construction of finite boundaries through {@link BoundFactory#immutable()}.
+ * <p>
+ * Every invocation creates {@code size} boundaries, so scores are reported per batch. Both benchmarks
+ * work on values of the same composition, given either as numbers or as their string representations.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundFactoryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"LONG", "INT", "DOUBLE", "BIG_DECIMAL", "MIXED"})
+    public BoundData.ValueMix mix;
+
+    private final BoundFactory boundFactory = BoundFactory.immutable();
+
+    private Number[] numbers;
+
+    private String[] strings;
+
+    @Setup
+    public void setUp() {
+        numbers = BoundData.createNumbers(mix, size);
+        strings = BoundData.createStrings(mix, size);
+    }
+
+    @Benchmark
+    public void getFiniteBoundFromNumber(Blackhole blackhole) {
+        for (Number number : numbers) {
+            blackhole.consume(boundFactory.getFiniteBound(number));
+        }
+    }
+
+    @Benchmark
+    public void getFiniteBoundFromString(Blackhole blackhole) {
+        for (String string : strings) {
+            blackhole.consume(boundFactory.getFiniteBound(string));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link BoundFactory#getFiniteBound(String)} with {@link BoundFactory#parseFiniteBound(CharSequence, int, int)}
+ * on a comma-separated buffer of integer and short decimal literals, as produced by CSV and config loaders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundParsingBenchmark {
+
+    @Param({"1000"})
+    public int size;
+
+    private final BoundFactory boundFactory = BoundFactory.immutable();
+
+    private String buffer;
+
+    private int[] offsets;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(size);
+        StringBuilder builder = new StringBuilder();
+        offsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            offsets[i] = builder.length();
+            if (random.nextBoolean()) {
+                builder.append(random.nextInt(-1_000_000, 1_000_000));
+            } else {
+                builder.append(random.nextInt(-10_000, 10_000)).append('.').append(random.nextInt(4) * 25);
+            }
+            builder.append(',');
+        }
+        offsets[size] = builder.length();
+        buffer = builder.toString();
+    }
+
+    @Benchmark
+    public void bigDecimalSubstrings(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(boundFactory.getFiniteBound(buffer.substring(offsets[i], offsets[i + 1] - 1)));
+        }
+    }
+
+    @Benchmark
+    public void parseInPlace(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(boundFactory.parseFiniteBound(buffer, offsets[i], offsets[i + 1] - 1));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.ParallelBoundSorter;
+import xyz.derivora.intervalkit.sort.RadixSorter;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sorting of a {@code Bound[]} with {@link Arrays#sort(Object[], java.util.Comparator)}
+ * and {@link BoundComparator}, compared with {@link ParallelBoundSorter} and {@link RadixSorter}.
+ * <p>
+ * The unsorted array is restored before every invocation, outside the measured region.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundSortBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"LONG", "DOUBLE", "BOXED_LONG", "BIG_DECIMAL", "MIXED_WITH_INFINITE"})
+    public BoundData.ValueMix mix;
+
+    private Bound[] unsortedBounds;
+
+    private Bound[] bounds;
+
+    @Setup
+    public void setUp() {
+        unsortedBounds = BoundData.createBounds(mix, size);
+        bounds = new Bound[size];
+    }
+
+    @Setup(Level.Invocation)
+    public void restoreBounds() {
+        System.arraycopy(unsortedBounds, 0, bounds, 0, size);
+    }
+
+    @Benchmark
+    public Bound[] sort() {
+        Arrays.sort(bounds, BoundComparator.getInstance());
+        return bounds;
+    }
+
+    @Benchmark
+    public Bound[] parallelSort() {
+        ParallelBoundSorter.sort(bounds);
+        return bounds;
+    }
+
+    @Benchmark
+    public Bound[] radixSort() {
+        RadixSorter.sort(bounds);
+        return bounds;
+    }
+}
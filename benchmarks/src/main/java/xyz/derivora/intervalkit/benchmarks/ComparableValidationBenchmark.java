@@ -0,0 +1,128 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-class cached {@code Comparable} validation of {@link BoundFactory#immutable()}
+ * with the reflective check that was previously performed on every call.
+ * <p>
+ * The {@code reflective*} benchmarks reproduce the former behavior: the generic interfaces of the value's
+ * class are inspected on every call. The {@code cached*} benchmarks use a {@link ClassValue}, as the factory
+ * does now. Only value types that are not unboxed into primitive-backed bounds are measured, since
+ * {@code Long}, {@code Integer} and {@code Double} values bypass the validation entirely.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparableValidationBenchmark {
+
+    /**
+     * A cache equivalent to the one used by the immutable factory.
+     */
+    private static final ClassValue<Boolean> COMPARABLE_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return isValidComparable(type);
+        }
+    };
+
+    @Param({"BigDecimal", "BigInteger", "Short"})
+    public String valueType;
+
+    private final BoundFactory boundFactory = BoundFactory.immutable();
+
+    private Number value;
+
+    @Setup
+    public void setUp() {
+        value = switch (valueType) {
+            case "BigDecimal" -> new BigDecimal("12345.678");
+            case "BigInteger" -> BigInteger.valueOf(12345);
+            case "Short" -> (short) 12345;
+            default -> throw new IllegalArgumentException("Unknown value type: " + valueType);
+        };
+    }
+
+    @Benchmark
+    public boolean reflectiveCheck() {
+        return isValidComparable(value.getClass());
+    }
+
+    @Benchmark
+    public boolean cachedCheck() {
+        return COMPARABLE_TYPES.get(value.getClass());
+    }
+
+    @Benchmark
+    public FiniteBound<?> reflectiveFactory() {
+        if (isValidComparable(value.getClass())) {
+            return createFiniteBound(value);
+        }
+
+        throw new ClassCastException(value.getClass().getName());
+    }
+
+    @Benchmark
+    public FiniteBound<?> cachedFactory() {
+        return boundFactory.getFiniteBound(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Number & Comparable<T>> FiniteBound<T> createFiniteBound(Number number) {
+        return new ImmutableFiniteBound<>((T) number);
+    }
+
+    /**
+     * The reflective check performed by the factory before validation results were cached.
+     *
+     * @param clazz the class to check
+     * @return {@code true} if {@code clazz} explicitly implements {@code Comparable} of itself
+     */
+    private static boolean isValidComparable(Class<?> clazz) {
+        for (Type type : clazz.getGenericInterfaces()) {
+            if (type instanceof ParameterizedType parameterizedType) {
+                Type rawType = parameterizedType.getRawType();
+                if (rawType != Comparable.class) {
+                    continue;
+                }
+
+                Type[] typeArguments = parameterizedType.getActualTypeArguments();
+                if (typeArguments.length == 1 && typeArguments[0] == clazz) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ImmutableFiniteBound#equals(Object)} and {@link ImmutableFiniteBound#hashCode()}.
+ * <p>
+ * The {@code equals} benchmark compares pairs of distinct instances holding equal values, so that
+ * the identity short-circuit is never taken. Every invocation processes {@code size} boundaries.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FiniteBoundEqualityBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"LONG", "DOUBLE", "BIG_DECIMAL"})
+    public BoundData.ValueMix mix;
+
+    private ImmutableFiniteBound<?>[] bounds;
+
+    private ImmutableFiniteBound<?>[] equalBounds;
+
+    @Setup
+    public void setUp() {
+        Number[] numbers = BoundData.createNumbers(mix, size);
+        bounds = new ImmutableFiniteBound<?>[size];
+        equalBounds = new ImmutableFiniteBound<?>[size];
+        for (int i = 0; i < size; i++) {
+            bounds[i] = createBound(numbers[i]);
+            equalBounds[i] = createBound(numbers[i]);
+        }
+    }
+
+    @Benchmark
+    public int equalsOfEqualBounds() {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (bounds[i].equals(equalBounds[i])) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int hashCodes() {
+        int result = 0;
+        for (ImmutableFiniteBound<?> bound : bounds) {
+            result += bound.hashCode();
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Number & Comparable<T>> ImmutableFiniteBound<T> createBound(Number number) {
+        return new ImmutableFiniteBound<>((T) number);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import xyz.derivora.intervalkit.arithmetic.DoubleRounding;
+import xyz.derivora.intervalkit.arithmetic.IntervalArithmetic;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IntervalArithmetic} on intervals with {@code long}, {@code double} and {@link BigDecimal}
+ * endpoints, the first two of which are computed on primitive values. The {@code outward} type uses
+ * {@code double} endpoints with {@link DoubleRounding#OUTWARD}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntervalArithmeticBenchmark {
+
+    private static final int SIZE = 1 << 10;
+
+    @Param({"long", "double", "outward", "decimal"})
+    public String type;
+
+    private IntervalArithmetic arithmetic;
+
+    private ImmutableInterval[] intervals;
+
+    @Setup
+    public void setUp() {
+        arithmetic = type.equals("outward")
+                ? IntervalArithmetic.of(BoundFactory.immutable(), DoubleRounding.OUTWARD)
+                : IntervalArithmetic.getInstance();
+
+        SplittableRandom random = new SplittableRandom(42);
+        intervals = new ImmutableInterval[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            long lower = random.nextLong(-1_000, 1_000);
+            long upper = lower + random.nextLong(1, 1_000);
+            intervals[i] = ImmutableInterval.closedOpen(bound(lower), bound(upper));
+        }
+    }
+
+    private Bound bound(long value) {
+        return switch (type) {
+            case "long" -> new LongFiniteBound(value);
+            case "double", "outward" -> new DoubleFiniteBound(value);
+            default -> new ImmutableFiniteBound<>(BigDecimal.valueOf(value));
+        };
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void add(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(arithmetic.add(intervals[i], intervals[(i + 1) & (SIZE - 1)]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void multiply(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) {
+            blackhole.consume(arithmetic.multiply(intervals[i], intervals[(i + 1) & (SIZE - 1)]));
+        }
+    }
+}
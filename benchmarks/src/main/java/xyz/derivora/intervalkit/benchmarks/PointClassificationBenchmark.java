@@ -0,0 +1,93 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalSet;
+import xyz.derivora.intervalkit.intervals.PointClassifier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares classifying a batch of {@code double} points against an {@link IntervalSet} one
+ * {@link IntervalSet#contains(Number)} call at a time with a single {@link PointClassifier} call.
+ * <p>
+ * The forked JVM resolves {@code jdk.incubator.vector}, so small sets are classified with vector operations.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class PointClassificationBenchmark {
+
+    private static final int POINTS = 1 << 16;
+
+    @Param({"8", "32", "1000"})
+    public int size;
+
+    private IntervalSet set;
+
+    private PointClassifier classifier;
+
+    private double[] points;
+
+    private boolean[] results;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(size);
+        List<Interval> intervals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            intervals.add(ImmutableInterval.closedOpen(
+                    new DoubleFiniteBound(i * 100.0), new DoubleFiniteBound(i * 100.0 + random.nextDouble(100.0))
+            ));
+        }
+
+        set = IntervalSet.of(intervals);
+        classifier = PointClassifier.of(set);
+
+        points = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = random.nextDouble(size * 100.0);
+        }
+        results = new boolean[POINTS];
+    }
+
+    @Benchmark
+    public boolean[] intervalSetContains() {
+        for (int i = 0; i < POINTS; i++) {
+            results[i] = set.contains(points[i]);
+        }
+        return results;
+    }
+
+    @Benchmark
+    public boolean[] pointClassifier() {
+        classifier.contains(points, results);
+        return results;
+    }
+}
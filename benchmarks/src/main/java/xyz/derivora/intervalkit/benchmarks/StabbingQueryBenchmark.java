@@ -0,0 +1,91 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.index.EytzingerIntervalIndex;
+import xyz.derivora.intervalkit.index.IntervalTree;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of point (stabbing) queries of {@link IntervalTree} and {@link EytzingerIntervalIndex}
+ * over short, sparsely overlapping ranges with {@code long} endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StabbingQueryBenchmark {
+
+    private static final int QUERIES = 1 << 12;
+
+    @Param({"10000", "5000000"})
+    public int size;
+
+    private IntervalTree<Interval> tree;
+
+    private EytzingerIntervalIndex<Interval> index;
+
+    private Long[] points;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(size);
+        long range = size * 10L;
+        List<Interval> intervals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long lower = random.nextLong(range);
+            intervals.add(ImmutableInterval.closedOpen(
+                    new LongFiniteBound(lower), new LongFiniteBound(lower + 1 + random.nextInt(20))
+            ));
+        }
+
+        tree = IntervalTree.of(intervals);
+        index = EytzingerIntervalIndex.of(intervals);
+
+        points = new Long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            points[i] = random.nextLong(range);
+        }
+    }
+
+    private Long nextPoint() {
+        return points[next++ & (QUERIES - 1)];
+    }
+
+    @Benchmark
+    public long intervalTree() {
+        return tree.containing(nextPoint()).count();
+    }
+
+    @Benchmark
+    public long eytzingerIndex() {
+        return index.containing(nextPoint()).count();
+    }
+}
@@ -24,6 +24,23 @@
  *   <li>A structured representation of interval boundaries through the {@link xyz.derivora.intervalkit.bounds.Bound}
  *       interface and its specializations: {@link xyz.derivora.intervalkit.bounds.FiniteBound} and
  *       {@link xyz.derivora.intervalkit.bounds.InfiniteBound}.</li>
+ *   <li>Closed, open and half-open intervals through the {@link xyz.derivora.intervalkit.intervals.Interval}
+ *       interface and its implementation {@link xyz.derivora.intervalkit.intervals.ImmutableInterval}.</li>
+ *   <li>Index structures for point and overlap queries, such as {@link xyz.derivora.intervalkit.index.IntervalTree}.</li>
+ *   <li>Columnar storage for large interval collections through
+ *       {@link xyz.derivora.intervalkit.columns.IntervalColumns}.</li>
+ *   <li>A compact binary format for boundaries and intervals through
+ *       {@link xyz.derivora.intervalkit.codec.BoundCodec} and {@link xyz.derivora.intervalkit.codec.IntervalCodec}.</li>
+ *   <li>Streaming overlap and coverage detection over sorted intervals through
+ *       {@link xyz.derivora.intervalkit.sweep.SweepLine}.</li>
+ *   <li>Optional instrumentation of boundary creation and comparison, published through JMX when the
+ *       {@code java.management} module is present, through
+ *       {@link xyz.derivora.intervalkit.metrics.InstrumentedBoundFactory} and
+ *       {@link xyz.derivora.intervalkit.metrics.CountingBoundComparator}.</li>
+ *   <li>Radix sorting of large boundary and interval arrays through
+ *       {@link xyz.derivora.intervalkit.sort.RadixSorter}.</li>
+ *   <li>Interval arithmetic with infinite endpoints and division by intervals containing zero through
+ *       {@link xyz.derivora.intervalkit.arithmetic.IntervalArithmetic}.</li>
  * </ul>
  *
  * <p>This module is designed for use in mathematical computations, range-based operations, and
@@ -31,10 +48,19 @@
  */
 module derivora.interval.kit {
     requires derivora.util.kit;
+    requires static java.management;
 
     exports xyz.derivora.intervalkit.bounds;
     exports xyz.derivora.intervalkit.bounds.finite;
     exports xyz.derivora.intervalkit.bounds.infinite;
     exports xyz.derivora.intervalkit.bounds.comparison;
     exports xyz.derivora.intervalkit.bounds.factory;
+    exports xyz.derivora.intervalkit.intervals;
+    exports xyz.derivora.intervalkit.index;
+    exports xyz.derivora.intervalkit.columns;
+    exports xyz.derivora.intervalkit.codec;
+    exports xyz.derivora.intervalkit.sweep;
+    exports xyz.derivora.intervalkit.metrics;
+    exports xyz.derivora.intervalkit.sort;
+    exports xyz.derivora.intervalkit.arithmetic;
 }
\ No newline at end of file
@@ -0,0 +1,552 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.arithmetic;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Interval arithmetic over {@link BigDecimal} endpoints, used for endpoints of arbitrary precision and as
+ * the exact fallback of {@link LongKernel}.
+ * <p>
+ * Negation, addition, subtraction, multiplication and powers are exact. Quotients are exact if they have a
+ * terminating decimal expansion; otherwise lower endpoints are rounded down and upper endpoints are rounded up
+ * to {@link #DIVISION_PRECISION} significant digits, so that the result still encloses the exact quotient.
+ * </p>
+ */
+final class DecimalKernel {
+
+    /**
+     * The number of significant digits of quotients without a terminating decimal expansion.
+     */
+    static final int DIVISION_PRECISION = MathContext.DECIMAL128.getPrecision();
+
+    /**
+     * The context rounding quotients down.
+     */
+    private static final MathContext FLOOR = new MathContext(DIVISION_PRECISION, RoundingMode.FLOOR);
+
+    /**
+     * The context rounding quotients up.
+     */
+    private static final MathContext CEILING = new MathContext(DIVISION_PRECISION, RoundingMode.CEILING);
+
+    /**
+     * The only odd prime factor of the base of the decimal system.
+     */
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+    /**
+     * The endpoint zero.
+     */
+    private static final Endpoint ZERO = new Endpoint(0, BigDecimal.ZERO);
+
+    /**
+     * The negative infinite endpoint.
+     */
+    private static final Endpoint NEGATIVE_INFINITY = new Endpoint(-1, null);
+
+    /**
+     * The positive infinite endpoint.
+     */
+    private static final Endpoint POSITIVE_INFINITY = new Endpoint(1, null);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DecimalKernel() {
+    }
+
+    /**
+     * Negates an interval.
+     *
+     * @param interval the non-empty interval
+     * @param factory  the factory of result boundaries
+     * @return {@code -interval}
+     */
+    static ImmutableInterval negate(Interval interval, BoundFactory factory) {
+        return interval(
+                upper(interval).negate(), upperClosed(interval),
+                lower(interval).negate(), lowerClosed(interval),
+                factory
+        );
+    }
+
+    /**
+     * Adds two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return {@code first + second}
+     */
+    static ImmutableInterval add(Interval first, Interval second, BoundFactory factory) {
+        return interval(
+                lower(first).add(lower(second)), lowerClosed(first) && lowerClosed(second),
+                upper(first).add(upper(second)), upperClosed(first) && upperClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Subtracts an interval from another.
+     *
+     * @param first   the non-empty minuend
+     * @param second  the non-empty subtrahend
+     * @param factory the factory of result boundaries
+     * @return {@code first - second}
+     */
+    static ImmutableInterval subtract(Interval first, Interval second, BoundFactory factory) {
+        return interval(
+                lower(first).add(upper(second).negate()), lowerClosed(first) && upperClosed(second),
+                upper(first).add(lower(second).negate()), upperClosed(first) && lowerClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Multiplies two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return {@code first * second}
+     */
+    static ImmutableInterval multiply(Interval first, Interval second, BoundFactory factory) {
+        Endpoint[] firstEndpoints = {lower(first), upper(first)};
+        Endpoint[] secondEndpoints = {lower(second), upper(second)};
+        boolean[] firstClosed = {lowerClosed(first), upperClosed(first)};
+        boolean[] secondClosed = {lowerClosed(second), upperClosed(second)};
+
+        Endpoint lower = null;
+        Endpoint upper = null;
+        boolean lowerClosed = false;
+        boolean upperClosed = false;
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) {
+                Endpoint product = firstEndpoints[i].multiply(secondEndpoints[j]);
+                boolean closed = firstClosed[i] && (secondClosed[j] || firstEndpoints[i].isZero())
+                        || secondClosed[j] && secondEndpoints[j].isZero();
+
+                int lowerComparison = lower == null ? -1 : product.compareTo(lower);
+                if (lowerComparison < 0) {
+                    lower = product;
+                    lowerClosed = closed;
+                } else if (lowerComparison == 0) {
+                    lowerClosed |= closed;
+                }
+
+                int upperComparison = upper == null ? 1 : product.compareTo(upper);
+                if (upperComparison > 0) {
+                    upper = product;
+                    upperClosed = closed;
+                } else if (upperComparison == 0) {
+                    upperClosed |= closed;
+                }
+            }
+        }
+        return interval(lower, lowerClosed, upper, upperClosed, factory);
+    }
+
+    /**
+     * Divides an interval by an interval that contains no zero.
+     *
+     * @param first   the non-empty dividend
+     * @param second  the non-empty divisor, either positive or negative, with zero allowed only as an open endpoint
+     * @param factory the factory of result boundaries
+     * @return {@code first / second}, enclosing the exact quotient
+     */
+    static ImmutableInterval divide(Interval first, Interval second, BoundFactory factory) {
+        Endpoint[] dividends = {lower(first), upper(first)};
+        Endpoint[] divisors = {lower(second), upper(second)};
+        boolean[] dividendClosed = {lowerClosed(first), upperClosed(first)};
+        boolean[] divisorClosed = {lowerClosed(second), upperClosed(second)};
+        boolean negative = divisors[0].signum() < 0;
+
+        Endpoint lower = null;
+        Endpoint upper = null;
+        boolean lowerClosed = false;
+        boolean upperClosed = false;
+        for (int i = 0; i < 2; i++) {
+            for (int j = 0; j < 2; j++) {
+                Endpoint dividend = dividends[i];
+                Endpoint divisor = divisors[j];
+                Endpoint floor = dividend.divide(divisor, negative);
+                Endpoint ceiling = floor.exact() ? floor : dividend.roundedQuotient(divisor, CEILING);
+                boolean closed = dividendClosed[i] && (dividend.isZero() || divisorClosed[j] && !divisor.isZero())
+                        || !floor.exact();
+
+                int lowerComparison = lower == null ? -1 : floor.compareTo(lower);
+                if (lowerComparison < 0) {
+                    lower = floor;
+                    lowerClosed = closed;
+                } else if (lowerComparison == 0) {
+                    lowerClosed |= closed;
+                }
+
+                int upperComparison = upper == null ? 1 : ceiling.compareTo(upper);
+                if (upperComparison > 0) {
+                    upper = ceiling;
+                    upperClosed = closed;
+                } else if (upperComparison == 0) {
+                    upperClosed |= closed;
+                }
+            }
+        }
+        return interval(lower, lowerClosed, upper, upperClosed, factory);
+    }
+
+    /**
+     * Raises an interval to an odd power, which is a monotonically increasing function.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive odd exponent
+     * @param factory  the factory of result boundaries
+     * @return {@code interval} raised to {@code exponent}
+     */
+    static ImmutableInterval oddPower(Interval interval, int exponent, BoundFactory factory) {
+        return interval(
+                lower(interval).power(exponent), lowerClosed(interval),
+                upper(interval).power(exponent), upperClosed(interval),
+                factory
+        );
+    }
+
+    /**
+     * Raises the absolute value of an interval to a power, which is the absolute value itself for exponent
+     * {@code 1} and an even power otherwise.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive exponent
+     * @param factory  the factory of result boundaries
+     * @return {@code |interval|} raised to {@code exponent}
+     */
+    static ImmutableInterval evenPower(Interval interval, int exponent, BoundFactory factory) {
+        Endpoint lower = lower(interval);
+        Endpoint upper = upper(interval);
+        boolean lowerClosed = lowerClosed(interval);
+        boolean upperClosed = upperClosed(interval);
+
+        if (lower.signum() >= 0) {
+            return interval(lower.power(exponent), lowerClosed, upper.power(exponent), upperClosed, factory);
+        }
+        if (upper.signum() <= 0) {
+            return interval(
+                    upper.negate().power(exponent), upperClosed,
+                    lower.negate().power(exponent), lowerClosed,
+                    factory
+            );
+        }
+
+        int comparison = lower.negate().compareTo(upper);
+        Endpoint magnitude = comparison > 0 ? lower.negate() : upper;
+        boolean closed = comparison >= 0 && lowerClosed || comparison <= 0 && upperClosed;
+        return interval(ZERO, true, magnitude.power(exponent), closed, factory);
+    }
+
+    /**
+     * Returns the lower endpoint of an interval.
+     *
+     * @param interval the interval
+     * @return the lower endpoint
+     */
+    private static Endpoint lower(Interval interval) {
+        return Endpoint.of(interval.getLowerBound());
+    }
+
+    /**
+     * Returns the upper endpoint of an interval.
+     *
+     * @param interval the interval
+     * @return the upper endpoint
+     */
+    private static Endpoint upper(Interval interval) {
+        return Endpoint.of(interval.getUpperBound());
+    }
+
+    /**
+     * Checks whether the lower endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the lower endpoint is a closed finite endpoint
+     */
+    private static boolean lowerClosed(Interval interval) {
+        return interval.isLowerClosed() && interval.getLowerBound().isFinite();
+    }
+
+    /**
+     * Checks whether the upper endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the upper endpoint is a closed finite endpoint
+     */
+    private static boolean upperClosed(Interval interval) {
+        return interval.isUpperClosed() && interval.getUpperBound().isFinite();
+    }
+
+    /**
+     * Creates an interval from computed endpoints.
+     *
+     * @param lower       the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upper       the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @param factory     the factory of result boundaries
+     * @return the interval
+     */
+    private static ImmutableInterval interval(Endpoint lower, boolean lowerClosed, Endpoint upper, boolean upperClosed,
+                                              BoundFactory factory) {
+        return ImmutableInterval.of(lower.toBound(factory), lowerClosed, upper.toBound(factory), upperClosed);
+    }
+
+    /**
+     * A finite or infinite endpoint.
+     *
+     * @param infinity {@code -1} or {@code 1} for the infinities, {@code 0} for finite endpoints
+     * @param value    the value of a finite endpoint, {@code null} for infinite endpoints
+     * @param exact    whether the value was computed without rounding
+     */
+    private record Endpoint(int infinity, BigDecimal value, boolean exact) {
+
+        /**
+         * Creates an exact endpoint.
+         *
+         * @param infinity {@code -1} or {@code 1} for the infinities, {@code 0} for finite endpoints
+         * @param value    the value of a finite endpoint, {@code null} for infinite endpoints
+         */
+        Endpoint(int infinity, BigDecimal value) {
+            this(infinity, value, true);
+        }
+
+        /**
+         * Creates an endpoint from a boundary.
+         *
+         * @param bound the boundary
+         * @return the endpoint
+         * @throws IllegalArgumentException if the value of a finite boundary is not of a standard numeric type
+         */
+        static Endpoint of(Bound bound) {
+            if (bound.isInfinite()) {
+                return ((InfiniteBound) bound).isPositive() ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+            }
+            return finite(toBigDecimal(((FiniteBound<?>) bound).getValue()));
+        }
+
+        /**
+         * Creates a finite exact endpoint.
+         *
+         * @param value the value
+         * @return the endpoint
+         */
+        static Endpoint finite(BigDecimal value) {
+            return new Endpoint(0, value);
+        }
+
+        /**
+         * Checks whether this endpoint is zero.
+         *
+         * @return {@code true} if this endpoint is finite and zero
+         */
+        boolean isZero() {
+            return infinity == 0 && value.signum() == 0;
+        }
+
+        /**
+         * Returns the sign of this endpoint.
+         *
+         * @return {@code -1}, {@code 0} or {@code 1}
+         */
+        int signum() {
+            return infinity != 0 ? infinity : value.signum();
+        }
+
+        /**
+         * Negates this endpoint.
+         *
+         * @return {@code -this}
+         */
+        Endpoint negate() {
+            return infinity != 0 ? (infinity > 0 ? NEGATIVE_INFINITY : POSITIVE_INFINITY) : finite(value.negate());
+        }
+
+        /**
+         * Adds an endpoint that is not an infinity of the opposite sign.
+         *
+         * @param other the other endpoint
+         * @return {@code this + other}
+         */
+        Endpoint add(Endpoint other) {
+            if (infinity != 0) {
+                return this;
+            }
+            return other.infinity != 0 ? other : finite(value.add(other.value));
+        }
+
+        /**
+         * Multiplies by an endpoint, taking the product of zero and an infinity as zero.
+         *
+         * @param other the other endpoint
+         * @return {@code this * other}
+         */
+        Endpoint multiply(Endpoint other) {
+            if (isZero() || other.isZero()) {
+                return ZERO;
+            }
+            if (infinity != 0 || other.infinity != 0) {
+                return signum() == other.signum() ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+            }
+            return finite(value.multiply(other.value));
+        }
+
+        /**
+         * Divides by an endpoint of a divisor interval of the given sign.
+         * <p>
+         * Division by zero yields an infinity of the sign of the result, division by an infinity yields zero,
+         * and zero divided by zero is taken as zero. Quotients without a terminating decimal expansion are
+         * rounded down with {@link DecimalKernel#FLOOR} and marked as inexact; the caller obtains the upper
+         * rounding with {@link #roundedQuotient(Endpoint, MathContext)}.
+         * </p>
+         *
+         * @param divisor  the divisor
+         * @param negative whether the divisor interval is negative
+         * @return {@code this / divisor}
+         */
+        Endpoint divide(Endpoint divisor, boolean negative) {
+            if (isZero() || divisor.infinity != 0) {
+                return ZERO;
+            }
+            if (divisor.isZero() || infinity != 0) {
+                int divisorSign = divisor.isZero() ? (negative ? -1 : 1) : divisor.signum();
+                return signum() == divisorSign ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+            }
+
+            if (hasTerminatingQuotient(value, divisor.value)) {
+                return finite(value.divide(divisor.value));
+            }
+            return roundedQuotient(divisor, FLOOR);
+        }
+
+        /**
+         * Divides by a finite non-zero endpoint whose quotient has no terminating decimal expansion.
+         *
+         * @param divisor the finite non-zero divisor
+         * @param context the context rounding the quotient
+         * @return the inexact endpoint {@code this / divisor}, rounded with {@code context}
+         */
+        Endpoint roundedQuotient(Endpoint divisor, MathContext context) {
+            return new Endpoint(0, value.divide(divisor.value, context), false);
+        }
+
+        /**
+         * Raises this endpoint to a positive power.
+         *
+         * @param exponent the positive exponent
+         * @return {@code this} raised to {@code exponent}
+         */
+        Endpoint power(int exponent) {
+            if (infinity != 0) {
+                return infinity > 0 || (exponent & 1) != 0 ? this : POSITIVE_INFINITY;
+            }
+            return finite(value.pow(exponent));
+        }
+
+        /**
+         * Compares this endpoint with another.
+         *
+         * @param other the other endpoint
+         * @return a negative integer, zero, or a positive integer as this endpoint is less than, equal to,
+         *         or greater than {@code other}
+         */
+        int compareTo(Endpoint other) {
+            if (infinity != 0 || other.infinity != 0) {
+                return Integer.compare(infinity, other.infinity);
+            }
+            return value.compareTo(other.value);
+        }
+
+        /**
+         * Creates a boundary for this endpoint.
+         *
+         * @param factory the factory of result boundaries
+         * @return the boundary
+         */
+        Bound toBound(BoundFactory factory) {
+            return infinity != 0 ? factory.getInfiniteBound(infinity > 0) : factory.getFiniteBound(value);
+        }
+
+        /**
+         * Checks whether the quotient of two finite non-zero values has a terminating decimal expansion.
+         * <p>
+         * The quotient terminates if and only if the denominator of the reduced fraction of the unscaled values
+         * has no prime factors other than {@code 2} and {@code 5}. Testing this directly avoids the
+         * {@link ArithmeticException} of {@link BigDecimal#divide(BigDecimal)} for non-terminating quotients.
+         * </p>
+         *
+         * @param dividend the non-zero dividend
+         * @param divisor  the non-zero divisor
+         * @return {@code true} if {@code dividend / divisor} can be represented exactly
+         */
+        private static boolean hasTerminatingQuotient(BigDecimal dividend, BigDecimal divisor) {
+            BigInteger denominator = divisor.unscaledValue().abs();
+            denominator = denominator.divide(denominator.gcd(dividend.unscaledValue()));
+            denominator = denominator.shiftRight(denominator.getLowestSetBit());
+            while (!denominator.equals(BigInteger.ONE)) {
+                BigInteger[] quotientAndRemainder = denominator.divideAndRemainder(FIVE);
+                if (quotientAndRemainder[1].signum() != 0) {
+                    return false;
+                }
+                denominator = quotientAndRemainder[0];
+            }
+            return true;
+        }
+
+        /**
+         * Converts a number of a standard numeric type to {@link BigDecimal} exactly.
+         *
+         * @param value the number
+         * @return the exact value of {@code value}
+         * @throws IllegalArgumentException if {@code value} is not of a standard numeric type
+         */
+        private static BigDecimal toBigDecimal(Number value) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal;
+            }
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return BigDecimal.valueOf(value.longValue());
+            }
+            if (value instanceof Double || value instanceof Float) {
+                return new BigDecimal(value.doubleValue());
+            }
+            if (value instanceof BigInteger integer) {
+                return new BigDecimal(integer);
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Endpoint value %s of type %s is not of a standard numeric type", value, value.getClass().getName()
+            ));
+        }
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.arithmetic;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+/**
+ * Interval arithmetic over {@code double} endpoints, computed without boxing.
+ * <p>
+ * Infinite endpoints are represented by the {@code double} infinities. Endpoints are computed with the
+ * rounding of the Java floating-point operators, so each finite result endpoint is the correctly rounded
+ * (for powers, the nearly correctly rounded) value of the exact endpoint. Integral endpoints are converted
+ * to {@code double} first. A lower endpoint that overflows to positive infinity, or an upper endpoint that
+ * overflows to negative infinity, is replaced by the open extreme finite value.
+ * </p>
+ */
+final class DoubleKernel {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DoubleKernel() {
+    }
+
+    /**
+     * Negates an interval.
+     *
+     * @param interval the non-empty interval
+     * @param factory  the factory of result boundaries
+     * @return {@code -interval}
+     */
+    static ImmutableInterval negate(Interval interval, BoundFactory factory) {
+        return interval(
+                -upper(interval), upperClosed(interval),
+                -lower(interval), lowerClosed(interval),
+                factory
+        );
+    }
+
+    /**
+     * Adds two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return {@code first + second}
+     */
+    static ImmutableInterval add(Interval first, Interval second, BoundFactory factory) {
+        return interval(
+                lower(first) + lower(second), lowerClosed(first) && lowerClosed(second),
+                upper(first) + upper(second), upperClosed(first) && upperClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Subtracts an interval from another.
+     *
+     * @param first   the non-empty minuend
+     * @param second  the non-empty subtrahend
+     * @param factory the factory of result boundaries
+     * @return {@code first - second}
+     */
+    static ImmutableInterval subtract(Interval first, Interval second, BoundFactory factory) {
+        return interval(
+                lower(first) - upper(second), lowerClosed(first) && upperClosed(second),
+                upper(first) - lower(second), upperClosed(first) && lowerClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Multiplies two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return {@code first * second}
+     */
+    static ImmutableInterval multiply(Interval first, Interval second, BoundFactory factory) {
+        double firstLower = lower(first);
+        double firstUpper = upper(first);
+        double secondLower = lower(second);
+        double secondUpper = upper(second);
+        boolean firstLowerClosed = lowerClosed(first);
+        boolean firstUpperClosed = upperClosed(first);
+        boolean secondLowerClosed = lowerClosed(second);
+        boolean secondUpperClosed = upperClosed(second);
+
+        double p1 = multiply(firstLower, secondLower);
+        double p2 = multiply(firstLower, secondUpper);
+        double p3 = multiply(firstUpper, secondLower);
+        double p4 = multiply(firstUpper, secondUpper);
+        boolean c1 = isProductClosed(firstLower, firstLowerClosed, secondLower, secondLowerClosed);
+        boolean c2 = isProductClosed(firstLower, firstLowerClosed, secondUpper, secondUpperClosed);
+        boolean c3 = isProductClosed(firstUpper, firstUpperClosed, secondLower, secondLowerClosed);
+        boolean c4 = isProductClosed(firstUpper, firstUpperClosed, secondUpper, secondUpperClosed);
+
+        double lower = Math.min(Math.min(p1, p2), Math.min(p3, p4));
+        double upper = Math.max(Math.max(p1, p2), Math.max(p3, p4));
+        return interval(
+                lower, p1 == lower && c1 || p2 == lower && c2 || p3 == lower && c3 || p4 == lower && c4,
+                upper, p1 == upper && c1 || p2 == upper && c2 || p3 == upper && c3 || p4 == upper && c4,
+                factory
+        );
+    }
+
+    /**
+     * Divides an interval by an interval that contains no zero.
+     *
+     * @param first   the non-empty dividend
+     * @param second  the non-empty divisor, either positive or negative, with zero allowed only as an open endpoint
+     * @param factory the factory of result boundaries
+     * @return {@code first / second}
+     */
+    static ImmutableInterval divide(Interval first, Interval second, BoundFactory factory) {
+        double firstLower = lower(first);
+        double firstUpper = upper(first);
+        double secondLower = lower(second);
+        double secondUpper = upper(second);
+        boolean firstLowerClosed = lowerClosed(first);
+        boolean firstUpperClosed = upperClosed(first);
+        boolean secondLowerClosed = lowerClosed(second);
+        boolean secondUpperClosed = upperClosed(second);
+        boolean negative = secondLower < 0;
+
+        double q1 = divide(firstLower, secondLower, negative);
+        double q2 = divide(firstLower, secondUpper, negative);
+        double q3 = divide(firstUpper, secondLower, negative);
+        double q4 = divide(firstUpper, secondUpper, negative);
+        boolean c1 = isQuotientClosed(firstLower, firstLowerClosed, secondLower, secondLowerClosed);
+        boolean c2 = isQuotientClosed(firstLower, firstLowerClosed, secondUpper, secondUpperClosed);
+        boolean c3 = isQuotientClosed(firstUpper, firstUpperClosed, secondLower, secondLowerClosed);
+        boolean c4 = isQuotientClosed(firstUpper, firstUpperClosed, secondUpper, secondUpperClosed);
+
+        double lower = Math.min(Math.min(q1, q2), Math.min(q3, q4));
+        double upper = Math.max(Math.max(q1, q2), Math.max(q3, q4));
+        return interval(
+                lower, q1 == lower && c1 || q2 == lower && c2 || q3 == lower && c3 || q4 == lower && c4,
+                upper, q1 == upper && c1 || q2 == upper && c2 || q3 == upper && c3 || q4 == upper && c4,
+                factory
+        );
+    }
+
+    /**
+     * Raises an interval to an odd power, which is a monotonically increasing function.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive odd exponent
+     * @param factory  the factory of result boundaries
+     * @return {@code interval} raised to {@code exponent}
+     */
+    static ImmutableInterval oddPower(Interval interval, int exponent, BoundFactory factory) {
+        return interval(
+                Math.pow(lower(interval), exponent), lowerClosed(interval),
+                Math.pow(upper(interval), exponent), upperClosed(interval),
+                factory
+        );
+    }
+
+    /**
+     * Raises the absolute value of an interval to a power, which is the absolute value itself for exponent
+     * {@code 1} and an even power otherwise.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive exponent
+     * @param factory  the factory of result boundaries
+     * @return {@code |interval|} raised to {@code exponent}
+     */
+    static ImmutableInterval evenPower(Interval interval, int exponent, BoundFactory factory) {
+        double lower = lower(interval);
+        double upper = upper(interval);
+        boolean lowerClosed = lowerClosed(interval);
+        boolean upperClosed = upperClosed(interval);
+
+        if (lower >= 0) {
+            return interval(Math.pow(lower, exponent), lowerClosed, Math.pow(upper, exponent), upperClosed, factory);
+        }
+        if (upper <= 0) {
+            return interval(Math.pow(-upper, exponent), upperClosed, Math.pow(-lower, exponent), lowerClosed, factory);
+        }
+
+        double magnitude = Math.max(-lower, upper);
+        boolean closed = -lower == magnitude && lowerClosed || upper == magnitude && upperClosed;
+        return interval(0.0, true, Math.pow(magnitude, exponent), closed, factory);
+    }
+
+    /**
+     * Returns the lower endpoint of an interval.
+     *
+     * @param interval the interval
+     * @return the lower endpoint
+     */
+    private static double lower(Interval interval) {
+        return value(interval.getLowerBound());
+    }
+
+    /**
+     * Returns the upper endpoint of an interval.
+     *
+     * @param interval the interval
+     * @return the upper endpoint
+     */
+    private static double upper(Interval interval) {
+        return value(interval.getUpperBound());
+    }
+
+    /**
+     * Checks whether the lower endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the lower endpoint is a closed finite endpoint
+     */
+    private static boolean lowerClosed(Interval interval) {
+        return interval.isLowerClosed() && interval.getLowerBound().isFinite();
+    }
+
+    /**
+     * Checks whether the upper endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the upper endpoint is a closed finite endpoint
+     */
+    private static boolean upperClosed(Interval interval) {
+        return interval.isUpperClosed() && interval.getUpperBound().isFinite();
+    }
+
+    /**
+     * Returns the value of a boundary.
+     *
+     * @param bound the infinite, integral or floating-point boundary
+     * @return the value of the boundary, converted to {@code double}
+     */
+    private static double value(Bound bound) {
+        if (bound.isInfinite()) {
+            return ((InfiniteBound) bound).isPositive() ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+
+        if (bound instanceof DoubleFiniteBound doubleBound) {
+            return doubleBound.doubleValue();
+        }
+        if (bound instanceof LongFiniteBound longBound) {
+            return longBound.longValue();
+        }
+        if (bound instanceof IntFiniteBound intBound) {
+            return intBound.intValue();
+        }
+        return ((FiniteBound<?>) bound).getValue().doubleValue();
+    }
+
+    /**
+     * Creates an interval from computed endpoints.
+     *
+     * @param lower       the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upper       the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @param factory     the factory of result boundaries
+     * @return the interval
+     */
+    private static ImmutableInterval interval(double lower, boolean lowerClosed, double upper, boolean upperClosed,
+                                              BoundFactory factory) {
+        if (lower == Double.POSITIVE_INFINITY) {
+            lower = Double.MAX_VALUE;
+            lowerClosed = false;
+        }
+        if (upper == Double.NEGATIVE_INFINITY) {
+            upper = -Double.MAX_VALUE;
+            upperClosed = false;
+        }
+        return ImmutableInterval.of(bound(lower, factory), lowerClosed, bound(upper, factory), upperClosed);
+    }
+
+    /**
+     * Creates a boundary for a computed endpoint.
+     *
+     * @param value   the endpoint
+     * @param factory the factory of result boundaries
+     * @return the boundary; negative zero is replaced by positive zero
+     */
+    private static Bound bound(double value, BoundFactory factory) {
+        if (Double.isInfinite(value)) {
+            return factory.getInfiniteBound(value > 0);
+        }
+        return factory.getFiniteBound(value + 0.0);
+    }
+
+    /**
+     * Multiplies two values, taking the product of zero and an infinity as zero.
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @return {@code first * second}
+     */
+    private static double multiply(double first, double second) {
+        return first == 0 || second == 0 ? 0.0 : first * second;
+    }
+
+    /**
+     * Divides two values, where the divisor is an endpoint of an interval of the given sign.
+     * <p>
+     * Division by zero yields an infinity of the sign of the result, division by an infinity yields zero,
+     * and zero divided by zero is taken as zero.
+     * </p>
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor
+     * @param negative whether the divisor interval is negative
+     * @return {@code dividend / divisor}
+     */
+    private static double divide(double dividend, double divisor, boolean negative) {
+        if (dividend == 0 || Double.isInfinite(divisor)) {
+            return 0.0;
+        }
+        if (divisor == 0) {
+            return (dividend < 0) == negative ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return dividend / divisor;
+    }
+
+    /**
+     * Determines whether the product of two endpoints is attained.
+     * <p>
+     * A product is attained if both endpoints are, or if an attained endpoint is zero.
+     * </p>
+     *
+     * @param first        the first endpoint
+     * @param firstClosed  whether the first endpoint is closed
+     * @param second       the second endpoint
+     * @param secondClosed whether the second endpoint is closed
+     * @return {@code true} if the product is a closed endpoint candidate
+     */
+    private static boolean isProductClosed(double first, boolean firstClosed, double second, boolean secondClosed) {
+        return firstClosed && (secondClosed || first == 0) || secondClosed && second == 0;
+    }
+
+    /**
+     * Determines whether the quotient of two endpoints is attained.
+     * <p>
+     * A quotient is attained if the dividend is attained and is zero, or if both endpoints are attained
+     * and the divisor is finite and non-zero.
+     * </p>
+     *
+     * @param dividend       the dividend
+     * @param dividendClosed whether the dividend is closed
+     * @param divisor        the divisor
+     * @param divisorClosed  whether the divisor is closed
+     * @return {@code true} if the quotient is a closed endpoint candidate
+     */
+    private static boolean isQuotientClosed(double dividend, boolean dividendClosed, double divisor,
+                                            boolean divisorClosed) {
+        return dividendClosed && (dividend == 0 || divisorClosed && divisor != 0);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.arithmetic;
+
+/**
+ * The rounding applied by {@link IntervalArithmetic} to results computed in {@code double}.
+ * <p>
+ * Results are computed in {@code double} if any endpoint of the operands is a {@link Double} or a {@link Float}.
+ * Both roundings operate on primitive values and never fall back to {@link java.math.BigDecimal}.
+ * </p>
+ *
+ * @see IntervalArithmetic#of(xyz.derivora.intervalkit.bounds.factory.BoundFactory, DoubleRounding)
+ */
+public enum DoubleRounding {
+
+    /**
+     * Rounds every endpoint to the nearest {@code double}, as the Java floating-point operators do.
+     * <p>
+     * Each endpoint is within half an ulp of the exact endpoint (for powers, within about one ulp), but the
+     * result may exclude values of the exact result that lie close to its endpoints.
+     * </p>
+     */
+    NEAREST,
+
+    /**
+     * Rounds lower endpoints towards negative infinity and upper endpoints towards positive infinity.
+     * <p>
+     * The result is guaranteed to enclose the exact result, and each finite endpoint is within one ulp of the
+     * exact endpoint. {@code long} endpoints that are not exactly representable as a {@code double} are converted
+     * outwards as well.
+     * </p>
+     */
+    OUTWARD
+}
@@ -0,0 +1,568 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.arithmetic;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalSet;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+
+/**
+ * Arithmetic on intervals whose endpoints are {@link FiniteBound} and {@link InfiniteBound} instances.
+ * <p>
+ * Every operation returns the set of all results of applying the operation to members of its operands, or the
+ * smallest interval enclosing that set. Infinite endpoints are supported throughout: sums and products involving
+ * an infinity are infinite, and the product of zero and an infinite endpoint is taken as zero, as the members
+ * of an interval are always finite. Closedness of the result follows from the closedness of the endpoints that
+ * produce it, so that, for example, {@code [1, 2) + [3, 4]} is {@code [4, 6)} and {@code (-1, 2]^2} is
+ * {@code [0, 4]}. An empty operand yields an empty result.
+ * </p>
+ *
+ * <p>
+ * Each operation is computed over the widest endpoint domain of its operands:
+ * </p>
+ * <ul>
+ *     <li>{@code long} - for {@link Long}, {@link Integer}, {@link Short} and {@link Byte} endpoints.
+ *         Values of {@link LongFiniteBound} and {@link IntFiniteBound} are read without boxing, and the
+ *         results are exact. If a result overflows {@code long} or a quotient is not an integer, the
+ *         operation is repeated over {@link BigDecimal}.</li>
+ *     <li>{@code double} - if any endpoint is a {@link Double} or a {@link Float}. Values of
+ *         {@link DoubleFiniteBound} are read without boxing, and every endpoint of the result is rounded as
+ *         specified by the {@link DoubleRounding} of the instance: to the nearest {@code double} by default,
+ *         or outwards so that the result encloses the exact result. Endpoints that overflow become infinite,
+ *         except that a lower endpoint overflowing to positive infinity becomes {@link Double#MAX_VALUE},
+ *         and vice versa.</li>
+ *     <li>{@link BigDecimal} - if any endpoint is a {@link BigDecimal} or a {@link BigInteger}. Results are
+ *         exact, except for quotients without a terminating decimal expansion, whose endpoints are rounded
+ *         outwards to 34 significant digits.</li>
+ * </ul>
+ *
+ * <p>
+ * Division by an interval containing zero is defined as the union of the quotients by its negative and positive
+ * parts, so that {@code [1, 2] / [-1, 1]} is the union of {@code (-inf, -1]} and {@code [1, +inf)}.
+ * {@link #divideToSet(Interval, Interval)} returns this union, while {@link #divide(Interval, Interval)} returns
+ * the smallest interval enclosing it.
+ * Division by {@code [0, 0]} yields an empty result.
+ * </p>
+ *
+ * <p>
+ * Result boundaries are created by the {@link BoundFactory} of the instance, so infinite results are always
+ * represented by {@link InfiniteBound} instances and never passed to the factory as finite values. Instances
+ * are immutable and safe for concurrent use.
+ * </p>
+ *
+ * @see ImmutableInterval
+ * @see IntervalSet
+ */
+public final class IntervalArithmetic {
+
+    /**
+     * The instance creating result boundaries with {@link BoundFactory#immutable()} and rounding {@code double}
+     * results to nearest.
+     */
+    private static final IntervalArithmetic INSTANCE = new IntervalArithmetic(
+            BoundFactory.immutable(), DoubleRounding.NEAREST
+    );
+
+    /**
+     * The factory of result boundaries.
+     */
+    private final BoundFactory factory;
+
+    /**
+     * The rounding of results computed in {@code double}.
+     */
+    private final DoubleRounding doubleRounding;
+
+    /**
+     * The boundary zero, used to split divisors.
+     */
+    private final Bound zero;
+
+    /**
+     * Creates an instance creating result boundaries with the given factory.
+     *
+     * @param factory        the factory of result boundaries
+     * @param doubleRounding the rounding of results computed in {@code double}
+     */
+    private IntervalArithmetic(BoundFactory factory, DoubleRounding doubleRounding) {
+        this.factory = factory;
+        this.doubleRounding = doubleRounding;
+        this.zero = factory.getFiniteBound(0L);
+    }
+
+    /**
+     * Returns the instance creating result boundaries with {@link BoundFactory#immutable()} and rounding
+     * {@code double} results to nearest.
+     *
+     * @return the shared instance
+     */
+    public static IntervalArithmetic getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns an instance creating result boundaries with the given factory and rounding {@code double} results
+     * to nearest.
+     *
+     * @param factory the factory of result boundaries
+     * @return the instance
+     * @throws NullPointerException if {@code factory} is {@code null}
+     */
+    public static IntervalArithmetic of(BoundFactory factory) {
+        return of(factory, DoubleRounding.NEAREST);
+    }
+
+    /**
+     * Returns an instance creating result boundaries with the given factory and rounding {@code double} results
+     * as specified.
+     *
+     * @param factory        the factory of result boundaries
+     * @param doubleRounding the rounding of results computed in {@code double}
+     * @return the instance
+     * @throws NullPointerException if {@code factory} or {@code doubleRounding} is {@code null}
+     */
+    public static IntervalArithmetic of(BoundFactory factory, DoubleRounding doubleRounding) {
+        return new IntervalArithmetic(
+                Objects.requireNonNull(factory, "Factory cannot be null"),
+                Objects.requireNonNull(doubleRounding, "Double rounding cannot be null")
+        );
+    }
+
+    /**
+     * Returns the factory of result boundaries.
+     *
+     * @return the factory
+     */
+    public BoundFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Returns the rounding of results computed in {@code double}.
+     *
+     * @return the rounding
+     */
+    public DoubleRounding getDoubleRounding() {
+        return doubleRounding;
+    }
+
+    /**
+     * Negates an interval.
+     *
+     * @param interval the interval
+     * @return {@code -interval}
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    public ImmutableInterval negate(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        if (interval.isEmpty()) {
+            return empty();
+        }
+        return switch (domain(interval)) {
+            case LONG -> {
+                ImmutableInterval result = LongKernel.negate(interval, factory);
+                yield result != null ? result : DecimalKernel.negate(interval, factory);
+            }
+            case DOUBLE -> doubleRounding == DoubleRounding.OUTWARD
+                    ? OutwardDoubleKernel.negate(interval, factory)
+                    : DoubleKernel.negate(interval, factory);
+            case DECIMAL -> DecimalKernel.negate(interval, factory);
+        };
+    }
+
+    /**
+     * Returns the absolute values of the members of an interval.
+     *
+     * @param interval the interval
+     * @return {@code |interval|}
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    public ImmutableInterval abs(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        return evenPower(interval, 1);
+    }
+
+    /**
+     * Adds two intervals.
+     *
+     * @param first  the first interval
+     * @param second the second interval
+     * @return {@code first + second}
+     * @throws NullPointerException     if {@code first} or {@code second} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    public ImmutableInterval add(Interval first, Interval second) {
+        Objects.requireNonNull(first, "First interval cannot be null");
+        Objects.requireNonNull(second, "Second interval cannot be null");
+        if (first.isEmpty() || second.isEmpty()) {
+            return empty();
+        }
+        return switch (domain(first, second)) {
+            case LONG -> {
+                ImmutableInterval result = LongKernel.add(first, second, factory);
+                yield result != null ? result : DecimalKernel.add(first, second, factory);
+            }
+            case DOUBLE -> doubleRounding == DoubleRounding.OUTWARD
+                    ? OutwardDoubleKernel.add(first, second, factory)
+                    : DoubleKernel.add(first, second, factory);
+            case DECIMAL -> DecimalKernel.add(first, second, factory);
+        };
+    }
+
+    /**
+     * Subtracts an interval from another.
+     *
+     * @param first  the minuend
+     * @param second the subtrahend
+     * @return {@code first - second}
+     * @throws NullPointerException     if {@code first} or {@code second} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    public ImmutableInterval subtract(Interval first, Interval second) {
+        Objects.requireNonNull(first, "First interval cannot be null");
+        Objects.requireNonNull(second, "Second interval cannot be null");
+        if (first.isEmpty() || second.isEmpty()) {
+            return empty();
+        }
+        return switch (domain(first, second)) {
+            case LONG -> {
+                ImmutableInterval result = LongKernel.subtract(first, second, factory);
+                yield result != null ? result : DecimalKernel.subtract(first, second, factory);
+            }
+            case DOUBLE -> doubleRounding == DoubleRounding.OUTWARD
+                    ? OutwardDoubleKernel.subtract(first, second, factory)
+                    : DoubleKernel.subtract(first, second, factory);
+            case DECIMAL -> DecimalKernel.subtract(first, second, factory);
+        };
+    }
+
+    /**
+     * Multiplies two intervals.
+     *
+     * @param first  the first interval
+     * @param second the second interval
+     * @return {@code first * second}
+     * @throws NullPointerException     if {@code first} or {@code second} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    public ImmutableInterval multiply(Interval first, Interval second) {
+        Objects.requireNonNull(first, "First interval cannot be null");
+        Objects.requireNonNull(second, "Second interval cannot be null");
+        if (first.isEmpty() || second.isEmpty()) {
+            return empty();
+        }
+        return switch (domain(first, second)) {
+            case LONG -> {
+                ImmutableInterval result = LongKernel.multiply(first, second, factory);
+                yield result != null ? result : DecimalKernel.multiply(first, second, factory);
+            }
+            case DOUBLE -> doubleRounding == DoubleRounding.OUTWARD
+                    ? OutwardDoubleKernel.multiply(first, second, factory)
+                    : DoubleKernel.multiply(first, second, factory);
+            case DECIMAL -> DecimalKernel.multiply(first, second, factory);
+        };
+    }
+
+    /**
+     * Divides an interval by another and returns the smallest interval enclosing the quotient.
+     * <p>
+     * If the divisor contains zero in its interior, the quotient consists of two intervals, and the result
+     * also encloses the gap between them. Use {@link #divideToSet(Interval, Interval)} to obtain the exact
+     * quotient.
+     * </p>
+     *
+     * @param first  the dividend
+     * @param second the divisor
+     * @return the smallest interval enclosing {@code first / second}
+     * @throws NullPointerException     if {@code first} or {@code second} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    public ImmutableInterval divide(Interval first, Interval second) {
+        IntervalSet quotient = divideToSet(first, second);
+        if (quotient.isEmpty()) {
+            return empty();
+        }
+        int last = quotient.size() - 1;
+        return ImmutableInterval.of(
+                quotient.getLowerBound(0), quotient.isLowerClosed(0),
+                quotient.getUpperBound(last), quotient.isUpperClosed(last)
+        );
+    }
+
+    /**
+     * Divides an interval by another.
+     * <p>
+     * If the divisor contains zero, the dividend is divided by the negative and the positive part of the divisor
+     * separately, and the result is the union of both quotients.
+     * </p>
+     *
+     * @param first  the dividend
+     * @param second the divisor
+     * @return {@code first / second}
+     * @throws NullPointerException     if {@code first} or {@code second} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    public IntervalSet divideToSet(Interval first, Interval second) {
+        Objects.requireNonNull(first, "First interval cannot be null");
+        Objects.requireNonNull(second, "Second interval cannot be null");
+        if (first.isEmpty() || second.isEmpty()) {
+            return IntervalSet.empty();
+        }
+
+        int lowerSign = signum(second.getLowerBound());
+        int upperSign = signum(second.getUpperBound());
+        boolean zeroFree = lowerSign > 0 || upperSign < 0
+                || lowerSign == 0 && !second.isLowerClosed()
+                || upperSign == 0 && !second.isUpperClosed();
+        if (zeroFree) {
+            return IntervalSet.of(divideZeroFree(first, second));
+        }
+        if (lowerSign == 0 && upperSign == 0) {
+            return IntervalSet.empty();
+        }
+
+        ImmutableInterval negative = ImmutableInterval.of(second.getLowerBound(), second.isLowerClosed(), zero, false);
+        ImmutableInterval positive = ImmutableInterval.of(zero, false, second.getUpperBound(), second.isUpperClosed());
+        if (lowerSign == 0) {
+            return IntervalSet.of(divideZeroFree(first, positive));
+        }
+        if (upperSign == 0) {
+            return IntervalSet.of(divideZeroFree(first, negative));
+        }
+        return IntervalSet.of(divideZeroFree(first, negative), divideZeroFree(first, positive));
+    }
+
+    /**
+     * Raises an interval to an integer power.
+     * <p>
+     * The power with exponent {@code 0} is {@code [1, 1]} for every non-empty interval. Powers with a negative
+     * exponent are computed as the quotient of {@code [1, 1]} and the power with the opposite exponent, as
+     * returned by {@link #divide(Interval, Interval)}.
+     * </p>
+     *
+     * @param interval the interval
+     * @param exponent the exponent
+     * @return {@code interval} raised to {@code exponent}
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if {@code exponent} is {@link Integer#MIN_VALUE} or if a finite endpoint
+     *                                  is not of a standard numeric type
+     */
+    public ImmutableInterval pow(Interval interval, int exponent) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        if (exponent == Integer.MIN_VALUE) {
+            throw new IllegalArgumentException(String.format("Exponent cannot be %d", exponent));
+        }
+        if (interval.isEmpty()) {
+            return empty();
+        }
+
+        if (exponent == 0) {
+            Bound one = factory.getFiniteBound(1L);
+            return ImmutableInterval.closed(one, one);
+        }
+        if (exponent < 0) {
+            Bound one = factory.getFiniteBound(1L);
+            return divide(ImmutableInterval.closed(one, one), pow(interval, -exponent));
+        }
+        return (exponent & 1) != 0 ? oddPower(interval, exponent) : evenPower(interval, exponent);
+    }
+
+    /**
+     * Divides a non-empty interval by a non-empty interval that contains no zero.
+     *
+     * @param first  the dividend
+     * @param second the divisor, with zero allowed only as an open endpoint
+     * @return {@code first / second}
+     */
+    private ImmutableInterval divideZeroFree(Interval first, Interval second) {
+        return switch (domain(first, second)) {
+            case LONG -> {
+                ImmutableInterval result = LongKernel.divide(first, second, factory);
+                yield result != null ? result : DecimalKernel.divide(first, second, factory);
+            }
+            case DOUBLE -> doubleRounding == DoubleRounding.OUTWARD
+                    ? OutwardDoubleKernel.divide(first, second, factory)
+                    : DoubleKernel.divide(first, second, factory);
+            case DECIMAL -> DecimalKernel.divide(first, second, factory);
+        };
+    }
+
+    /**
+     * Raises a non-empty interval to a positive odd power.
+     *
+     * @param interval the interval
+     * @param exponent the positive odd exponent
+     * @return {@code interval} raised to {@code exponent}
+     */
+    private ImmutableInterval oddPower(Interval interval, int exponent) {
+        return switch (domain(interval)) {
+            case LONG -> {
+                ImmutableInterval result = LongKernel.oddPower(interval, exponent, factory);
+                yield result != null ? result : DecimalKernel.oddPower(interval, exponent, factory);
+            }
+            case DOUBLE -> doubleRounding == DoubleRounding.OUTWARD
+                    ? OutwardDoubleKernel.oddPower(interval, exponent, factory)
+                    : DoubleKernel.oddPower(interval, exponent, factory);
+            case DECIMAL -> DecimalKernel.oddPower(interval, exponent, factory);
+        };
+    }
+
+    /**
+     * Raises the absolute value of an interval to a positive power.
+     *
+     * @param interval the interval
+     * @param exponent the positive exponent, which is {@code 1} or even
+     * @return {@code |interval|} raised to {@code exponent}
+     */
+    private ImmutableInterval evenPower(Interval interval, int exponent) {
+        if (interval.isEmpty()) {
+            return empty();
+        }
+        return switch (domain(interval)) {
+            case LONG -> {
+                ImmutableInterval result = LongKernel.evenPower(interval, exponent, factory);
+                yield result != null ? result : DecimalKernel.evenPower(interval, exponent, factory);
+            }
+            case DOUBLE -> doubleRounding == DoubleRounding.OUTWARD
+                    ? OutwardDoubleKernel.evenPower(interval, exponent, factory)
+                    : DoubleKernel.evenPower(interval, exponent, factory);
+            case DECIMAL -> DecimalKernel.evenPower(interval, exponent, factory);
+        };
+    }
+
+    /**
+     * Returns an empty interval.
+     *
+     * @return the interval {@code (0, 0)}
+     */
+    private ImmutableInterval empty() {
+        return ImmutableInterval.open(zero, zero);
+    }
+
+    /**
+     * Returns the widest domain of the endpoints of the given intervals.
+     *
+     * @param intervals the intervals
+     * @return the domain
+     * @throws IllegalArgumentException if a finite endpoint is not of a standard numeric type
+     */
+    private static Domain domain(Interval... intervals) {
+        Domain domain = Domain.LONG;
+        for (Interval interval : intervals) {
+            Domain lower = domain(interval.getLowerBound());
+            Domain upper = domain(interval.getUpperBound());
+            domain = lower.compareTo(domain) > 0 ? lower : domain;
+            domain = upper.compareTo(domain) > 0 ? upper : domain;
+        }
+        return domain;
+    }
+
+    /**
+     * Returns the domain of a boundary.
+     *
+     * @param bound the boundary
+     * @return the domain, which is {@link Domain#LONG} for infinite boundaries
+     * @throws IllegalArgumentException if the value of a finite boundary is not of a standard numeric type
+     */
+    private static Domain domain(Bound bound) {
+        if (bound.isInfinite() || bound instanceof LongFiniteBound || bound instanceof IntFiniteBound) {
+            return Domain.LONG;
+        }
+        if (bound instanceof DoubleFiniteBound) {
+            return Domain.DOUBLE;
+        }
+
+        Number value = ((FiniteBound<?>) bound).getValue();
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Domain.LONG;
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return Domain.DOUBLE;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return Domain.DECIMAL;
+        }
+        throw new IllegalArgumentException(String.format(
+                "Endpoint value %s of type %s is not of a standard numeric type", value, value.getClass().getName()
+        ));
+    }
+
+    /**
+     * Returns the sign of a boundary.
+     *
+     * @param bound the boundary
+     * @return {@code -1}, {@code 0} or {@code 1} as the boundary is negative, zero or positive
+     */
+    private static int signum(Bound bound) {
+        if (bound.isInfinite()) {
+            return ((InfiniteBound) bound).isPositive() ? 1 : -1;
+        }
+        if (bound instanceof LongFiniteBound longBound) {
+            return Long.signum(longBound.longValue());
+        }
+        if (bound instanceof DoubleFiniteBound doubleBound) {
+            return (int) Math.signum(doubleBound.doubleValue());
+        }
+
+        Number value = ((FiniteBound<?>) bound).getValue();
+        if (value instanceof BigDecimal decimal) {
+            return decimal.signum();
+        }
+        if (value instanceof BigInteger integer) {
+            return integer.signum();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return (int) Math.signum(value.doubleValue());
+        }
+        return Long.signum(value.longValue());
+    }
+
+    /**
+     * The domains in which operations are computed, from the narrowest to the widest.
+     */
+    private enum Domain {
+
+        /**
+         * Exact {@code long} arithmetic, falling back to {@link #DECIMAL}.
+         */
+        LONG,
+
+        /**
+         * {@code double} arithmetic with the rounding of the instance.
+         */
+        DOUBLE,
+
+        /**
+         * {@link BigDecimal} arithmetic.
+         */
+        DECIMAL
+    }
+}
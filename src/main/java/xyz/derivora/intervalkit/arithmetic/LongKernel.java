@@ -0,0 +1,627 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.arithmetic;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+/**
+ * Exact interval arithmetic over {@code long} endpoints, computed without boxing.
+ * <p>
+ * Infinite endpoints are represented by {@link #NEGATIVE_INFINITY} and {@link #POSITIVE_INFINITY}, so finite
+ * endpoints equal to {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE} are not supported. Every operation returns
+ * {@code null} if an operand or a result falls outside this representation or if a quotient is not an integer,
+ * so that the caller can repeat it with {@link DecimalKernel}. These cases are detected before the endpoints are
+ * computed, with remainders and {@link Math#multiplyHigh(long, long)}, instead of by catching the
+ * {@link ArithmeticException} of the exact arithmetic of {@link Math}, whose stack trace would dominate the cost
+ * of an operation that falls back.
+ * </p>
+ */
+final class LongKernel {
+
+    /**
+     * The representation of negative infinity.
+     */
+    private static final long NEGATIVE_INFINITY = Long.MIN_VALUE;
+
+    /**
+     * The representation of positive infinity.
+     */
+    private static final long POSITIVE_INFINITY = Long.MAX_VALUE;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LongKernel() {
+    }
+
+    /**
+     * Negates an interval.
+     *
+     * @param interval the non-empty interval
+     * @param factory  the factory of result boundaries
+     * @return {@code -interval}, or {@code null} if the negation is outside the supported range
+     */
+    static ImmutableInterval negate(Interval interval, BoundFactory factory) {
+        if (!isSupported(interval)) {
+            return null;
+        }
+        long lower = lower(interval);
+        long upper = upper(interval);
+        if (!isNegationSupported(lower) || !isNegationSupported(upper)) {
+            return null;
+        }
+        return interval(negate(upper), upperClosed(interval), negate(lower), lowerClosed(interval), factory);
+    }
+
+    /**
+     * Adds two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return {@code first + second}, or {@code null} if the sum is outside the supported range
+     */
+    static ImmutableInterval add(Interval first, Interval second, BoundFactory factory) {
+        if (!isSupported(first) || !isSupported(second)) {
+            return null;
+        }
+        long firstLower = lower(first);
+        long firstUpper = upper(first);
+        long secondLower = lower(second);
+        long secondUpper = upper(second);
+        if (!isSumSupported(firstLower, secondLower) || !isSumSupported(firstUpper, secondUpper)) {
+            return null;
+        }
+        return interval(
+                add(firstLower, secondLower), lowerClosed(first) && lowerClosed(second),
+                add(firstUpper, secondUpper), upperClosed(first) && upperClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Subtracts an interval from another.
+     *
+     * @param first   the non-empty minuend
+     * @param second  the non-empty subtrahend
+     * @param factory the factory of result boundaries
+     * @return {@code first - second}, or {@code null} if the difference is outside the supported range
+     */
+    static ImmutableInterval subtract(Interval first, Interval second, BoundFactory factory) {
+        if (!isSupported(first) || !isSupported(second)) {
+            return null;
+        }
+        long firstLower = lower(first);
+        long firstUpper = upper(first);
+        long secondLower = lower(second);
+        long secondUpper = upper(second);
+        if (!isNegationSupported(secondLower) || !isNegationSupported(secondUpper)
+                || !isSumSupported(firstLower, negate(secondUpper))
+                || !isSumSupported(firstUpper, negate(secondLower))) {
+            return null;
+        }
+        return interval(
+                add(firstLower, negate(secondUpper)), lowerClosed(first) && upperClosed(second),
+                add(firstUpper, negate(secondLower)), upperClosed(first) && lowerClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Multiplies two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return {@code first * second}, or {@code null} if the product is outside the supported range
+     */
+    static ImmutableInterval multiply(Interval first, Interval second, BoundFactory factory) {
+        if (!isSupported(first) || !isSupported(second)) {
+            return null;
+        }
+        long firstLower = lower(first);
+        long firstUpper = upper(first);
+        long secondLower = lower(second);
+        long secondUpper = upper(second);
+        boolean firstLowerClosed = lowerClosed(first);
+        boolean firstUpperClosed = upperClosed(first);
+        boolean secondLowerClosed = lowerClosed(second);
+        boolean secondUpperClosed = upperClosed(second);
+        if (!isProductSupported(firstLower, secondLower) || !isProductSupported(firstLower, secondUpper)
+                || !isProductSupported(firstUpper, secondLower) || !isProductSupported(firstUpper, secondUpper)) {
+            return null;
+        }
+
+        long p1 = multiply(firstLower, secondLower);
+        long p2 = multiply(firstLower, secondUpper);
+        long p3 = multiply(firstUpper, secondLower);
+        long p4 = multiply(firstUpper, secondUpper);
+        boolean c1 = isProductClosed(firstLower, firstLowerClosed, secondLower, secondLowerClosed);
+        boolean c2 = isProductClosed(firstLower, firstLowerClosed, secondUpper, secondUpperClosed);
+        boolean c3 = isProductClosed(firstUpper, firstUpperClosed, secondLower, secondLowerClosed);
+        boolean c4 = isProductClosed(firstUpper, firstUpperClosed, secondUpper, secondUpperClosed);
+
+        long lower = Math.min(Math.min(p1, p2), Math.min(p3, p4));
+        long upper = Math.max(Math.max(p1, p2), Math.max(p3, p4));
+        return interval(
+                lower, p1 == lower && c1 || p2 == lower && c2 || p3 == lower && c3 || p4 == lower && c4,
+                upper, p1 == upper && c1 || p2 == upper && c2 || p3 == upper && c3 || p4 == upper && c4,
+                factory
+        );
+    }
+
+    /**
+     * Divides an interval by an interval that contains no zero.
+     *
+     * @param first   the non-empty dividend
+     * @param second  the non-empty divisor, either positive or negative, with zero allowed only as an open endpoint
+     * @param factory the factory of result boundaries
+     * @return {@code first / second}, or {@code null} if a quotient of endpoints is not an integer
+     */
+    static ImmutableInterval divide(Interval first, Interval second, BoundFactory factory) {
+        if (!isSupported(first) || !isSupported(second)) {
+            return null;
+        }
+        long firstLower = lower(first);
+        long firstUpper = upper(first);
+        long secondLower = lower(second);
+        long secondUpper = upper(second);
+        boolean firstLowerClosed = lowerClosed(first);
+        boolean firstUpperClosed = upperClosed(first);
+        boolean secondLowerClosed = lowerClosed(second);
+        boolean secondUpperClosed = upperClosed(second);
+        int sign = secondLower >= 0 ? 1 : -1;
+        if (!isQuotientSupported(firstLower, secondLower) || !isQuotientSupported(firstLower, secondUpper)
+                || !isQuotientSupported(firstUpper, secondLower) || !isQuotientSupported(firstUpper, secondUpper)) {
+            return null;
+        }
+
+        long q1 = divide(firstLower, secondLower, sign);
+        long q2 = divide(firstLower, secondUpper, sign);
+        long q3 = divide(firstUpper, secondLower, sign);
+        long q4 = divide(firstUpper, secondUpper, sign);
+        boolean c1 = isQuotientClosed(firstLower, firstLowerClosed, secondLower, secondLowerClosed);
+        boolean c2 = isQuotientClosed(firstLower, firstLowerClosed, secondUpper, secondUpperClosed);
+        boolean c3 = isQuotientClosed(firstUpper, firstUpperClosed, secondLower, secondLowerClosed);
+        boolean c4 = isQuotientClosed(firstUpper, firstUpperClosed, secondUpper, secondUpperClosed);
+
+        long lower = Math.min(Math.min(q1, q2), Math.min(q3, q4));
+        long upper = Math.max(Math.max(q1, q2), Math.max(q3, q4));
+        return interval(
+                lower, q1 == lower && c1 || q2 == lower && c2 || q3 == lower && c3 || q4 == lower && c4,
+                upper, q1 == upper && c1 || q2 == upper && c2 || q3 == upper && c3 || q4 == upper && c4,
+                factory
+        );
+    }
+
+    /**
+     * Raises an interval to an odd power, which is a monotonically increasing function.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive odd exponent
+     * @param factory  the factory of result boundaries
+     * @return {@code interval} raised to {@code exponent}, or {@code null} if the power is outside the supported
+     *         range
+     */
+    static ImmutableInterval oddPower(Interval interval, int exponent, BoundFactory factory) {
+        if (!isSupported(interval)) {
+            return null;
+        }
+        long lower = lower(interval);
+        long upper = upper(interval);
+        if (!isPowerSupported(lower, exponent) || !isPowerSupported(upper, exponent)) {
+            return null;
+        }
+        return interval(
+                power(lower, exponent), lowerClosed(interval),
+                power(upper, exponent), upperClosed(interval),
+                factory
+        );
+    }
+
+    /**
+     * Raises the absolute value of an interval to a power, which is the absolute value itself for exponent
+     * {@code 1} and an even power otherwise.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive exponent
+     * @param factory  the factory of result boundaries
+     * @return {@code |interval|} raised to {@code exponent}, or {@code null} if the power is outside the supported
+     *         range
+     */
+    static ImmutableInterval evenPower(Interval interval, int exponent, BoundFactory factory) {
+        if (!isSupported(interval)) {
+            return null;
+        }
+        long lower = lower(interval);
+        long upper = upper(interval);
+        boolean lowerClosed = lowerClosed(interval);
+        boolean upperClosed = upperClosed(interval);
+        if (!isNegationSupported(lower) || !isNegationSupported(upper)
+                || !isPowerSupported(lower, exponent) || !isPowerSupported(upper, exponent)) {
+            return null;
+        }
+
+        if (lower >= 0) {
+            return interval(power(lower, exponent), lowerClosed, power(upper, exponent), upperClosed, factory);
+        }
+        if (upper <= 0) {
+            return interval(
+                    power(negate(upper), exponent), upperClosed,
+                    power(negate(lower), exponent), lowerClosed,
+                    factory
+            );
+        }
+
+        long magnitude = Math.max(negate(lower), upper);
+        boolean closed = negate(lower) == magnitude && lowerClosed || upper == magnitude && upperClosed;
+        return interval(0L, true, power(magnitude, exponent), closed, factory);
+    }
+
+    /**
+     * Checks whether both endpoints of an interval are supported.
+     *
+     * @param interval the interval
+     * @return {@code false} if a finite endpoint is {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}
+     */
+    private static boolean isSupported(Interval interval) {
+        return isSupported(interval.getLowerBound()) && isSupported(interval.getUpperBound());
+    }
+
+    /**
+     * Checks whether a boundary is supported.
+     *
+     * @param bound the infinite or integral boundary
+     * @return {@code false} if the value of a finite boundary is {@link Long#MIN_VALUE} or {@link Long#MAX_VALUE}
+     */
+    private static boolean isSupported(Bound bound) {
+        return bound.isInfinite() || !isInfinite(finiteValue((FiniteBound<?>) bound));
+    }
+
+    /**
+     * Returns the lower endpoint of an interval with supported endpoints.
+     *
+     * @param interval the interval
+     * @return the lower endpoint
+     */
+    private static long lower(Interval interval) {
+        return value(interval.getLowerBound());
+    }
+
+    /**
+     * Returns the upper endpoint of an interval with supported endpoints.
+     *
+     * @param interval the interval
+     * @return the upper endpoint
+     */
+    private static long upper(Interval interval) {
+        return value(interval.getUpperBound());
+    }
+
+    /**
+     * Checks whether the lower endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the lower endpoint is a closed finite endpoint
+     */
+    private static boolean lowerClosed(Interval interval) {
+        return interval.isLowerClosed() && interval.getLowerBound().isFinite();
+    }
+
+    /**
+     * Checks whether the upper endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the upper endpoint is a closed finite endpoint
+     */
+    private static boolean upperClosed(Interval interval) {
+        return interval.isUpperClosed() && interval.getUpperBound().isFinite();
+    }
+
+    /**
+     * Returns the value of a supported boundary.
+     *
+     * @param bound the infinite or integral boundary
+     * @return the value of the boundary
+     */
+    private static long value(Bound bound) {
+        if (bound.isInfinite()) {
+            return ((InfiniteBound) bound).isPositive() ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+        }
+        return finiteValue((FiniteBound<?>) bound);
+    }
+
+    /**
+     * Returns the value of a finite integral boundary.
+     *
+     * @param bound the finite boundary
+     * @return the value of the boundary
+     */
+    private static long finiteValue(FiniteBound<?> bound) {
+        if (bound instanceof LongFiniteBound longBound) {
+            return longBound.longValue();
+        }
+        if (bound instanceof IntFiniteBound intBound) {
+            return intBound.intValue();
+        }
+        return bound.getValue().longValue();
+    }
+
+    /**
+     * Creates an interval from computed endpoints.
+     *
+     * @param lower       the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upper       the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @param factory     the factory of result boundaries
+     * @return the interval
+     */
+    private static ImmutableInterval interval(long lower, boolean lowerClosed, long upper, boolean upperClosed,
+                                              BoundFactory factory) {
+        return ImmutableInterval.of(bound(lower, factory), lowerClosed, bound(upper, factory), upperClosed);
+    }
+
+    /**
+     * Creates a boundary for a computed endpoint.
+     *
+     * @param value   the endpoint
+     * @param factory the factory of result boundaries
+     * @return the boundary
+     */
+    private static Bound bound(long value, BoundFactory factory) {
+        if (isInfinite(value)) {
+            return factory.getInfiniteBound(value == POSITIVE_INFINITY);
+        }
+        return factory.getFiniteBound(value);
+    }
+
+    /**
+     * Checks whether a value represents an infinity.
+     *
+     * @param value the value
+     * @return {@code true} if {@code value} is {@link #NEGATIVE_INFINITY} or {@link #POSITIVE_INFINITY}
+     */
+    private static boolean isInfinite(long value) {
+        return value == NEGATIVE_INFINITY || value == POSITIVE_INFINITY;
+    }
+
+    /**
+     * Checks whether the negation of a value is supported.
+     * <p>
+     * The only unsupported case is the finite value {@code Long.MIN_VALUE + 1}, whose negation
+     * is {@link #POSITIVE_INFINITY}.
+     * </p>
+     *
+     * @param value the value
+     * @return {@code true} if {@link #negate(long)} returns the negation of {@code value}
+     */
+    private static boolean isNegationSupported(long value) {
+        return value != NEGATIVE_INFINITY + 1;
+    }
+
+    /**
+     * Checks whether the sum of two values that are not infinities of opposite signs is supported.
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @return {@code true} if {@link #add(long, long)} returns the sum of the values
+     */
+    private static boolean isSumSupported(long first, long second) {
+        if (isInfinite(first) || isInfinite(second)) {
+            return true;
+        }
+        long sum = first + second;
+        return ((first ^ sum) & (second ^ sum)) >= 0 && !isInfinite(sum);
+    }
+
+    /**
+     * Checks whether the product of two values is supported.
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @return {@code true} if {@link #multiply(long, long)} returns the product of the values
+     */
+    private static boolean isProductSupported(long first, long second) {
+        if (first == 0 || second == 0 || isInfinite(first) || isInfinite(second)) {
+            return true;
+        }
+        long product = first * second;
+        return Math.multiplyHigh(first, second) == product >> 63 && !isInfinite(product);
+    }
+
+    /**
+     * Checks whether the quotient of two values is supported.
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor
+     * @return {@code true} unless both values are finite and non-zero and the quotient is not an integer
+     */
+    private static boolean isQuotientSupported(long dividend, long divisor) {
+        return dividend == 0 || divisor == 0 || isInfinite(dividend) || isInfinite(divisor)
+                || dividend % divisor == 0;
+    }
+
+    /**
+     * Checks whether a power of a value is supported.
+     *
+     * @param base     the base
+     * @param exponent the positive exponent
+     * @return {@code true} if {@link #power(long, int)} returns the power of the value
+     */
+    private static boolean isPowerSupported(long base, int exponent) {
+        if (isInfinite(base)) {
+            return true;
+        }
+
+        long result = 1;
+        long factor = base;
+        for (int remaining = exponent; ; ) {
+            if ((remaining & 1) != 0) {
+                if (!isProductSupported(result, factor)) {
+                    return false;
+                }
+                result *= factor;
+            }
+            remaining >>>= 1;
+            if (remaining == 0) {
+                return true;
+            }
+            if (!isProductSupported(factor, factor)) {
+                return false;
+            }
+            factor *= factor;
+        }
+    }
+
+    /**
+     * Negates a value.
+     *
+     * @param value the value
+     * @return {@code -value}
+     */
+    private static long negate(long value) {
+        return value == NEGATIVE_INFINITY ? POSITIVE_INFINITY : value == POSITIVE_INFINITY ? NEGATIVE_INFINITY : -value;
+    }
+
+    /**
+     * Adds two values that are not infinities of opposite signs.
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @return {@code first + second}, which is only correct if {@link #isSumSupported(long, long)} holds
+     */
+    private static long add(long first, long second) {
+        if (isInfinite(first)) {
+            return first;
+        }
+        if (isInfinite(second)) {
+            return second;
+        }
+        return first + second;
+    }
+
+    /**
+     * Multiplies two values, taking the product of zero and an infinity as zero.
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @return {@code first * second}, which is only correct if {@link #isProductSupported(long, long)} holds
+     */
+    private static long multiply(long first, long second) {
+        if (first == 0 || second == 0) {
+            return 0;
+        }
+        if (isInfinite(first) || isInfinite(second)) {
+            return (first < 0) == (second < 0) ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+        }
+        return first * second;
+    }
+
+    /**
+     * Divides two values, where the divisor is an endpoint of an interval of the given sign.
+     * <p>
+     * Division by zero yields an infinity of the sign of the result, division by an infinity yields zero,
+     * and zero divided by zero is taken as zero.
+     * </p>
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor
+     * @param sign     the sign of the divisor interval
+     * @return {@code dividend / divisor}, which is only correct if {@link #isQuotientSupported(long, long)} holds
+     */
+    private static long divide(long dividend, long divisor, int sign) {
+        if (dividend == 0 || isInfinite(divisor)) {
+            return 0;
+        }
+        if (divisor == 0 || isInfinite(dividend)) {
+            return (dividend < 0) == (divisor < 0 || divisor == 0 && sign < 0)
+                    ? POSITIVE_INFINITY
+                    : NEGATIVE_INFINITY;
+        }
+        return dividend / divisor;
+    }
+
+    /**
+     * Raises a value to a positive power.
+     *
+     * @param base     the base
+     * @param exponent the positive exponent
+     * @return {@code base} raised to {@code exponent}, which is only correct if
+     *         {@link #isPowerSupported(long, int)} holds
+     */
+    private static long power(long base, int exponent) {
+        if (isInfinite(base)) {
+            return base > 0 || (exponent & 1) != 0 ? base : POSITIVE_INFINITY;
+        }
+
+        long result = 1;
+        long factor = base;
+        for (int remaining = exponent; ; ) {
+            if ((remaining & 1) != 0) {
+                result *= factor;
+            }
+            remaining >>>= 1;
+            if (remaining == 0) {
+                return result;
+            }
+            factor *= factor;
+        }
+    }
+
+    /**
+     * Determines whether the product of two endpoints is attained.
+     * <p>
+     * A product is attained if both endpoints are, or if an attained endpoint is zero.
+     * </p>
+     *
+     * @param first        the first endpoint
+     * @param firstClosed  whether the first endpoint is closed
+     * @param second       the second endpoint
+     * @param secondClosed whether the second endpoint is closed
+     * @return {@code true} if the product is a closed endpoint candidate
+     */
+    private static boolean isProductClosed(long first, boolean firstClosed, long second, boolean secondClosed) {
+        return firstClosed && (secondClosed || first == 0) || secondClosed && second == 0;
+    }
+
+    /**
+     * Determines whether the quotient of two endpoints is attained.
+     * <p>
+     * A quotient is attained if the dividend is attained and is zero, or if both endpoints are attained
+     * and the divisor is finite and non-zero.
+     * </p>
+     *
+     * @param dividend       the dividend
+     * @param dividendClosed whether the dividend is closed
+     * @param divisor        the divisor
+     * @param divisorClosed  whether the divisor is closed
+     * @return {@code true} if the quotient is a closed endpoint candidate
+     */
+    private static boolean isQuotientClosed(long dividend, boolean dividendClosed, long divisor,
+                                            boolean divisorClosed) {
+        return dividendClosed && (dividend == 0 || divisorClosed && divisor != 0);
+    }
+}
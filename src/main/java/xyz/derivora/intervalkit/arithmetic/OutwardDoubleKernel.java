@@ -0,0 +1,538 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.arithmetic;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+/**
+ * Interval arithmetic over {@code double} endpoints with outward rounding, computed without boxing.
+ * <p>
+ * Every lower endpoint is rounded towards negative infinity and every upper endpoint towards positive infinity,
+ * so the result always encloses the exact result of the operation on the operands. Java offers no directed
+ * rounding modes, so each endpoint is computed with the default rounding to nearest and the rounding error is
+ * recovered with an error-free transformation: TwoSum for sums, and {@link Math#fma(double, double, double)}
+ * for the error of a product and the remainder of a quotient. If the error points outwards the result is kept,
+ * otherwise it is moved by one ulp with {@link Math#nextDown(double)} or {@link Math#nextUp(double)}. Where
+ * the error is not exactly representable because the result is close to the subnormal range, the result is
+ * moved unconditionally. Powers are computed by repeated squaring with the same directed products.
+ * </p>
+ *
+ * <p>
+ * Integral endpoints beyond {@code 2^53} are converted to {@code double} outwards as well. Results that
+ * overflow become infinite where this widens the interval, and {@link Double#MAX_VALUE} of the appropriate sign
+ * otherwise. A result endpoint has the closedness of the exact endpoint: if it was rounded, it lies strictly
+ * outside the exact endpoint, so the result encloses the exact result either way.
+ * </p>
+ */
+final class OutwardDoubleKernel {
+
+    /**
+     * The magnitude below which the rounding errors of products and quotients may not be representable.
+     */
+    private static final double ERROR_FREE_THRESHOLD = 0x1p-968;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private OutwardDoubleKernel() {
+    }
+
+    /**
+     * Negates an interval.
+     *
+     * @param interval the non-empty interval
+     * @param factory  the factory of result boundaries
+     * @return {@code -interval}
+     */
+    static ImmutableInterval negate(Interval interval, BoundFactory factory) {
+        return interval(
+                -upper(interval), upperClosed(interval),
+                -lower(interval), lowerClosed(interval),
+                factory
+        );
+    }
+
+    /**
+     * Adds two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return an enclosure of {@code first + second}
+     */
+    static ImmutableInterval add(Interval first, Interval second, BoundFactory factory) {
+        return interval(
+                add(lower(first), lower(second), false), lowerClosed(first) && lowerClosed(second),
+                add(upper(first), upper(second), true), upperClosed(first) && upperClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Subtracts an interval from another.
+     *
+     * @param first   the non-empty minuend
+     * @param second  the non-empty subtrahend
+     * @param factory the factory of result boundaries
+     * @return an enclosure of {@code first - second}
+     */
+    static ImmutableInterval subtract(Interval first, Interval second, BoundFactory factory) {
+        return interval(
+                add(lower(first), -upper(second), false), lowerClosed(first) && upperClosed(second),
+                add(upper(first), -lower(second), true), upperClosed(first) && lowerClosed(second),
+                factory
+        );
+    }
+
+    /**
+     * Multiplies two intervals.
+     *
+     * @param first   the first non-empty interval
+     * @param second  the second non-empty interval
+     * @param factory the factory of result boundaries
+     * @return an enclosure of {@code first * second}
+     */
+    static ImmutableInterval multiply(Interval first, Interval second, BoundFactory factory) {
+        double firstLower = lower(first);
+        double firstUpper = upper(first);
+        double secondLower = lower(second);
+        double secondUpper = upper(second);
+        boolean firstLowerClosed = lowerClosed(first);
+        boolean firstUpperClosed = upperClosed(first);
+        boolean secondLowerClosed = lowerClosed(second);
+        boolean secondUpperClosed = upperClosed(second);
+
+        double d1 = multiply(firstLower, secondLower, false);
+        double d2 = multiply(firstLower, secondUpper, false);
+        double d3 = multiply(firstUpper, secondLower, false);
+        double d4 = multiply(firstUpper, secondUpper, false);
+        double u1 = multiply(firstLower, secondLower, true);
+        double u2 = multiply(firstLower, secondUpper, true);
+        double u3 = multiply(firstUpper, secondLower, true);
+        double u4 = multiply(firstUpper, secondUpper, true);
+        boolean c1 = isProductClosed(firstLower, firstLowerClosed, secondLower, secondLowerClosed);
+        boolean c2 = isProductClosed(firstLower, firstLowerClosed, secondUpper, secondUpperClosed);
+        boolean c3 = isProductClosed(firstUpper, firstUpperClosed, secondLower, secondLowerClosed);
+        boolean c4 = isProductClosed(firstUpper, firstUpperClosed, secondUpper, secondUpperClosed);
+
+        double lower = Math.min(Math.min(d1, d2), Math.min(d3, d4));
+        double upper = Math.max(Math.max(u1, u2), Math.max(u3, u4));
+        return interval(
+                lower, d1 == lower && c1 || d2 == lower && c2 || d3 == lower && c3 || d4 == lower && c4,
+                upper, u1 == upper && c1 || u2 == upper && c2 || u3 == upper && c3 || u4 == upper && c4,
+                factory
+        );
+    }
+
+    /**
+     * Divides an interval by an interval that contains no zero.
+     *
+     * @param first   the non-empty dividend
+     * @param second  the non-empty divisor, either positive or negative, with zero allowed only as an open endpoint
+     * @param factory the factory of result boundaries
+     * @return an enclosure of {@code first / second}
+     */
+    static ImmutableInterval divide(Interval first, Interval second, BoundFactory factory) {
+        double firstLower = lower(first);
+        double firstUpper = upper(first);
+        double secondLower = lower(second);
+        double secondUpper = upper(second);
+        boolean firstLowerClosed = lowerClosed(first);
+        boolean firstUpperClosed = upperClosed(first);
+        boolean secondLowerClosed = lowerClosed(second);
+        boolean secondUpperClosed = upperClosed(second);
+        boolean negative = secondLower < 0;
+
+        double d1 = divide(firstLower, secondLower, negative, false);
+        double d2 = divide(firstLower, secondUpper, negative, false);
+        double d3 = divide(firstUpper, secondLower, negative, false);
+        double d4 = divide(firstUpper, secondUpper, negative, false);
+        double u1 = divide(firstLower, secondLower, negative, true);
+        double u2 = divide(firstLower, secondUpper, negative, true);
+        double u3 = divide(firstUpper, secondLower, negative, true);
+        double u4 = divide(firstUpper, secondUpper, negative, true);
+        boolean c1 = isQuotientClosed(firstLower, firstLowerClosed, secondLower, secondLowerClosed);
+        boolean c2 = isQuotientClosed(firstLower, firstLowerClosed, secondUpper, secondUpperClosed);
+        boolean c3 = isQuotientClosed(firstUpper, firstUpperClosed, secondLower, secondLowerClosed);
+        boolean c4 = isQuotientClosed(firstUpper, firstUpperClosed, secondUpper, secondUpperClosed);
+
+        double lower = Math.min(Math.min(d1, d2), Math.min(d3, d4));
+        double upper = Math.max(Math.max(u1, u2), Math.max(u3, u4));
+        return interval(
+                lower, d1 == lower && c1 || d2 == lower && c2 || d3 == lower && c3 || d4 == lower && c4,
+                upper, u1 == upper && c1 || u2 == upper && c2 || u3 == upper && c3 || u4 == upper && c4,
+                factory
+        );
+    }
+
+    /**
+     * Raises an interval to an odd power, which is a monotonically increasing function.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive odd exponent
+     * @param factory  the factory of result boundaries
+     * @return an enclosure of {@code interval} raised to {@code exponent}
+     */
+    static ImmutableInterval oddPower(Interval interval, int exponent, BoundFactory factory) {
+        double lower = lower(interval);
+        double upper = upper(interval);
+        return interval(
+                lower < 0 ? -power(-lower, exponent, true) : power(lower, exponent, false), lowerClosed(interval),
+                upper < 0 ? -power(-upper, exponent, false) : power(upper, exponent, true), upperClosed(interval),
+                factory
+        );
+    }
+
+    /**
+     * Raises the absolute value of an interval to a power, which is the absolute value itself for exponent
+     * {@code 1} and an even power otherwise.
+     *
+     * @param interval the non-empty interval
+     * @param exponent the positive exponent
+     * @param factory  the factory of result boundaries
+     * @return an enclosure of {@code |interval|} raised to {@code exponent}
+     */
+    static ImmutableInterval evenPower(Interval interval, int exponent, BoundFactory factory) {
+        double lower = lower(interval);
+        double upper = upper(interval);
+        boolean lowerClosed = lowerClosed(interval);
+        boolean upperClosed = upperClosed(interval);
+
+        if (lower >= 0) {
+            return interval(
+                    power(lower, exponent, false), lowerClosed,
+                    power(upper, exponent, true), upperClosed,
+                    factory
+            );
+        }
+        if (upper <= 0) {
+            return interval(
+                    power(-upper, exponent, false), upperClosed,
+                    power(-lower, exponent, true), lowerClosed,
+                    factory
+            );
+        }
+
+        double magnitude = Math.max(-lower, upper);
+        boolean closed = -lower == magnitude && lowerClosed || upper == magnitude && upperClosed;
+        return interval(0.0, true, power(magnitude, exponent, true), closed, factory);
+    }
+
+    /**
+     * Returns the lower endpoint of an interval, rounded down.
+     *
+     * @param interval the interval
+     * @return the lower endpoint
+     */
+    private static double lower(Interval interval) {
+        return value(interval.getLowerBound(), false);
+    }
+
+    /**
+     * Returns the upper endpoint of an interval, rounded up.
+     *
+     * @param interval the interval
+     * @return the upper endpoint
+     */
+    private static double upper(Interval interval) {
+        return value(interval.getUpperBound(), true);
+    }
+
+    /**
+     * Checks whether the lower endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the lower endpoint is a closed finite endpoint
+     */
+    private static boolean lowerClosed(Interval interval) {
+        return interval.isLowerClosed() && interval.getLowerBound().isFinite();
+    }
+
+    /**
+     * Checks whether the upper endpoint of an interval is closed and finite.
+     *
+     * @param interval the interval
+     * @return {@code true} if the upper endpoint is a closed finite endpoint
+     */
+    private static boolean upperClosed(Interval interval) {
+        return interval.isUpperClosed() && interval.getUpperBound().isFinite();
+    }
+
+    /**
+     * Returns the value of a boundary, converted to {@code double} in the given direction.
+     *
+     * @param bound the infinite, integral or floating-point boundary
+     * @param up    whether to round up rather than down
+     * @return the value of the boundary
+     */
+    private static double value(Bound bound, boolean up) {
+        if (bound.isInfinite()) {
+            return ((InfiniteBound) bound).isPositive() ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+
+        if (bound instanceof DoubleFiniteBound doubleBound) {
+            return doubleBound.doubleValue();
+        }
+        if (bound instanceof LongFiniteBound longBound) {
+            return toDouble(longBound.longValue(), up);
+        }
+        if (bound instanceof IntFiniteBound intBound) {
+            return intBound.intValue();
+        }
+
+        Number value = ((FiniteBound<?>) bound).getValue();
+        if (value instanceof Long) {
+            return toDouble(value.longValue(), up);
+        }
+        if (value instanceof Double || value instanceof Float || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            return value.doubleValue();
+        }
+        return up ? Math.nextUp(value.doubleValue()) : Math.nextDown(value.doubleValue());
+    }
+
+    /**
+     * Converts a {@code long} value to {@code double} in the given direction.
+     *
+     * @param value the value
+     * @param up    whether to round up rather than down
+     * @return the least {@code double} not less than {@code value} if {@code up} is {@code true},
+     *         the greatest {@code double} not greater than {@code value} otherwise
+     */
+    private static double toDouble(long value, boolean up) {
+        double converted = value;
+        int comparison = converted >= 0x1p63 ? 1 : Long.compare((long) converted, value);
+        if (comparison > 0 && !up) {
+            return Math.nextDown(converted);
+        }
+        if (comparison < 0 && up) {
+            return Math.nextUp(converted);
+        }
+        return converted;
+    }
+
+    /**
+     * Creates an interval from computed endpoints.
+     *
+     * @param lower       the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upper       the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @param factory     the factory of result boundaries
+     * @return the interval
+     */
+    private static ImmutableInterval interval(double lower, boolean lowerClosed, double upper, boolean upperClosed,
+                                              BoundFactory factory) {
+        if (lower == Double.POSITIVE_INFINITY) {
+            lower = Double.MAX_VALUE;
+            lowerClosed = false;
+        }
+        if (upper == Double.NEGATIVE_INFINITY) {
+            upper = -Double.MAX_VALUE;
+            upperClosed = false;
+        }
+        return ImmutableInterval.of(bound(lower, factory), lowerClosed, bound(upper, factory), upperClosed);
+    }
+
+    /**
+     * Creates a boundary for a computed endpoint.
+     *
+     * @param value   the endpoint
+     * @param factory the factory of result boundaries
+     * @return the boundary; negative zero is replaced by positive zero
+     */
+    private static Bound bound(double value, BoundFactory factory) {
+        if (Double.isInfinite(value)) {
+            return factory.getInfiniteBound(value > 0);
+        }
+        return factory.getFiniteBound(value + 0.0);
+    }
+
+    /**
+     * Adds two values, rounding in the given direction.
+     *
+     * @param first  the first value
+     * @param second the second value, which is not an infinity of the opposite sign
+     * @param up     whether to round up rather than down
+     * @return {@code first + second}, rounded
+     */
+    private static double add(double first, double second, boolean up) {
+        double sum = first + second;
+        if (Double.isInfinite(sum)) {
+            return Double.isInfinite(first) || Double.isInfinite(second) ? sum : overflow(sum, up);
+        }
+
+        double virtual = sum - first;
+        double error = (first - (sum - virtual)) + (second - virtual);
+        return round(sum, error, up);
+    }
+
+    /**
+     * Multiplies two values, rounding in the given direction and taking the product of zero and an infinity
+     * as zero.
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @param up     whether to round up rather than down
+     * @return {@code first * second}, rounded
+     */
+    private static double multiply(double first, double second, boolean up) {
+        if (first == 0 || second == 0) {
+            return 0.0;
+        }
+
+        double product = first * second;
+        if (Double.isInfinite(product)) {
+            return Double.isInfinite(first) || Double.isInfinite(second) ? product : overflow(product, up);
+        }
+        if (Math.abs(product) < ERROR_FREE_THRESHOLD) {
+            return up ? Math.nextUp(product) : Math.nextDown(product);
+        }
+        return round(product, Math.fma(first, second, -product), up);
+    }
+
+    /**
+     * Divides two values, where the divisor is an endpoint of an interval of the given sign, rounding
+     * in the given direction.
+     * <p>
+     * Division by zero yields an infinity of the sign of the result, division by an infinity yields zero,
+     * and zero divided by zero is taken as zero.
+     * </p>
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor
+     * @param negative whether the divisor interval is negative
+     * @param up       whether to round up rather than down
+     * @return {@code dividend / divisor}, rounded
+     */
+    private static double divide(double dividend, double divisor, boolean negative, boolean up) {
+        if (dividend == 0 || Double.isInfinite(divisor)) {
+            return 0.0;
+        }
+        if (divisor == 0) {
+            return (dividend < 0) == negative ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+
+        double quotient = dividend / divisor;
+        if (Double.isInfinite(quotient)) {
+            return Double.isInfinite(dividend) ? quotient : overflow(quotient, up);
+        }
+        if (Math.abs(quotient) < ERROR_FREE_THRESHOLD || Math.abs(dividend) < ERROR_FREE_THRESHOLD) {
+            return up ? Math.nextUp(quotient) : Math.nextDown(quotient);
+        }
+
+        double remainder = Math.fma(-quotient, divisor, dividend);
+        return round(quotient, divisor > 0 ? remainder : -remainder, up);
+    }
+
+    /**
+     * Raises a non-negative value to a positive power, rounding in the given direction.
+     *
+     * @param base     the non-negative base
+     * @param exponent the positive exponent
+     * @param up       whether to round up rather than down
+     * @return {@code base} raised to {@code exponent}, rounded
+     */
+    private static double power(double base, int exponent, boolean up) {
+        int remaining = exponent;
+        while ((remaining & 1) == 0) {
+            base = multiply(base, base, up);
+            remaining >>>= 1;
+        }
+
+        double result = base;
+        while ((remaining >>>= 1) != 0) {
+            base = multiply(base, base, up);
+            if ((remaining & 1) != 0) {
+                result = multiply(result, base, up);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rounds a result in the given direction, given the sign of its rounding error.
+     *
+     * @param value the result rounded to nearest
+     * @param error the exact value minus {@code value}, or a value of the same sign
+     * @param up    whether to round up rather than down
+     * @return {@code value}, moved by one ulp if its error points in the rounding direction
+     */
+    private static double round(double value, double error, boolean up) {
+        if (up) {
+            return error > 0 ? Math.nextUp(value) : value;
+        }
+        return error < 0 ? Math.nextDown(value) : value;
+    }
+
+    /**
+     * Rounds a result that overflowed from finite operands in the given direction.
+     *
+     * @param value the infinite result rounded to nearest
+     * @param up    whether to round up rather than down
+     * @return {@code value} if it lies in the rounding direction, the greatest finite value of its sign otherwise
+     */
+    private static double overflow(double value, boolean up) {
+        if (up) {
+            return value > 0 ? value : -Double.MAX_VALUE;
+        }
+        return value < 0 ? value : Double.MAX_VALUE;
+    }
+
+    /**
+     * Determines whether the product of two endpoints is attained.
+     * <p>
+     * A product is attained if both endpoints are, or if an attained endpoint is zero.
+     * </p>
+     *
+     * @param first        the first endpoint
+     * @param firstClosed  whether the first endpoint is closed
+     * @param second       the second endpoint
+     * @param secondClosed whether the second endpoint is closed
+     * @return {@code true} if the product is a closed endpoint candidate
+     */
+    private static boolean isProductClosed(double first, boolean firstClosed, double second, boolean secondClosed) {
+        return firstClosed && (secondClosed || first == 0) || secondClosed && second == 0;
+    }
+
+    /**
+     * Determines whether the quotient of two endpoints is attained.
+     * <p>
+     * A quotient is attained if the dividend is attained and is zero, or if both endpoints are attained
+     * and the divisor is finite and non-zero.
+     * </p>
+     *
+     * @param dividend       the dividend
+     * @param dividendClosed whether the dividend is closed
+     * @param divisor        the divisor
+     * @param divisorClosed  whether the divisor is closed
+     * @return {@code true} if the quotient is a closed endpoint candidate
+     */
+    private static boolean isQuotientClosed(double dividend, boolean dividendClosed, double divisor,
+                                            boolean divisorClosed) {
+        return dividendClosed && (dividend == 0 || divisorClosed && divisor != 0);
+    }
+}
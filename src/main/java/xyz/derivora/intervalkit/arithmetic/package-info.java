@@ -0,0 +1,34 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides arithmetic on intervals with finite and infinite boundaries.
+ * <h2>Key Components:</h2>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.arithmetic.IntervalArithmetic} -
+ *         Adds, subtracts, multiplies, divides, negates and raises intervals to powers, including division
+ *         by intervals that contain zero. Integral and floating-point endpoints are computed on primitive
+ *         values, falling back to {@link java.math.BigDecimal} where {@code long} results are not exact.</li>
+ *     <li>{@link xyz.derivora.intervalkit.arithmetic.DoubleRounding} -
+ *         Selects whether {@code double} results are rounded to nearest or outwards, so that they are
+ *         guaranteed to enclose the exact results.</li>
+ * </ul>
+ *
+ * @see xyz.derivora.intervalkit.intervals.ImmutableInterval
+ * @see xyz.derivora.intervalkit.bounds.factory.BoundFactory
+ */
+package xyz.derivora.intervalkit.arithmetic;
@@ -20,8 +20,14 @@ package xyz.derivora.intervalkit.bounds.comparison;
 import xyz.derivora.intervalkit.bounds.Bound;
 import xyz.derivora.intervalkit.bounds.FiniteBound;
 import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
 import xyz.derivora.utilkit.numbers.NumberComparator;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Comparator;
 import java.util.Objects;
 
@@ -48,6 +54,21 @@ import java.util.Objects;
  * If these assumptions are violated, an {@link IncomparableBoundsException} will be thrown.
  *
  * <p>
+ * Finite boundaries whose values share the same standard type are compared directly, without
+ * delegating to {@link NumberComparator}: primitive-backed bounds such as {@link LongFiniteBound} are
+ * compared as primitives, integral and floating-point wrappers are compared through their primitive
+ * values, and {@link BigDecimal} and {@link BigInteger} values are compared with {@code compareTo}.
+ * Floating-point values are compared numerically, so {@code -0.0} and {@code 0.0} are considered equal,
+ * consistent with the comparison of mixed types. Only values of mixed or non-standard types are compared
+ * through the generic {@link NumberComparator}.
+ * </p>
+ *
+ * <p>
+ * Callers that need to handle incomparable boundaries without exceptions can use {@link #tryCompare(Bound, Bound)}
+ * or {@link #isComparable(Bound, Bound)}, which report such boundaries through a return value.
+ * </p>
+ *
+ * <p>
  * The singleton instance of this comparator is accessible via {@link #getInstance()}.
  * </p>
  *
@@ -63,6 +84,31 @@ public final class BoundComparator implements Comparator<Bound> {
      */
     private static final BoundComparator SINGLETON = new BoundComparator();
 
+    /**
+     * The result of {@link #tryCompare(Bound, Bound)} indicating that the boundaries cannot be compared.
+     * <p>
+     * Since {@link #tryCompare(Bound, Bound)} normalizes all other results to {@code -1}, {@code 0} or {@code 1},
+     * this value never collides with a valid comparison result.
+     * </p>
+     */
+    public static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+    /**
+     * The internal result of {@link #compareByReferenceOrPrimitive(Bound, Bound)} indicating that
+     * the boundaries require a full comparison.
+     */
+    private static final int UNRESOLVED = Integer.MAX_VALUE;
+
+    /**
+     * The canonical positive infinite bound, used for reference-identity fast paths.
+     */
+    private static final InfiniteBound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    /**
+     * The canonical negative infinite bound, used for reference-identity fast paths.
+     */
+    private static final InfiniteBound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+
     /**
      * Private constructor to enforce the singleton pattern.
      * <p>
@@ -96,6 +142,12 @@ public final class BoundComparator implements Comparator<Bound> {
      * </p>
      *
      * <p>
+     * Identical instances are considered equal without inspecting their values, the canonical infinite
+     * bounds of {@link ImmutableInfiniteBound#getInstance(boolean)} are ordered by reference, and pairs of
+     * primitive-backed bounds of the same class are compared as primitives before any other check.
+     * </p>
+     *
+     * <p>
      * If the comparison cannot be performed due to an unexpected type or other issue,
      * an {@link IncomparableBoundsException} is thrown.
      * </p>
@@ -112,8 +164,9 @@ public final class BoundComparator implements Comparator<Bound> {
         Objects.requireNonNull(firstBound, "First bound cannot be null");
         Objects.requireNonNull(secondBound, "Second bound cannot be null");
 
-        if (firstBound.equals(secondBound)) {
-            return 0;
+        int result = compareByReferenceOrPrimitive(firstBound, secondBound);
+        if (result != UNRESOLVED) {
+            return result;
         }
 
         try {
@@ -127,6 +180,180 @@ public final class BoundComparator implements Comparator<Bound> {
         }
     }
 
+    /**
+     * Compares two boundaries without throwing an exception if they cannot be compared.
+     * <p>
+     * This method follows the ordering of {@link #compare(Bound, Bound)}, but reports incomparable boundaries
+     * by returning {@link #INCOMPARABLE} instead of throwing an {@link IncomparableBoundsException}. Boundaries
+     * that violate the structural assumptions of this comparator are detected by type checks before any
+     * comparison, so the common failure cases neither create nor catch an exception. Only failures of the
+     * underlying numeric comparison, such as values of unsupported {@link Number} types, are caught internally.
+     * </p>
+     *
+     * @param firstBound  the first boundary to compare
+     * @param secondBound the second boundary to compare
+     * @return {@code -1}, {@code 0} or {@code 1} as {@code firstBound} is less than, equal to, or greater than
+     * {@code secondBound}, or {@link #INCOMPARABLE} if the boundaries cannot be compared
+     * @throws NullPointerException if either {@code firstBound} or {@code secondBound} is {@code null}
+     */
+    public int tryCompare(Bound firstBound, Bound secondBound) {
+        Objects.requireNonNull(firstBound, "First bound cannot be null");
+        Objects.requireNonNull(secondBound, "Second bound cannot be null");
+
+        int result = compareByReferenceOrPrimitive(firstBound, secondBound);
+        if (result != UNRESOLVED) {
+            return result;
+        }
+
+        if (!isWellFormed(firstBound) || !isWellFormed(secondBound)) {
+            return INCOMPARABLE;
+        }
+
+        try {
+            if (firstBound.isFinite()) {
+                return Integer.signum(compare((FiniteBound<?>) firstBound, secondBound));
+            }
+
+            return Integer.signum(compare((InfiniteBound) firstBound, secondBound));
+        } catch (RuntimeException e) {
+            return INCOMPARABLE;
+        }
+    }
+
+    /**
+     * Determines whether two boundaries can be compared.
+     * <p>
+     * This method is equivalent to checking whether {@link #tryCompare(Bound, Bound)} returns a value
+     * other than {@link #INCOMPARABLE}.
+     * </p>
+     *
+     * @param firstBound  the first boundary to check
+     * @param secondBound the second boundary to check
+     * @return {@code true} if the boundaries can be compared, {@code false} otherwise
+     * @throws NullPointerException if either {@code firstBound} or {@code secondBound} is {@code null}
+     */
+    public boolean isComparable(Bound firstBound, Bound secondBound) {
+        return tryCompare(firstBound, secondBound) != INCOMPARABLE;
+    }
+
+    /**
+     * Compares two boundaries using only reference checks and primitive comparisons.
+     * <p>
+     * Identical instances are equal, the canonical infinite bounds are ordered by reference, and pairs of
+     * primitive-backed bounds of the same class are compared as primitives.
+     * </p>
+     *
+     * @param firstBound  the first boundary to compare
+     * @param secondBound the second boundary to compare
+     * @return {@code -1}, {@code 0} or {@code 1} if the order could be determined, {@link #UNRESOLVED} otherwise
+     */
+    private static int compareByReferenceOrPrimitive(Bound firstBound, Bound secondBound) {
+        if (firstBound == secondBound) {
+            return 0;
+        }
+
+        if (firstBound == NEGATIVE_INFINITY && secondBound == POSITIVE_INFINITY) {
+            return -1;
+        }
+
+        if (firstBound == POSITIVE_INFINITY && secondBound == NEGATIVE_INFINITY) {
+            return 1;
+        }
+
+        if (firstBound instanceof LongFiniteBound first && secondBound instanceof LongFiniteBound second) {
+            return Long.compare(first.longValue(), second.longValue());
+        }
+
+        if (firstBound instanceof IntFiniteBound first && secondBound instanceof IntFiniteBound second) {
+            return Integer.compare(first.intValue(), second.intValue());
+        }
+
+        if (firstBound instanceof DoubleFiniteBound first && secondBound instanceof DoubleFiniteBound second) {
+            return compareDoubles(first.doubleValue(), second.doubleValue());
+        }
+
+        return UNRESOLVED;
+    }
+
+    /**
+     * Determines whether a boundary satisfies the structural assumptions of this comparator.
+     *
+     * @param bound the boundary to check
+     * @return {@code true} if a finite boundary implements {@link FiniteBound} with a non-null value,
+     * or an infinite boundary implements {@link InfiniteBound}; {@code false} otherwise
+     */
+    private static boolean isWellFormed(Bound bound) {
+        if (bound.isFinite()) {
+            return bound instanceof FiniteBound<?> finiteBound && finiteBound.getValue() != null;
+        }
+
+        return bound instanceof InfiniteBound;
+    }
+
+    /**
+     * Compares a boundary with a numeric value to determine their relative ordering.
+     * <p>
+     * The value is treated as if it were a finite boundary, so this method orders it consistently with
+     * {@link #compare(Bound, Bound)}, but without wrapping the value into a boundary. Primitive-backed
+     * boundaries are compared with values of the matching wrapper type as primitives.
+     * </p>
+     *
+     * @param bound the boundary to compare
+     * @param value the finite numeric value to compare against
+     * @return a negative integer, zero, or a positive integer as {@code bound} is less than, equal to,
+     * or greater than {@code value}
+     * @throws NullPointerException        if either {@code bound} or {@code value} is {@code null}
+     * @throws IllegalArgumentException    if {@code value} is an infinite or {@code NaN} floating-point value
+     * @throws IncomparableBoundsException if the comparison cannot be completed due to an unexpected issue
+     */
+    public int compareToValue(Bound bound, Number value) {
+        Objects.requireNonNull(bound, "Bound cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if (!isFiniteValue(value)) {
+            throw new IllegalArgumentException("Value cannot be infinite or NaN");
+        }
+
+        if (bound instanceof LongFiniteBound longBound && isIntegralType(value.getClass())) {
+            return Long.compare(longBound.longValue(), value.longValue());
+        }
+
+        if (bound instanceof IntFiniteBound intBound && isIntegralType(value.getClass())) {
+            return Long.compare(intBound.intValue(), value.longValue());
+        }
+
+        if (bound instanceof DoubleFiniteBound doubleBound && value instanceof Double) {
+            return compareDoubles(doubleBound.doubleValue(), value.doubleValue());
+        }
+
+        try {
+            if (bound.isFinite()) {
+                return compareValues(((FiniteBound<?>) bound).getValue(), value);
+            }
+
+            return ((InfiniteBound) bound).isPositive() ? 1 : -1;
+        } catch (Exception e) {
+            throw new IncomparableBoundsException(
+                    String.format("Bound %s cannot be compared with value %s", bound, value), e
+            );
+        }
+    }
+
+    /**
+     * Determines whether the given value is finite.
+     *
+     * @param value the value to check
+     * @return {@code false} if {@code value} is an infinite or {@code NaN} {@link Double} or {@link Float},
+     * {@code true} otherwise
+     */
+    private static boolean isFiniteValue(Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            return Double.isFinite(value.doubleValue());
+        }
+
+        return true;
+    }
+
     /**
      * Compares a finite boundary with another boundary to determine their relative ordering.
      *
@@ -151,12 +378,93 @@ public final class BoundComparator implements Comparator<Bound> {
             Number firstValue = firstBound.getValue();
             Number secondValue = ((FiniteBound<?>) secondBound).getValue();
 
-            return NumberComparator.getInstance().compare(firstValue, secondValue);
+            return compareValues(firstValue, secondValue);
         }
 
         return -compare((InfiniteBound) secondBound, firstBound);
     }
 
+    /**
+     * Compares two finite boundary values to determine their relative ordering.
+     * <p>
+     * Values of the same standard numeric type are compared directly. Integral wrappers ({@link Long},
+     * {@link Integer}, {@link Short} and {@link Byte}) are compared through {@code long} values, even when their
+     * types differ. All other combinations are delegated to {@link NumberComparator}, unless the values are
+     * equal according to {@link Object#equals(Object)}, so that equal values of a custom type are equal even
+     * if {@link NumberComparator} cannot order them.
+     * </p>
+     *
+     * @param firstValue  the first value to compare
+     * @param secondValue the second value to compare
+     * @return a negative integer, zero, or a positive integer as {@code firstValue} is less than, equal to,
+     * or greater than {@code secondValue}
+     * @throws ClassCastException       if the values cannot be compared by {@link NumberComparator}
+     * @throws IllegalArgumentException if a numeric conversion issue occurs during comparison
+     */
+    private static int compareValues(Number firstValue, Number secondValue) {
+        if (firstValue == secondValue) {
+            return 0;
+        }
+
+        Class<?> firstType = firstValue.getClass();
+        Class<?> secondType = secondValue.getClass();
+
+        if (isIntegralType(firstType) && isIntegralType(secondType)) {
+            return Long.compare(firstValue.longValue(), secondValue.longValue());
+        }
+
+        if (firstType == secondType) {
+            if (firstType == Double.class || firstType == Float.class) {
+                return compareDoubles(firstValue.doubleValue(), secondValue.doubleValue());
+            }
+
+            if (firstType == BigDecimal.class) {
+                return ((BigDecimal) firstValue).compareTo((BigDecimal) secondValue);
+            }
+
+            if (firstType == BigInteger.class) {
+                return ((BigInteger) firstValue).compareTo((BigInteger) secondValue);
+            }
+        }
+
+        if (firstValue.equals(secondValue)) {
+            return 0;
+        }
+
+        return NumberComparator.getInstance().compare(firstValue, secondValue);
+    }
+
+    /**
+     * Determines whether the given type is a standard integral wrapper whose values fit into a {@code long}.
+     *
+     * @param type the type to check
+     * @return {@code true} if {@code type} is {@link Long}, {@link Integer}, {@link Short} or {@link Byte},
+     * {@code false} otherwise
+     */
+    private static boolean isIntegralType(Class<?> type) {
+        return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+    }
+
+    /**
+     * Compares two finite {@code double} values numerically.
+     * <p>
+     * Unlike {@link Double#compare(double, double)}, this method considers {@code -0.0} and {@code 0.0} equal.
+     * Finite boundaries never hold {@code NaN}, so the values are always ordered.
+     * </p>
+     *
+     * @param firstValue  the first value to compare
+     * @param secondValue the second value to compare
+     * @return {@code -1}, {@code 0} or {@code 1} as {@code firstValue} is less than, equal to,
+     * or greater than {@code secondValue}
+     */
+    private static int compareDoubles(double firstValue, double secondValue) {
+        if (firstValue < secondValue) {
+            return -1;
+        }
+
+        return firstValue > secondValue ? 1 : 0;
+    }
+
     /**
      * Compares an infinite boundary with another boundary to determine their relative ordering.
      *
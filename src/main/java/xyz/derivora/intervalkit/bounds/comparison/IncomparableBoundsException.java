@@ -35,6 +35,13 @@ import java.io.Serial;
  * comparison, allowing detailed debugging information.
  * </p>
  *
+ * <p>
+ * If no custom message is provided, the default message is formatted lazily on the first call to
+ * {@link #getMessage()}, so exceptions that are caught without inspecting their message never format it.
+ * Exceptions created with {@code writableStackTrace} set to {@code false} do not capture a stack trace,
+ * which makes them cheap to create in high-volume validation code.
+ * </p>
+ *
  * @see Bound
  */
 public class IncomparableBoundsException extends RuntimeException {
@@ -69,6 +76,16 @@ public class IncomparableBoundsException extends RuntimeException {
      */
     private final Bound secondBound;
 
+    /**
+     * Indicates whether the message of this exception is the lazily formatted default message.
+     */
+    private final boolean defaultMessage;
+
+    /**
+     * The formatted default message, or {@code null} if it has not been formatted yet.
+     */
+    private String formattedMessage;
+
     /**
      * Constructs an {@code IncomparableBoundsException} with no detail message and no specific bounds.
      */
@@ -111,7 +128,9 @@ public class IncomparableBoundsException extends RuntimeException {
      * @param secondBound the second bound involved in the comparison
      */
     public IncomparableBoundsException(Bound firstBound, Bound secondBound) {
-        this(firstBound, secondBound, createDefaultMessage(firstBound, secondBound));
+        this.firstBound = firstBound;
+        this.secondBound = secondBound;
+        defaultMessage = true;
     }
 
     /**
@@ -125,6 +144,7 @@ public class IncomparableBoundsException extends RuntimeException {
         super(message);
         this.firstBound = firstBound;
         this.secondBound = secondBound;
+        defaultMessage = false;
     }
 
     /**
@@ -135,7 +155,27 @@ public class IncomparableBoundsException extends RuntimeException {
      * @param cause       the cause of this exception
      */
     public IncomparableBoundsException(Bound firstBound, Bound secondBound, Throwable cause) {
-        this(firstBound, secondBound, createDefaultMessage(firstBound, secondBound), cause);
+        this(firstBound, secondBound, cause, true);
+    }
+
+    /**
+     * Constructs an {@code IncomparableBoundsException} with the specified bounds and cause,
+     * optionally without a stack trace.
+     * <p>
+     * Passing {@code false} as {@code writableStackTrace} creates a stackless exception, which avoids the cost
+     * of capturing the stack when the exception is used for control flow in high-volume code.
+     * </p>
+     *
+     * @param firstBound         the first bound involved in the comparison
+     * @param secondBound        the second bound involved in the comparison
+     * @param cause              the cause of this exception
+     * @param writableStackTrace whether the stack trace should be captured
+     */
+    public IncomparableBoundsException(Bound firstBound, Bound secondBound, Throwable cause, boolean writableStackTrace) {
+        super(null, cause, true, writableStackTrace);
+        this.firstBound = firstBound;
+        this.secondBound = secondBound;
+        defaultMessage = true;
     }
 
     /**
@@ -150,6 +190,29 @@ public class IncomparableBoundsException extends RuntimeException {
         super(message, cause);
         this.firstBound = firstBound;
         this.secondBound = secondBound;
+        defaultMessage = false;
+    }
+
+    /**
+     * Returns the detail message of this exception.
+     * <p>
+     * If no custom message was provided, the default message is formatted from the bounds on the first call
+     * and reused afterwards.
+     * </p>
+     *
+     * @return the detail message
+     */
+    @Override
+    public String getMessage() {
+        if (!defaultMessage) {
+            return super.getMessage();
+        }
+
+        if (formattedMessage == null) {
+            formattedMessage = createDefaultMessage(firstBound, secondBound);
+        }
+
+        return formattedMessage;
     }
 
     /**
@@ -0,0 +1,543 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.bounds.comparison;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * A utility for sorting large arrays of boundaries in parallel, in the order of {@link BoundComparator}.
+ * <p>
+ * Instead of comparing every pair of boundaries through {@link BoundComparator}, the array is partitioned
+ * by kind into negative infinite, integral, floating-point, other finite and positive infinite boundaries.
+ * The partitioning is a parallel count and scatter: each chunk of the array counts its boundaries per kind,
+ * a prefix sum over the counts gives every chunk its own positions in each partition, and the chunks then
+ * copy their boundaries to these positions independently, keeping their relative order.
+ * </p>
+ * <ul>
+ *     <li>Infinite boundaries need no sorting and are placed at both ends.</li>
+ *     <li>Integral boundaries ({@link LongFiniteBound}, {@link IntFiniteBound} and boundaries with
+ *         {@link Long}, {@link Integer}, {@link Short} or {@link Byte} values) and floating-point boundaries
+ *         ({@link DoubleFiniteBound} and boundaries with {@link Double} or {@link Float} values) are reduced
+ *         to {@code long} sort keys, extracted in parallel. If the keys of a group span a range narrow enough
+ *         to leave room for the position of each boundary in the low bits of the key, key and position are
+ *         packed into one {@code long} and sorted with {@link Arrays#parallelSort(long[])}. Otherwise, the group
+ *         is sorted with {@link Arrays#parallelSort(Object[], int, int, Comparator)} comparing the keys as
+ *         primitives.</li>
+ *     <li>All remaining boundaries are sorted with {@link Arrays#parallelSort(Object[], int, int, Comparator)}
+ *         and {@link BoundComparator}.</li>
+ * </ul>
+ * <p>
+ * The sorted finite groups are then merged in parallel, comparing integral and floating-point values exactly
+ * without boxing. Splitters taken at evenly spaced ranks of the largest group divide all groups by binary search
+ * into parts that are merged independently into their final positions. Boundaries of the same group keep their
+ * relative order if they compare equal; the relative order of equal boundaries from different groups, such as
+ * {@code 1L} and {@code 1.0}, is unspecified.
+ * </p>
+ *
+ * <p>
+ * Arrays shorter than {@link #PARALLEL_THRESHOLD} are sorted with {@link Arrays#sort(Object[], Comparator)}
+ * on the calling thread, where partitioning does not pay off. All parallel work runs in the common
+ * {@link ForkJoinPool}. Larger arrays are sorted in separate buffers and copied back only after every
+ * comparison has succeeded, so an {@link IncomparableBoundsException} leaves the given array unchanged.
+ * </p>
+ *
+ * @see BoundComparator
+ */
+public final class ParallelBoundSorter {
+
+    /**
+     * The minimum array length for which boundaries are partitioned and sorted in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * The group of negative infinite boundaries.
+     */
+    private static final int NEGATIVE_INFINITE = 0;
+
+    /**
+     * The group of boundaries with integral primitive or wrapper values.
+     */
+    private static final int INTEGRAL = 1;
+
+    /**
+     * The group of boundaries with floating-point primitive or wrapper values.
+     */
+    private static final int FLOATING_POINT = 2;
+
+    /**
+     * The group of all other boundaries.
+     */
+    private static final int OTHER = 3;
+
+    /**
+     * The group of positive infinite boundaries.
+     */
+    private static final int POSITIVE_INFINITE = 4;
+
+    /**
+     * The number of groups.
+     */
+    private static final int GROUP_COUNT = POSITIVE_INFINITE + 1;
+
+    /**
+     * The minimum number of elements processed by one parallel task.
+     */
+    private static final int MIN_CHUNK_LENGTH = 1 << 11;
+
+    /**
+     * The number of chunks per thread of the common pool, leaving room for work stealing.
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelBoundSorter() {
+    }
+
+    /**
+     * Sorts the given array in place, in the order of {@link BoundComparator}.
+     *
+     * @param bounds the array to sort
+     * @throws NullPointerException        if {@code bounds} or any of its elements is {@code null}
+     * @throws IncomparableBoundsException if two boundaries cannot be compared; the array then still holds
+     *                                     the same boundaries, possibly partially sorted
+     */
+    public static void sort(Bound[] bounds) {
+        Objects.requireNonNull(bounds, "Bounds cannot be null");
+        if (bounds.length < PARALLEL_THRESHOLD) {
+            for (Bound bound : bounds) {
+                Objects.requireNonNull(bound, "Bound cannot be null");
+            }
+            Arrays.sort(bounds, BoundComparator.getInstance());
+            return;
+        }
+
+        int length = bounds.length;
+        int chunks = chunkCount(length);
+        byte[] groups = new byte[length];
+        int[][] chunkOffsets = new int[chunks][GROUP_COUNT];
+        forEachChunk(length, chunks, (chunk, from, to) -> {
+            int[] counts = chunkOffsets[chunk];
+            for (int i = from; i < to; i++) {
+                int group = groupOf(Objects.requireNonNull(bounds[i], "Bound cannot be null"));
+                groups[i] = (byte) group;
+                counts[group]++;
+            }
+        });
+
+        int[] groupStarts = new int[GROUP_COUNT + 1];
+        for (int[] counts : chunkOffsets) {
+            for (int group = 0; group < GROUP_COUNT; group++) {
+                groupStarts[group + 1] += counts[group];
+            }
+        }
+        for (int group = 0; group < GROUP_COUNT; group++) {
+            groupStarts[group + 1] += groupStarts[group];
+        }
+        int[] next = Arrays.copyOf(groupStarts, GROUP_COUNT);
+        for (int[] counts : chunkOffsets) {
+            for (int group = 0; group < GROUP_COUNT; group++) {
+                int count = counts[group];
+                counts[group] = next[group];
+                next[group] += count;
+            }
+        }
+
+        Bound[] partitioned = new Bound[length];
+        forEachChunk(length, chunks, (chunk, from, to) -> {
+            int[] offsets = chunkOffsets[chunk];
+            for (int i = from; i < to; i++) {
+                partitioned[offsets[groups[i]]++] = bounds[i];
+            }
+        });
+
+        Arrays.parallelSort(partitioned, groupStarts[OTHER], groupStarts[OTHER + 1], BoundComparator.getInstance());
+        Bound[] merged = new Bound[length];
+        sortByKey(partitioned, groupStarts[INTEGRAL], groupStarts[INTEGRAL + 1],
+                ParallelBoundSorter::integralKey, merged);
+        sortByKey(partitioned, groupStarts[FLOATING_POINT], groupStarts[FLOATING_POINT + 1],
+                ParallelBoundSorter::floatingPointKey, merged);
+
+        System.arraycopy(partitioned, 0, merged, 0, groupStarts[INTEGRAL]);
+        merge(partitioned, groupStarts, merged);
+        System.arraycopy(partitioned, groupStarts[POSITIVE_INFINITE], merged, groupStarts[POSITIVE_INFINITE],
+                length - groupStarts[POSITIVE_INFINITE]);
+
+        forEachChunk(length, chunks, (chunk, from, to) -> System.arraycopy(merged, from, bounds, from, to - from));
+    }
+
+    /**
+     * Determines the group of a boundary.
+     *
+     * @param bound the boundary
+     * @return the group of {@code bound}
+     */
+    private static int groupOf(Bound bound) {
+        if (bound.isInfinite()) {
+            if (bound instanceof InfiniteBound infiniteBound) {
+                return infiniteBound.isPositive() ? POSITIVE_INFINITE : NEGATIVE_INFINITE;
+            }
+            return OTHER;
+        }
+
+        if (bound instanceof LongFiniteBound || bound instanceof IntFiniteBound) {
+            return INTEGRAL;
+        }
+        if (bound instanceof DoubleFiniteBound) {
+            return FLOATING_POINT;
+        }
+        if (bound instanceof FiniteBound<?> finiteBound) {
+            Number value = finiteBound.getValue();
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return INTEGRAL;
+            }
+            if ((value instanceof Double || value instanceof Float) && Double.isFinite(value.doubleValue())) {
+                return FLOATING_POINT;
+            }
+        }
+        return OTHER;
+    }
+
+    /**
+     * Returns the value of a boundary of the integral group.
+     *
+     * @param bound the boundary
+     * @return the value as a {@code long}
+     */
+    private static long integralKey(Bound bound) {
+        if (bound instanceof LongFiniteBound longBound) {
+            return longBound.longValue();
+        }
+        if (bound instanceof IntFiniteBound intBound) {
+            return intBound.intValue();
+        }
+        return ((FiniteBound<?>) bound).getValue().longValue();
+    }
+
+    /**
+     * Returns the value of a boundary of the floating-point group as a key whose signed order equals
+     * the numeric order of the values.
+     *
+     * @param bound the boundary
+     * @return the sort key, equal for {@code -0.0} and {@code 0.0}
+     */
+    private static long floatingPointKey(Bound bound) {
+        double value = floatingPointValue(bound);
+        long bits = Double.doubleToRawLongBits(value == 0.0 ? 0.0 : value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the value of a boundary of the floating-point group.
+     *
+     * @param bound the boundary
+     * @return the value as a {@code double}
+     */
+    private static double floatingPointValue(Bound bound) {
+        return bound instanceof DoubleFiniteBound doubleBound
+                ? doubleBound.doubleValue()
+                : ((FiniteBound<?>) bound).getValue().doubleValue();
+    }
+
+    /**
+     * Sorts a range of boundaries in parallel by their {@code long} keys, keeping equal keys in order.
+     *
+     * @param bounds the array containing the boundaries to sort
+     * @param from   the index of the first boundary to sort, inclusive
+     * @param to     the index of the last boundary to sort, exclusive
+     * @param key    the function computing the key of a boundary
+     * @param buffer an array of the same length as {@code bounds}, whose range is overwritten
+     */
+    private static void sortByKey(Bound[] bounds, int from, int to, ToLongFunction<Bound> key, Bound[] buffer) {
+        int length = to - from;
+        if (length < 2) {
+            return;
+        }
+
+        int chunks = chunkCount(length);
+        long[] keys = new long[length];
+        long[] chunkMins = new long[chunks];
+        long[] chunkMaxes = new long[chunks];
+        forEachChunk(length, chunks, (chunk, start, end) -> {
+            long chunkMin = Long.MAX_VALUE;
+            long chunkMax = Long.MIN_VALUE;
+            for (int i = start; i < end; i++) {
+                long value = key.applyAsLong(bounds[from + i]);
+                keys[i] = value;
+                chunkMin = Math.min(chunkMin, value);
+                chunkMax = Math.max(chunkMax, value);
+            }
+            chunkMins[chunk] = chunkMin;
+            chunkMaxes[chunk] = chunkMax;
+        });
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            min = Math.min(min, chunkMins[chunk]);
+            max = Math.max(max, chunkMaxes[chunk]);
+        }
+
+        int positionBits = Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+        if (((max - min) >>> (Long.SIZE - 1 - positionBits)) != 0) {
+            Arrays.parallelSort(bounds, from, to,
+                    (first, second) -> Long.compare(key.applyAsLong(first), key.applyAsLong(second)));
+            return;
+        }
+
+        long base = min;
+        forEachChunk(length, chunks, (chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                keys[i] = ((keys[i] - base) << positionBits) | i;
+            }
+        });
+        Arrays.parallelSort(keys);
+
+        long positionMask = (1L << positionBits) - 1;
+        forEachChunk(length, chunks, (chunk, start, end) -> {
+            for (int i = start; i < end; i++) {
+                buffer[from + i] = bounds[from + (int) (keys[i] & positionMask)];
+            }
+        });
+        forEachChunk(length, chunks, (chunk, start, end) ->
+                System.arraycopy(buffer, from + start, bounds, from + start, end - start));
+    }
+
+    /**
+     * Merges the sorted finite groups of a partitioned array into the same range of the target array.
+     * <p>
+     * The merged range is split into parts at splitters taken at evenly spaced ranks of the largest group.
+     * Each group is divided before the first boundary not less than each splitter, so that every part can be
+     * merged independently into its own position of the target array.
+     * </p>
+     *
+     * @param source      the partitioned array, whose finite groups are sorted
+     * @param groupStarts the index of the first boundary of each group in {@code source}, followed by its length
+     * @param target      the array receiving the merged boundaries
+     */
+    private static void merge(Bound[] source, int[] groupStarts, Bound[] target) {
+        int length = groupStarts[OTHER + 1] - groupStarts[INTEGRAL];
+        if (length == 0) {
+            return;
+        }
+
+        int largest = INTEGRAL;
+        for (int group = FLOATING_POINT; group <= OTHER; group++) {
+            if (groupLength(groupStarts, group) > groupLength(groupStarts, largest)) {
+                largest = group;
+            }
+        }
+
+        int parts = chunkCount(length);
+        int[][] splits = new int[parts + 1][];
+        splits[0] = Arrays.copyOf(groupStarts, GROUP_COUNT);
+        splits[parts] = Arrays.copyOfRange(groupStarts, 1, GROUP_COUNT + 1);
+        for (int part = 1; part < parts; part++) {
+            int rank = (int) ((long) groupLength(groupStarts, largest) * part / parts);
+            Bound splitter = source[groupStarts[largest] + rank];
+            splits[part] = new int[GROUP_COUNT];
+            for (int group = INTEGRAL; group <= OTHER; group++) {
+                splits[part][group] = lowerBound(source, splits[part - 1][group],
+                        groupStarts[group + 1], group, splitter, largest);
+            }
+        }
+
+        IntStream.range(0, parts).parallel().forEach(part -> {
+            int position = groupStarts[INTEGRAL];
+            for (int group = INTEGRAL; group <= OTHER; group++) {
+                position += splits[part][group] - groupStarts[group];
+            }
+            mergeRange(source, splits[part], splits[part + 1], target, position);
+        });
+    }
+
+    /**
+     * Merges one part of the sorted finite groups into the target array.
+     *
+     * @param source the partitioned array, whose finite groups are sorted
+     * @param from   the index in {@code source} of the first boundary of the part in each group, inclusive
+     * @param to     the index in {@code source} of the last boundary of the part in each group, exclusive
+     * @param target the array receiving the merged boundaries
+     * @param offset the position in {@code target} of the first merged boundary
+     */
+    private static void mergeRange(Bound[] source, int[] from, int[] to, Bound[] target, int offset) {
+        BoundComparator comparator = BoundComparator.getInstance();
+        int i = from[INTEGRAL];
+        int f = from[FLOATING_POINT];
+        int o = from[OTHER];
+        int integralEnd = to[INTEGRAL];
+        int floatingPointEnd = to[FLOATING_POINT];
+        int otherEnd = to[OTHER];
+        int position = offset;
+        while (i < integralEnd || f < floatingPointEnd) {
+            boolean fromIntegral = f == floatingPointEnd
+                    || i < integralEnd && compareIntegralToFloatingPoint(
+                    integralKey(source[i]), floatingPointValue(source[f])) <= 0;
+            Bound primitive = fromIntegral ? source[i] : source[f];
+
+            while (o < otherEnd && comparator.compare(source[o], primitive) < 0) {
+                target[position++] = source[o++];
+            }
+            target[position++] = primitive;
+            if (fromIntegral) {
+                i++;
+            } else {
+                f++;
+            }
+        }
+        System.arraycopy(source, o, target, position, otherEnd - o);
+    }
+
+    /**
+     * Finds the first boundary of a sorted range that is not less than the given splitter.
+     *
+     * @param bounds        the array containing the range
+     * @param from          the index of the first boundary of the range, inclusive
+     * @param to            the index of the last boundary of the range, exclusive
+     * @param group         the group of the boundaries of the range
+     * @param splitter      the splitter
+     * @param splitterGroup the group of {@code splitter}
+     * @return the index of the first boundary not less than {@code splitter}, or {@code to} if there is none
+     */
+    private static int lowerBound(Bound[] bounds, int from, int to, int group, Bound splitter, int splitterGroup) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(bounds[middle], group, splitter, splitterGroup) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compares two finite boundaries of known groups, consistently with the order used by the merge.
+     *
+     * @param first       the first boundary
+     * @param firstGroup  the group of {@code first}
+     * @param second      the second boundary
+     * @param secondGroup the group of {@code second}
+     * @return a negative integer, zero, or a positive integer as {@code first} is less than,
+     * equal to, or greater than {@code second}
+     */
+    private static int compare(Bound first, int firstGroup, Bound second, int secondGroup) {
+        if (firstGroup == INTEGRAL && secondGroup == INTEGRAL) {
+            return Long.compare(integralKey(first), integralKey(second));
+        }
+        if (firstGroup == FLOATING_POINT && secondGroup == FLOATING_POINT) {
+            return Long.compare(floatingPointKey(first), floatingPointKey(second));
+        }
+        if (firstGroup == INTEGRAL && secondGroup == FLOATING_POINT) {
+            return compareIntegralToFloatingPoint(integralKey(first), floatingPointValue(second));
+        }
+        if (firstGroup == FLOATING_POINT && secondGroup == INTEGRAL) {
+            return -compareIntegralToFloatingPoint(integralKey(second), floatingPointValue(first));
+        }
+        return BoundComparator.getInstance().compare(first, second);
+    }
+
+    /**
+     * Returns the number of boundaries in a group of a partitioned array.
+     *
+     * @param groupStarts the index of the first boundary of each group, followed by the array length
+     * @param group       the group
+     * @return the number of boundaries in {@code group}
+     */
+    private static int groupLength(int[] groupStarts, int group) {
+        return groupStarts[group + 1] - groupStarts[group];
+    }
+
+    /**
+     * Determines the number of chunks a range is split into for parallel processing.
+     *
+     * @param length the length of the range
+     * @return the number of chunks, at least one
+     */
+    private static int chunkCount(int length) {
+        int byLength = (length + MIN_CHUNK_LENGTH - 1) / MIN_CHUNK_LENGTH;
+        return Math.max(1, Math.min(byLength, ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD));
+    }
+
+    /**
+     * Runs an action on each chunk of a range in parallel, in the common {@link ForkJoinPool}.
+     *
+     * @param length the length of the range
+     * @param chunks the number of chunks
+     * @param action the action to run on each chunk
+     */
+    private static void forEachChunk(int length, int chunks, ChunkAction action) {
+        IntStream.range(0, chunks).parallel().forEach(chunk -> action.run(chunk,
+                (int) ((long) length * chunk / chunks), (int) ((long) length * (chunk + 1) / chunks)));
+    }
+
+    /**
+     * An action on one chunk of a range.
+     */
+    @FunctionalInterface
+    private interface ChunkAction {
+
+        /**
+         * Runs the action.
+         *
+         * @param chunk the index of the chunk
+         * @param from  the index of the first element of the chunk, inclusive
+         * @param to    the index of the last element of the chunk, exclusive
+         */
+        void run(int chunk, int from, int to);
+    }
+
+    /**
+     * Compares a {@code long} value with a finite {@code double} value exactly.
+     *
+     * @param integral      the integral value
+     * @param floatingPoint the finite floating-point value
+     * @return a negative integer, zero, or a positive integer as {@code integral} is less than,
+     * equal to, or greater than {@code floatingPoint}
+     */
+    private static int compareIntegralToFloatingPoint(long integral, double floatingPoint) {
+        if (floatingPoint >= 0x1p63) {
+            return -1;
+        }
+        if (floatingPoint < -0x1p63) {
+            return 1;
+        }
+
+        long truncated = (long) floatingPoint;
+        if (integral != truncated) {
+            return Long.compare(integral, truncated);
+        }
+        double fraction = floatingPoint - truncated;
+        return fraction > 0.0 ? -1 : fraction < 0.0 ? 1 : 0;
+    }
+}
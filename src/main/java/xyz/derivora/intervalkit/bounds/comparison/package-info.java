@@ -28,6 +28,8 @@
  *         that defines a consistent ordering for finite and infinite boundaries.</li>
  *     <li>{@link xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException} – an exception
  *         thrown when an attempt is made to compare two incompatible boundaries.</li>
+ *     <li>{@link xyz.derivora.intervalkit.bounds.comparison.ParallelBoundSorter} – a utility that sorts
+ *         large boundary arrays in parallel, in the order of the comparator.</li>
  * </ul>
  *
  * <p>
@@ -43,5 +45,6 @@
  * @see xyz.derivora.intervalkit.bounds.InfiniteBound
  * @see xyz.derivora.intervalkit.bounds.comparison.BoundComparator
  * @see xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException
+ * @see xyz.derivora.intervalkit.bounds.comparison.ParallelBoundSorter
  */
 package xyz.derivora.intervalkit.bounds.comparison;
\ No newline at end of file
@@ -20,9 +20,14 @@ package xyz.derivora.intervalkit.bounds.factory;
 import xyz.derivora.intervalkit.bounds.Bound;
 import xyz.derivora.intervalkit.bounds.FiniteBound;
 import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.utilkit.validation.ValidationException;
 
 import java.math.BigDecimal;
 import java.util.Objects;
+import java.util.stream.LongStream;
 
 /**
  * A factory interface for creating instances of {@link Bound}.
@@ -98,6 +103,150 @@ public interface BoundFactory {
      */
     FiniteBound<?> getFiniteBound(Number number);
 
+    /**
+     * Creates a finite boundary from the given primitive {@code long} value.
+     * <p>
+     * The default implementation boxes the value and delegates to {@link #getFiniteBound(Number)},
+     * so that implementations which only override that method still see every value. Implementations
+     * of {@code getFiniteBound(Number)} must return a boundary with the value type of the given number.
+     * The factories provided by this interface override this method to return a {@link LongFiniteBound},
+     * which stores the value without boxing.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     */
+    @SuppressWarnings("unchecked")
+    default FiniteBound<Long> getFiniteBound(long value) {
+        return (FiniteBound<Long>) getFiniteBound((Number) value);
+    }
+
+    /**
+     * Creates a finite boundary from the given primitive {@code int} value.
+     * <p>
+     * The default implementation boxes the value and delegates to {@link #getFiniteBound(Number)}.
+     * The factories provided by this interface override this method to return an {@link IntFiniteBound},
+     * which stores the value without boxing.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     */
+    @SuppressWarnings("unchecked")
+    default FiniteBound<Integer> getFiniteBound(int value) {
+        return (FiniteBound<Integer>) getFiniteBound((Number) value);
+    }
+
+    /**
+     * Creates a finite boundary from the given primitive {@code double} value.
+     * <p>
+     * The default implementation boxes the value and delegates to {@link #getFiniteBound(Number)}.
+     * The factories provided by this interface override this method to return a {@link DoubleFiniteBound},
+     * which stores the value without boxing.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     * @throws ValidationException if {@code value} is infinite or {@code NaN}
+     */
+    @SuppressWarnings("unchecked")
+    default FiniteBound<Double> getFiniteBound(double value) {
+        return (FiniteBound<Double>) getFiniteBound((Number) value);
+    }
+
+    /**
+     * Creates a finite boundary from the given primitive {@code byte} value.
+     * <p>
+     * The value is boxed to a {@link Byte} and passed to {@link #getFiniteBound(Number)}. Without this
+     * overload a {@code byte} argument would be widened to {@code int} and the boundary would hold an
+     * {@link Integer} instead.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     */
+    default FiniteBound<?> getFiniteBound(byte value) {
+        return getFiniteBound((Number) value);
+    }
+
+    /**
+     * Creates a finite boundary from the given primitive {@code short} value.
+     * <p>
+     * The value is boxed to a {@link Short} and passed to {@link #getFiniteBound(Number)}. Without this
+     * overload a {@code short} argument would be widened to {@code int} and the boundary would hold an
+     * {@link Integer} instead.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     */
+    default FiniteBound<?> getFiniteBound(short value) {
+        return getFiniteBound((Number) value);
+    }
+
+    /**
+     * Creates a finite boundary from the given primitive {@code float} value.
+     * <p>
+     * The value is boxed to a {@link Float} and passed to {@link #getFiniteBound(Number)}. Without this
+     * overload a {@code float} argument would be widened to {@code double} and the boundary would hold a
+     * {@link Double} instead.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     * @throws ValidationException if {@code value} is infinite or {@code NaN}
+     */
+    default FiniteBound<?> getFiniteBound(float value) {
+        return getFiniteBound((Number) value);
+    }
+
+    /**
+     * Creates finite boundaries for all values of the given {@code long} array.
+     * <p>
+     * The default implementation creates {@link LongFiniteBound} instances with
+     * {@link LongFiniteBound#arrayOf(long[])}, without a virtual call per element.
+     * </p>
+     *
+     * @param values the values of the finite boundaries
+     * @return a new array of finite boundaries, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    default FiniteBound<Long>[] getFiniteBounds(long[] values) {
+        return LongFiniteBound.arrayOf(values);
+    }
+
+    /**
+     * Creates finite boundaries for all values of the given {@code double} array.
+     * <p>
+     * The default implementation creates {@link DoubleFiniteBound} instances with
+     * {@link DoubleFiniteBound#arrayOf(double[])}, which validates the whole array in a single pass
+     * instead of validating every value separately.
+     * </p>
+     *
+     * @param values the values of the finite boundaries
+     * @return a new array of finite boundaries, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     * @throws ValidationException  if any value is infinite or {@code NaN}
+     */
+    default FiniteBound<Double>[] getFiniteBounds(double[] values) {
+        return DoubleFiniteBound.arrayOf(values);
+    }
+
+    /**
+     * Creates finite boundaries for all values of the given stream.
+     * <p>
+     * The stream is collected into an array and passed to {@link #getFiniteBounds(long[])}.
+     * This is a terminal operation on {@code values}.
+     * </p>
+     *
+     * @param values the values of the finite boundaries
+     * @return a new array of finite boundaries, in the encounter order of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    default FiniteBound<Long>[] getFiniteBounds(LongStream values) {
+        return getFiniteBounds(Objects.requireNonNull(values, "Values cannot be null").toArray());
+    }
+
     /**
      * Creates a finite boundary from the given numeric string representation.
      * <p>
@@ -117,6 +266,50 @@ public interface BoundFactory {
         ));
     }
 
+    /**
+     * Parses a finite boundary from the given character sequence, preferring primitive-backed values.
+     * <p>
+     * Unlike {@link #getFiniteBound(String)}, which always produces a {@link BigDecimal}, this method
+     * recognizes integer literals that fit in a {@code long} and delegates them to
+     * {@link #getFiniteBound(long)}, and decimal literals with at most 18 significant digits whose
+     * value is exactly representable as a {@code double} (such as {@code "2.5"} or {@code "1e3"}) and
+     * delegates them to {@link #getFiniteBound(double)}. All other literals are parsed into a
+     * {@code BigDecimal}, so the value of the boundary always equals the literal exactly.
+     * </p>
+     *
+     * @param text the numeric representation; must not be {@code null}
+     * @return a {@link FiniteBound} representing the given number
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws NumberFormatException if {@code text} is not a valid numeric representation
+     * @see #parseFiniteBound(CharSequence, int, int)
+     */
+    default FiniteBound<?> parseFiniteBound(CharSequence text) {
+        Objects.requireNonNull(text, "Text cannot be null");
+        return parseFiniteBound(text, 0, text.length());
+    }
+
+    /**
+     * Parses a finite boundary from a range of the given character sequence, preferring
+     * primitive-backed values.
+     * <p>
+     * The range is scanned in place, so literals can be parsed straight out of a larger buffer
+     * without allocating a substring. Only literals that need {@code BigDecimal} precision are copied.
+     * The classification of literals is described in {@link #parseFiniteBound(CharSequence)}.
+     * </p>
+     *
+     * @param text  the character sequence containing the literal; must not be {@code null}
+     * @param start the index of the first character of the literal, inclusive
+     * @param end   the index of the last character of the literal, exclusive
+     * @return a {@link FiniteBound} representing the given number
+     * @throws NullPointerException if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is negative, or {@code end} is less than
+     *                                   {@code start} or greater than {@code text.length()}
+     * @throws NumberFormatException if the range does not contain a valid numeric representation
+     */
+    default FiniteBound<?> parseFiniteBound(CharSequence text, int start, int end) {
+        return DecimalParser.parse(this, text, start, end);
+    }
+
     /**
      * Returns a shared immutable instance of {@code BoundFactory}.
      * <p>
@@ -130,4 +323,20 @@ public interface BoundFactory {
     static BoundFactory immutable() {
         return ImmutableBoundFactory.getInstance();
     }
+
+    /**
+     * Creates a new interning {@code BoundFactory} with a cache of the given capacity.
+     * <p>
+     * The returned factory creates the same immutable boundaries as {@link #immutable()}, but returns
+     * shared instances for frequently requested finite values. See {@link InterningBoundFactory}
+     * for details on which values are interned and how the cache evicts entries.
+     * </p>
+     *
+     * @param capacity the minimum number of finite boundaries held by the cache; must be positive
+     * @return a new interning factory
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    static InterningBoundFactory interning(int capacity) {
+        return new InterningBoundFactory(capacity);
+    }
 }
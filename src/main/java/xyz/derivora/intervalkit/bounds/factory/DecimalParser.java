@@ -0,0 +1,263 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.bounds.factory;
+
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * A parser that converts decimal literals into primitive-backed finite boundaries where possible.
+ * <p>
+ * The parser scans a range of a {@link CharSequence} without copying it and classifies the literal:
+ * </p>
+ * <ul>
+ *     <li>An integer literal (no fraction and no exponent) whose value fits in a {@code long}
+ *     is created via {@link BoundFactory#getFiniteBound(long)}.</li>
+ *     <li>Any other literal whose value is exactly representable as a {@code double} and has
+ *     at most 18 significant digits is created via {@link BoundFactory#getFiniteBound(double)}.</li>
+ *     <li>All remaining literals, as well as anything the scanner does not recognize, are handed
+ *     to {@link BigDecimal#BigDecimal(String)} and created via {@link BoundFactory#getFiniteBound(Number)}.</li>
+ * </ul>
+ * <p>
+ * The value of the resulting boundary is always numerically equal to the literal; a decimal such
+ * as {@code "0.1"}, which has no exact {@code double} representation, keeps the precision of
+ * {@code BigDecimal}. Since invalid input always reaches the {@code BigDecimal} fallback, the
+ * accepted syntax and the resulting {@link NumberFormatException} are the same as for
+ * {@link BoundFactory#getFiniteBound(String)}.
+ * </p>
+ * <p>
+ * A negative zero literal such as {@code "-0.0"} yields a boundary of positive zero, since decimal literals,
+ * like {@code BigDecimal}, have no signed zero. The boundaries of {@code "-0.0"} and {@code "0.0"} are
+ * therefore equal.
+ * </p>
+ *
+ * <p>
+ * This class is {@code package-private} and should only be accessed via the
+ * {@link BoundFactory} interface.
+ * </p>
+ *
+ * @see BoundFactory#parseFiniteBound(CharSequence, int, int)
+ */
+final class DecimalParser {
+
+    /**
+     * The maximum number of significant digits accumulated into a {@code long} without overflow.
+     */
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+
+    /**
+     * The largest integer up to which every integer is exactly representable as a {@code double}.
+     */
+    private static final long MAX_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+    /**
+     * Powers of five that fit in a {@code long}, indexed by exponent.
+     */
+    private static final long[] POWERS_OF_FIVE = new long[28];
+
+    static {
+        POWERS_OF_FIVE[0] = 1L;
+        for (int i = 1; i < POWERS_OF_FIVE.length; i++) {
+            POWERS_OF_FIVE[i] = POWERS_OF_FIVE[i - 1] * 5L;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DecimalParser() {
+    }
+
+    /**
+     * Parses the characters of {@code text} in the range {@code [start, end)} into a finite boundary.
+     *
+     * @param factory the factory used to create the boundary
+     * @param text    the character sequence containing the literal
+     * @param start   the index of the first character of the literal, inclusive
+     * @param end     the index of the last character of the literal, exclusive
+     * @return a finite boundary numerically equal to the literal
+     * @throws NullPointerException      if {@code text} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is out of bounds of {@code text}
+     * @throws NumberFormatException     if the range does not contain a valid numeric representation
+     */
+    static FiniteBound<?> parse(BoundFactory factory, CharSequence text, int start, int end) {
+        Objects.requireNonNull(text, "Text cannot be null");
+        Objects.checkFromToIndex(start, end, text.length());
+
+        int i = start;
+        boolean negative = false;
+        if (i < end) {
+            char sign = text.charAt(i);
+            if (sign == '-' || sign == '+') {
+                negative = sign == '-';
+                i++;
+            }
+        }
+
+        long significand = 0L;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean sawDigit = false;
+        boolean sawPoint = false;
+        boolean truncated = false;
+
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                sawDigit = true;
+                if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+                    significand = significand * 10L + (c - '0');
+                    if (significand != 0L) {
+                        significantDigits++;
+                    }
+                } else {
+                    truncated = true;
+                }
+                if (sawPoint) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && !sawPoint) {
+                sawPoint = true;
+            } else {
+                break;
+            }
+        }
+
+        boolean sawExponent = false;
+        int exponent = 0;
+        if (sawDigit && i < end && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            sawExponent = true;
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+                negativeExponent = text.charAt(i) == '-';
+                i++;
+            }
+            int exponentStart = i;
+            for (; i < end; i++) {
+                char c = text.charAt(i);
+                if (c < '0' || c > '9' || exponent >= 1_000) {
+                    break;
+                }
+                exponent = exponent * 10 + (c - '0');
+            }
+            if (i == exponentStart) {
+                return parseBigDecimal(factory, text, start, end);
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+
+        if (!sawDigit || i != end) {
+            return parseBigDecimal(factory, text, start, end);
+        }
+
+        if (!sawPoint && !sawExponent) {
+            if (!truncated) {
+                return factory.getFiniteBound(negative ? -significand : significand);
+            }
+            return parseLong(factory, text, start, end);
+        }
+
+        if (!truncated) {
+            double value = toExactDouble(significand, fractionDigits - exponent);
+            if (!Double.isNaN(value)) {
+                return factory.getFiniteBound(negative && value != 0.0 ? -value : value);
+            }
+        }
+        return parseBigDecimal(factory, text, start, end);
+    }
+
+    /**
+     * Converts {@code significand * 10^-scale} to a {@code double} if the conversion is exact.
+     *
+     * @param significand the non-negative significand
+     * @param scale       the number of decimal places
+     * @return the exact {@code double} value, or {@code NaN} if there is none within the fast path
+     */
+    private static double toExactDouble(long significand, int scale) {
+        if (significand == 0L) {
+            return 0.0;
+        }
+        if (scale <= 0) {
+            int power = -scale;
+            if (power >= POWERS_OF_FIVE.length) {
+                return Double.NaN;
+            }
+            long high = Math.multiplyHigh(significand, POWERS_OF_FIVE[power]);
+            long scaled = significand * POWERS_OF_FIVE[power];
+            if (high != 0L || scaled < 0L || !isExactDouble(scaled)) {
+                return Double.NaN;
+            }
+            return Math.scalb((double) scaled, power);
+        }
+        if (scale >= POWERS_OF_FIVE.length) {
+            return Double.NaN;
+        }
+        long divisor = POWERS_OF_FIVE[scale];
+        long quotient = significand / divisor;
+        if (quotient * divisor != significand || !isExactDouble(quotient)) {
+            return Double.NaN;
+        }
+        return Math.scalb((double) quotient, -scale);
+    }
+
+    /**
+     * Checks whether the given non-negative integer is exactly representable as a {@code double}.
+     *
+     * @param value the non-negative integer to check
+     * @return {@code true} if converting {@code value} to {@code double} loses no precision
+     */
+    private static boolean isExactDouble(long value) {
+        return value <= MAX_EXACT_DOUBLE_INTEGER || (long) (double) value == value;
+    }
+
+    /**
+     * Parses an integer literal that has too many digits for the accumulating scanner.
+     *
+     * @param factory the factory used to create the boundary
+     * @param text    the character sequence containing the literal
+     * @param start   the index of the first character of the literal, inclusive
+     * @param end     the index of the last character of the literal, exclusive
+     * @return a {@code long}-backed boundary if the value fits, otherwise a {@code BigDecimal}-backed one
+     */
+    private static FiniteBound<?> parseLong(BoundFactory factory, CharSequence text, int start, int end) {
+        try {
+            return factory.getFiniteBound(Long.parseLong(text, start, end, 10));
+        } catch (NumberFormatException e) {
+            return parseBigDecimal(factory, text, start, end);
+        }
+    }
+
+    /**
+     * Parses the literal with {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param factory the factory used to create the boundary
+     * @param text    the character sequence containing the literal
+     * @param start   the index of the first character of the literal, inclusive
+     * @param end     the index of the last character of the literal, exclusive
+     * @return a {@code BigDecimal}-backed boundary
+     * @throws NumberFormatException if the range does not contain a valid numeric representation
+     */
+    private static FiniteBound<?> parseBigDecimal(BoundFactory factory, CharSequence text, int start, int end) {
+        return factory.getFiniteBound(new BigDecimal(text.subSequence(start, end).toString()));
+    }
+}
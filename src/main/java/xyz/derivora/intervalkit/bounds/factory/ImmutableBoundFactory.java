@@ -19,12 +19,19 @@ package xyz.derivora.intervalkit.bounds.factory;
 
 import xyz.derivora.intervalkit.bounds.FiniteBound;
 import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
 import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
 import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.utilkit.validation.ValidationException;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * A factory for creating immutable boundary instances.
@@ -50,6 +57,32 @@ class ImmutableBoundFactory implements BoundFactory {
      */
     private static final ImmutableBoundFactory SINGLETON = new ImmutableBoundFactory();
 
+    /**
+     * Standard numeric types that are known to implement {@code Comparable} of themselves.
+     * <p>
+     * These types are accepted without reflective inspection.
+     * </p>
+     */
+    private static final Set<Class<?>> KNOWN_COMPARABLE_TYPES = Set.of(
+            Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class
+    );
+
+    /**
+     * A per-class cache of the result of {@link #isValidComparable(Class)}.
+     * <p>
+     * The reflective inspection of generic interfaces is performed at most once per class;
+     * subsequent lookups are answered from the cache without reflection. Using a {@link ClassValue}
+     * ensures that cached results do not prevent classes from being unloaded.
+     * </p>
+     */
+    private static final ClassValue<Boolean> COMPARABLE_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return KNOWN_COMPARABLE_TYPES.contains(type) || isValidComparable(type);
+        }
+    };
+
     /**
      * Private constructor to enforce the singleton pattern.
      * <p>
@@ -75,36 +108,58 @@ class ImmutableBoundFactory implements BoundFactory {
     }
 
     /**
-     * Creates an infinite boundary with the specified sign.
+     * Returns an infinite boundary with the specified sign.
      * <p>
-     * This method returns an instance of {@link ImmutableInfiniteBound} representing
+     * This method returns the canonical instance of {@link ImmutableInfiniteBound} representing
      * either positive or negative infinity based on the given {@code isPositive} flag.
+     * No new instance is allocated.
      * </p>
      *
      * @param isPositive {@code true} for positive infinity, {@code false} for negative infinity
      * @return an {@link InfiniteBound} representing either positive or negative infinity
+     * @see ImmutableInfiniteBound#getInstance(boolean)
      */
     @Override
     public InfiniteBound getInfiniteBound(boolean isPositive) {
-        return new ImmutableInfiniteBound(isPositive);
+        return ImmutableInfiniteBound.getInstance(isPositive);
     }
 
     /**
      * Creates a finite boundary from the given numeric value.
      * <p>
-     * This method checks whether the provided {@link Number} is a valid implementation
-     * of {@code Comparable<T>} where {@code T} matches the number's runtime type.
-     * If the number is valid, it is wrapped in an {@link ImmutableFiniteBound}.
+     * Values of type {@link Long}, {@link Integer} and {@link Double} are unboxed and stored in
+     * {@link LongFiniteBound}, {@link IntFiniteBound} and {@link DoubleFiniteBound} respectively.
+     * </p>
+     *
+     * <p>
+     * For any other type, this method checks whether the provided {@link Number} is a valid implementation
+     * of {@code Comparable<T>} where {@code T} matches the number's runtime type or one of its superclasses.
+     * If the number is valid, it is wrapped in an {@link ImmutableFiniteBound}. The result of this check is
+     * cached per class.
      * </p>
      *
      * @param number the numeric value to wrap in a finite boundary; must not be {@code null}
      * @return a {@link FiniteBound} representing the given number
      * @throws NullPointerException if {@code number} is {@code null}
      * @throws ClassCastException   if {@code number} does not implement {@code Comparable<T>}
+     * @throws ValidationException  if {@code number} is a {@code Double} or {@code Float}
+     *                              that is infinite or {@code NaN}
      */
     @Override
     public FiniteBound<?> getFiniteBound(Number number) {
         Objects.requireNonNull(number, "Number cannot be null");
+        if (number instanceof Long longNumber) {
+            return new LongFiniteBound(longNumber);
+        }
+
+        if (number instanceof Integer intNumber) {
+            return new IntFiniteBound(intNumber);
+        }
+
+        if (number instanceof Double doubleNumber) {
+            return new DoubleFiniteBound(doubleNumber);
+        }
+
         if (isValidComparable(number)) {
             return createFiniteBound(number);
         }
@@ -112,6 +167,40 @@ class ImmutableBoundFactory implements BoundFactory {
         throw new ClassCastException(createClassCastExceptionMessage(number));
     }
 
+    /**
+     * Creates a finite boundary from the given primitive {@code long} value.
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link LongFiniteBound} holding the given value
+     */
+    @Override
+    public FiniteBound<Long> getFiniteBound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    /**
+     * Creates a finite boundary from the given primitive {@code int} value.
+     *
+     * @param value the value of the finite boundary
+     * @return an {@link IntFiniteBound} holding the given value
+     */
+    @Override
+    public FiniteBound<Integer> getFiniteBound(int value) {
+        return new IntFiniteBound(value);
+    }
+
+    /**
+     * Creates a finite boundary from the given primitive {@code double} value.
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link DoubleFiniteBound} holding the given value
+     * @throws ValidationException if {@code value} is infinite or {@code NaN}
+     */
+    @Override
+    public FiniteBound<Double> getFiniteBound(double value) {
+        return new DoubleFiniteBound(value);
+    }
+
     /**
      * Constructs an error message for a {@link ClassCastException} when a numeric value
      * does not implement {@code Comparable<T>}.
@@ -156,12 +245,29 @@ class ImmutableBoundFactory implements BoundFactory {
     }
 
     /**
-     * Checks whether the given {@link Number} explicitly implements {@code Comparable<T>}
-     * with its own type as the generic parameter.
+     * Checks whether the given {@link Number} implements {@code Comparable<T>}
+     * with its own type, or the type of one of its superclasses, as the generic parameter.
+     * <p>
+     * The result is computed once per runtime class and cached, so this check does not involve
+     * reflection after the first boundary of a given type has been created.
+     * </p>
+     *
+     * @param number the numeric value to check; must not be {@code null}
+     * @return {@code true} if the number implements {@code Comparable<T>} for its own type or a superclass,
+     * {@code false} otherwise
+     * @see #isValidComparable(Class)
+     */
+    private static boolean isValidComparable(Number number) {
+        return COMPARABLE_TYPES.get(number.getClass());
+    }
+
+    /**
+     * Checks whether the given class, or one of its superclasses, explicitly implements {@code Comparable<T>}
+     * with itself as the generic parameter.
      * <p>
-     * This method verifies whether the runtime class of the provided number
-     * has an explicit declaration of {@code Comparable<T>} where {@code T} matches
-     * the number's class. It does this by inspecting the generic interfaces of the class.
+     * For every class in the hierarchy, this method inspects the generic interfaces declared by that class
+     * and looks for a declaration of {@code Comparable<T>} where {@code T} is the declaring class. A subclass
+     * of such a class is accepted, since its instances can be compared as instances of the declaring class.
      * </p>
      *
      * <p>
@@ -169,12 +275,27 @@ class ImmutableBoundFactory implements BoundFactory {
      * a specific generic type parameter).
      * </p>
      *
-     * @param number the numeric value to check; must not be {@code null}
-     * @return {@code true} if the number explicitly implements {@code Comparable<T>} for its own type,
-     * {@code false} otherwise
+     * @param clazz the class to check; must not be {@code null}
+     * @return {@code true} if {@code clazz} or one of its superclasses explicitly implements {@code Comparable}
+     * of itself, {@code false} otherwise
      */
-    private static boolean isValidComparable(Number number) {
-        Class<?> clazz = number.getClass();
+    private static boolean isValidComparable(Class<?> clazz) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            if (declaresSelfComparable(current)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether the given class declares {@code Comparable<T>} with itself as the generic parameter.
+     *
+     * @param clazz the class to check; must not be {@code null}
+     * @return {@code true} if {@code clazz} directly declares {@code Comparable<clazz>}, {@code false} otherwise
+     */
+    private static boolean declaresSelfComparable(Class<?> clazz) {
         for (Type type : clazz.getGenericInterfaces()) {
             if (type instanceof ParameterizedType parameterizedType) {
                 Type rawType = parameterizedType.getRawType();
@@ -0,0 +1,377 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.bounds.factory;
+
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.utilkit.validation.ValidationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A factory that returns shared immutable boundary instances for frequently requested values.
+ * <p>
+ * This factory creates boundaries in the same way as {@link BoundFactory#immutable()}, but keeps recently
+ * created finite boundaries in a bounded cache and returns the cached instance when the same value of the
+ * same type is requested again. Sharing instances reduces allocation for workloads in which many intervals
+ * share a small set of endpoints, and allows identity checks to short-circuit boundary comparison.
+ * </p>
+ *
+ * <p>
+ * The cache is a lock-free, direct-mapped table: every value is assigned a single slot derived from its hash
+ * code, and a newly created boundary replaces whatever boundary occupied that slot before. The memory used by
+ * the cache is therefore bounded by its capacity, and the factory is safe for concurrent use.
+ * </p>
+ *
+ * <p>
+ * Only values of immutable standard types are interned: {@link Long}, {@link Integer}, {@link Short},
+ * {@link Byte}, {@link Double}, {@link Float}, {@link BigDecimal} and {@link BigInteger}. Values of any other
+ * type are passed to the immutable factory unchanged and are not reflected in the hit and miss counters.
+ * Values are keyed by both value and type, so {@code 1L} and {@code 1} are cached separately, as are
+ * {@code BigDecimal} values that differ only in scale.
+ * </p>
+ *
+ * <p>
+ * Instances are obtained via {@link BoundFactory#interning(int)}.
+ * </p>
+ *
+ * @see BoundFactory
+ * @see FiniteBound
+ */
+public final class InterningBoundFactory implements BoundFactory {
+
+    /**
+     * The minimum capacity of the cache.
+     */
+    private static final int MINIMUM_CAPACITY = 2;
+
+    /**
+     * The maximum capacity of the cache.
+     */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * The multiplier used to spread hash codes over the cache slots.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * The factory used to create boundaries that are not found in the cache.
+     */
+    private final BoundFactory delegate = ImmutableBoundFactory.getInstance();
+
+    /**
+     * The cached boundaries, indexed by the spread hash code of their value.
+     */
+    private final AtomicReferenceArray<FiniteBound<?>> cache;
+
+    /**
+     * The number of bits by which a spread hash code is shifted to obtain a slot index.
+     */
+    private final int shift;
+
+    /**
+     * The number of requests answered from the cache.
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * The number of requests that required a new boundary to be created.
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates an interning factory whose cache holds at least {@code capacity} boundaries.
+     * <p>
+     * The capacity is rounded up to the next power of two, and is at least {@value #MINIMUM_CAPACITY}.
+     * </p>
+     *
+     * @param capacity the minimum number of cache slots; must be positive
+     * @throws IllegalArgumentException if {@code capacity} is not positive
+     */
+    InterningBoundFactory(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        int slots = Math.min(Math.max(capacity, MINIMUM_CAPACITY), MAXIMUM_CAPACITY);
+        if (Integer.bitCount(slots) != 1) {
+            slots = Integer.highestOneBit(slots) << 1;
+        }
+
+        cache = new AtomicReferenceArray<>(slots);
+        shift = Integer.SIZE - Integer.numberOfTrailingZeros(slots);
+    }
+
+    /**
+     * Returns an infinite boundary with the specified sign.
+     * <p>
+     * Infinite boundaries are always shared, so this method does not use the cache.
+     * </p>
+     *
+     * @param isPositive {@code true} for positive infinity, {@code false} for negative infinity
+     * @return an {@link InfiniteBound} representing either positive or negative infinity
+     */
+    @Override
+    public InfiniteBound getInfiniteBound(boolean isPositive) {
+        return delegate.getInfiniteBound(isPositive);
+    }
+
+    /**
+     * Returns a finite boundary for the given numeric value, reusing a cached instance if possible.
+     *
+     * @param number the numeric value of the finite boundary; must not be {@code null}
+     * @return a {@link FiniteBound} representing the given number
+     * @throws NullPointerException if {@code number} is {@code null}
+     * @throws ClassCastException   if {@code number} does not implement {@code Comparable<T>}
+     * @throws ValidationException  if {@code number} is a {@code Double} or {@code Float}
+     *                              that is infinite or {@code NaN}
+     */
+    @Override
+    public FiniteBound<?> getFiniteBound(Number number) {
+        Objects.requireNonNull(number, "Number cannot be null");
+        if (!isInternable(number)) {
+            return delegate.getFiniteBound(number);
+        }
+
+        int index = indexFor(number.hashCode());
+        FiniteBound<?> cached = cache.get(index);
+        if (cached != null && matches(cached, number)) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        FiniteBound<?> bound = delegate.getFiniteBound(number);
+        cache.lazySet(index, bound);
+        return bound;
+    }
+
+    /**
+     * Returns a finite boundary for the given {@code long} value, reusing a cached instance if possible.
+     * <p>
+     * This method shares cache slots with {@link #getFiniteBound(Number)} called with a {@link Long},
+     * and does not box the value when it is found in the cache.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     */
+    @Override
+    public FiniteBound<Long> getFiniteBound(long value) {
+        int index = indexFor(Long.hashCode(value));
+        if (cache.get(index) instanceof LongFiniteBound cached && cached.longValue() == value) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        LongFiniteBound bound = new LongFiniteBound(value);
+        cache.lazySet(index, bound);
+        return bound;
+    }
+
+    /**
+     * Returns a finite boundary for the given {@code int} value, reusing a cached instance if possible.
+     * <p>
+     * This method shares cache slots with {@link #getFiniteBound(Number)} called with an {@link Integer},
+     * and does not box the value when it is found in the cache.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     */
+    @Override
+    public FiniteBound<Integer> getFiniteBound(int value) {
+        int index = indexFor(Integer.hashCode(value));
+        if (cache.get(index) instanceof IntFiniteBound cached && cached.intValue() == value) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        IntFiniteBound bound = new IntFiniteBound(value);
+        cache.lazySet(index, bound);
+        return bound;
+    }
+
+    /**
+     * Returns a finite boundary for the given {@code double} value, reusing a cached instance if possible.
+     * <p>
+     * This method shares cache slots with {@link #getFiniteBound(Number)} called with a {@link Double},
+     * and does not box the value when it is found in the cache.
+     * </p>
+     *
+     * @param value the value of the finite boundary
+     * @return a {@link FiniteBound} representing the given value
+     * @throws ValidationException if {@code value} is infinite or {@code NaN}
+     */
+    @Override
+    public FiniteBound<Double> getFiniteBound(double value) {
+        int index = indexFor(Double.hashCode(value));
+        if (cache.get(index) instanceof DoubleFiniteBound cached && isSameDouble(cached.doubleValue(), value)) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        DoubleFiniteBound bound = new DoubleFiniteBound(value);
+        cache.lazySet(index, bound);
+        return bound;
+    }
+
+    /**
+     * Creates finite boundaries for all values of the given {@code long} array, interning each of them.
+     *
+     * @param values the values of the finite boundaries
+     * @return a new array of finite boundaries, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public FiniteBound<Long>[] getFiniteBounds(long[] values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+
+        FiniteBound<Long>[] bounds = (FiniteBound<Long>[]) new FiniteBound<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bounds[i] = getFiniteBound(values[i]);
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Creates finite boundaries for all values of the given {@code double} array, interning each of them.
+     * <p>
+     * Only values missing from the cache are validated, when their boundaries are created. An invalid value
+     * is therefore reported before any boundary following it is created, but boundaries preceding it may
+     * already have been added to the cache.
+     * </p>
+     *
+     * @param values the values of the finite boundaries
+     * @return a new array of finite boundaries, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     * @throws ValidationException  if any value is infinite or {@code NaN}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public FiniteBound<Double>[] getFiniteBounds(double[] values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+
+        FiniteBound<Double>[] bounds = (FiniteBound<Double>[]) new FiniteBound<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bounds[i] = getFiniteBound(values[i]);
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Returns the number of cache slots of this factory.
+     *
+     * @return the capacity of the cache, a power of two
+     */
+    public int getCapacity() {
+        return cache.length();
+    }
+
+    /**
+     * Returns the number of finite boundary requests that were answered with a cached instance.
+     *
+     * @return the number of cache hits since this factory was created
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of finite boundary requests that required a new instance to be created.
+     * <p>
+     * Requests for values of types that are not interned are not counted.
+     * </p>
+     *
+     * @return the number of cache misses since this factory was created
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Computes the cache slot for the given hash code.
+     *
+     * @param hashCode the hash code of a value
+     * @return the index of the slot assigned to the value
+     */
+    private int indexFor(int hashCode) {
+        return (hashCode * HASH_MULTIPLIER) >>> shift;
+    }
+
+    /**
+     * Determines whether the given number is of an immutable standard type that may be interned.
+     *
+     * @param number the number to check
+     * @return {@code true} if boundaries holding {@code number} may be shared, {@code false} otherwise
+     */
+    private static boolean isInternable(Number number) {
+        Class<?> type = number.getClass();
+        return type == Long.class || type == Integer.class || type == Double.class
+                || type == Short.class || type == Byte.class || type == Float.class
+                || type == BigDecimal.class || type == BigInteger.class;
+    }
+
+    /**
+     * Determines whether the cached boundary holds the given number with the same type.
+     *
+     * @param cached the cached boundary
+     * @param number the requested number
+     * @return {@code true} if {@code cached} represents {@code number}, {@code false} otherwise
+     */
+    private static boolean matches(FiniteBound<?> cached, Number number) {
+        if (number instanceof Long longNumber) {
+            return cached instanceof LongFiniteBound bound && bound.longValue() == longNumber;
+        }
+
+        if (number instanceof Integer intNumber) {
+            return cached instanceof IntFiniteBound bound && bound.intValue() == intNumber;
+        }
+
+        if (number instanceof Double doubleNumber) {
+            return cached instanceof DoubleFiniteBound bound && isSameDouble(bound.doubleValue(), doubleNumber);
+        }
+
+        return cached.getValueType() == number.getClass() && cached.getValue().equals(number);
+    }
+
+    /**
+     * Determines whether two {@code double} values are identical in the sense of {@link Double#equals(Object)}.
+     *
+     * @param first  the first value
+     * @param second the second value
+     * @return {@code true} if both values have the same bit representation, {@code false} otherwise
+     */
+    private static boolean isSameDouble(double first, double second) {
+        return Double.doubleToLongBits(first) == Double.doubleToLongBits(second);
+    }
+}
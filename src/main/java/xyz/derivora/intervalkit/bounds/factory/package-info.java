@@ -22,10 +22,12 @@
  * ensuring a structured approach to boundary instantiation.
  * </p>
  *
- * <h2>Key Component:</h2>
+ * <h2>Key Components:</h2>
  * <ul>
  *     <li>{@link xyz.derivora.intervalkit.bounds.factory.BoundFactory} -
  *         An interface for creating {@link xyz.derivora.intervalkit.bounds.Bound} instances.</li>
+ *     <li>{@link xyz.derivora.intervalkit.bounds.factory.InterningBoundFactory} -
+ *         A factory that shares immutable instances of frequently requested finite boundaries.</li>
  * </ul>
  *
  * <p>
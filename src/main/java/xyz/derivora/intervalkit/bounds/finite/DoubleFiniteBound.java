@@ -0,0 +1,194 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.bounds.finite;
+
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.utilkit.validation.ValidationException;
+
+import java.util.Objects;
+
+/**
+ * Represents an immutable finite boundary backed by a primitive {@code double} value.
+ * <p>
+ * Unlike {@link ImmutableFiniteBound}, this class does not hold a boxed {@link Double} and a {@link Class}
+ * reference. The value is stored as a raw primitive, which reduces the footprint of every bound to a single
+ * object and allows the value to be read through {@link #doubleValue()} without unboxing.
+ * </p>
+ *
+ * <p>
+ * The value is validated on construction in the same way as in {@link ImmutableFiniteBound}: infinite values
+ * and {@code NaN} are rejected with a {@link ValidationException}.
+ * </p>
+ *
+ * <p>
+ * The generic accessors of {@link xyz.derivora.intervalkit.bounds.FiniteBound} remain fully supported:
+ * {@link #getValue()} returns the value as a {@link Double} and {@link #getValueType()} always returns
+ * {@code Double.class}. Note that {@link #getValue()} boxes the value on every call, so performance-sensitive
+ * code should prefer {@link #doubleValue()}.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are equal only to other instances of this class holding the same value, following
+ * the semantics of {@link Double#equals(Object)}. In particular, a {@code DoubleFiniteBound} is never equal to
+ * an {@link ImmutableFiniteBound} wrapping the same {@code Double}, although both compare as equal through
+ * {@link xyz.derivora.intervalkit.bounds.comparison.BoundComparator}.
+ * </p>
+ *
+ * @see AbstractFiniteBound
+ * @see ImmutableFiniteBound
+ */
+public final class DoubleFiniteBound extends AbstractFiniteBound<Double> {
+
+    /**
+     * The primitive value of this finite boundary.
+     */
+    private final double value;
+
+    /**
+     * Creates an immutable finite boundary with the specified {@code double} value.
+     *
+     * @param value the value of this finite bound
+     * @throws ValidationException if the value is {@code Double.POSITIVE_INFINITY},
+     *                             {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}
+     */
+    public DoubleFiniteBound(double value) {
+        this(value, new FiniteValidator());
+    }
+
+    /**
+     * Creates an immutable finite boundary, validating the value with the given validator if there is one.
+     *
+     * @param value           the value of this finite bound
+     * @param finiteValidator the validator checking that the value is finite, or {@code null} if the value
+     *                        has already been validated
+     * @throws ValidationException if the value is validated and is not finite
+     */
+    private DoubleFiniteBound(double value, FiniteValidator finiteValidator) {
+        if (finiteValidator != null) {
+            finiteValidator.validate(value);
+        }
+
+        this.value = value;
+    }
+
+    /**
+     * Creates an immutable finite boundary with a value that has already been validated.
+     *
+     * @param value the finite value of the boundary
+     * @return a new finite boundary holding {@code value}
+     */
+    private static DoubleFiniteBound trusted(double value) {
+        return new DoubleFiniteBound(value, null);
+    }
+
+    /**
+     * Creates finite boundaries for all values of the given array.
+     * <p>
+     * The whole array is validated in a single pass before any boundary is created, so the boundaries
+     * themselves are constructed without validating each value again. The returned array can hold any
+     * {@link FiniteBound} of {@code Double}, so it may be modified by the caller.
+     * </p>
+     *
+     * @param values the values of the finite boundaries
+     * @return a new array of finite boundaries, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     * @throws ValidationException  if any value is {@code Double.POSITIVE_INFINITY},
+     *                              {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}
+     */
+    @SuppressWarnings("unchecked")
+    public static FiniteBound<Double>[] arrayOf(double[] values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+
+        FiniteValidator finiteValidator = new FiniteValidator();
+        finiteValidator.validate(values);
+
+        FiniteBound<Double>[] bounds = (FiniteBound<Double>[]) new FiniteBound<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bounds[i] = trusted(values[i]);
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Returns the value of this finite boundary as a primitive {@code double}.
+     * <p>
+     * This accessor never allocates and should be preferred over {@link #getValue()}.
+     * </p>
+     *
+     * @return the value of this boundary
+     */
+    public double doubleValue() {
+        return value;
+    }
+
+    /**
+     * Returns the numeric value of this finite boundary.
+     * <p>
+     * The returned value is boxed on every call.
+     * </p>
+     *
+     * @return the numeric value of this boundary
+     */
+    @Override
+    public Double getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the runtime type of the numeric value associated with this boundary.
+     *
+     * @return {@code Double.class}
+     */
+    @Override
+    public Class<Double> getValueType() {
+        return Double.class;
+    }
+
+    /**
+     * Returns the hash code for this finite bound.
+     *
+     * @return the hash code of this finite bound, derived from its value
+     * @see Double#hashCode(double)
+     */
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+
+    /**
+     * Checks whether this finite bound is equal to another object.
+     * <p>
+     * Two instances are considered equal if and only if both are instances of {@code DoubleFiniteBound}
+     * and their values have the same bit representation, as defined by {@link Double#equals(Object)}.
+     * </p>
+     *
+     * @param object the object to compare with this instance
+     * @return {@code true} if the given object is a {@code DoubleFiniteBound} with the same value,
+     *         {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        return object instanceof DoubleFiniteBound other
+                && Double.doubleToLongBits(value) == Double.doubleToLongBits(other.value);
+    }
+}
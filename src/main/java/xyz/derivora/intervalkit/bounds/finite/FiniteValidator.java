@@ -0,0 +1,105 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.bounds.finite;
+
+import xyz.derivora.utilkit.validation.ValidationException;
+import xyz.derivora.utilkit.validation.Validator;
+
+/**
+ * A validator for finite boundary values.
+ * <p>
+ * This validator ensures that a given {@code Double} value is a valid finite number.
+ * Specifically, it rejects values that are {@code Double.POSITIVE_INFINITY},
+ * {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}.
+ * </p>
+ *
+ * <p>
+ * The validator is shared by all floating-point finite bound implementations of this package,
+ * so that {@link ImmutableFiniteBound} and {@link DoubleFiniteBound} reject exactly the same values.
+ * </p>
+ *
+ * <p>If an invalid value is provided, a {@link ValidationException} is thrown.</p>
+ *
+ * @see Validator
+ * @see ValidationException
+ */
+final class FiniteValidator implements Validator<Double> {
+
+    /**
+     * Validates that the provided value is a finite number.
+     * <p>
+     * This method checks whether the given {@code Double} value is either infinite
+     * or {@code NaN}. If the validation fails, a {@link ValidationException} is thrown.
+     * </p>
+     *
+     * @param arg the value to validate
+     * @throws ValidationException if {@code arg} is {@code Double.POSITIVE_INFINITY},
+     *                             {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}
+     */
+    @Override
+    public void validate(Double arg) {
+        validate(arg.doubleValue());
+    }
+
+    /**
+     * Validates that the provided primitive value is a finite number.
+     * <p>
+     * This overload performs the same check as {@link #validate(Double)} without boxing the value.
+     * </p>
+     *
+     * @param arg the value to validate
+     * @throws ValidationException if {@code arg} is {@code Double.POSITIVE_INFINITY},
+     *                             {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}
+     */
+    void validate(double arg) {
+        if (!Double.isFinite(arg)) {
+            throw new ValidationException("Value of finite bound cannot be infinite or NaN");
+        }
+    }
+
+    /**
+     * Validates that all values of the provided array are finite numbers.
+     * <p>
+     * The array is scanned once without branching on individual elements: every value is multiplied by zero
+     * and the products are summed, which yields {@code NaN} if and only if the array contains an infinite or
+     * {@code NaN} value. Only in that case is the array scanned again to report the first invalid index.
+     * </p>
+     *
+     * @param values the values to validate
+     * @throws ValidationException if any value is {@code Double.POSITIVE_INFINITY},
+     *                             {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}
+     */
+    void validate(double[] values) {
+        double sum = 0.0;
+        for (double value : values) {
+            sum += value * 0.0;
+        }
+
+        if (sum == 0.0) {
+            return;
+        }
+
+        for (int i = 0; i < values.length; i++) {
+            if (!Double.isFinite(values[i])) {
+                throw new ValidationException(String.format(
+                        "Value of finite bound at index %d cannot be infinite or NaN", i
+                ));
+            }
+        }
+    }
+}
@@ -18,7 +18,6 @@
 package xyz.derivora.intervalkit.bounds.finite;
 
 import xyz.derivora.utilkit.validation.ValidationException;
-import xyz.derivora.utilkit.validation.Validator;
 
 import java.util.Objects;
 
@@ -166,38 +165,4 @@ public class ImmutableFiniteBound<T extends Number & Comparable<T>> extends Abst
         ImmutableFiniteBound<?> other = (ImmutableFiniteBound<?>) object;
         return Objects.equals(value, other.value) && Objects.equals(type, other.type);
     }
-
-    /**
-     * A validator for finite boundary values.
-     * <p>
-     * This validator ensures that a given {@code Double} value is a valid finite number.
-     * Specifically, it rejects values that are {@code Double.POSITIVE_INFINITY},
-     * {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}.
-     * </p>
-     *
-     * <p>If an invalid value is provided, a {@link ValidationException} is thrown.</p>
-     *
-     * @see Validator
-     * @see ValidationException
-     */
-    private static final class FiniteValidator implements Validator<Double> {
-
-        /**
-         * Validates that the provided value is a finite number.
-         * <p>
-         * This method checks whether the given {@code Double} value is either infinite
-         * or {@code NaN}. If the validation fails, a {@link ValidationException} is thrown.
-         * </p>
-         *
-         * @param arg the value to validate
-         * @throws ValidationException if {@code arg} is {@code Double.POSITIVE_INFINITY},
-         *                             {@code Double.NEGATIVE_INFINITY}, or {@code Double.NaN}
-         */
-        @Override
-        public void validate(Double arg) {
-            if (arg.isInfinite() || arg.isNaN()) {
-                throw new ValidationException("Value of finite bound cannot be infinite or NaN");
-            }
-        }
-    }
 }
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.bounds.finite;
+
+/**
+ * Represents an immutable finite boundary backed by a primitive {@code int} value.
+ * <p>
+ * Unlike {@link ImmutableFiniteBound}, this class does not hold a boxed {@link Integer} and a {@link Class}
+ * reference. The value is stored as a raw primitive, which reduces the footprint of every bound to a single
+ * object and allows the value to be read through {@link #intValue()} without unboxing.
+ * </p>
+ *
+ * <p>
+ * The generic accessors of {@link xyz.derivora.intervalkit.bounds.FiniteBound} remain fully supported:
+ * {@link #getValue()} returns the value as an {@link Integer} and {@link #getValueType()} always returns
+ * {@code Integer.class}. Note that {@link #getValue()} may box the value on every call, so performance-sensitive
+ * code should prefer {@link #intValue()}.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are equal only to other instances of this class holding the same value.
+ * In particular, a {@code IntFiniteBound} is never equal to an {@link ImmutableFiniteBound} wrapping
+ * the same {@code Integer}, although both compare as equal through
+ * {@link xyz.derivora.intervalkit.bounds.comparison.BoundComparator}.
+ * </p>
+ *
+ * @see AbstractFiniteBound
+ * @see ImmutableFiniteBound
+ */
+public final class IntFiniteBound extends AbstractFiniteBound<Integer> {
+
+    /**
+     * The primitive value of this finite boundary.
+     */
+    private final int value;
+
+    /**
+     * Creates an immutable finite boundary with the specified {@code int} value.
+     *
+     * @param value the value of this finite bound
+     */
+    public IntFiniteBound(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of this finite boundary as a primitive {@code int}.
+     * <p>
+     * This accessor never allocates and should be preferred over {@link #getValue()}.
+     * </p>
+     *
+     * @return the value of this boundary
+     */
+    public int intValue() {
+        return value;
+    }
+
+    /**
+     * Returns the numeric value of this finite boundary.
+     * <p>
+     * The returned value is boxed on demand; values in the range of the {@link Integer} cache are not allocated.
+     * </p>
+     *
+     * @return the numeric value of this boundary
+     */
+    @Override
+    public Integer getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the runtime type of the numeric value associated with this boundary.
+     *
+     * @return {@code Integer.class}
+     */
+    @Override
+    public Class<Integer> getValueType() {
+        return Integer.class;
+    }
+
+    /**
+     * Returns the hash code for this finite bound.
+     *
+     * @return the hash code of this finite bound, derived from its value
+     * @see Integer#hashCode(int)
+     */
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+    /**
+     * Checks whether this finite bound is equal to another object.
+     * <p>
+     * Two instances are considered equal if and only if both are instances of {@code IntFiniteBound}
+     * and hold the same value.
+     * </p>
+     *
+     * @param object the object to compare with this instance
+     * @return {@code true} if the given object is a {@code IntFiniteBound} with the same value,
+     *         {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        return object instanceof IntFiniteBound other && value == other.value;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.bounds.finite;
+
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+
+import java.util.Objects;
+
+/**
+ * Represents an immutable finite boundary backed by a primitive {@code long} value.
+ * <p>
+ * Unlike {@link ImmutableFiniteBound}, this class does not hold a boxed {@link Long} and a {@link Class}
+ * reference. The value is stored as a raw primitive, which reduces the footprint of every bound to a single
+ * object and allows the value to be read through {@link #longValue()} without unboxing.
+ * </p>
+ *
+ * <p>
+ * The generic accessors of {@link xyz.derivora.intervalkit.bounds.FiniteBound} remain fully supported:
+ * {@link #getValue()} returns the value as a {@link Long} and {@link #getValueType()} always returns
+ * {@code Long.class}. Note that {@link #getValue()} may box the value on every call, so performance-sensitive
+ * code should prefer {@link #longValue()}.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are equal only to other instances of this class holding the same value.
+ * In particular, a {@code LongFiniteBound} is never equal to an {@link ImmutableFiniteBound} wrapping
+ * the same {@code Long}, although both compare as equal through
+ * {@link xyz.derivora.intervalkit.bounds.comparison.BoundComparator}.
+ * </p>
+ *
+ * @see AbstractFiniteBound
+ * @see ImmutableFiniteBound
+ */
+public final class LongFiniteBound extends AbstractFiniteBound<Long> {
+
+    /**
+     * The primitive value of this finite boundary.
+     */
+    private final long value;
+
+    /**
+     * Creates an immutable finite boundary with the specified {@code long} value.
+     *
+     * @param value the value of this finite bound
+     */
+    public LongFiniteBound(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Creates finite boundaries for all values of the given array.
+     * <p>
+     * The returned array can hold any {@link FiniteBound} of {@code Long}, so it may be modified by the caller.
+     * </p>
+     *
+     * @param values the values of the finite boundaries
+     * @return a new array of finite boundaries, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static FiniteBound<Long>[] arrayOf(long[] values) {
+        Objects.requireNonNull(values, "Values cannot be null");
+
+        FiniteBound<Long>[] bounds = (FiniteBound<Long>[]) new FiniteBound<?>[values.length];
+        for (int i = 0; i < values.length; i++) {
+            bounds[i] = new LongFiniteBound(values[i]);
+        }
+
+        return bounds;
+    }
+
+    /**
+     * Returns the value of this finite boundary as a primitive {@code long}.
+     * <p>
+     * This accessor never allocates and should be preferred over {@link #getValue()}.
+     * </p>
+     *
+     * @return the value of this boundary
+     */
+    public long longValue() {
+        return value;
+    }
+
+    /**
+     * Returns the numeric value of this finite boundary.
+     * <p>
+     * The returned value is boxed on demand; values in the range of the {@link Long} cache are not allocated.
+     * </p>
+     *
+     * @return the numeric value of this boundary
+     */
+    @Override
+    public Long getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the runtime type of the numeric value associated with this boundary.
+     *
+     * @return {@code Long.class}
+     */
+    @Override
+    public Class<Long> getValueType() {
+        return Long.class;
+    }
+
+    /**
+     * Returns the hash code for this finite bound.
+     *
+     * @return the hash code of this finite bound, derived from its value
+     * @see Long#hashCode(long)
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    /**
+     * Checks whether this finite bound is equal to another object.
+     * <p>
+     * Two instances are considered equal if and only if both are instances of {@code LongFiniteBound}
+     * and hold the same value.
+     * </p>
+     *
+     * @param object the object to compare with this instance
+     * @return {@code true} if the given object is a {@code LongFiniteBound} with the same value,
+     *         {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        return object instanceof LongFiniteBound other && value == other.value;
+    }
+}
@@ -28,6 +28,10 @@
  *         class for finite boundaries, enforcing correct behavior for methods related to finiteness.</li>
  *     <li>{@link xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound} – a final,
  *         immutable implementation of a finite boundary, storing a fixed numeric value.</li>
+ *     <li>{@link xyz.derivora.intervalkit.bounds.finite.LongFiniteBound},
+ *         {@link xyz.derivora.intervalkit.bounds.finite.IntFiniteBound} and
+ *         {@link xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound} – compact immutable
+ *         implementations that store their value as a raw primitive instead of a boxed number.</li>
  * </ul>
  *
  * <p>
@@ -37,5 +41,8 @@
  *
  * @see xyz.derivora.intervalkit.bounds.finite.AbstractFiniteBound
  * @see xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound
+ * @see xyz.derivora.intervalkit.bounds.finite.LongFiniteBound
+ * @see xyz.derivora.intervalkit.bounds.finite.IntFiniteBound
+ * @see xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound
  */
 package xyz.derivora.intervalkit.bounds.finite;
\ No newline at end of file
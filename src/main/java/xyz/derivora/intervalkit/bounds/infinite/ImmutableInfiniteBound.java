@@ -27,10 +27,26 @@ import java.util.Objects;
  * Instances of this class are final and cannot be modified after creation.
  * </p>
  *
+ * <p>
+ * Since only two distinct values of this class can exist, canonical instances for positive and negative
+ * infinity are available via {@link #getInstance(boolean)}. Sharing them avoids allocation and allows
+ * comparisons of infinite bounds to be reduced to reference checks.
+ * </p>
+ *
  * @see AbstractInfiniteBound
  */
 public class ImmutableInfiniteBound extends AbstractInfiniteBound {
 
+    /**
+     * The canonical instance representing positive infinity.
+     */
+    private static final ImmutableInfiniteBound POSITIVE_INFINITY = new ImmutableInfiniteBound(true);
+
+    /**
+     * The canonical instance representing negative infinity.
+     */
+    private static final ImmutableInfiniteBound NEGATIVE_INFINITY = new ImmutableInfiniteBound(false);
+
     /**
      * Indicates whether this infinite boundary represents positive infinity.
      */
@@ -49,6 +65,19 @@ public class ImmutableInfiniteBound extends AbstractInfiniteBound {
         this.isPositive = isPositive;
     }
 
+    /**
+     * Returns the canonical immutable infinite boundary with the specified sign.
+     * <p>
+     * Repeated calls with the same argument always return the same instance.
+     * </p>
+     *
+     * @param isPositive {@code true} for positive infinity, {@code false} for negative infinity
+     * @return the canonical instance representing positive or negative infinity
+     */
+    public static ImmutableInfiniteBound getInstance(boolean isPositive) {
+        return isPositive ? POSITIVE_INFINITY : NEGATIVE_INFINITY;
+    }
+
     /**
      * Determines whether this infinite boundary is positive.
      *
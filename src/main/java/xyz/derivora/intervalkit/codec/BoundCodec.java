@@ -0,0 +1,691 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.codec;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * A compact binary codec for {@link Bound} instances backed by {@link ByteBuffer}.
+ * <p>
+ * Every encoded boundary starts with a tag byte that identifies whether the boundary is negative infinite,
+ * positive infinite or finite, and for finite boundaries the type of the value. The tag is followed by
+ * the value:
+ * </p>
+ * <ul>
+ *     <li>{@link #NEGATIVE_INFINITE}, {@link #POSITIVE_INFINITE} - no payload.</li>
+ *     <li>{@link #BYTE}, {@link #SHORT}, {@link #INT}, {@link #LONG}, {@link #FLOAT}, {@link #DOUBLE} -
+ *         the primitive value in 1, 2, 4, 8, 4 or 8 bytes.</li>
+ *     <li>{@link #BIG_INTEGER} - an unsigned varint length followed by the two's-complement bytes
+ *         of the value, as returned by {@link BigInteger#toByteArray()}.</li>
+ *     <li>{@link #BIG_DECIMAL} - the scale as a zigzag varint followed by the unscaled value encoded
+ *         as for {@link #BIG_INTEGER}.</li>
+ * </ul>
+ * <p>
+ * Multi-byte values are always written in big-endian order, regardless of the
+ * {@linkplain ByteBuffer#order() order} of the buffer, so the format is independent of the platform.
+ * </p>
+ *
+ * <p>
+ * Besides relative {@code encode} and {@code decode} methods, this class provides absolute accessors such
+ * as {@link #tagAt(ByteBuffer, int)}, {@link #longValueAt(ByteBuffer, int)} and
+ * {@link #compareAt(ByteBuffer, int, ByteBuffer, int)} that read encoded boundaries in place, without
+ * materializing {@link Bound} objects.
+ * </p>
+ *
+ * @see IntervalCodec
+ * @see BoundFactory
+ */
+public final class BoundCodec {
+
+    /**
+     * The tag of a negative infinite boundary.
+     */
+    public static final byte NEGATIVE_INFINITE = 0x01;
+
+    /**
+     * The tag of a positive infinite boundary.
+     */
+    public static final byte POSITIVE_INFINITE = 0x02;
+
+    /**
+     * The tag of a finite boundary with a {@link Byte} value.
+     */
+    public static final byte BYTE = 0x10;
+
+    /**
+     * The tag of a finite boundary with a {@link Short} value.
+     */
+    public static final byte SHORT = 0x11;
+
+    /**
+     * The tag of a finite boundary with an {@link Integer} value.
+     */
+    public static final byte INT = 0x12;
+
+    /**
+     * The tag of a finite boundary with a {@link Long} value.
+     */
+    public static final byte LONG = 0x13;
+
+    /**
+     * The tag of a finite boundary with a {@link Float} value.
+     */
+    public static final byte FLOAT = 0x14;
+
+    /**
+     * The tag of a finite boundary with a {@link Double} value.
+     */
+    public static final byte DOUBLE = 0x15;
+
+    /**
+     * The tag of a finite boundary with a {@link BigInteger} value.
+     */
+    public static final byte BIG_INTEGER = 0x16;
+
+    /**
+     * The tag of a finite boundary with a {@link BigDecimal} value.
+     */
+    public static final byte BIG_DECIMAL = 0x17;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BoundCodec() {
+    }
+
+    /**
+     * Returns the number of bytes required to encode the given boundary.
+     *
+     * @param bound the boundary to measure
+     * @return the encoded size of {@code bound} in bytes
+     * @throws NullPointerException     if {@code bound} is {@code null}
+     * @throws IllegalArgumentException if the value type of a finite {@code bound} is not supported
+     */
+    public static int encodedSize(Bound bound) {
+        Objects.requireNonNull(bound, "Bound cannot be null");
+        if (bound.isInfinite()) {
+            return 1;
+        }
+
+        Number value = finiteValue(bound);
+        if (value instanceof BigDecimal decimal) {
+            return 1 + varintSize(zigzag(decimal.scale())) + bigIntegerSize(decimal.unscaledValue());
+        }
+        if (value instanceof BigInteger integer) {
+            return 1 + bigIntegerSize(integer);
+        }
+        return 1 + fixedPayloadSize(tagOf(value));
+    }
+
+    /**
+     * Writes the given boundary at the current position of the buffer and advances the position.
+     *
+     * @param bound  the boundary to encode
+     * @param buffer the buffer to write to
+     * @throws NullPointerException     if {@code bound} or {@code buffer} is {@code null}
+     * @throws IllegalArgumentException if the value type of a finite {@code bound} is not supported
+     * @throws BufferOverflowException  if the buffer has not enough remaining space; nothing is written then
+     */
+    public static void encode(Bound bound, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        if (buffer.remaining() < encodedSize(bound)) {
+            throw new BufferOverflowException();
+        }
+
+        int position = buffer.position();
+        buffer.position(position + encode(bound, buffer, position));
+    }
+
+    /**
+     * Writes the given boundary at the given index of the buffer without changing its position.
+     *
+     * @param bound  the boundary to encode
+     * @param buffer the buffer to write to
+     * @param index  the index at which the first byte is written
+     * @return the number of bytes written
+     * @throws NullPointerException      if {@code bound} or {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the value type of a finite {@code bound} is not supported
+     * @throws IndexOutOfBoundsException if the encoded boundary does not fit between {@code index}
+     *                                   and the limit of the buffer; nothing is written then
+     */
+    public static int encode(Bound bound, ByteBuffer buffer, int index) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        int size = encodedSize(bound);
+        Objects.checkFromIndexSize(index, size, buffer.limit());
+
+        if (bound.isInfinite()) {
+            buffer.put(index, ((InfiniteBound) bound).isPositive() ? POSITIVE_INFINITE : NEGATIVE_INFINITE);
+            return size;
+        }
+
+        Number value = finiteValue(bound);
+        byte tag = tagOf(value);
+        buffer.put(index, tag);
+        int offset = index + 1;
+        switch (tag) {
+            case BYTE -> buffer.put(offset, value.byteValue());
+            case SHORT -> putShort(buffer, offset, value.shortValue());
+            case INT -> putInt(buffer, offset, value.intValue());
+            case LONG -> putLong(buffer, offset, value.longValue());
+            case FLOAT -> putInt(buffer, offset, Float.floatToRawIntBits(value.floatValue()));
+            case DOUBLE -> putLong(buffer, offset, Double.doubleToRawLongBits(value.doubleValue()));
+            case BIG_INTEGER -> putBigInteger(buffer, offset, (BigInteger) value);
+            default -> {
+                BigDecimal decimal = (BigDecimal) value;
+                offset = putVarint(buffer, offset, zigzag(decimal.scale()));
+                putBigInteger(buffer, offset, decimal.unscaledValue());
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Reads a boundary at the current position of the buffer and advances the position.
+     * <p>
+     * Boundaries are created with {@link BoundFactory#immutable()}.
+     * </p>
+     *
+     * @param buffer the buffer to read from
+     * @return the decoded boundary
+     * @throws NullPointerException       if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException   if the buffer does not contain a valid tag at its position
+     * @throws BufferUnderflowException   if the buffer ends before the encoded boundary
+     * @see #decode(ByteBuffer, BoundFactory)
+     */
+    public static Bound decode(ByteBuffer buffer) {
+        return decode(buffer, BoundFactory.immutable());
+    }
+
+    /**
+     * Reads a boundary at the current position of the buffer and advances the position.
+     * <p>
+     * {@link Long}, {@link Integer} and {@link Double} values are created with the primitive
+     * {@code getFiniteBound} methods of the factory, all other values with
+     * {@link BoundFactory#getFiniteBound(Number)}.
+     * </p>
+     *
+     * @param buffer  the buffer to read from
+     * @param factory the factory used to create the boundary
+     * @return the decoded boundary
+     * @throws NullPointerException     if {@code buffer} or {@code factory} is {@code null}
+     * @throws IllegalArgumentException if the buffer does not contain a valid tag at its position
+     * @throws BufferUnderflowException if the buffer ends before the encoded boundary
+     */
+    public static Bound decode(ByteBuffer buffer, BoundFactory factory) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        int position = buffer.position();
+        if (position >= buffer.limit()) {
+            throw new BufferUnderflowException();
+        }
+        int size;
+        try {
+            size = encodedSizeAt(buffer, position);
+        } catch (IndexOutOfBoundsException e) {
+            throw new BufferUnderflowException();
+        }
+        if (size > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        Bound bound = decode(buffer, position, factory);
+        buffer.position(position + size);
+        return bound;
+    }
+
+    /**
+     * Reads a boundary at the given index of the buffer without changing its position.
+     *
+     * @param buffer  the buffer to read from
+     * @param index   the index of the tag byte
+     * @param factory the factory used to create the boundary
+     * @return the decoded boundary
+     * @throws NullPointerException      if {@code buffer} or {@code factory} is {@code null}
+     * @throws IllegalArgumentException  if the buffer does not contain a valid tag at {@code index}
+     * @throws IndexOutOfBoundsException if the encoded boundary exceeds the limit of the buffer
+     * @see #decode(ByteBuffer, BoundFactory)
+     */
+    public static Bound decode(ByteBuffer buffer, int index, BoundFactory factory) {
+        Objects.requireNonNull(factory, "Factory cannot be null");
+        byte tag = tagAt(buffer, index);
+        int offset = index + 1;
+        return switch (tag) {
+            case NEGATIVE_INFINITE -> factory.getNegativeInfiniteBound();
+            case POSITIVE_INFINITE -> factory.getPositiveInfiniteBound();
+            case BYTE -> factory.getFiniteBound(Byte.valueOf(buffer.get(offset)));
+            case SHORT -> factory.getFiniteBound(Short.valueOf(getShort(buffer, offset)));
+            case INT -> factory.getFiniteBound(getInt(buffer, offset));
+            case LONG -> factory.getFiniteBound(getLong(buffer, offset));
+            case FLOAT -> factory.getFiniteBound(Float.valueOf(Float.intBitsToFloat(getInt(buffer, offset))));
+            case DOUBLE -> factory.getFiniteBound(Double.longBitsToDouble(getLong(buffer, offset)));
+            case BIG_INTEGER -> factory.getFiniteBound(getBigInteger(buffer, offset));
+            default -> {
+                long scale = getVarint(buffer, offset);
+                BigInteger unscaled = getBigInteger(buffer, offset + varintSize(scale));
+                yield factory.getFiniteBound(new BigDecimal(unscaled, unzigzag(scale)));
+            }
+        };
+    }
+
+    /**
+     * Returns the tag of the boundary encoded at the given index.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the tag byte
+     * @return one of the tag constants of this class
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the byte at {@code index} is not a valid tag
+     * @throws IndexOutOfBoundsException if {@code index} is not smaller than the limit of the buffer
+     */
+    public static byte tagAt(ByteBuffer buffer, int index) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        byte tag = buffer.get(index);
+        if (tag != NEGATIVE_INFINITE && tag != POSITIVE_INFINITE && (tag < BYTE || tag > BIG_DECIMAL)) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid bound tag 0x%02x at index %d", tag & 0xFF, index)
+            );
+        }
+        return tag;
+    }
+
+    /**
+     * Checks whether the boundary encoded at the given index is finite.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the tag byte
+     * @return {@code true} if the encoded boundary is finite, {@code false} otherwise
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the byte at {@code index} is not a valid tag
+     * @throws IndexOutOfBoundsException if {@code index} is not smaller than the limit of the buffer
+     */
+    public static boolean isFiniteAt(ByteBuffer buffer, int index) {
+        return tagAt(buffer, index) >= BYTE;
+    }
+
+    /**
+     * Returns the number of bytes occupied by the boundary encoded at the given index.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the tag byte
+     * @return the encoded size in bytes, including the tag byte
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the byte at {@code index} is not a valid tag
+     * @throws IndexOutOfBoundsException if the header of the encoded boundary exceeds the limit of the buffer
+     */
+    public static int encodedSizeAt(ByteBuffer buffer, int index) {
+        byte tag = tagAt(buffer, index);
+        int offset = index + 1;
+        if (tag == BIG_DECIMAL) {
+            offset += varintSize(getVarint(buffer, offset));
+        } else if (tag != BIG_INTEGER) {
+            return 1 + fixedPayloadSize(tag);
+        }
+        long length = getVarint(buffer, offset);
+        return Math.toIntExact(offset - index + varintSize(length) + length);
+    }
+
+    /**
+     * Returns the value of the integral boundary encoded at the given index as a {@code long}.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the tag byte
+     * @return the value of the encoded boundary
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the encoded boundary is not a {@link #BYTE}, {@link #SHORT},
+     *                                   {@link #INT} or {@link #LONG} boundary
+     * @throws IndexOutOfBoundsException if the encoded boundary exceeds the limit of the buffer
+     */
+    public static long longValueAt(ByteBuffer buffer, int index) {
+        byte tag = tagAt(buffer, index);
+        return switch (tag) {
+            case BYTE -> buffer.get(index + 1);
+            case SHORT -> getShort(buffer, index + 1);
+            case INT -> getInt(buffer, index + 1);
+            case LONG -> getLong(buffer, index + 1);
+            default -> throw new IllegalArgumentException(
+                    String.format("Bound at index %d is not an integral primitive bound", index)
+            );
+        };
+    }
+
+    /**
+     * Returns the value of the floating-point boundary encoded at the given index as a {@code double}.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the tag byte
+     * @return the value of the encoded boundary
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the encoded boundary is not a {@link #FLOAT} or {@link #DOUBLE} boundary
+     * @throws IndexOutOfBoundsException if the encoded boundary exceeds the limit of the buffer
+     */
+    public static double doubleValueAt(ByteBuffer buffer, int index) {
+        byte tag = tagAt(buffer, index);
+        return switch (tag) {
+            case FLOAT -> Float.intBitsToFloat(getInt(buffer, index + 1));
+            case DOUBLE -> Double.longBitsToDouble(getLong(buffer, index + 1));
+            default -> throw new IllegalArgumentException(
+                    String.format("Bound at index %d is not a floating-point primitive bound", index)
+            );
+        };
+    }
+
+    /**
+     * Compares two encoded boundaries in place.
+     * <p>
+     * The ordering is consistent with {@link BoundComparator#compare(Bound, Bound)}. Infinite boundaries,
+     * two integral primitive boundaries and two floating-point primitive boundaries are compared without
+     * decoding; all other combinations are decoded with {@link BoundFactory#immutable()} and compared
+     * with {@link BoundComparator}.
+     * </p>
+     *
+     * @param firstBuffer  the buffer containing the first boundary
+     * @param firstIndex   the index of the tag byte of the first boundary
+     * @param secondBuffer the buffer containing the second boundary
+     * @param secondIndex  the index of the tag byte of the second boundary
+     * @return a negative integer, zero, or a positive integer as the first boundary is less than,
+     * equal to, or greater than the second
+     * @throws NullPointerException      if either buffer is {@code null}
+     * @throws IllegalArgumentException  if either index does not point to a valid tag
+     * @throws IndexOutOfBoundsException if an encoded boundary exceeds the limit of its buffer
+     */
+    public static int compareAt(ByteBuffer firstBuffer, int firstIndex, ByteBuffer secondBuffer, int secondIndex) {
+        byte firstTag = tagAt(firstBuffer, firstIndex);
+        byte secondTag = tagAt(secondBuffer, secondIndex);
+
+        if (firstTag < BYTE || secondTag < BYTE) {
+            return Integer.compare(infinityRank(firstTag), infinityRank(secondTag));
+        }
+
+        if (isIntegral(firstTag) && isIntegral(secondTag)) {
+            return Long.compare(longValueAt(firstBuffer, firstIndex), longValueAt(secondBuffer, secondIndex));
+        }
+
+        if (isFloatingPoint(firstTag) && isFloatingPoint(secondTag)) {
+            double firstValue = doubleValueAt(firstBuffer, firstIndex);
+            double secondValue = doubleValueAt(secondBuffer, secondIndex);
+            return firstValue < secondValue ? -1 : (firstValue > secondValue ? 1 : 0);
+        }
+
+        BoundFactory factory = BoundFactory.immutable();
+        return BoundComparator.getInstance().compare(
+                decode(firstBuffer, firstIndex, factory),
+                decode(secondBuffer, secondIndex, factory)
+        );
+    }
+
+    /**
+     * Returns the value of a finite boundary.
+     *
+     * @param bound the finite boundary
+     * @return the non-null value of {@code bound}
+     * @throws IllegalArgumentException if {@code bound} does not implement {@link FiniteBound} or has no value
+     */
+    private static Number finiteValue(Bound bound) {
+        if (bound instanceof FiniteBound<?> finiteBound && finiteBound.getValue() != null) {
+            return finiteBound.getValue();
+        }
+        throw new IllegalArgumentException("Finite bound must implement FiniteBound and have a value");
+    }
+
+    /**
+     * Returns the tag for the type of the given finite value.
+     *
+     * @param value the finite value
+     * @return the tag of the value type
+     * @throws IllegalArgumentException if the value type is not supported
+     */
+    private static byte tagOf(Number value) {
+        Class<?> type = value.getClass();
+        if (type == Long.class) {
+            return LONG;
+        }
+        if (type == Integer.class) {
+            return INT;
+        }
+        if (type == Double.class) {
+            return DOUBLE;
+        }
+        if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        }
+        if (type == BigInteger.class) {
+            return BIG_INTEGER;
+        }
+        if (type == Float.class) {
+            return FLOAT;
+        }
+        if (type == Short.class) {
+            return SHORT;
+        }
+        if (type == Byte.class) {
+            return BYTE;
+        }
+        throw new IllegalArgumentException(
+                String.format("Unsupported value type for binary encoding: %s", type.getName())
+        );
+    }
+
+    /**
+     * Returns the payload size of a fixed-width tag.
+     *
+     * @param tag the tag
+     * @return the number of payload bytes following the tag
+     */
+    private static int fixedPayloadSize(byte tag) {
+        return switch (tag) {
+            case BYTE -> Byte.BYTES;
+            case SHORT -> Short.BYTES;
+            case INT, FLOAT -> Integer.BYTES;
+            case LONG, DOUBLE -> Long.BYTES;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Returns the rank of a tag used for ordering infinite against other boundaries.
+     *
+     * @param tag the tag
+     * @return {@code -1} for negative infinity, {@code 1} for positive infinity, {@code 0} for finite tags
+     */
+    private static int infinityRank(byte tag) {
+        return tag == NEGATIVE_INFINITE ? -1 : (tag == POSITIVE_INFINITE ? 1 : 0);
+    }
+
+    /**
+     * Checks whether a tag denotes an integral primitive value.
+     *
+     * @param tag the tag
+     * @return {@code true} for {@link #BYTE}, {@link #SHORT}, {@link #INT} and {@link #LONG}
+     */
+    private static boolean isIntegral(byte tag) {
+        return tag >= BYTE && tag <= LONG;
+    }
+
+    /**
+     * Checks whether a tag denotes a floating-point primitive value.
+     *
+     * @param tag the tag
+     * @return {@code true} for {@link #FLOAT} and {@link #DOUBLE}
+     */
+    private static boolean isFloatingPoint(byte tag) {
+        return tag == FLOAT || tag == DOUBLE;
+    }
+
+    /**
+     * Returns the encoded size of a length-prefixed {@link BigInteger}.
+     *
+     * @param value the value
+     * @return the size of the length varint plus the number of two's-complement bytes
+     */
+    private static int bigIntegerSize(BigInteger value) {
+        int length = value.bitLength() / 8 + 1;
+        return varintSize(length) + length;
+    }
+
+    /**
+     * Writes a length-prefixed {@link BigInteger}.
+     *
+     * @param buffer the buffer to write to
+     * @param index  the index of the first byte
+     * @param value  the value
+     */
+    private static void putBigInteger(ByteBuffer buffer, int index, BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        buffer.put(putVarint(buffer, index, bytes.length), bytes);
+    }
+
+    /**
+     * Reads a length-prefixed {@link BigInteger}.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the first byte
+     * @return the value
+     * @throws IndexOutOfBoundsException if the value exceeds the limit of the buffer
+     */
+    private static BigInteger getBigInteger(ByteBuffer buffer, int index) {
+        long length = getVarint(buffer, index);
+        int offset = index + varintSize(length);
+        Objects.checkFromIndexSize(offset, length, buffer.limit());
+        byte[] bytes = new byte[(int) length];
+        buffer.get(offset, bytes);
+        return new BigInteger(bytes);
+    }
+
+    /**
+     * Maps a signed value to an unsigned one so that values of small magnitude have short varints.
+     *
+     * @param value the signed value
+     * @return the zigzag-encoded value
+     */
+    private static long zigzag(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * Reverses {@link #zigzag(int)}.
+     *
+     * @param value the zigzag-encoded value
+     * @return the signed value
+     */
+    private static int unzigzag(long value) {
+        return (int) (value >>> 1) ^ -(int) (value & 1);
+    }
+
+    /**
+     * Returns the number of bytes of the unsigned varint encoding of a value.
+     *
+     * @param value the unsigned value
+     * @return the encoded size in bytes
+     */
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Writes an unsigned varint with seven bits per byte, least significant group first.
+     *
+     * @param buffer the buffer to write to
+     * @param index  the index of the first byte
+     * @param value  the unsigned value
+     * @return the index following the last written byte
+     */
+    private static int putVarint(ByteBuffer buffer, int index, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put(index++, (byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put(index++, (byte) value);
+        return index;
+    }
+
+    /**
+     * Reads an unsigned varint written by {@link #putVarint(ByteBuffer, int, long)}.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the first byte
+     * @return the unsigned value
+     * @throws IllegalArgumentException if the varint is longer than five bytes
+     */
+    private static long getVarint(ByteBuffer buffer, int index) {
+        long value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get(index++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Malformed varint before index %d", index));
+    }
+
+    /**
+     * Checks whether multi-byte values can be transferred without reversing their bytes.
+     * <p>
+     * The {@code get} and {@code put} helpers below reverse the bytes for little-endian buffers,
+     * so the encoded format is big-endian in either case.
+     * </p>
+     *
+     * @param buffer the buffer
+     * @return {@code true} if the buffer uses big-endian order
+     */
+    private static boolean isBigEndian(ByteBuffer buffer) {
+        return buffer.order() == ByteOrder.BIG_ENDIAN;
+    }
+
+    private static short getShort(ByteBuffer buffer, int index) {
+        short value = buffer.getShort(index);
+        return isBigEndian(buffer) ? value : Short.reverseBytes(value);
+    }
+
+    private static int getInt(ByteBuffer buffer, int index) {
+        int value = buffer.getInt(index);
+        return isBigEndian(buffer) ? value : Integer.reverseBytes(value);
+    }
+
+    private static long getLong(ByteBuffer buffer, int index) {
+        long value = buffer.getLong(index);
+        return isBigEndian(buffer) ? value : Long.reverseBytes(value);
+    }
+
+    private static void putShort(ByteBuffer buffer, int index, short value) {
+        buffer.putShort(index, isBigEndian(buffer) ? value : Short.reverseBytes(value));
+    }
+
+    private static void putInt(ByteBuffer buffer, int index, int value) {
+        buffer.putInt(index, isBigEndian(buffer) ? value : Integer.reverseBytes(value));
+    }
+
+    private static void putLong(ByteBuffer buffer, int index, long value) {
+        buffer.putLong(index, isBigEndian(buffer) ? value : Long.reverseBytes(value));
+    }
+}
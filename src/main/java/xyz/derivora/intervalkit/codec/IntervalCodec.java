@@ -0,0 +1,287 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.codec;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A compact binary codec for {@link Interval} instances backed by {@link ByteBuffer}.
+ * <p>
+ * An encoded interval consists of a flags byte followed by the lower and the upper boundary in the
+ * format of {@link BoundCodec}. Bit {@code 0} of the flags byte is set if the lower endpoint is closed,
+ * bit {@code 1} if the upper endpoint is closed; all other bits are reserved and must be zero.
+ * </p>
+ *
+ * <p>
+ * Encoded intervals can be inspected in place: {@link #lowerBoundIndex(ByteBuffer, int)} and
+ * {@link #upperBoundIndex(ByteBuffer, int)} locate the boundaries, which can then be read with the
+ * accessors of {@link BoundCodec}.
+ * </p>
+ *
+ * @see BoundCodec
+ */
+public final class IntervalCodec {
+
+    /**
+     * The flag bit set if the lower endpoint is closed.
+     */
+    private static final byte LOWER_CLOSED = 1;
+
+    /**
+     * The flag bit set if the upper endpoint is closed.
+     */
+    private static final byte UPPER_CLOSED = 2;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private IntervalCodec() {
+    }
+
+    /**
+     * Returns the number of bytes required to encode the given interval.
+     *
+     * @param interval the interval to measure
+     * @return the encoded size of {@code interval} in bytes
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if the value type of a finite endpoint is not supported
+     */
+    public static int encodedSize(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        return 1 + BoundCodec.encodedSize(interval.getLowerBound()) + BoundCodec.encodedSize(interval.getUpperBound());
+    }
+
+    /**
+     * Writes the given interval at the current position of the buffer and advances the position.
+     *
+     * @param interval the interval to encode
+     * @param buffer   the buffer to write to
+     * @throws NullPointerException     if {@code interval} or {@code buffer} is {@code null}
+     * @throws IllegalArgumentException if the value type of a finite endpoint is not supported
+     * @throws BufferOverflowException  if the buffer has not enough remaining space; nothing is written then
+     */
+    public static void encode(Interval interval, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        if (buffer.remaining() < encodedSize(interval)) {
+            throw new BufferOverflowException();
+        }
+
+        int position = buffer.position();
+        buffer.position(position + encode(interval, buffer, position));
+    }
+
+    /**
+     * Writes the given interval at the given index of the buffer without changing its position.
+     *
+     * @param interval the interval to encode
+     * @param buffer   the buffer to write to
+     * @param index    the index at which the flags byte is written
+     * @return the number of bytes written
+     * @throws NullPointerException      if {@code interval} or {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the value type of a finite endpoint is not supported
+     * @throws IndexOutOfBoundsException if the encoded interval does not fit between {@code index}
+     *                                   and the limit of the buffer; nothing is written then
+     */
+    public static int encode(Interval interval, ByteBuffer buffer, int index) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        int size = encodedSize(interval);
+        Objects.checkFromIndexSize(index, size, buffer.limit());
+
+        byte flags = 0;
+        if (interval.isLowerClosed()) {
+            flags |= LOWER_CLOSED;
+        }
+        if (interval.isUpperClosed()) {
+            flags |= UPPER_CLOSED;
+        }
+        buffer.put(index, flags);
+
+        int offset = index + 1;
+        offset += BoundCodec.encode(interval.getLowerBound(), buffer, offset);
+        BoundCodec.encode(interval.getUpperBound(), buffer, offset);
+        return size;
+    }
+
+    /**
+     * Reads an interval at the current position of the buffer and advances the position.
+     * <p>
+     * Boundaries are created with {@link BoundFactory#immutable()}.
+     * </p>
+     *
+     * @param buffer the buffer to read from
+     * @return the decoded interval
+     * @throws NullPointerException     if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException if the buffer does not contain a valid interval at its position
+     * @throws BufferUnderflowException if the buffer ends before the encoded interval
+     */
+    public static ImmutableInterval decode(ByteBuffer buffer) {
+        return decode(buffer, BoundFactory.immutable());
+    }
+
+    /**
+     * Reads an interval at the current position of the buffer and advances the position.
+     *
+     * @param buffer  the buffer to read from
+     * @param factory the factory used to create the boundaries
+     * @return the decoded interval
+     * @throws NullPointerException     if {@code buffer} or {@code factory} is {@code null}
+     * @throws IllegalArgumentException if the buffer does not contain a valid interval at its position
+     * @throws BufferUnderflowException if the buffer ends before the encoded interval
+     * @see BoundCodec#decode(ByteBuffer, BoundFactory)
+     */
+    public static ImmutableInterval decode(ByteBuffer buffer, BoundFactory factory) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        int position = buffer.position();
+        int size;
+        try {
+            size = encodedSizeAt(buffer, position);
+        } catch (IndexOutOfBoundsException e) {
+            throw new BufferUnderflowException();
+        }
+        if (size > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        ImmutableInterval interval = decode(buffer, position, factory);
+        buffer.position(position + size);
+        return interval;
+    }
+
+    /**
+     * Reads an interval at the given index of the buffer without changing its position.
+     *
+     * @param buffer  the buffer to read from
+     * @param index   the index of the flags byte
+     * @param factory the factory used to create the boundaries
+     * @return the decoded interval
+     * @throws NullPointerException      if {@code buffer} or {@code factory} is {@code null}
+     * @throws IllegalArgumentException  if the buffer does not contain a valid interval at {@code index},
+     *                                   including a lower boundary greater than the upper boundary
+     * @throws IndexOutOfBoundsException if the encoded interval exceeds the limit of the buffer
+     */
+    public static ImmutableInterval decode(ByteBuffer buffer, int index, BoundFactory factory) {
+        byte flags = flagsAt(buffer, index);
+        int upperIndex = upperBoundIndex(buffer, index);
+        Bound lowerBound = BoundCodec.decode(buffer, index + 1, factory);
+        Bound upperBound = BoundCodec.decode(buffer, upperIndex, factory);
+        return ImmutableInterval.of(
+                lowerBound, (flags & LOWER_CLOSED) != 0,
+                upperBound, (flags & UPPER_CLOSED) != 0
+        );
+    }
+
+    /**
+     * Returns the number of bytes occupied by the interval encoded at the given index.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the flags byte
+     * @return the encoded size in bytes, including the flags byte
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the buffer does not contain a valid interval at {@code index}
+     * @throws IndexOutOfBoundsException if the encoded interval exceeds the limit of the buffer
+     */
+    public static int encodedSizeAt(ByteBuffer buffer, int index) {
+        int upperIndex = upperBoundIndex(buffer, index);
+        return upperIndex - index + BoundCodec.encodedSizeAt(buffer, upperIndex);
+    }
+
+    /**
+     * Checks whether the lower endpoint of the interval encoded at the given index is closed.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the flags byte
+     * @return {@code true} if the lower endpoint is closed, {@code false} otherwise
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the flags byte is invalid
+     * @throws IndexOutOfBoundsException if {@code index} is not smaller than the limit of the buffer
+     */
+    public static boolean isLowerClosedAt(ByteBuffer buffer, int index) {
+        return (flagsAt(buffer, index) & LOWER_CLOSED) != 0;
+    }
+
+    /**
+     * Checks whether the upper endpoint of the interval encoded at the given index is closed.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the flags byte
+     * @return {@code true} if the upper endpoint is closed, {@code false} otherwise
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the flags byte is invalid
+     * @throws IndexOutOfBoundsException if {@code index} is not smaller than the limit of the buffer
+     */
+    public static boolean isUpperClosedAt(ByteBuffer buffer, int index) {
+        return (flagsAt(buffer, index) & UPPER_CLOSED) != 0;
+    }
+
+    /**
+     * Returns the index of the encoded lower boundary of the interval encoded at the given index.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the flags byte
+     * @return the index of the tag byte of the lower boundary
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the flags byte is invalid
+     * @throws IndexOutOfBoundsException if {@code index} is not smaller than the limit of the buffer
+     */
+    public static int lowerBoundIndex(ByteBuffer buffer, int index) {
+        flagsAt(buffer, index);
+        return index + 1;
+    }
+
+    /**
+     * Returns the index of the encoded upper boundary of the interval encoded at the given index.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the flags byte
+     * @return the index of the tag byte of the upper boundary
+     * @throws NullPointerException      if {@code buffer} is {@code null}
+     * @throws IllegalArgumentException  if the buffer does not contain a valid interval at {@code index}
+     * @throws IndexOutOfBoundsException if the encoded lower boundary exceeds the limit of the buffer
+     */
+    public static int upperBoundIndex(ByteBuffer buffer, int index) {
+        int lowerIndex = lowerBoundIndex(buffer, index);
+        return lowerIndex + BoundCodec.encodedSizeAt(buffer, lowerIndex);
+    }
+
+    /**
+     * Reads and validates the flags byte of the interval encoded at the given index.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the flags byte
+     * @return the flags byte
+     * @throws IllegalArgumentException if a reserved bit is set
+     */
+    private static byte flagsAt(ByteBuffer buffer, int index) {
+        Objects.requireNonNull(buffer, "Buffer cannot be null");
+        byte flags = buffer.get(index);
+        if ((flags & ~(LOWER_CLOSED | UPPER_CLOSED)) != 0) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid interval flags 0x%02x at index %d", flags & 0xFF, index)
+            );
+        }
+        return flags;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides a compact binary format for boundaries and intervals.
+ * <p>
+ * Codecs write to and read from {@link java.nio.ByteBuffer} instances using a tag byte per boundary followed
+ * by fixed-width primitives or length-prefixed arbitrary-precision values. Encoded data can be inspected in
+ * place through absolute accessors, without materializing boundary or interval objects.
+ * </p>
+ *
+ * <h2>Key Components:</h2>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.codec.BoundCodec} -
+ *         Encodes, decodes and compares boundaries.</li>
+ *     <li>{@link xyz.derivora.intervalkit.codec.IntervalCodec} -
+ *         Encodes and decodes intervals as a flags byte followed by two boundaries.</li>
+ * </ul>
+ *
+ * @see xyz.derivora.intervalkit.bounds.Bound
+ * @see xyz.derivora.intervalkit.intervals.Interval
+ */
+package xyz.derivora.intervalkit.codec;
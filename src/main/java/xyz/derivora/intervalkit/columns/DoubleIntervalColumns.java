@@ -0,0 +1,276 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.columns;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Interval columns storing endpoints as {@code double} values.
+ * <p>
+ * Infinite endpoints are marked in the infinity bitsets and stored as {@link Double#NEGATIVE_INFINITY} for
+ * lower endpoints and {@link Double#POSITIVE_INFINITY} for upper endpoints, so that column scans compare them
+ * with finite values without any special handling. Finite boundaries returned by {@link #getLowerBound(int)}
+ * and {@link #getUpperBound(int)} are {@link DoubleFiniteBound} instances.
+ * </p>
+ *
+ * @see IntervalColumns
+ */
+public final class DoubleIntervalColumns extends IntervalColumns {
+
+    /**
+     * The lower endpoints of the intervals.
+     */
+    private double[] lowerValues;
+
+    /**
+     * The upper endpoints of the intervals.
+     */
+    private double[] upperValues;
+
+    /**
+     * Creates empty columns with the default initial capacity.
+     */
+    public DoubleIntervalColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty columns able to hold the specified number of intervals without growing.
+     *
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public DoubleIntervalColumns(int capacity) {
+        super(capacity);
+        lowerValues = new double[capacity];
+        upperValues = new double[capacity];
+    }
+
+    /**
+     * Appends an interval with the specified endpoints.
+     * <p>
+     * {@link Double#NEGATIVE_INFINITY} as the lower endpoint and {@link Double#POSITIVE_INFINITY} as the upper
+     * endpoint are stored as infinite endpoints, which are always open.
+     * </p>
+     *
+     * @param lowerValue  the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upperValue  the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @throws IllegalArgumentException if an endpoint is {@code NaN} or an infinity of the wrong sign,
+     *                                  or if {@code lowerValue} is greater than {@code upperValue}
+     */
+    public void add(double lowerValue, boolean lowerClosed, double upperValue, boolean upperClosed) {
+        if (Double.isNaN(lowerValue) || Double.isNaN(upperValue)
+                || lowerValue == Double.POSITIVE_INFINITY || upperValue == Double.NEGATIVE_INFINITY) {
+            throw new IllegalArgumentException(String.format(
+                    "Values %s and %s cannot be stored as lower and upper endpoints", lowerValue, upperValue
+            ));
+        }
+
+        if (lowerValue > upperValue) {
+            throw new IllegalArgumentException(String.format(
+                    "Lower value %s cannot be greater than upper value %s", lowerValue, upperValue
+            ));
+        }
+
+        boolean lowerInfinite = lowerValue == Double.NEGATIVE_INFINITY;
+        boolean upperInfinite = upperValue == Double.POSITIVE_INFINITY;
+        append(
+                lowerValue, lowerClosed && !lowerInfinite, lowerInfinite,
+                upperValue, upperClosed && !upperInfinite, upperInfinite
+        );
+    }
+
+    /**
+     * Appends the specified interval.
+     * <p>
+     * Finite endpoints must hold values that are exactly representable as {@code double}. The lower endpoint
+     * may be negative infinity and the upper endpoint may be positive infinity.
+     * </p>
+     *
+     * @param interval the interval to append
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if an endpoint cannot be represented exactly as a {@code double} value
+     */
+    @Override
+    public void add(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        Bound lowerBound = interval.getLowerBound();
+        Bound upperBound = interval.getUpperBound();
+
+        double lowerValue = LongIntervalColumns.isInfinite(lowerBound, false) ? Double.NEGATIVE_INFINITY : toDouble(lowerBound);
+        double upperValue = LongIntervalColumns.isInfinite(upperBound, true) ? Double.POSITIVE_INFINITY : toDouble(upperBound);
+
+        add(lowerValue, interval.isLowerClosed(), upperValue, interval.isUpperClosed());
+    }
+
+    /**
+     * Returns the lower endpoint value of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the lower endpoint value, or {@link Double#NEGATIVE_INFINITY} if the lower endpoint is infinite
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double getLowerValue(int index) {
+        return lowerValues[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the upper endpoint value of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the upper endpoint value, or {@link Double#POSITIVE_INFINITY} if the upper endpoint is infinite
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public double getUpperValue(int index) {
+        return upperValues[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public Bound getLowerBound(int index) {
+        Objects.checkIndex(index, size);
+        return testBit(lowerInfiniteWords, index)
+                ? ImmutableInfiniteBound.getInstance(false)
+                : new DoubleFiniteBound(lowerValues[index]);
+    }
+
+    @Override
+    public Bound getUpperBound(int index) {
+        Objects.checkIndex(index, size);
+        return testBit(upperInfiniteWords, index)
+                ? ImmutableInfiniteBound.getInstance(true)
+                : new DoubleFiniteBound(upperValues[index]);
+    }
+
+    /**
+     * Marks the intervals that contain the specified value.
+     * <p>
+     * The columns are scanned in blocks of 64 intervals. Within a block, the endpoint comparisons are
+     * accumulated into {@code long} masks without branches and then combined with the inclusivity bitsets
+     * word by word. Infinite and {@code NaN} values are not contained in any interval.
+     * </p>
+     *
+     * @param value the value to look up
+     * @return a new bitset in which bit {@code i} is set if the interval at position {@code i} contains {@code value}
+     */
+    public BitSet filterContaining(double value) {
+        if (!Double.isFinite(value)) {
+            return new BitSet();
+        }
+
+        long[] words = new long[wordCount(size)];
+        for (int word = 0; word < words.length; word++) {
+            int from = word << 6;
+            int to = Math.min(from + Long.SIZE, size);
+
+            long lowerBelow = 0;
+            long lowerEqual = 0;
+            long upperAbove = 0;
+            long upperEqual = 0;
+            for (int i = from; i < to; i++) {
+                int bit = i - from;
+                lowerBelow |= (lowerValues[i] < value ? 1L : 0L) << bit;
+                lowerEqual |= (lowerValues[i] == value ? 1L : 0L) << bit;
+                upperAbove |= (upperValues[i] > value ? 1L : 0L) << bit;
+                upperEqual |= (upperValues[i] == value ? 1L : 0L) << bit;
+            }
+
+            words[word] = (lowerBelow | lowerEqual & lowerClosedWords[word])
+                    & (upperAbove | upperEqual & upperClosedWords[word]);
+        }
+
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Marks the intervals that contain the specified number.
+     * <p>
+     * {@link Double} and {@link Float} values are looked up with {@link #filterContaining(double)};
+     * other values are evaluated on every interval view.
+     * </p>
+     *
+     * @param value the number to look up
+     * @return a new bitset in which bit {@code i} is set if the interval at position {@code i} contains {@code value}
+     */
+    @Override
+    public BitSet filterContaining(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if (value instanceof Double || value instanceof Float) {
+            return filterContaining(value.doubleValue());
+        }
+
+        return super.filterContaining(value);
+    }
+
+    private void append(double lowerValue, boolean lowerClosed, boolean lowerInfinite,
+                        double upperValue, boolean upperClosed, boolean upperInfinite) {
+        if (size == lowerValues.length) {
+            int capacity = grownCapacity(lowerValues.length, size + 1);
+            lowerValues = Arrays.copyOf(lowerValues, capacity);
+            upperValues = Arrays.copyOf(upperValues, capacity);
+        }
+
+        ensureFlagCapacity(size + 1);
+
+        lowerValues[size] = lowerValue;
+        upperValues[size] = upperValue;
+        setFlags(size, lowerClosed, upperClosed, lowerInfinite, upperInfinite);
+        size++;
+    }
+
+    private static double toDouble(Bound bound) {
+        if (bound instanceof DoubleFiniteBound doubleBound) {
+            return doubleBound.doubleValue();
+        }
+
+        Number value = ((FiniteBound<?>) bound).getValue();
+        if (value instanceof Double || value instanceof Float || value instanceof Integer
+                || value instanceof Short || value instanceof Byte) {
+            return value.doubleValue();
+        }
+
+        double doubleValue = value.doubleValue();
+        boolean exact = false;
+        if (value instanceof Long) {
+            exact = doubleValue < 0x1p63 && (long) doubleValue == value.longValue();
+        } else if (value instanceof BigInteger bigInteger) {
+            exact = Double.isFinite(doubleValue) && new BigDecimal(doubleValue).toBigInteger().equals(bigInteger);
+        } else if (value instanceof BigDecimal bigDecimal) {
+            exact = Double.isFinite(doubleValue) && new BigDecimal(doubleValue).compareTo(bigDecimal) == 0;
+        }
+
+        if (!exact) {
+            throw new IllegalArgumentException(String.format("Bound %s cannot be represented exactly as a double value", bound));
+        }
+
+        return doubleValue;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.columns;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * A growable container storing a large collection of intervals in primitive columns.
+ * <p>
+ * Instead of holding an {@link Interval} object with two {@link Bound} objects per entry, the endpoints are
+ * stored in primitive arrays by the concrete subclasses, and the inclusivity and infinity of the endpoints
+ * are stored in bitsets of {@code long} words, one bit per interval. An interval therefore occupies two
+ * primitive values and four bits.
+ * </p>
+ *
+ * <p>
+ * Boundaries and intervals are materialized on demand: {@link #getLowerBound(int)} and {@link #getUpperBound(int)}
+ * return primitive-backed finite boundaries or the canonical infinite boundaries, and {@link #get(int)} returns
+ * a flyweight view that reads its endpoints from the columns. Bulk operations such as
+ * {@link #filterContaining(Number)} process whole columns at once and return their result as a {@link BitSet}.
+ * </p>
+ *
+ * <p>
+ * Implementations are restricted to {@link LongIntervalColumns} and {@link DoubleIntervalColumns}.
+ * This class is not thread-safe.
+ * </p>
+ *
+ * @see LongIntervalColumns
+ * @see DoubleIntervalColumns
+ */
+public abstract sealed class IntervalColumns permits LongIntervalColumns, DoubleIntervalColumns {
+
+    /**
+     * The default initial capacity of the columns.
+     */
+    static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The bitset marking intervals with a closed lower endpoint.
+     */
+    long[] lowerClosedWords;
+
+    /**
+     * The bitset marking intervals with a closed upper endpoint.
+     */
+    long[] upperClosedWords;
+
+    /**
+     * The bitset marking intervals with an infinite lower endpoint.
+     */
+    long[] lowerInfiniteWords;
+
+    /**
+     * The bitset marking intervals with an infinite upper endpoint.
+     */
+    long[] upperInfiniteWords;
+
+    /**
+     * The number of intervals in the columns.
+     */
+    int size;
+
+    /**
+     * Creates empty columns able to hold the specified number of intervals without growing.
+     *
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    IntervalColumns(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+
+        int wordCount = wordCount(capacity);
+        lowerClosedWords = new long[wordCount];
+        upperClosedWords = new long[wordCount];
+        lowerInfiniteWords = new long[wordCount];
+        upperInfiniteWords = new long[wordCount];
+    }
+
+    /**
+     * Returns the number of intervals in the columns.
+     *
+     * @return the number of intervals
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether the columns contain no intervals.
+     *
+     * @return {@code true} if there are no intervals, {@code false} otherwise
+     */
+    public final boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the lower endpoint of the interval at the specified position.
+     * <p>
+     * A finite endpoint is returned as a new primitive-backed finite boundary, an infinite endpoint as the
+     * canonical negative infinite boundary.
+     * </p>
+     *
+     * @param index the position of the interval
+     * @return the lower endpoint of the interval
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public abstract Bound getLowerBound(int index);
+
+    /**
+     * Returns the upper endpoint of the interval at the specified position.
+     * <p>
+     * A finite endpoint is returned as a new primitive-backed finite boundary, an infinite endpoint as the
+     * canonical positive infinite boundary.
+     * </p>
+     *
+     * @param index the position of the interval
+     * @return the upper endpoint of the interval
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public abstract Bound getUpperBound(int index);
+
+    /**
+     * Determines whether the lower endpoint of the interval at the specified position is closed.
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the lower endpoint is closed, {@code false} if it is open
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public final boolean isLowerClosed(int index) {
+        return testBit(lowerClosedWords, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Determines whether the upper endpoint of the interval at the specified position is closed.
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the upper endpoint is closed, {@code false} if it is open
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public final boolean isUpperClosed(int index) {
+        return testBit(upperClosedWords, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Determines whether the lower endpoint of the interval at the specified position is infinite.
+     * <p>
+     * Unlike {@code getLowerBound(index).isInfinite()}, this method creates no boundary.
+     * </p>
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the lower endpoint is infinite, {@code false} if it is finite
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public final boolean isLowerInfinite(int index) {
+        return testBit(lowerInfiniteWords, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Determines whether the upper endpoint of the interval at the specified position is infinite.
+     * <p>
+     * Unlike {@code getUpperBound(index).isInfinite()}, this method creates no boundary.
+     * </p>
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the upper endpoint is infinite, {@code false} if it is finite
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public final boolean isUpperInfinite(int index) {
+        return testBit(upperInfiniteWords, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Returns a flyweight view of the interval at the specified position.
+     * <p>
+     * The view holds only a reference to these columns and the position; its endpoints are read from the
+     * columns on every access.
+     * </p>
+     *
+     * @param index the position of the interval
+     * @return a view of the interval
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public final Interval get(int index) {
+        return new IntervalView(this, Objects.checkIndex(index, size));
+    }
+
+    /**
+     * Appends the specified interval, converting its endpoints to the primitive type of the columns.
+     *
+     * @param interval the interval to append
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IllegalArgumentException    if an endpoint value cannot be represented exactly in the columns
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public abstract void add(Interval interval);
+
+    /**
+     * Marks the intervals that contain the specified number.
+     * <p>
+     * The default implementation evaluates {@link Interval#contains(Number)} on every interval view.
+     * Subclasses process whole columns directly when the type of {@code value} matches their column type.
+     * </p>
+     *
+     * @param value the number to look up
+     * @return a new bitset in which bit {@code i} is set if the interval at position {@code i} contains {@code value}
+     * @throws NullPointerException        if {@code value} is {@code null}
+     * @throws IncomparableBoundsException if {@code value} cannot be compared with the endpoints
+     */
+    public BitSet filterContaining(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        BitSet result = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (get(i).contains(value)) {
+                result.set(i);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Ensures that the bitsets can hold the specified number of intervals.
+     *
+     * @param capacity the required capacity
+     */
+    void ensureFlagCapacity(int capacity) {
+        int wordCount = wordCount(capacity);
+        if (wordCount > lowerClosedWords.length) {
+            int newLength = Math.max(wordCount, lowerClosedWords.length + (lowerClosedWords.length >> 1));
+            lowerClosedWords = Arrays.copyOf(lowerClosedWords, newLength);
+            upperClosedWords = Arrays.copyOf(upperClosedWords, newLength);
+            lowerInfiniteWords = Arrays.copyOf(lowerInfiniteWords, newLength);
+            upperInfiniteWords = Arrays.copyOf(upperInfiniteWords, newLength);
+        }
+    }
+
+    /**
+     * Records the inclusivity and infinity of the endpoints of the interval at the specified position.
+     */
+    void setFlags(int index, boolean lowerClosed, boolean upperClosed, boolean lowerInfinite, boolean upperInfinite) {
+        setBit(lowerClosedWords, index, lowerClosed);
+        setBit(upperClosedWords, index, upperClosed);
+        setBit(lowerInfiniteWords, index, lowerInfinite);
+        setBit(upperInfiniteWords, index, upperInfinite);
+    }
+
+    /**
+     * Computes the grown capacity of a column, at least one and a half times the current one.
+     */
+    static int grownCapacity(int currentCapacity, int requiredCapacity) {
+        if (requiredCapacity < 0) {
+            throw new IllegalStateException("Interval columns cannot hold more than " + Integer.MAX_VALUE + " intervals");
+        }
+
+        int capacity = currentCapacity + (currentCapacity >> 1) + 1;
+        return capacity < requiredCapacity || capacity < 0 ? requiredCapacity : capacity;
+    }
+
+    static int wordCount(int bitCount) {
+        return (bitCount + Long.SIZE - 1) >>> 6;
+    }
+
+    static boolean testBit(long[] words, int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void setBit(long[] words, int index, boolean value) {
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /**
+     * A flyweight interval reading its endpoints from the columns.
+     */
+    private record IntervalView(IntervalColumns columns, int index) implements Interval {
+
+        @Override
+        public Bound getLowerBound() {
+            return columns.getLowerBound(index);
+        }
+
+        @Override
+        public Bound getUpperBound() {
+            return columns.getUpperBound(index);
+        }
+
+        @Override
+        public boolean isLowerClosed() {
+            return columns.isLowerClosed(index);
+        }
+
+        @Override
+        public boolean isUpperClosed() {
+            return columns.isUpperClosed(index);
+        }
+
+        @Override
+        public String toString() {
+            return (isLowerClosed() ? "[" : "(") + getLowerBound() + ", " + getUpperBound() + (isUpperClosed() ? "]" : ")");
+        }
+    }
+}
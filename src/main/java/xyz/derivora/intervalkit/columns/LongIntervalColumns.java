@@ -0,0 +1,287 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.columns;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Interval columns storing endpoints as {@code long} values.
+ * <p>
+ * Infinite endpoints are marked in the infinity bitsets and stored as {@link Long#MIN_VALUE} for lower endpoints
+ * and {@link Long#MAX_VALUE} for upper endpoints, so that column scans compare them like any other value.
+ * Finite boundaries returned by {@link #getLowerBound(int)} and {@link #getUpperBound(int)} are
+ * {@link LongFiniteBound} instances.
+ * </p>
+ *
+ * @see IntervalColumns
+ */
+public final class LongIntervalColumns extends IntervalColumns {
+
+    /**
+     * The lower endpoints of the intervals.
+     */
+    private long[] lowerValues;
+
+    /**
+     * The upper endpoints of the intervals.
+     */
+    private long[] upperValues;
+
+    /**
+     * Creates empty columns with the default initial capacity.
+     */
+    public LongIntervalColumns() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates empty columns able to hold the specified number of intervals without growing.
+     *
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public LongIntervalColumns(int capacity) {
+        super(capacity);
+        lowerValues = new long[capacity];
+        upperValues = new long[capacity];
+    }
+
+    /**
+     * Appends an interval with finite endpoints.
+     *
+     * @param lowerValue  the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upperValue  the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @throws IllegalArgumentException if {@code lowerValue} is greater than {@code upperValue}
+     */
+    public void add(long lowerValue, boolean lowerClosed, long upperValue, boolean upperClosed) {
+        if (lowerValue > upperValue) {
+            throw new IllegalArgumentException(String.format(
+                    "Lower value %d cannot be greater than upper value %d", lowerValue, upperValue
+            ));
+        }
+
+        append(lowerValue, lowerClosed, false, upperValue, upperClosed, false);
+    }
+
+    /**
+     * Appends the specified interval.
+     * <p>
+     * Finite endpoints must hold integral values within the range of {@code long}. The lower endpoint may be
+     * negative infinity and the upper endpoint may be positive infinity.
+     * </p>
+     *
+     * @param interval the interval to append
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if an endpoint cannot be represented as a {@code long} value
+     */
+    @Override
+    public void add(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        Bound lowerBound = interval.getLowerBound();
+        Bound upperBound = interval.getUpperBound();
+
+        boolean lowerInfinite = isInfinite(lowerBound, false);
+        boolean upperInfinite = isInfinite(upperBound, true);
+        long lowerValue = lowerInfinite ? Long.MIN_VALUE : toLong(lowerBound);
+        long upperValue = upperInfinite ? Long.MAX_VALUE : toLong(upperBound);
+
+        if (lowerValue > upperValue) {
+            throw new IllegalArgumentException(String.format(
+                    "Lower bound %s cannot be greater than upper bound %s", lowerBound, upperBound
+            ));
+        }
+
+        append(
+                lowerValue, interval.isLowerClosed() && !lowerInfinite, lowerInfinite,
+                upperValue, interval.isUpperClosed() && !upperInfinite, upperInfinite
+        );
+    }
+
+    /**
+     * Returns the lower endpoint value of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the lower endpoint value, or {@link Long#MIN_VALUE} if the lower endpoint is infinite
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long getLowerValue(int index) {
+        return lowerValues[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the upper endpoint value of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the upper endpoint value, or {@link Long#MAX_VALUE} if the upper endpoint is infinite
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long getUpperValue(int index) {
+        return upperValues[Objects.checkIndex(index, size)];
+    }
+
+    @Override
+    public Bound getLowerBound(int index) {
+        Objects.checkIndex(index, size);
+        return testBit(lowerInfiniteWords, index)
+                ? ImmutableInfiniteBound.getInstance(false)
+                : new LongFiniteBound(lowerValues[index]);
+    }
+
+    @Override
+    public Bound getUpperBound(int index) {
+        Objects.checkIndex(index, size);
+        return testBit(upperInfiniteWords, index)
+                ? ImmutableInfiniteBound.getInstance(true)
+                : new LongFiniteBound(upperValues[index]);
+    }
+
+    /**
+     * Marks the intervals that contain the specified value.
+     * <p>
+     * The columns are scanned in blocks of 64 intervals. Within a block, the endpoint comparisons are
+     * accumulated into {@code long} masks without branches and then combined with the inclusivity and
+     * infinity bitsets word by word.
+     * </p>
+     *
+     * @param value the value to look up
+     * @return a new bitset in which bit {@code i} is set if the interval at position {@code i} contains {@code value}
+     */
+    public BitSet filterContaining(long value) {
+        long[] words = new long[wordCount(size)];
+        for (int word = 0; word < words.length; word++) {
+            int from = word << 6;
+            int to = Math.min(from + Long.SIZE, size);
+
+            long lowerBelow = 0;
+            long lowerEqual = 0;
+            long upperAbove = 0;
+            long upperEqual = 0;
+            for (int i = from; i < to; i++) {
+                int bit = i - from;
+                lowerBelow |= (lowerValues[i] < value ? 1L : 0L) << bit;
+                lowerEqual |= (lowerValues[i] == value ? 1L : 0L) << bit;
+                upperAbove |= (upperValues[i] > value ? 1L : 0L) << bit;
+                upperEqual |= (upperValues[i] == value ? 1L : 0L) << bit;
+            }
+
+            words[word] = (lowerBelow | lowerEqual & lowerClosedWords[word] | lowerInfiniteWords[word])
+                    & (upperAbove | upperEqual & upperClosedWords[word] | upperInfiniteWords[word]);
+        }
+
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Marks the intervals that contain the specified number.
+     * <p>
+     * Values of the integral wrapper types {@link Long}, {@link Integer}, {@link Short} and {@link Byte}
+     * are looked up with {@link #filterContaining(long)}; other values are evaluated on every interval view.
+     * </p>
+     *
+     * @param value the number to look up
+     * @return a new bitset in which bit {@code i} is set if the interval at position {@code i} contains {@code value}
+     */
+    @Override
+    public BitSet filterContaining(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return filterContaining(value.longValue());
+        }
+
+        return super.filterContaining(value);
+    }
+
+    private void append(long lowerValue, boolean lowerClosed, boolean lowerInfinite,
+                        long upperValue, boolean upperClosed, boolean upperInfinite) {
+        if (size == lowerValues.length) {
+            int capacity = grownCapacity(lowerValues.length, size + 1);
+            lowerValues = Arrays.copyOf(lowerValues, capacity);
+            upperValues = Arrays.copyOf(upperValues, capacity);
+        }
+
+        ensureFlagCapacity(size + 1);
+
+        lowerValues[size] = lowerValue;
+        upperValues[size] = upperValue;
+        setFlags(size, lowerClosed, upperClosed, lowerInfinite, upperInfinite);
+        size++;
+    }
+
+    /**
+     * Determines whether an endpoint is infinite, verifying that its sign matches its position.
+     */
+    static boolean isInfinite(Bound bound, boolean isUpper) {
+        if (bound.isFinite()) {
+            return false;
+        }
+
+        if (!(bound instanceof InfiniteBound infiniteBound) || infiniteBound.isPositive() != isUpper) {
+            throw new IllegalArgumentException(String.format(
+                    "Bound %s cannot be stored as the %s endpoint", bound, isUpper ? "upper" : "lower"
+            ));
+        }
+
+        return true;
+    }
+
+    private static long toLong(Bound bound) {
+        if (bound instanceof LongFiniteBound longBound) {
+            return longBound.longValue();
+        }
+
+        Number value = ((FiniteBound<?>) bound).getValue();
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.longValue();
+        }
+
+        try {
+            if (value instanceof BigInteger bigInteger) {
+                return bigInteger.longValueExact();
+            }
+
+            if (value instanceof BigDecimal bigDecimal) {
+                return bigDecimal.longValueExact();
+            }
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(String.format("Bound %s cannot be represented as a long value", bound), e);
+        }
+
+        double doubleValue = value.doubleValue();
+        if ((value instanceof Double || value instanceof Float)
+                && doubleValue == Math.rint(doubleValue) && doubleValue >= -0x1p63 && doubleValue < 0x1p63) {
+            return (long) doubleValue;
+        }
+
+        throw new IllegalArgumentException(String.format("Bound %s cannot be represented as a long value", bound));
+    }
+}
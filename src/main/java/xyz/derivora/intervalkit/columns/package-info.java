@@ -0,0 +1,39 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides columnar storage for large collections of intervals.
+ * <p>
+ * Columnar containers keep interval endpoints in primitive arrays and their inclusivity and infinity in
+ * bitsets, avoiding an object per interval and per boundary. Boundaries and intervals are exposed as
+ * views created on demand.
+ * </p>
+ *
+ * <h2>Key Components:</h2>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.columns.IntervalColumns} -
+ *         The base container with flyweight views and bulk operations.</li>
+ *     <li>{@link xyz.derivora.intervalkit.columns.LongIntervalColumns} -
+ *         Columns storing endpoints as {@code long} values.</li>
+ *     <li>{@link xyz.derivora.intervalkit.columns.DoubleIntervalColumns} -
+ *         Columns storing endpoints as {@code double} values.</li>
+ * </ul>
+ *
+ * @see xyz.derivora.intervalkit.columns.IntervalColumns
+ * @see xyz.derivora.intervalkit.intervals.Interval
+ */
+package xyz.derivora.intervalkit.columns;
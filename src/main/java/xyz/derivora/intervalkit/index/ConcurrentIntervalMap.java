@@ -0,0 +1,475 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.index;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.util.AbstractMap;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * A thread-safe map from pairwise non-overlapping intervals to values, designed for many concurrent writers.
+ * <p>
+ * Intervals are kept in a {@link ConcurrentSkipListMap} ordered by their lower endpoints, as defined by
+ * {@link IntervalComparator#compareLowerEndpoints(Interval, Interval)}. No lock is held across the map:
+ * {@link #putIfNoOverlap(Interval, Object)} first publishes its interval as a <em>pending</em> entry, then
+ * inspects the neighbouring entries that may overlap it and finally commits the entry with a single
+ * compare-and-set. Two pending entries that overlap each other are resolved by the order in which their
+ * insertions started: the earlier insertion aborts the later one, while the later insertion waits until the
+ * earlier one is committed or aborted. This wait is bounded by a fixed number of spins: if the earlier entry
+ * is still pending by then, its thread is presumed to be stalled, for example descheduled, and the waiting
+ * insertion aborts it instead. An insertion whose entry was aborted by another thread starts over with a new
+ * ticket, so no insertion ever waits indefinitely for another thread. Pending and aborted entries are never
+ * visible to lookups.
+ * </p>
+ *
+ * <p>
+ * As a result, the map never contains two overlapping intervals, and every operation is atomic with respect
+ * to the others: {@link #putIfNoOverlap(Interval, Object)} either inserts its interval or reports an overlapping
+ * interval that was committed at some point during the call. Point lookups and overlap queries only traverse the
+ * skip list and never wait. Queries returning streams are weakly consistent, like the views of
+ * {@link ConcurrentSkipListMap}.
+ * </p>
+ *
+ * <p>
+ * Endpoints are compared with {@link BoundComparator}, so intervals with infinite endpoints are supported.
+ * Empty intervals cannot be stored, since they never overlap and could not be distinguished by lookups.
+ * </p>
+ *
+ * @param <V> the type of the mapped values
+ * @see Interval
+ * @see IntervalComparator
+ */
+public final class ConcurrentIntervalMap<V> {
+
+    /**
+     * The state of an entry whose insertion is still checking for overlaps.
+     */
+    private static final int PENDING = 0;
+
+    /**
+     * The state of an entry that belongs to the map.
+     */
+    private static final int COMMITTED = 1;
+
+    /**
+     * The state of an entry whose insertion failed.
+     */
+    private static final int ABORTED = 2;
+
+    /**
+     * The number of spins an insertion waits for an earlier overlapping insertion before aborting it.
+     */
+    private static final int SPIN_LIMIT = 1 << 10;
+
+    /**
+     * The order of the skip list keys, comparing only the lower endpoints of the intervals.
+     */
+    private static final Comparator<Interval> LOWER_ENDPOINT_ORDER = IntervalComparator::compareLowerEndpoints;
+
+    /**
+     * The entries of this map, keyed by their intervals.
+     */
+    private final ConcurrentSkipListMap<Interval, Entry<V>> entries = new ConcurrentSkipListMap<>(LOWER_ENDPOINT_ORDER);
+
+    /**
+     * The source of tickets ordering concurrent insertions.
+     */
+    private final AtomicLong tickets = new AtomicLong();
+
+    /**
+     * The number of committed entries.
+     */
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Constructs an empty map.
+     */
+    public ConcurrentIntervalMap() {
+    }
+
+    /**
+     * Returns the number of intervals in this map.
+     * <p>
+     * While the map is modified concurrently, the result is an estimate.
+     * </p>
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Determines whether this map contains no intervals.
+     *
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size.sum() == 0;
+    }
+
+    /**
+     * Associates the specified value with the specified interval, unless the interval overlaps an interval
+     * already in this map.
+     *
+     * @param interval the interval to insert
+     * @param value    the value to associate with {@code interval}
+     * @return {@code true} if the interval was inserted, {@code false} if it overlaps an interval of this map
+     * @throws NullPointerException        if {@code interval} or {@code value} is {@code null}
+     * @throws IllegalArgumentException    if {@code interval} is empty
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     * @see Interval#overlaps(Interval)
+     */
+    public boolean putIfNoOverlap(Interval interval, V value) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if (interval.isEmpty()) {
+            throw new IllegalArgumentException(String.format("Cannot insert empty interval %s", interval));
+        }
+
+        while (true) {
+            Entry<V> entry = new Entry<>(interval, value, tickets.getAndIncrement());
+            boolean committed = false;
+            boolean abortedByOther = false;
+            try {
+                committed = publish(entry)
+                        && !conflictsBelow(entry)
+                        && !conflictsAbove(entry)
+                        && entry.state.compareAndSet(PENDING, COMMITTED);
+            } finally {
+                if (committed) {
+                    size.increment();
+                } else {
+                    abortedByOther = entry.state.getAndSet(ABORTED) == ABORTED;
+                    entries.remove(interval, entry);
+                }
+            }
+
+            if (!abortedByOther) {
+                return committed;
+            }
+        }
+    }
+
+    /**
+     * Removes the specified interval from this map.
+     * <p>
+     * Only an interval with the same endpoints and inclusivity as {@code interval} is removed.
+     * </p>
+     *
+     * @param interval the interval to remove
+     * @return the value associated with the removed interval, or {@code null} if the map contains no such interval
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public V remove(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        Entry<V> entry = entries.get(interval);
+        if (entry == null
+                || entry.state.get() != COMMITTED
+                || IntervalComparator.compareUpperEndpoints(entry.interval, interval) != 0
+                || !entries.remove(entry.interval, entry)) {
+            return null;
+        }
+
+        size.decrement();
+        return entry.value;
+    }
+
+    /**
+     * Returns the value associated with the interval containing the specified number.
+     *
+     * @param value the number to look up
+     * @return the value of the interval containing {@code value}, or {@code null} if there is none
+     * @throws NullPointerException        if {@code value} is {@code null}
+     * @throws ClassCastException          if {@code value} does not implement {@code Comparable<T>}
+     *                                     for its own type, as required by {@link BoundFactory#getFiniteBound(Number)}
+     * @throws IncomparableBoundsException if {@code value} cannot be compared with the endpoints
+     */
+    public V get(Number value) {
+        Entry<V> entry = findContaining(value);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Returns the interval containing the specified number together with its value.
+     * <p>
+     * Infinite and {@code NaN} floating-point values are not contained in any interval.
+     * </p>
+     *
+     * @param value the number to look up
+     * @return an immutable entry of the interval containing {@code value} and its value,
+     * or {@code null} if there is none
+     * @throws NullPointerException        if {@code value} is {@code null}
+     * @throws ClassCastException          if {@code value} does not implement {@code Comparable<T>}
+     *                                     for its own type, as required by {@link BoundFactory#getFiniteBound(Number)}
+     * @throws IncomparableBoundsException if {@code value} cannot be compared with the endpoints
+     */
+    public Map.Entry<Interval, V> entryContaining(Number value) {
+        Entry<V> entry = findContaining(value);
+        return entry == null ? null : entry.toMapEntry();
+    }
+
+    /**
+     * Determines whether any interval of this map overlaps the specified interval.
+     *
+     * @param interval the interval to check
+     * @return {@code true} if an interval of this map overlaps {@code interval}, {@code false} otherwise
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public boolean overlaps(Interval interval) {
+        return overlapping(interval).findAny().isPresent();
+    }
+
+    /**
+     * Returns the intervals of this map that overlap the specified interval, together with their values.
+     *
+     * @param interval the interval to look up
+     * @return a sequential stream of immutable entries, in ascending order of the intervals
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     * @see Interval#overlaps(Interval)
+     */
+    public Stream<Map.Entry<Interval, V>> overlapping(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        if (interval.isEmpty()) {
+            return Stream.empty();
+        }
+
+        Entry<V> floor = committedFloor(interval);
+        Interval from = floor == null ? interval : floor.interval;
+
+        return entries.tailMap(from, true).values().stream()
+                .takeWhile(entry -> IntervalComparator.isLowerBeforeUpper(
+                        entry.interval.getLowerBound(), entry.interval.isLowerClosed(),
+                        interval.getUpperBound(), interval.isUpperClosed()
+                ))
+                .filter(entry -> entry.state.get() == COMMITTED && entry.interval.overlaps(interval))
+                .map(Entry::toMapEntry);
+    }
+
+    /**
+     * Returns all intervals of this map together with their values.
+     *
+     * @return a sequential stream of immutable entries, in ascending order of the intervals
+     */
+    public Stream<Map.Entry<Interval, V>> stream() {
+        return entries.values().stream()
+                .filter(entry -> entry.state.get() == COMMITTED)
+                .map(Entry::toMapEntry);
+    }
+
+    /**
+     * Inserts a pending entry into the skip list, resolving a conflict with an entry of the same lower endpoint.
+     *
+     * @param entry the pending entry
+     * @return {@code true} if the entry was inserted, {@code false} if it must be aborted
+     */
+    private boolean publish(Entry<V> entry) {
+        while (true) {
+            Entry<V> existing = entries.putIfAbsent(entry.interval, entry);
+            if (existing == null) {
+                return true;
+            }
+
+            if (!defeats(entry, existing)) {
+                return false;
+            }
+
+            entries.remove(existing.interval, existing);
+        }
+    }
+
+    /**
+     * Checks the entries starting before a pending entry for overlaps.
+     * <p>
+     * Committed intervals are disjoint, so the nearest committed entry below is the only one that may overlap;
+     * any entry further below that overlaps the pending entry also overlaps the nearest committed entry and
+     * therefore cannot be committed itself. Pending entries up to the nearest committed entry are resolved.
+     * </p>
+     *
+     * @param entry the pending entry
+     * @return {@code true} if the entry overlaps an entry that cannot be aborted, {@code false} otherwise
+     */
+    private boolean conflictsBelow(Entry<V> entry) {
+        for (Entry<V> other : entries.headMap(entry.interval, false).descendingMap().values()) {
+            int state = other.state.get();
+            if (state == COMMITTED) {
+                return other.interval.overlaps(entry.interval);
+            }
+
+            if (state == PENDING && other.interval.overlaps(entry.interval) && !defeats(entry, other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks the entries starting within a pending entry for overlaps.
+     *
+     * @param entry the pending entry
+     * @return {@code true} if the entry overlaps an entry that cannot be aborted, {@code false} otherwise
+     */
+    private boolean conflictsAbove(Entry<V> entry) {
+        Bound upperBound = entry.interval.getUpperBound();
+        boolean upperClosed = entry.interval.isUpperClosed();
+
+        for (Entry<V> other : entries.tailMap(entry.interval, false).values()) {
+            Interval interval = other.interval;
+            if (!IntervalComparator.isLowerBeforeUpper(
+                    interval.getLowerBound(), interval.isLowerClosed(), upperBound, upperClosed)) {
+                return false;
+            }
+
+            if (!defeats(entry, other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolves an overlap between a pending entry and another entry.
+     * <p>
+     * An aborted entry is ignored and a committed entry wins. A pending entry whose insertion started later
+     * is aborted, while a pending entry whose insertion started earlier is awaited for at most
+     * {@link #SPIN_LIMIT} spins and then aborted as well, so that a stalled insertion cannot hold up others.
+     * </p>
+     *
+     * @param entry the pending entry
+     * @param other the overlapping entry
+     * @return {@code true} if {@code other} is aborted, {@code false} if it is committed or {@code entry}
+     * has been aborted in the meantime
+     */
+    private static <V> boolean defeats(Entry<V> entry, Entry<V> other) {
+        for (int spins = 0; ; spins++) {
+            int state = other.state.get();
+            if (state == ABORTED) {
+                return true;
+            }
+
+            if (state == COMMITTED || entry.state.get() == ABORTED) {
+                return false;
+            }
+
+            if (other.ticket > entry.ticket || spins >= SPIN_LIMIT) {
+                if (other.state.compareAndSet(PENDING, ABORTED)) {
+                    return true;
+                }
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Finds the committed entry containing the specified number.
+     *
+     * @param value the number to look up
+     * @return the entry containing {@code value}, or {@code null} if there is none
+     * @throws ClassCastException if {@code value} does not implement {@code Comparable<T>} for its own type
+     */
+    private Entry<V> findContaining(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+            return null;
+        }
+
+        Bound bound = BoundFactory.immutable().getFiniteBound(value);
+        Entry<V> entry = committedFloor(ImmutableInterval.closed(bound, bound));
+        return entry != null && entry.interval.contains(value) ? entry : null;
+    }
+
+    /**
+     * Finds the committed entry with the greatest lower endpoint not after the lower endpoint of an interval.
+     *
+     * @param interval the interval whose lower endpoint is looked up
+     * @return the committed entry, or {@code null} if there is none
+     */
+    private Entry<V> committedFloor(Interval interval) {
+        for (Entry<V> entry : entries.headMap(interval, true).descendingMap().values()) {
+            if (entry.state.get() == COMMITTED) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * An interval with its value and the state of its insertion.
+     *
+     * @param <V> the type of the value
+     */
+    private static final class Entry<V> {
+
+        /**
+         * The interval of the entry.
+         */
+        private final Interval interval;
+
+        /**
+         * The value associated with the interval.
+         */
+        private final V value;
+
+        /**
+         * The ticket ordering the insertion of this entry among concurrent insertions.
+         */
+        private final long ticket;
+
+        /**
+         * The state of the entry: {@link #PENDING}, {@link #COMMITTED} or {@link #ABORTED}.
+         */
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        private Entry(Interval interval, V value, long ticket) {
+            this.interval = interval;
+            this.value = value;
+            this.ticket = ticket;
+        }
+
+        /**
+         * Returns an immutable view of the interval and value of this entry.
+         *
+         * @return a new immutable map entry
+         */
+        private Map.Entry<Interval, V> toMapEntry() {
+            return new AbstractMap.SimpleImmutableEntry<>(interval, value);
+        }
+    }
+}
@@ -0,0 +1,679 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.index;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+import xyz.derivora.intervalkit.sort.SortKeyEncoding;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable interval index answering point (stabbing) queries, stored in an implicit array layout.
+ * <p>
+ * The intervals are sorted by {@link IntervalComparator} and arranged in Eytzinger order: the root of a
+ * balanced binary search tree is stored at position {@code 1}, and the children of the node at position
+ * {@code k} at positions {@code 2k} and {@code 2k + 1}. The tree has no pointers, and the nodes visited
+ * first by every query are stored next to each other at the start of the arrays, where they stay in the
+ * processor caches across queries. Every node is augmented with the greatest upper endpoint in its subtree,
+ * so {@link #containing(Number)} skips subtrees ending before the query and stops at the first interval
+ * starting after it, in {@code O(log n + k log(n / k))}, where {@code k} is the number of reported intervals,
+ * and in {@code O(min(n, k log n))} in the worst case.
+ * </p>
+ *
+ * <p>
+ * Endpoints are stored in parallel arrays in tree order, so a query compares endpoints without reading the
+ * interval objects. If every endpoint is infinite or an integral value of type {@link Long}, {@link Integer},
+ * {@link Short} or {@link Byte}, the endpoints are additionally stored as closed {@code long} keys, and queries
+ * for integral values compare primitives only. Otherwise, if every endpoint can be encoded with
+ * {@link SortKeyEncoding#DOUBLE}, the endpoints are stored as order-preserving {@code long} keys of their
+ * {@code double} values. Queries for values of the standard numeric types are then translated into the nearest
+ * key and a residual telling whether the value lies slightly below or above it, and compare primitives only as
+ * well. Other queries, and indexes with {@link BigDecimal} or custom endpoints, compare endpoints with
+ * {@link BoundComparator}.
+ * </p>
+ *
+ * <p>
+ * This class is immutable and safe for concurrent queries.
+ * </p>
+ *
+ * @param <I> the type of the indexed intervals
+ * @see IntervalTree
+ * @see IntervalComparator
+ */
+public final class EytzingerIntervalIndex<I extends Interval> {
+
+    /**
+     * The flag bit indicating that the lower endpoint of an interval is closed.
+     */
+    private static final byte LOWER_CLOSED = 1;
+
+    /**
+     * The flag bit indicating that the upper endpoint of an interval is closed.
+     */
+    private static final byte UPPER_CLOSED = 1 << 1;
+
+    /**
+     * The flag bit indicating that the greatest upper endpoint in the subtree of a node is closed.
+     */
+    private static final byte MAX_UPPER_CLOSED = 1 << 2;
+
+    /**
+     * The maximum number of nodes on a path from the root to a leaf.
+     */
+    private static final int MAX_DEPTH = Integer.SIZE;
+
+    /**
+     * The number of indexed intervals.
+     */
+    private final int size;
+
+    /**
+     * The intervals in tree order, starting at position {@code 1}.
+     */
+    private final I[] intervals;
+
+    /**
+     * The lower endpoints of the intervals, in tree order.
+     */
+    private final Bound[] lowerBounds;
+
+    /**
+     * The upper endpoints of the intervals, in tree order.
+     */
+    private final Bound[] upperBounds;
+
+    /**
+     * The greatest upper endpoint in the subtree of every node, in tree order.
+     */
+    private final Bound[] maxUpperBounds;
+
+    /**
+     * The inclusivity flags of the endpoints, in tree order.
+     */
+    private final byte[] flags;
+
+    /**
+     * The kind of the endpoint keys, or {@code null} if the endpoints cannot be represented as keys.
+     */
+    private final KeyType keyType;
+
+    /**
+     * The keys of the lower endpoints, in tree order, or {@code null} if there are no keys.
+     */
+    private final long[] lowerKeys;
+
+    /**
+     * The keys of the upper endpoints, in tree order, or {@code null} if there are no keys.
+     */
+    private final long[] upperKeys;
+
+    /**
+     * The keys of the greatest upper endpoint in the subtree of every node, in tree order, or {@code null}
+     * if there are no keys.
+     */
+    private final long[] maxUpperKeys;
+
+    private EytzingerIntervalIndex(I[] sortedIntervals) {
+        size = sortedIntervals.length;
+        intervals = Arrays.copyOf(sortedIntervals, size + 1);
+        lowerBounds = new Bound[size + 1];
+        upperBounds = new Bound[size + 1];
+        maxUpperBounds = new Bound[size + 1];
+        flags = new byte[size + 1];
+
+        if (size > 0) {
+            arrange(sortedIntervals, 0, 1);
+        }
+
+        for (int node = size; node >= 1; node--) {
+            Interval interval = intervals[node];
+            lowerBounds[node] = interval.getLowerBound();
+            upperBounds[node] = interval.getUpperBound();
+            flags[node] = (byte) ((interval.isLowerClosed() ? LOWER_CLOSED : 0)
+                    | (interval.isUpperClosed() ? UPPER_CLOSED | MAX_UPPER_CLOSED : 0));
+            maxUpperBounds[node] = upperBounds[node];
+            if (hasChild(node, 0)) {
+                raiseMaxUpper(node, 2 * node);
+            }
+            if (hasChild(node, 1)) {
+                raiseMaxUpper(node, 2 * node + 1);
+            }
+        }
+
+        long[][] keys = integralKeys();
+        if (keys != null) {
+            keyType = KeyType.INTEGRAL;
+        } else {
+            keys = floatingPointKeys();
+            keyType = keys == null ? null : KeyType.FLOATING_POINT;
+        }
+        lowerKeys = keys == null ? null : keys[0];
+        upperKeys = keys == null ? null : keys[1];
+        maxUpperKeys = keys == null ? null : keys[2];
+    }
+
+    /**
+     * Creates an index from intervals sorted by {@link IntervalComparator}.
+     * <p>
+     * The index is built in {@code O(n)}. The order of the array is verified before building.
+     * </p>
+     *
+     * @param intervals the intervals to index, sorted by {@link IntervalComparator}
+     * @param <I>       the type of the indexed intervals
+     * @return a new index containing all given intervals
+     * @throws NullPointerException        if {@code intervals} or any of its elements is {@code null}
+     * @throws IllegalArgumentException    if the intervals are not sorted
+     * @throws IncomparableBoundsException if the endpoints of the intervals cannot be compared
+     */
+    public static <I extends Interval> EytzingerIntervalIndex<I> ofSorted(I[] intervals) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+
+        IntervalComparator comparator = IntervalComparator.getInstance();
+        for (int i = 0; i < intervals.length; i++) {
+            Objects.requireNonNull(intervals[i], "Interval cannot be null");
+            if (i > 0 && comparator.compare(intervals[i - 1], intervals[i]) > 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Intervals are not sorted: %s is followed by %s", intervals[i - 1], intervals[i]
+                ));
+            }
+        }
+
+        return new EytzingerIntervalIndex<>(intervals);
+    }
+
+    /**
+     * Creates an index from intervals in any order.
+     * <p>
+     * The intervals are copied into an array and sorted before the index is built with {@link #ofSorted(Interval[])}.
+     * </p>
+     *
+     * @param intervals the intervals to index
+     * @param <I>       the type of the indexed intervals
+     * @return a new index containing all given intervals
+     * @throws NullPointerException        if {@code intervals} or any of its elements is {@code null}
+     * @throws IncomparableBoundsException if the endpoints of the intervals cannot be compared
+     */
+    @SuppressWarnings("unchecked")
+    public static <I extends Interval> EytzingerIntervalIndex<I> of(Collection<? extends I> intervals) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+
+        I[] sortedIntervals = (I[]) intervals.toArray(new Interval[0]);
+        Arrays.sort(sortedIntervals, IntervalComparator.getInstance());
+
+        return ofSorted(sortedIntervals);
+    }
+
+    /**
+     * Returns the number of intervals in this index.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether this index contains no intervals.
+     *
+     * @return {@code true} if the index is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the intervals of this index that contain the specified number.
+     * <p>
+     * Infinite and {@code NaN} floating-point values are not contained in any interval, so the resulting
+     * stream is empty for them.
+     * </p>
+     *
+     * @param value the number to look up
+     * @return a sequential stream of the intervals containing {@code value}, in the order of {@link IntervalComparator}
+     * @throws NullPointerException        if {@code value} is {@code null}
+     * @throws IncomparableBoundsException if {@code value} cannot be compared with the endpoints while the
+     *                                     stream is consumed
+     */
+    public Stream<I> containing(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+            return Stream.empty();
+        }
+
+        Query query;
+        Probe probe = keyType == KeyType.FLOATING_POINT ? toProbe(value) : null;
+        if (keyType == KeyType.INTEGRAL && isIntegral(value)) {
+            long key = value.longValue();
+            query = new Query() {
+                @Override
+                boolean reaches(int node) {
+                    return maxUpperKeys[node] >= key;
+                }
+
+                @Override
+                boolean startsAfter(int node) {
+                    return lowerKeys[node] > key;
+                }
+
+                @Override
+                boolean endsBefore(int node) {
+                    return upperKeys[node] < key;
+                }
+            };
+        } else if (probe != null) {
+            query = new Query() {
+                @Override
+                boolean reaches(int node) {
+                    int result = probe.compareKey(maxUpperKeys[node]);
+                    return result > 0 || result == 0 && (flags[node] & MAX_UPPER_CLOSED) != 0;
+                }
+
+                @Override
+                boolean startsAfter(int node) {
+                    int result = probe.compareKey(lowerKeys[node]);
+                    return result > 0 || result == 0 && (flags[node] & LOWER_CLOSED) == 0;
+                }
+
+                @Override
+                boolean endsBefore(int node) {
+                    int result = probe.compareKey(upperKeys[node]);
+                    return result < 0 || result == 0 && (flags[node] & UPPER_CLOSED) == 0;
+                }
+            };
+        } else {
+            BoundComparator comparator = BoundComparator.getInstance();
+            query = new Query() {
+                @Override
+                boolean reaches(int node) {
+                    int result = comparator.compareToValue(maxUpperBounds[node], value);
+                    return result > 0 || result == 0 && (flags[node] & MAX_UPPER_CLOSED) != 0;
+                }
+
+                @Override
+                boolean startsAfter(int node) {
+                    int result = comparator.compareToValue(lowerBounds[node], value);
+                    return result > 0 || result == 0 && (flags[node] & LOWER_CLOSED) == 0;
+                }
+
+                @Override
+                boolean endsBefore(int node) {
+                    int result = comparator.compareToValue(upperBounds[node], value);
+                    return result < 0 || result == 0 && (flags[node] & UPPER_CLOSED) == 0;
+                }
+            };
+        }
+
+        return size == 0 ? Stream.empty() : StreamSupport.stream(new QuerySpliterator(query), false);
+    }
+
+    /**
+     * Determines whether a node has the given child.
+     *
+     * @param node  the position of the node
+     * @param right {@code 0} for the left child, {@code 1} for the right child
+     * @return {@code true} if the child position is within the tree, {@code false} otherwise
+     */
+    private boolean hasChild(int node, int right) {
+        long child = 2L * node + right;
+        return child <= size;
+    }
+
+    /**
+     * Stores the sorted intervals at their positions in tree order, by an in-order traversal of the implicit tree.
+     *
+     * @param sortedIntervals the sorted intervals
+     * @param next            the index of the next sorted interval to store
+     * @param node            the position of the subtree root
+     * @return the index of the next sorted interval after the subtree
+     */
+    private int arrange(I[] sortedIntervals, int next, int node) {
+        if (hasChild(node, 0)) {
+            next = arrange(sortedIntervals, next, 2 * node);
+        }
+        intervals[node] = sortedIntervals[next++];
+        if (hasChild(node, 1)) {
+            next = arrange(sortedIntervals, next, 2 * node + 1);
+        }
+        return next;
+    }
+
+    /**
+     * Raises the greatest upper endpoint of a node to the one of its child, if the child's is greater.
+     *
+     * @param node  the position of the node
+     * @param child the position of a child of the node
+     */
+    private void raiseMaxUpper(int node, int child) {
+        boolean childClosed = (flags[child] & MAX_UPPER_CLOSED) != 0;
+        boolean nodeClosed = (flags[node] & MAX_UPPER_CLOSED) != 0;
+        if (IntervalComparator.compareUpperEndpoints(maxUpperBounds[child], childClosed, maxUpperBounds[node], nodeClosed) > 0) {
+            maxUpperBounds[node] = maxUpperBounds[child];
+            flags[node] = (byte) (childClosed ? flags[node] | MAX_UPPER_CLOSED : flags[node] & ~MAX_UPPER_CLOSED);
+        }
+    }
+
+    /**
+     * Computes the closed integral keys of the endpoints.
+     * <p>
+     * An open integral endpoint is replaced by the adjacent closed one, and infinite endpoints by the extreme
+     * {@code long} values, so an integral value is contained exactly if it lies between the keys of an interval.
+     * This is only possible if every endpoint is integral or infinite, and no open endpoint lies at the edge
+     * of the {@code long} range.
+     * </p>
+     *
+     * @return the lower keys, the upper keys and the greatest upper keys of the subtrees, in tree order,
+     * or {@code null} if the endpoints cannot be represented as keys
+     */
+    private long[][] integralKeys() {
+        long[] lower = new long[size + 1];
+        long[] upper = new long[size + 1];
+        for (int node = 1; node <= size; node++) {
+            Bound lowerBound = lowerBounds[node];
+            Bound upperBound = upperBounds[node];
+            if (!isIntegralOrInfinite(lowerBound) || !isIntegralOrInfinite(upperBound)) {
+                return null;
+            }
+
+            long lowerKey = lowerBound.isInfinite() ? Long.MIN_VALUE : longValue(lowerBound);
+            boolean lowerOpen = !lowerBound.isInfinite() && (flags[node] & LOWER_CLOSED) == 0;
+            if (lowerOpen && lowerKey == Long.MAX_VALUE) {
+                return null;
+            }
+            lower[node] = lowerOpen ? lowerKey + 1 : lowerKey;
+
+            long upperKey = upperBound.isInfinite() ? Long.MAX_VALUE : longValue(upperBound);
+            boolean upperOpen = !upperBound.isInfinite() && (flags[node] & UPPER_CLOSED) == 0;
+            if (upperOpen && upperKey == Long.MIN_VALUE) {
+                return null;
+            }
+            upper[node] = upperOpen ? upperKey - 1 : upperKey;
+        }
+
+        long[] maxUpper = upper.clone();
+        for (int node = size; node >= 1; node--) {
+            if (hasChild(node, 0)) {
+                maxUpper[node] = Math.max(maxUpper[node], maxUpper[2 * node]);
+            }
+            if (hasChild(node, 1)) {
+                maxUpper[node] = Math.max(maxUpper[node], maxUpper[2 * node + 1]);
+            }
+        }
+
+        return new long[][]{lower, upper, maxUpper};
+    }
+
+    /**
+     * Computes the floating-point keys of the endpoints.
+     * <p>
+     * Every endpoint is mapped to the key of {@link SortKeyEncoding#DOUBLE}, with the sign bit flipped so that
+     * keys compare as signed {@code long} values. Unlike the integral keys, open endpoints keep their value, since
+     * a query value may lie between two adjacent {@code double} values; the inclusivity flags decide ties.
+     * </p>
+     *
+     * @return the lower keys, the upper keys and the greatest upper keys of the subtrees, in tree order,
+     * or {@code null} if an endpoint cannot be encoded
+     */
+    private long[][] floatingPointKeys() {
+        long[] lower = new long[size + 1];
+        long[] upper = new long[size + 1];
+        long[] maxUpper = new long[size + 1];
+        for (int node = 1; node <= size; node++) {
+            if (!SortKeyEncoding.DOUBLE.canEncode(lowerBounds[node])
+                    || !SortKeyEncoding.DOUBLE.canEncode(upperBounds[node])) {
+                return null;
+            }
+
+            lower[node] = SortKeyEncoding.DOUBLE.encode(lowerBounds[node]) ^ Long.MIN_VALUE;
+            upper[node] = SortKeyEncoding.DOUBLE.encode(upperBounds[node]) ^ Long.MIN_VALUE;
+            maxUpper[node] = SortKeyEncoding.DOUBLE.encode(maxUpperBounds[node]) ^ Long.MIN_VALUE;
+        }
+
+        return new long[][]{lower, upper, maxUpper};
+    }
+
+    /**
+     * Translates a finite query value into the key space of the floating-point keys.
+     *
+     * @param value the finite query value
+     * @return the probe, or {@code null} if the value is not of a standard numeric type
+     */
+    private static Probe toProbe(Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            return new Probe(sortableKey(value.doubleValue()), 0);
+        }
+
+        if (isIntegral(value)) {
+            long longValue = value.longValue();
+            double doubleValue = (double) longValue;
+            int residual = doubleValue == 0x1p63 ? -1 : Long.compare(longValue, (long) doubleValue);
+            return new Probe(sortableKey(doubleValue), residual);
+        }
+
+        BigDecimal decimal;
+        if (value instanceof BigDecimal bigDecimal) {
+            decimal = bigDecimal;
+        } else if (value instanceof BigInteger bigInteger) {
+            decimal = new BigDecimal(bigInteger);
+        } else {
+            return null;
+        }
+
+        double doubleValue = decimal.doubleValue();
+        if (Double.isInfinite(doubleValue)) {
+            return doubleValue > 0
+                    ? new Probe(sortableKey(Double.MAX_VALUE), 1)
+                    : new Probe(sortableKey(-Double.MAX_VALUE), -1);
+        }
+        return new Probe(sortableKey(doubleValue), Integer.signum(decimal.compareTo(new BigDecimal(doubleValue))));
+    }
+
+    /**
+     * Maps a {@code double} to a {@code long} whose signed order equals the numeric order of the values.
+     * <p>
+     * Negative zero is mapped like positive zero, consistently with {@link SortKeyEncoding#DOUBLE}.
+     * </p>
+     *
+     * @param value the value
+     * @return the sortable key
+     */
+    private static long sortableKey(double value) {
+        long bits = Double.doubleToRawLongBits(value == 0.0 ? 0.0 : value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Determines whether a boundary is infinite or has an integral value that fits into a {@code long}.
+     *
+     * @param bound the boundary to check
+     * @return {@code true} if the boundary can be represented as a {@code long} key, {@code false} otherwise
+     */
+    private static boolean isIntegralOrInfinite(Bound bound) {
+        return bound.isInfinite()
+                || bound instanceof LongFiniteBound
+                || bound instanceof IntFiniteBound
+                || bound instanceof FiniteBound<?> finiteBound && isIntegral(finiteBound.getValue());
+    }
+
+    /**
+     * Determines whether a number is of a standard integral type.
+     *
+     * @param value the number to check
+     * @return {@code true} if {@code value} is a {@link Long}, {@link Integer}, {@link Short} or {@link Byte}
+     */
+    private static boolean isIntegral(Number value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Returns the value of a finite integral boundary, without boxing primitive-backed boundaries.
+     *
+     * @param bound the finite integral boundary
+     * @return the value of the boundary
+     */
+    private static long longValue(Bound bound) {
+        if (bound instanceof LongFiniteBound longBound) {
+            return longBound.longValue();
+        }
+
+        if (bound instanceof IntFiniteBound intBound) {
+            return intBound.intValue();
+        }
+
+        return ((FiniteBound<?>) bound).getValue().longValue();
+    }
+
+    /**
+     * The kinds of endpoint keys.
+     */
+    private enum KeyType {
+
+        /**
+         * Closed integral keys, with open endpoints replaced by the adjacent closed ones.
+         */
+        INTEGRAL,
+
+        /**
+         * Order-preserving keys of the {@code double} values of the endpoints, with inclusivity kept in the flags.
+         */
+        FLOATING_POINT
+    }
+
+    /**
+     * A query value translated into the key space of the floating-point keys.
+     * <p>
+     * Values that have no exact key are represented by the nearest key and a residual telling whether
+     * the value lies slightly below ({@code -1}) or slightly above ({@code 1}) that key, so that they
+     * compare correctly with every stored key.
+     * </p>
+     *
+     * @param key      the nearest key
+     * @param residual {@code -1}, {@code 0} or {@code 1} as the value is below, at or above {@code key}
+     */
+    private record Probe(long key, int residual) {
+
+        /**
+         * Compares a stored key with the value of this probe.
+         *
+         * @param storedKey the stored key
+         * @return a negative integer, zero, or a positive integer as {@code storedKey} is less than,
+         * equal to, or greater than the value of this probe
+         */
+        int compareKey(long storedKey) {
+            return storedKey != key ? Long.compare(storedKey, key) : -residual;
+        }
+    }
+
+    /**
+     * A stabbing query over the nodes of the tree.
+     * <p>
+     * The pruning conditions must be monotone: if {@link #startsAfter(int)} holds for a node, it holds for
+     * every node after it in the order of {@link IntervalComparator}.
+     * </p>
+     */
+    private abstract static class Query {
+
+        /**
+         * Determines whether the subtree of the given node may contain the value.
+         */
+        abstract boolean reaches(int node);
+
+        /**
+         * Determines whether the interval of the given node, and therefore every interval after it, starts after the value.
+         */
+        abstract boolean startsAfter(int node);
+
+        /**
+         * Determines whether the interval of the given node ends before the value.
+         */
+        abstract boolean endsBefore(int node);
+    }
+
+    /**
+     * A spliterator traversing the implicit tree in order, pruning subtrees that cannot contain the value.
+     * <p>
+     * The pending nodes are kept as positions in a fixed-size stack, since the depth of the tree is bounded
+     * by the number of bits of a position.
+     * </p>
+     */
+    private final class QuerySpliterator extends Spliterators.AbstractSpliterator<I> {
+
+        private final Query query;
+
+        private final int[] stack = new int[MAX_DEPTH];
+
+        private int depth;
+
+        private QuerySpliterator(Query query) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            this.query = query;
+            pushLeftPath(1);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super I> action) {
+            Objects.requireNonNull(action, "Action cannot be null");
+
+            while (depth > 0) {
+                int node = stack[--depth];
+
+                if (query.startsAfter(node)) {
+                    depth = 0;
+                    return false;
+                }
+
+                if (hasChild(node, 1)) {
+                    pushLeftPath(2 * node + 1);
+                }
+
+                if (!query.endsBefore(node)) {
+                    action.accept(intervals[node]);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void pushLeftPath(int node) {
+            while (query.reaches(node)) {
+                stack[depth++] = node;
+                if (!hasChild(node, 0)) {
+                    return;
+                }
+                node = 2 * node;
+            }
+        }
+    }
+}
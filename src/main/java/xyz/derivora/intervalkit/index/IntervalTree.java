@@ -0,0 +1,574 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.index;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An augmented interval tree answering point (stabbing) and overlap queries over a set of intervals.
+ * <p>
+ * The tree is a self-balancing AVL tree ordered by {@link IntervalComparator}. Every node additionally
+ * references the interval with the greatest upper endpoint in its subtree, which allows queries to skip
+ * entire subtrees that end before the query and to stop as soon as the remaining intervals start after it.
+ * Both {@link #containing(Number)} and {@link #overlapping(Interval)} therefore run in
+ * {@code O(log n + k log(n / k))}, where {@code k} is the number of reported intervals. This is not
+ * {@code O(log n + k)}: a subtree that reaches the query may still hold few matching intervals among many
+ * that do not match, so a query visits {@code O(min(n, k log n))} nodes in the worst case.
+ * </p>
+ *
+ * <p>
+ * Endpoints are compared with {@link BoundComparator}, so intervals with infinite endpoints are indexed
+ * and queried like any other interval. The tree may contain several intervals with equal endpoints.
+ * </p>
+ *
+ * <p>
+ * Query results are produced lazily as a {@link Stream}, in the order of {@link IntervalComparator},
+ * without materializing intermediate collections. A large set of intervals that is already sorted can be
+ * loaded in linear time with {@link #ofSorted(Interval[])}.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe. Concurrent queries are safe only while the tree is not modified.
+ * </p>
+ *
+ * @param <I> the type of the indexed intervals
+ * @see Interval
+ * @see IntervalComparator
+ */
+public class IntervalTree<I extends Interval> {
+
+    /**
+     * The root node of the tree, or {@code null} if the tree is empty.
+     */
+    private Node<I> root;
+
+    /**
+     * The number of intervals in the tree.
+     */
+    private int size;
+
+    /**
+     * Indicates whether the last removal found the requested interval.
+     */
+    private boolean removed;
+
+    /**
+     * Creates an empty interval tree.
+     */
+    public IntervalTree() {
+    }
+
+    /**
+     * Creates a balanced interval tree from intervals sorted by {@link IntervalComparator}.
+     * <p>
+     * The tree is built bottom-up in {@code O(n)}, without any rebalancing. The order of the array is
+     * verified before building.
+     * </p>
+     *
+     * @param intervals the intervals to index, sorted by {@link IntervalComparator}
+     * @param <I>       the type of the indexed intervals
+     * @return a new interval tree containing all given intervals
+     * @throws NullPointerException        if {@code intervals} or any of its elements is {@code null}
+     * @throws IllegalArgumentException    if the intervals are not sorted
+     * @throws IncomparableBoundsException if the endpoints of the intervals cannot be compared
+     */
+    public static <I extends Interval> IntervalTree<I> ofSorted(I[] intervals) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+
+        IntervalComparator comparator = IntervalComparator.getInstance();
+        for (int i = 0; i < intervals.length; i++) {
+            Objects.requireNonNull(intervals[i], "Interval cannot be null");
+            if (i > 0 && comparator.compare(intervals[i - 1], intervals[i]) > 0) {
+                throw new IllegalArgumentException(String.format(
+                        "Intervals are not sorted: %s is followed by %s", intervals[i - 1], intervals[i]
+                ));
+            }
+        }
+
+        IntervalTree<I> tree = new IntervalTree<>();
+        tree.root = build(intervals, 0, intervals.length);
+        tree.size = intervals.length;
+
+        return tree;
+    }
+
+    /**
+     * Creates a balanced interval tree from intervals in any order.
+     * <p>
+     * The intervals are copied into an array and sorted before the tree is built with {@link #ofSorted(Interval[])}.
+     * </p>
+     *
+     * @param intervals the intervals to index
+     * @param <I>       the type of the indexed intervals
+     * @return a new interval tree containing all given intervals
+     * @throws NullPointerException        if {@code intervals} or any of its elements is {@code null}
+     * @throws IncomparableBoundsException if the endpoints of the intervals cannot be compared
+     */
+    @SuppressWarnings("unchecked")
+    public static <I extends Interval> IntervalTree<I> of(Collection<? extends I> intervals) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+
+        I[] sortedIntervals = (I[]) intervals.toArray(new Interval[0]);
+        Arrays.sort(sortedIntervals, IntervalComparator.getInstance());
+
+        return ofSorted(sortedIntervals);
+    }
+
+    /**
+     * Returns the number of intervals in this tree.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether this tree contains no intervals.
+     *
+     * @return {@code true} if this tree is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds an interval to this tree.
+     * <p>
+     * Intervals with endpoints equal to already indexed intervals are added as separate entries.
+     * </p>
+     *
+     * @param interval the interval to add
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints of the interval cannot be compared with the indexed ones
+     */
+    public void add(I interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        root = insert(root, interval);
+        size++;
+    }
+
+    /**
+     * Removes one entry equal to the specified interval from this tree.
+     *
+     * @param interval the interval to remove
+     * @return {@code true} if an equal interval was found and removed, {@code false} otherwise
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints of the interval cannot be compared with the indexed ones
+     */
+    public boolean remove(I interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        removed = false;
+        root = delete(root, interval);
+        if (removed) {
+            size--;
+        }
+
+        return removed;
+    }
+
+    /**
+     * Returns all intervals of this tree in the order of {@link IntervalComparator}.
+     *
+     * @return a sequential stream of all indexed intervals
+     */
+    public Stream<I> stream() {
+        return query(new Query<>() {
+            @Override
+            boolean reaches(Interval maxUpperInterval) {
+                return true;
+            }
+
+            @Override
+            boolean startsAfter(Interval interval) {
+                return false;
+            }
+
+            @Override
+            boolean matches(Interval interval) {
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Returns the intervals of this tree that contain the specified number.
+     * <p>
+     * Infinite and {@code NaN} floating-point values are not contained in any interval, so the resulting
+     * stream is empty for them.
+     * </p>
+     *
+     * @param value the number to look up
+     * @return a sequential stream of the intervals containing {@code value}, in the order of {@link IntervalComparator}
+     * @throws NullPointerException        if {@code value} is {@code null}
+     * @throws IncomparableBoundsException if {@code value} cannot be compared with the endpoints while the
+     *                                     stream is consumed
+     */
+    public Stream<I> containing(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+            return Stream.empty();
+        }
+
+        BoundComparator comparator = BoundComparator.getInstance();
+
+        return query(new Query<>() {
+            @Override
+            boolean reaches(Interval maxUpperInterval) {
+                int result = comparator.compareToValue(maxUpperInterval.getUpperBound(), value);
+                return result > 0 || result == 0 && maxUpperInterval.isUpperClosed();
+            }
+
+            @Override
+            boolean startsAfter(Interval interval) {
+                int result = comparator.compareToValue(interval.getLowerBound(), value);
+                return result > 0 || result == 0 && !interval.isLowerClosed();
+            }
+
+            @Override
+            boolean matches(Interval interval) {
+                return interval.contains(value);
+            }
+        });
+    }
+
+    /**
+     * Returns the intervals of this tree that overlap the specified interval.
+     *
+     * @param interval the interval to look up
+     * @return a sequential stream of the intervals overlapping {@code interval}, in the order of
+     * {@link IntervalComparator}
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared while the stream is consumed
+     * @see Interval#overlaps(Interval)
+     */
+    public Stream<I> overlapping(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        Bound lowerBound = interval.getLowerBound();
+        Bound upperBound = interval.getUpperBound();
+        boolean lowerClosed = interval.isLowerClosed();
+        boolean upperClosed = interval.isUpperClosed();
+
+        return query(new Query<>() {
+            @Override
+            boolean reaches(Interval maxUpperInterval) {
+                return IntervalComparator.isLowerBeforeUpper(
+                        lowerBound, lowerClosed, maxUpperInterval.getUpperBound(), maxUpperInterval.isUpperClosed()
+                );
+            }
+
+            @Override
+            boolean startsAfter(Interval candidate) {
+                return !IntervalComparator.isLowerBeforeUpper(
+                        candidate.getLowerBound(), candidate.isLowerClosed(), upperBound, upperClosed
+                );
+            }
+
+            @Override
+            boolean matches(Interval candidate) {
+                return candidate.overlaps(interval);
+            }
+        });
+    }
+
+    /**
+     * Creates a lazily evaluated stream of the intervals matching the given query.
+     *
+     * @param query the query to evaluate
+     * @return a sequential stream of the matching intervals
+     */
+    private Stream<I> query(Query<I> query) {
+        return StreamSupport.stream(new QuerySpliterator<>(root, query), false);
+    }
+
+    /**
+     * Builds a balanced subtree from a sorted range of intervals.
+     *
+     * @param intervals the sorted intervals
+     * @param from      the index of the first interval, inclusive
+     * @param to        the index of the last interval, exclusive
+     * @param <I>       the type of the indexed intervals
+     * @return the root of the subtree, or {@code null} if the range is empty
+     */
+    private static <I extends Interval> Node<I> build(I[] intervals, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+
+        int middle = (from + to) >>> 1;
+        Node<I> node = new Node<>(intervals[middle]);
+        node.left = build(intervals, from, middle);
+        node.right = build(intervals, middle + 1, to);
+        update(node);
+
+        return node;
+    }
+
+    private static <I extends Interval> Node<I> insert(Node<I> node, I interval) {
+        if (node == null) {
+            return new Node<>(interval);
+        }
+
+        if (IntervalComparator.getInstance().compare(interval, node.interval) < 0) {
+            node.left = insert(node.left, interval);
+        } else {
+            node.right = insert(node.right, interval);
+        }
+
+        return rebalance(node);
+    }
+
+    private Node<I> delete(Node<I> node, I interval) {
+        if (node == null) {
+            return null;
+        }
+
+        int result = IntervalComparator.getInstance().compare(interval, node.interval);
+        if (result < 0) {
+            node.left = delete(node.left, interval);
+        } else if (result > 0) {
+            node.right = delete(node.right, interval);
+        } else if (node.interval.equals(interval)) {
+            removed = true;
+            if (node.left == null || node.right == null) {
+                return node.left != null ? node.left : node.right;
+            }
+
+            Node<I> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+
+            node.interval = successor.interval;
+            node.right = deleteMin(node.right);
+        } else {
+            node.left = delete(node.left, interval);
+            if (!removed) {
+                node.right = delete(node.right, interval);
+            }
+        }
+
+        return rebalance(node);
+    }
+
+    private static <I extends Interval> Node<I> deleteMin(Node<I> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static <I extends Interval> Node<I> rebalance(Node<I> node) {
+        update(node);
+
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+
+            return rotateRight(node);
+        }
+
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+
+            return rotateLeft(node);
+        }
+
+        return node;
+    }
+
+    private static <I extends Interval> Node<I> rotateLeft(Node<I> node) {
+        Node<I> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+
+        return pivot;
+    }
+
+    private static <I extends Interval> Node<I> rotateRight(Node<I> node) {
+        Node<I> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+
+        return pivot;
+    }
+
+    /**
+     * Recomputes the height and the maximum upper endpoint of a node from its children.
+     *
+     * @param node the node to update
+     */
+    private static <I extends Interval> void update(Node<I> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+
+        Interval maxUpperInterval = node.interval;
+        if (node.left != null && IntervalComparator.compareUpperEndpoints(node.left.maxUpperInterval, maxUpperInterval) > 0) {
+            maxUpperInterval = node.left.maxUpperInterval;
+        }
+
+        if (node.right != null && IntervalComparator.compareUpperEndpoints(node.right.maxUpperInterval, maxUpperInterval) > 0) {
+            maxUpperInterval = node.right.maxUpperInterval;
+        }
+
+        node.maxUpperInterval = maxUpperInterval;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, augmented with the interval having the greatest upper endpoint in its subtree.
+     *
+     * @param <I> the type of the indexed intervals
+     */
+    private static final class Node<I extends Interval> {
+
+        private I interval;
+
+        private Interval maxUpperInterval;
+
+        private Node<I> left;
+
+        private Node<I> right;
+
+        private int height;
+
+        private Node(I interval) {
+            this.interval = interval;
+            maxUpperInterval = interval;
+            height = 1;
+        }
+    }
+
+    /**
+     * A query over the tree, defined by its pruning conditions and its matching condition.
+     * <p>
+     * The pruning conditions must be monotone: if {@link #startsAfter(Interval)} holds for an interval,
+     * it holds for every interval ordered after it by {@link IntervalComparator}.
+     * </p>
+     *
+     * @param <I> the type of the indexed intervals
+     */
+    private abstract static class Query<I extends Interval> {
+
+        /**
+         * Determines whether a subtree whose greatest upper endpoint belongs to the given interval
+         * may contain matching intervals.
+         */
+        abstract boolean reaches(Interval maxUpperInterval);
+
+        /**
+         * Determines whether the given interval, and therefore every interval after it, starts after the query.
+         */
+        abstract boolean startsAfter(Interval interval);
+
+        /**
+         * Determines whether the given interval matches the query.
+         */
+        abstract boolean matches(Interval interval);
+    }
+
+    /**
+     * A spliterator traversing the tree in order, pruning subtrees that cannot contain matching intervals.
+     * <p>
+     * The traversal keeps the path of pending nodes in an array-based stack, so advancing allocates nothing
+     * beyond occasional stack growth.
+     * </p>
+     *
+     * @param <I> the type of the indexed intervals
+     */
+    private static final class QuerySpliterator<I extends Interval> extends Spliterators.AbstractSpliterator<I> {
+
+        private final Query<I> query;
+
+        @SuppressWarnings("unchecked")
+        private Node<I>[] stack = (Node<I>[]) new Node<?>[16];
+
+        private int depth;
+
+        private QuerySpliterator(Node<I> root, Query<I> query) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.query = query;
+            pushLeftPath(root);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super I> action) {
+            Objects.requireNonNull(action, "Action cannot be null");
+
+            while (depth > 0) {
+                Node<I> node = stack[--depth];
+                stack[depth] = null;
+
+                if (query.startsAfter(node.interval)) {
+                    Arrays.fill(stack, 0, depth, null);
+                    depth = 0;
+                    return false;
+                }
+
+                pushLeftPath(node.right);
+
+                if (query.matches(node.interval)) {
+                    action.accept(node.interval);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        private void pushLeftPath(Node<I> node) {
+            while (node != null && query.reaches(node.maxUpperInterval)) {
+                if (depth == stack.length) {
+                    stack = Arrays.copyOf(stack, depth * 2);
+                }
+
+                stack[depth++] = node;
+                node = node.left;
+            }
+        }
+    }
+}
@@ -0,0 +1,917 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.index;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.columns.DoubleIntervalColumns;
+import xyz.derivora.intervalkit.columns.IntervalColumns;
+import xyz.derivora.intervalkit.columns.LongIntervalColumns;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A read-only interval index stored in a file and queried through memory-mapped pages.
+ * <p>
+ * The index is written once with {@link #write(Path, IntervalColumns)} and opened with {@link #open(Path)},
+ * which maps the file with {@link FileChannel#map} instead of reading it. Opening is therefore independent
+ * of the size of the index, and several processes opening the same file share its pages in the page cache.
+ * An index that does not need to outlive the process can instead be built with {@link #allocate(IntervalColumns)}
+ * in direct memory; in both cases the columns are kept outside the Java heap.
+ * </p>
+ *
+ * <p>
+ * The file consists of a 32-byte header followed by four columns, all in big-endian order:
+ * </p>
+ * <ul>
+ *     <li>The header: the magic number {@code 0x44524958}, the format version, the {@link KeyType},
+ *         a reserved {@code int}, the number of intervals as a {@code long} and a reserved {@code long}.
+ *         The reserved fields must be zero; {@link #open(Path)} rejects files in which they are not.</li>
+ *     <li>The lower endpoint keys, one {@code long} per interval.</li>
+ *     <li>The upper endpoint keys, one {@code long} per interval.</li>
+ *     <li>The greatest upper endpoint key of each implicit subtree, one {@code long} per interval.</li>
+ *     <li>The flags, one byte per interval, holding the inclusivity and infinity of both endpoints
+ *         and of the greatest upper endpoint.</li>
+ * </ul>
+ * <p>
+ * {@code long} endpoints are stored as they are; {@code double} endpoints are stored as keys whose signed
+ * order equals the numeric order of the values. Infinite endpoints are marked in the flags.
+ * The intervals are sorted by their lower endpoints and form an implicit balanced search tree in which
+ * the middle element of every range is the root of that range. Together with the greatest upper endpoint
+ * per subtree, this allows {@link #containing(Number)} and {@link #overlapping(Interval)} to skip
+ * subtrees that end before or start after the query. Both visit {@code O(log n + k log(n / k))} nodes,
+ * where {@code k} is the number of reported intervals, and {@code O(min(n, k log n))} nodes in the worst case.
+ * </p>
+ *
+ * <p>
+ * Queries return the positions of matching intervals, which can be resolved with {@link #get(int)} or
+ * the endpoint accessors. Instances are immutable and safe for concurrent use. The mapping stays valid
+ * until the instance is garbage collected; the file must not be modified while it is mapped.
+ * </p>
+ *
+ * @see IntervalTree
+ * @see IntervalColumns
+ */
+public final class MappedIntervalIndex {
+
+    /**
+     * The types of endpoint values an index can hold.
+     */
+    public enum KeyType {
+
+        /**
+         * Endpoints are {@code long} values, written from {@link LongIntervalColumns}.
+         */
+        LONG,
+
+        /**
+         * Endpoints are {@code double} values, written from {@link DoubleIntervalColumns}.
+         */
+        DOUBLE
+    }
+
+    /**
+     * The magic number identifying an index file.
+     */
+    private static final int MAGIC = 0x44524958;
+
+    /**
+     * The version of the file format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * The size of the file header in bytes.
+     */
+    private static final int HEADER_SIZE = 32;
+
+    /**
+     * The maximum number of intervals, limited by the size of a single mapped column.
+     */
+    private static final int MAX_SIZE = Integer.MAX_VALUE / Long.BYTES;
+
+    /**
+     * The flag set if the lower endpoint is closed.
+     */
+    private static final byte LOWER_CLOSED = 1;
+
+    /**
+     * The flag set if the upper endpoint is closed.
+     */
+    private static final byte UPPER_CLOSED = 1 << 1;
+
+    /**
+     * The flag set if the lower endpoint is negative infinity.
+     */
+    private static final byte LOWER_INFINITE = 1 << 2;
+
+    /**
+     * The flag set if the upper endpoint is positive infinity.
+     */
+    private static final byte UPPER_INFINITE = 1 << 3;
+
+    /**
+     * The flag set if the greatest upper endpoint of the implicit subtree is closed.
+     */
+    private static final byte MAX_UPPER_CLOSED = 1 << 4;
+
+    /**
+     * The flag set if the greatest upper endpoint of the implicit subtree is positive infinity.
+     */
+    private static final byte MAX_UPPER_INFINITE = 1 << 5;
+
+    /**
+     * The type of endpoint values.
+     */
+    private final KeyType keyType;
+
+    /**
+     * The number of intervals.
+     */
+    private final int size;
+
+    /**
+     * The mapped lower endpoint keys.
+     */
+    private final LongBuffer lowerKeys;
+
+    /**
+     * The mapped upper endpoint keys.
+     */
+    private final LongBuffer upperKeys;
+
+    /**
+     * The mapped greatest upper endpoint keys of the implicit subtrees.
+     */
+    private final LongBuffer maxUpperKeys;
+
+    /**
+     * The mapped flags.
+     */
+    private final ByteBuffer flags;
+
+    /**
+     * Creates an index over mapped columns.
+     *
+     * @param keyType      the type of endpoint values
+     * @param size         the number of intervals
+     * @param lowerKeys    the lower endpoint keys
+     * @param upperKeys    the upper endpoint keys
+     * @param maxUpperKeys the greatest upper endpoint keys of the implicit subtrees
+     * @param flags        the flags
+     */
+    private MappedIntervalIndex(KeyType keyType, int size, LongBuffer lowerKeys, LongBuffer upperKeys,
+                                LongBuffer maxUpperKeys, ByteBuffer flags) {
+        this.keyType = keyType;
+        this.size = size;
+        this.lowerKeys = lowerKeys;
+        this.upperKeys = upperKeys;
+        this.maxUpperKeys = maxUpperKeys;
+        this.flags = flags;
+    }
+
+    /**
+     * Writes the intervals of the given columns into an index file, replacing any existing file.
+     * <p>
+     * The key type of the index is {@link KeyType#LONG} for {@link LongIntervalColumns} and
+     * {@link KeyType#DOUBLE} for {@link DoubleIntervalColumns}. The intervals are sorted by their lower
+     * endpoints, so positions in the index generally differ from positions in the columns.
+     * </p>
+     *
+     * @param path    the path of the file to write
+     * @param columns the intervals to index
+     * @throws NullPointerException     if {@code path} or {@code columns} is {@code null}
+     * @throws IllegalArgumentException if the columns hold more intervals than an index can hold
+     * @throws IOException              if the file cannot be written
+     */
+    public static void write(Path path, IntervalColumns columns) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+        Objects.requireNonNull(columns, "Columns cannot be null");
+
+        SortedColumns sorted = sort(columns, ByteBuffer::allocate);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(sorted.keyType().ordinal())
+                .putInt(0)
+                .putLong(sorted.flags().capacity())
+                .putLong(0L)
+                .flip();
+        ByteBuffer[] buffers = {header, sorted.lower(), sorted.upper(), sorted.maxUpper(), sorted.flags()};
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining() || sorted.flags().hasRemaining()) {
+                channel.write(buffers);
+            }
+        }
+    }
+
+    /**
+     * Creates an index of the intervals of the given columns in direct memory outside the Java heap.
+     * <p>
+     * The index has the same layout and query semantics as an index written by
+     * {@link #write(Path, IntervalColumns)} and opened with {@link #open(Path)}, but no file is involved.
+     * Once built, the index keeps no per-interval data on the heap, so even an index of several gigabytes adds
+     * almost nothing to the work of the garbage collector.
+     * </p>
+     * <p>
+     * Building the index reads the endpoints into temporary heap arrays to sort them, peaking at about
+     * 25 bytes per interval: 17 bytes of unsorted keys and flags and 8 bytes of sort permutation. The sorted
+     * columns are written directly into direct memory, which takes another 25 bytes per interval.
+     * </p>
+     * <p>
+     * The direct memory is freed only when the index becomes unreachable and is garbage collected; the index
+     * has no {@code close} method and no arena, so its memory cannot be released deterministically. A
+     * {@code MemorySegment} from a closeable arena would allow that, but on Java 17 that API is only available
+     * as the incubating {@code jdk.incubator.foreign} module, and this module does not depend on incubator APIs.
+     * </p>
+     *
+     * @param columns the intervals to index
+     * @return the index
+     * @throws NullPointerException     if {@code columns} is {@code null}
+     * @throws IllegalArgumentException if the columns hold more intervals than an index can hold
+     * @throws OutOfMemoryError         if the direct memory cannot be allocated
+     */
+    public static MappedIntervalIndex allocate(IntervalColumns columns) {
+        Objects.requireNonNull(columns, "Columns cannot be null");
+
+        SortedColumns sorted = sort(columns,
+                capacity -> ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder()));
+        return new MappedIntervalIndex(
+                sorted.keyType(),
+                sorted.flags().capacity(),
+                sorted.lower().asLongBuffer(),
+                sorted.upper().asLongBuffer(),
+                sorted.maxUpper().asLongBuffer(),
+                sorted.flags()
+        );
+    }
+
+    /**
+     * Opens an index file written by {@link #write(Path, IntervalColumns)} by mapping it into memory.
+     * <p>
+     * The file channel is closed before this method returns; the mapping remains valid.
+     * </p>
+     *
+     * @param path the path of the index file
+     * @return the opened index
+     * @throws NullPointerException if {@code path} is {@code null}
+     * @throws IOException          if the file cannot be read or is not a valid index file
+     */
+    public static MappedIntervalIndex open(Path path) throws IOException {
+        Objects.requireNonNull(path, "Path cannot be null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException(String.format("File %s is too small to be an interval index", path));
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException(String.format("File %s is not an interval index", path));
+            }
+            if (header.getInt(4) != VERSION) {
+                throw new IOException(String.format(
+                        "Unsupported interval index version %d in file %s", header.getInt(4), path
+                ));
+            }
+
+            int keyTypeOrdinal = header.getInt(8);
+            long size = header.getLong(16);
+            if (header.getInt(12) != 0 || header.getLong(24) != 0L
+                    || keyTypeOrdinal < 0 || keyTypeOrdinal >= KeyType.values().length
+                    || size < 0 || size > MAX_SIZE
+                    || fileSize != HEADER_SIZE + size * (3L * Long.BYTES + 1)) {
+                throw new IOException(String.format("Interval index file %s is corrupted", path));
+            }
+
+            long columnSize = size * Long.BYTES;
+            return new MappedIntervalIndex(
+                    KeyType.values()[keyTypeOrdinal],
+                    (int) size,
+                    channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, columnSize).asLongBuffer(),
+                    channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + columnSize, columnSize).asLongBuffer(),
+                    channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + 2 * columnSize, columnSize).asLongBuffer(),
+                    channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + 3 * columnSize, size)
+            );
+        }
+    }
+
+    /**
+     * Returns the type of endpoint values of this index.
+     *
+     * @return the key type
+     */
+    public KeyType getKeyType() {
+        return keyType;
+    }
+
+    /**
+     * Returns the number of intervals in this index.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether this index contains no intervals.
+     *
+     * @return {@code true} if this index is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the lower boundary of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the lower boundary
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Bound getLowerBound(int index) {
+        Objects.checkIndex(index, size);
+        return (flags.get(index) & LOWER_INFINITE) != 0
+                ? ImmutableInfiniteBound.getInstance(false)
+                : toBound(lowerKeys.get(index));
+    }
+
+    /**
+     * Returns the upper boundary of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the upper boundary
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Bound getUpperBound(int index) {
+        Objects.checkIndex(index, size);
+        return (flags.get(index) & UPPER_INFINITE) != 0
+                ? ImmutableInfiniteBound.getInstance(true)
+                : toBound(upperKeys.get(index));
+    }
+
+    /**
+     * Checks whether the lower endpoint of the interval at the specified position is closed.
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the lower endpoint is closed, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean isLowerClosed(int index) {
+        return (flags.get(Objects.checkIndex(index, size)) & LOWER_CLOSED) != 0;
+    }
+
+    /**
+     * Checks whether the upper endpoint of the interval at the specified position is closed.
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the upper endpoint is closed, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean isUpperClosed(int index) {
+        return (flags.get(Objects.checkIndex(index, size)) & UPPER_CLOSED) != 0;
+    }
+
+    /**
+     * Materializes the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the interval
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public ImmutableInterval get(int index) {
+        return ImmutableInterval.of(getLowerBound(index), isLowerClosed(index), getUpperBound(index), isUpperClosed(index));
+    }
+
+    /**
+     * Returns a sequential stream of all intervals of this index, ordered by their lower endpoints.
+     * <p>
+     * Intervals are materialized lazily as the stream is consumed.
+     * </p>
+     *
+     * @return a stream of the intervals
+     */
+    public Stream<ImmutableInterval> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Finds all intervals that contain the given value.
+     * <p>
+     * Infinite and {@code NaN} floating-point values are not contained in any interval, so the resulting
+     * stream is empty for them.
+     * </p>
+     *
+     * @param value the value to look up
+     * @return the positions of the intervals containing {@code value}, in ascending order
+     * @throws NullPointerException     if {@code value} is {@code null}
+     * @throws IllegalArgumentException if the type of {@code value} is not a standard numeric type
+     */
+    public IntStream containing(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+            return IntStream.empty();
+        }
+
+        Probe probe = toProbe(value, true);
+        IntStream.Builder result = IntStream.builder();
+        search(0, size, probe, probe, result);
+        return result.build();
+    }
+
+    /**
+     * Finds all intervals that overlap the given interval.
+     *
+     * @param interval the interval to look up
+     * @return the positions of the intervals sharing at least one point with {@code interval}, in ascending order
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint of {@code interval} is not of a standard numeric type
+     */
+    public IntStream overlapping(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        if (interval.isEmpty()) {
+            return IntStream.empty();
+        }
+
+        IntStream.Builder result = IntStream.builder();
+        search(
+                0, size,
+                toProbe(interval.getLowerBound(), interval.isLowerClosed()),
+                toProbe(interval.getUpperBound(), interval.isUpperClosed()),
+                result
+        );
+        return result.build();
+    }
+
+    /**
+     * Reports all intervals of the implicit subtree {@code [from, to)} that overlap the query, in ascending order.
+     *
+     * @param from   the first position of the subtree, inclusive
+     * @param to     the last position of the subtree, exclusive
+     * @param lower  the lower endpoint of the query
+     * @param upper  the upper endpoint of the query
+     * @param result the builder receiving the positions of matching intervals
+     */
+    private void search(int from, int to, Probe lower, Probe upper, IntStream.Builder result) {
+        while (from < to) {
+            int middle = (from + to) >>> 1;
+            byte middleFlags = flags.get(middle);
+            if (!reaches(maxUpperKeys.get(middle), middleFlags, MAX_UPPER_CLOSED, MAX_UPPER_INFINITE, lower)) {
+                return;
+            }
+
+            search(from, middle, lower, upper, result);
+
+            if (startsAfter(lowerKeys.get(middle), middleFlags, upper)) {
+                return;
+            }
+
+            if (reaches(upperKeys.get(middle), middleFlags, UPPER_CLOSED, UPPER_INFINITE, lower) && !isEmpty(middle)) {
+                result.add(middle);
+            }
+
+            from = middle + 1;
+        }
+    }
+
+    /**
+     * Checks whether the interval at the specified position contains no numbers.
+     *
+     * @param index the position of the interval
+     * @return {@code true} if both endpoints are finite and equal and at least one of them is open
+     */
+    private boolean isEmpty(int index) {
+        byte entryFlags = flags.get(index);
+        return (entryFlags & (LOWER_INFINITE | UPPER_INFINITE)) == 0
+                && (entryFlags & (LOWER_CLOSED | UPPER_CLOSED)) != (LOWER_CLOSED | UPPER_CLOSED)
+                && lowerKeys.get(index) == upperKeys.get(index);
+    }
+
+    /**
+     * Checks whether a stored upper endpoint reaches the lower endpoint of a query.
+     *
+     * @param key          the stored key
+     * @param entryFlags   the stored flags
+     * @param closedFlag   the flag marking the stored endpoint as closed
+     * @param infiniteFlag the flag marking the stored endpoint as infinite
+     * @param lower        the lower endpoint of the query
+     * @return {@code true} if the stored endpoint is not before the query endpoint
+     */
+    private static boolean reaches(long key, byte entryFlags, byte closedFlag, byte infiniteFlag, Probe lower) {
+        if (lower.infinite() || (entryFlags & infiniteFlag) != 0) {
+            return true;
+        }
+
+        int comparison = lower.compareKey(key);
+        return comparison > 0 || (comparison == 0 && (entryFlags & closedFlag) != 0 && lower.closed());
+    }
+
+    /**
+     * Checks whether a stored lower endpoint starts after the upper endpoint of a query.
+     *
+     * @param key        the stored key
+     * @param entryFlags the stored flags
+     * @param upper      the upper endpoint of the query
+     * @return {@code true} if no point at or above the stored endpoint belongs to the query
+     */
+    private static boolean startsAfter(long key, byte entryFlags, Probe upper) {
+        if (upper.infinite() || (entryFlags & LOWER_INFINITE) != 0) {
+            return false;
+        }
+
+        int comparison = upper.compareKey(key);
+        return comparison > 0 || (comparison == 0 && !((entryFlags & LOWER_CLOSED) != 0 && upper.closed()));
+    }
+
+    /**
+     * Converts a query endpoint to a probe in the key space of this index.
+     *
+     * @param bound  the endpoint
+     * @param closed whether the endpoint is closed
+     * @return the probe
+     * @throws IllegalArgumentException if the value of a finite endpoint is not of a standard numeric type
+     */
+    private Probe toProbe(Bound bound, boolean closed) {
+        if (bound.isInfinite()) {
+            return new Probe(0L, 0, false, true);
+        }
+
+        return toProbe(((FiniteBound<?>) bound).getValue(), closed);
+    }
+
+    /**
+     * Converts a query value to a probe in the key space of this index.
+     *
+     * @param value  the finite query value
+     * @param closed whether the query endpoint is closed
+     * @return the probe
+     * @throws IllegalArgumentException if the value is not finite or not of a standard numeric type
+     */
+    private Probe toProbe(Number value, boolean closed) {
+        if (value instanceof Double || value instanceof Float) {
+            double doubleValue = value.doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                throw new IllegalArgumentException("Value cannot be infinite or NaN: " + value);
+            }
+            if (keyType == KeyType.DOUBLE) {
+                return new Probe(sortableKey(doubleValue), 0, closed, false);
+            }
+            if (doubleValue >= 0x1p63) {
+                return new Probe(Long.MAX_VALUE, 1, closed, false);
+            }
+            if (doubleValue < -0x1p63) {
+                return new Probe(Long.MIN_VALUE, -1, closed, false);
+            }
+            double floor = Math.floor(doubleValue);
+            return new Probe((long) floor, floor == doubleValue ? 0 : 1, closed, false);
+        }
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long longValue = value.longValue();
+            if (keyType == KeyType.LONG) {
+                return new Probe(longValue, 0, closed, false);
+            }
+            double doubleValue = (double) longValue;
+            int residual = doubleValue == 0x1p63 ? -1 : Long.compare(longValue, (long) doubleValue);
+            return new Probe(sortableKey(doubleValue), residual, closed, false);
+        }
+
+        BigDecimal decimal;
+        if (value instanceof BigDecimal bigDecimal) {
+            decimal = bigDecimal;
+        } else if (value instanceof BigInteger bigInteger) {
+            decimal = new BigDecimal(bigInteger);
+        } else {
+            throw new IllegalArgumentException("Unsupported value type: " + value.getClass().getName());
+        }
+
+        if (keyType == KeyType.LONG) {
+            BigInteger floor = decimal.setScale(0, RoundingMode.FLOOR).toBigInteger();
+            if (floor.bitLength() > 63) {
+                return floor.signum() > 0
+                        ? new Probe(Long.MAX_VALUE, 1, closed, false)
+                        : new Probe(Long.MIN_VALUE, -1, closed, false);
+            }
+            int residual = decimal.compareTo(new BigDecimal(floor)) == 0 ? 0 : 1;
+            return new Probe(floor.longValue(), residual, closed, false);
+        }
+
+        double doubleValue = decimal.doubleValue();
+        if (Double.isInfinite(doubleValue)) {
+            return doubleValue > 0
+                    ? new Probe(sortableKey(Double.MAX_VALUE), 1, closed, false)
+                    : new Probe(sortableKey(-Double.MAX_VALUE), -1, closed, false);
+        }
+        return new Probe(sortableKey(doubleValue), decimal.compareTo(new BigDecimal(doubleValue)), closed, false);
+    }
+
+    /**
+     * Creates a finite boundary from a stored key.
+     *
+     * @param key the stored key
+     * @return the finite boundary
+     */
+    private Bound toBound(long key) {
+        return keyType == KeyType.LONG ? new LongFiniteBound(key) : new DoubleFiniteBound(fromSortableKey(key));
+    }
+
+    /**
+     * Maps a {@code double} to a {@code long} whose signed order equals the numeric order of the values.
+     * <p>
+     * Negative zero is mapped like positive zero.
+     * </p>
+     *
+     * @param value the value
+     * @return the sortable key
+     */
+    private static long sortableKey(double value) {
+        long bits = Double.doubleToRawLongBits(value == 0.0 ? 0.0 : value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Reverses {@link #sortableKey(double)}.
+     *
+     * @param key the sortable key
+     * @return the value
+     */
+    private static double fromSortableKey(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    /**
+     * Compares two lower endpoints: infinite endpoints first, then by key, closed before open.
+     *
+     * @param firstKey    the key of the first endpoint
+     * @param firstFlags  the flags of the first interval
+     * @param secondKey   the key of the second endpoint
+     * @param secondFlags the flags of the second interval
+     * @return a negative integer, zero, or a positive integer as the first endpoint is less than,
+     * equal to, or greater than the second
+     */
+    private static int compareLower(long firstKey, byte firstFlags, long secondKey, byte secondFlags) {
+        boolean firstInfinite = (firstFlags & LOWER_INFINITE) != 0;
+        boolean secondInfinite = (secondFlags & LOWER_INFINITE) != 0;
+        if (firstInfinite || secondInfinite) {
+            return Boolean.compare(secondInfinite, firstInfinite);
+        }
+        if (firstKey != secondKey) {
+            return Long.compare(firstKey, secondKey);
+        }
+        return Boolean.compare((secondFlags & LOWER_CLOSED) != 0, (firstFlags & LOWER_CLOSED) != 0);
+    }
+
+    /**
+     * Compares two upper endpoints: by key, open before closed, infinite endpoints last.
+     *
+     * @param firstKey       the key of the first endpoint
+     * @param firstClosed    whether the first endpoint is closed
+     * @param firstInfinite  whether the first endpoint is infinite
+     * @param secondKey      the key of the second endpoint
+     * @param secondClosed   whether the second endpoint is closed
+     * @param secondInfinite whether the second endpoint is infinite
+     * @return a negative integer, zero, or a positive integer as the first endpoint is less than,
+     * equal to, or greater than the second
+     */
+    private static int compareUpper(long firstKey, boolean firstClosed, boolean firstInfinite,
+                                    long secondKey, boolean secondClosed, boolean secondInfinite) {
+        if (firstInfinite || secondInfinite) {
+            return Boolean.compare(firstInfinite, secondInfinite);
+        }
+        if (firstKey != secondKey) {
+            return Long.compare(firstKey, secondKey);
+        }
+        return Boolean.compare(firstClosed, secondClosed);
+    }
+
+    /**
+     * Sorts the intervals of the given columns by their lower endpoints and computes the greatest upper
+     * endpoint of every implicit subtree.
+     * <p>
+     * The sorted columns are written directly into buffers obtained from the allocator, whose byte order
+     * is kept.
+     * </p>
+     *
+     * @param columns   the intervals to index
+     * @param allocator the function allocating a buffer of the given capacity for each column
+     * @return the columns of the index
+     * @throws IllegalArgumentException if the columns hold more intervals than an index can hold
+     */
+    private static SortedColumns sort(IntervalColumns columns, IntFunction<ByteBuffer> allocator) {
+        int size = columns.size();
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "Index cannot hold %d intervals, the maximum is %d", size, MAX_SIZE
+            ));
+        }
+
+        KeyType keyType = columns instanceof LongIntervalColumns ? KeyType.LONG : KeyType.DOUBLE;
+        long[] lower = new long[size];
+        long[] upper = new long[size];
+        byte[] entryFlags = new byte[size];
+        if (columns instanceof LongIntervalColumns longColumns) {
+            for (int i = 0; i < size; i++) {
+                lower[i] = longColumns.getLowerValue(i);
+                upper[i] = longColumns.getUpperValue(i);
+            }
+        } else {
+            DoubleIntervalColumns doubleColumns = (DoubleIntervalColumns) columns;
+            for (int i = 0; i < size; i++) {
+                lower[i] = sortableKey(doubleColumns.getLowerValue(i));
+                upper[i] = sortableKey(doubleColumns.getUpperValue(i));
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            entryFlags[i] = (byte) ((columns.isLowerClosed(i) ? LOWER_CLOSED : 0)
+                    | (columns.isUpperClosed(i) ? UPPER_CLOSED : 0)
+                    | (columns.isLowerInfinite(i) ? LOWER_INFINITE : 0)
+                    | (columns.isUpperInfinite(i) ? UPPER_INFINITE : 0));
+        }
+
+        int[] order = sortByLower(lower, entryFlags);
+        ByteBuffer lowerBytes = allocator.apply(size * Long.BYTES);
+        ByteBuffer upperBytes = allocator.apply(size * Long.BYTES);
+        ByteBuffer maxUpperBytes = allocator.apply(size * Long.BYTES);
+        ByteBuffer sortedFlags = allocator.apply(size);
+        LongBuffer sortedLower = lowerBytes.asLongBuffer();
+        LongBuffer sortedUpper = upperBytes.asLongBuffer();
+        for (int i = 0; i < size; i++) {
+            sortedLower.put(i, lower[order[i]]);
+            sortedUpper.put(i, upper[order[i]]);
+            sortedFlags.put(i, entryFlags[order[i]]);
+        }
+
+        computeMaxUpper(sortedUpper, sortedFlags, maxUpperBytes.asLongBuffer(), 0, size);
+        return new SortedColumns(keyType, lowerBytes, upperBytes, maxUpperBytes, sortedFlags);
+    }
+
+
+    /**
+     * Returns the positions of the intervals in the order of their lower endpoints, using a stable merge sort.
+     *
+     * @param keys       the lower endpoint keys
+     * @param entryFlags the flags
+     * @return the positions in sorted order
+     */
+    private static int[] sortByLower(long[] keys, byte[] entryFlags) {
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[keys.length];
+        for (int width = 1; width < order.length; width <<= 1) {
+            for (int from = 0; from < order.length; from += width << 1) {
+                int middle = Math.min(from + width, order.length);
+                int to = Math.min(from + (width << 1), order.length);
+                int left = from;
+                int right = middle;
+                for (int i = from; i < to; i++) {
+                    if (right >= to || (left < middle && compareLower(
+                            keys[order[left]], entryFlags[order[left]],
+                            keys[order[right]], entryFlags[order[right]]) <= 0)) {
+                        buffer[i] = order[left++];
+                    } else {
+                        buffer[i] = order[right++];
+                    }
+                }
+            }
+            int[] swap = order;
+            order = buffer;
+            buffer = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Stores the greatest upper endpoint of the implicit subtree {@code [from, to)} at its middle position.
+     *
+     * @param upper      the sorted upper endpoint keys
+     * @param entryFlags the sorted flags, receiving the greatest upper endpoint flags
+     * @param maxUpper   the buffer receiving the greatest upper endpoint keys
+     * @param from       the first position of the subtree, inclusive
+     * @param to         the last position of the subtree, exclusive
+     * @return the position of the interval with the greatest upper endpoint, or {@code -1} if the range is empty
+     */
+    private static int computeMaxUpper(LongBuffer upper, ByteBuffer entryFlags, LongBuffer maxUpper, int from, int to) {
+        if (from >= to) {
+            return -1;
+        }
+
+        int middle = (from + to) >>> 1;
+        int left = computeMaxUpper(upper, entryFlags, maxUpper, from, middle);
+        int right = computeMaxUpper(upper, entryFlags, maxUpper, middle + 1, to);
+        int max = greaterUpper(upper, entryFlags, greaterUpper(upper, entryFlags, middle, left), right);
+
+        maxUpper.put(middle, upper.get(max));
+        byte maxFlags = entryFlags.get(max);
+        byte middleFlags = entryFlags.get(middle);
+        if ((maxFlags & UPPER_CLOSED) != 0) {
+            middleFlags |= MAX_UPPER_CLOSED;
+        }
+        if ((maxFlags & UPPER_INFINITE) != 0) {
+            middleFlags |= MAX_UPPER_INFINITE;
+        }
+        entryFlags.put(middle, middleFlags);
+        return max;
+    }
+
+    /**
+     * Returns the position of the greater of two upper endpoints.
+     *
+     * @param upper      the sorted upper endpoint keys
+     * @param entryFlags the sorted flags
+     * @param current    the position of the greatest upper endpoint so far
+     * @param candidate  the position of the candidate, or {@code -1} if there is none
+     * @return {@code candidate} if its upper endpoint is greater than the one at {@code current},
+     * {@code current} otherwise
+     */
+    private static int greaterUpper(LongBuffer upper, ByteBuffer entryFlags, int current, int candidate) {
+        if (candidate < 0) {
+            return current;
+        }
+
+        byte candidateFlags = entryFlags.get(candidate);
+        byte currentFlags = entryFlags.get(current);
+        int comparison = compareUpper(
+                upper.get(candidate), (candidateFlags & UPPER_CLOSED) != 0, (candidateFlags & UPPER_INFINITE) != 0,
+                upper.get(current), (currentFlags & UPPER_CLOSED) != 0, (currentFlags & UPPER_INFINITE) != 0);
+        return comparison > 0 ? candidate : current;
+    }
+
+    /**
+     * The columns of an index, sorted by lower endpoints.
+     *
+     * @param keyType  the type of endpoint values
+     * @param lower    the lower endpoint keys, as the bytes of {@code long} values
+     * @param upper    the upper endpoint keys, as the bytes of {@code long} values
+     * @param maxUpper the greatest upper endpoint keys of the implicit subtrees, as the bytes of {@code long} values
+     * @param flags    the flags
+     */
+    private record SortedColumns(KeyType keyType, ByteBuffer lower, ByteBuffer upper, ByteBuffer maxUpper,
+                                 ByteBuffer flags) {
+    }
+
+    /**
+     * A query endpoint translated into the key space of an index.
+     * <p>
+     * Values that have no exact key are represented by the nearest key and a residual telling whether
+     * the value lies slightly below ({@code -1}) or slightly above ({@code 1}) that key, so that they
+     * compare correctly with every stored key.
+     * </p>
+     *
+     * @param key      the nearest key, ignored for infinite endpoints
+     * @param residual {@code -1}, {@code 0} or {@code 1} as the value is below, at or above {@code key}
+     * @param closed   whether the endpoint is closed
+     * @param infinite whether the endpoint is infinite
+     */
+    private record Probe(long key, int residual, boolean closed, boolean infinite) {
+
+        /**
+         * Compares a stored key with the value of this finite probe.
+         *
+         * @param storedKey the stored key
+         * @return a negative integer, zero, or a positive integer as {@code storedKey} is less than,
+         * equal to, or greater than the value of this probe
+         */
+        int compareKey(long storedKey) {
+            return storedKey != key ? Long.compare(storedKey, key) : -residual;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides index structures for querying large sets of intervals.
+ * <h2>Key Components:</h2>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.index.IntervalTree} -
+ *         An augmented balanced tree answering point and overlap queries in logarithmic time
+ *         plus the size of the result.</li>
+ *     <li>{@link xyz.derivora.intervalkit.index.MappedIntervalIndex} -
+ *         A read-only index of {@code long} or {@code double} endpoints stored outside the Java heap,
+ *         in a memory-mapped file or in direct memory.</li>
+ *     <li>{@link xyz.derivora.intervalkit.index.ConcurrentIntervalMap} -
+ *         A thread-safe map of non-overlapping intervals to values, updated without a global lock.</li>
+ *     <li>{@link xyz.derivora.intervalkit.index.EytzingerIntervalIndex} -
+ *         An immutable index answering point queries over a pointer-free, cache-friendly array layout.</li>
+ * </ul>
+ *
+ * <p>
+ * Indexes order intervals by their lower endpoints, so finite and infinite endpoints are supported alike.
+ * </p>
+ *
+ * @see xyz.derivora.intervalkit.index.IntervalTree
+ * @see xyz.derivora.intervalkit.intervals.Interval
+ */
+package xyz.derivora.intervalkit.index;
@@ -0,0 +1,261 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.intervals;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+
+import java.util.Objects;
+
+/**
+ * Represents an immutable interval with fixed endpoints and inclusivity.
+ * <p>
+ * The inclusivity of both endpoints and the emptiness of the interval are resolved once at construction
+ * and packed into a single {@code byte} field, so an instance consists of two boundary references and
+ * one byte of state. Queries such as {@link #isEmpty()} therefore do not compare the endpoints again.
+ * </p>
+ *
+ * <p>
+ * Infinite endpoints are always stored as open, regardless of the requested inclusivity, because no number
+ * can be equal to them. As a result, {@code [-∞, 1]} and {@code (-∞, 1]} create equal intervals.
+ * </p>
+ *
+ * <p>
+ * Instances are created with the static factory methods {@link #closed(Bound, Bound)}, {@link #open(Bound, Bound)},
+ * {@link #closedOpen(Bound, Bound)}, {@link #openClosed(Bound, Bound)} and {@link #of(Bound, boolean, Bound, boolean)}.
+ * </p>
+ *
+ * @see Interval
+ */
+public final class ImmutableInterval implements Interval {
+
+    /**
+     * The flag bit indicating that the lower endpoint is closed.
+     */
+    private static final byte LOWER_CLOSED = 1;
+
+    /**
+     * The flag bit indicating that the upper endpoint is closed.
+     */
+    private static final byte UPPER_CLOSED = 1 << 1;
+
+    /**
+     * The flag bit indicating that the interval is empty.
+     */
+    private static final byte EMPTY = 1 << 2;
+
+    /**
+     * The lower endpoint of this interval.
+     */
+    private final Bound lowerBound;
+
+    /**
+     * The upper endpoint of this interval.
+     */
+    private final Bound upperBound;
+
+    /**
+     * The inclusivity and emptiness flags of this interval.
+     */
+    private final byte flags;
+
+    /**
+     * Creates an immutable interval after validating its endpoints.
+     *
+     * @param lowerBound  the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upperBound  the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @throws NullPointerException        if either endpoint is {@code null}
+     * @throws IllegalArgumentException    if {@code lowerBound} is greater than {@code upperBound}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    private ImmutableInterval(Bound lowerBound, boolean lowerClosed, Bound upperBound, boolean upperClosed) {
+        Objects.requireNonNull(lowerBound, "Lower bound cannot be null");
+        Objects.requireNonNull(upperBound, "Upper bound cannot be null");
+
+        int comparison = BoundComparator.getInstance().compare(lowerBound, upperBound);
+        if (comparison > 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Lower bound %s cannot be greater than upper bound %s", lowerBound, upperBound
+            ));
+        }
+
+        lowerClosed &= lowerBound.isFinite();
+        upperClosed &= upperBound.isFinite();
+
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        flags = (byte) ((lowerClosed ? LOWER_CLOSED : 0)
+                | (upperClosed ? UPPER_CLOSED : 0)
+                | (comparison == 0 && !(lowerClosed && upperClosed) ? EMPTY : 0));
+    }
+
+    /**
+     * Creates an interval with the specified endpoints and inclusivity.
+     *
+     * @param lowerBound  the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed; ignored for an infinite endpoint
+     * @param upperBound  the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed; ignored for an infinite endpoint
+     * @return a new interval
+     * @throws NullPointerException        if either endpoint is {@code null}
+     * @throws IllegalArgumentException    if {@code lowerBound} is greater than {@code upperBound}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static ImmutableInterval of(Bound lowerBound, boolean lowerClosed, Bound upperBound, boolean upperClosed) {
+        return new ImmutableInterval(lowerBound, lowerClosed, upperBound, upperClosed);
+    }
+
+    /**
+     * Creates an interval that includes both finite endpoints, {@code [lower, upper]}.
+     *
+     * @param lowerBound the lower endpoint
+     * @param upperBound the upper endpoint
+     * @return a new interval
+     * @throws NullPointerException        if either endpoint is {@code null}
+     * @throws IllegalArgumentException    if {@code lowerBound} is greater than {@code upperBound}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static ImmutableInterval closed(Bound lowerBound, Bound upperBound) {
+        return new ImmutableInterval(lowerBound, true, upperBound, true);
+    }
+
+    /**
+     * Creates an interval that excludes both endpoints, {@code (lower, upper)}.
+     *
+     * @param lowerBound the lower endpoint
+     * @param upperBound the upper endpoint
+     * @return a new interval
+     * @throws NullPointerException        if either endpoint is {@code null}
+     * @throws IllegalArgumentException    if {@code lowerBound} is greater than {@code upperBound}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static ImmutableInterval open(Bound lowerBound, Bound upperBound) {
+        return new ImmutableInterval(lowerBound, false, upperBound, false);
+    }
+
+    /**
+     * Creates an interval that includes a finite lower endpoint and excludes the upper one, {@code [lower, upper)}.
+     *
+     * @param lowerBound the lower endpoint
+     * @param upperBound the upper endpoint
+     * @return a new interval
+     * @throws NullPointerException        if either endpoint is {@code null}
+     * @throws IllegalArgumentException    if {@code lowerBound} is greater than {@code upperBound}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static ImmutableInterval closedOpen(Bound lowerBound, Bound upperBound) {
+        return new ImmutableInterval(lowerBound, true, upperBound, false);
+    }
+
+    /**
+     * Creates an interval that excludes the lower endpoint and includes a finite upper one, {@code (lower, upper]}.
+     *
+     * @param lowerBound the lower endpoint
+     * @param upperBound the upper endpoint
+     * @return a new interval
+     * @throws NullPointerException        if either endpoint is {@code null}
+     * @throws IllegalArgumentException    if {@code lowerBound} is greater than {@code upperBound}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static ImmutableInterval openClosed(Bound lowerBound, Bound upperBound) {
+        return new ImmutableInterval(lowerBound, false, upperBound, true);
+    }
+
+    @Override
+    public Bound getLowerBound() {
+        return lowerBound;
+    }
+
+    @Override
+    public Bound getUpperBound() {
+        return upperBound;
+    }
+
+    @Override
+    public boolean isLowerClosed() {
+        return (flags & LOWER_CLOSED) != 0;
+    }
+
+    @Override
+    public boolean isUpperClosed() {
+        return (flags & UPPER_CLOSED) != 0;
+    }
+
+    /**
+     * Determines whether this interval contains no numbers.
+     * <p>
+     * The result is resolved at construction, so this method does not compare the endpoints.
+     * </p>
+     *
+     * @return {@code true} if this interval is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return (flags & EMPTY) != 0;
+    }
+
+    /**
+     * Returns the hash code for this interval, derived from its endpoints and their inclusivity.
+     *
+     * @return the hash code of this interval
+     */
+    @Override
+    public int hashCode() {
+        return (31 * lowerBound.hashCode() + upperBound.hashCode()) * 31 + flags;
+    }
+
+    /**
+     * Checks whether this interval is equal to another object.
+     * <p>
+     * Two instances of {@code ImmutableInterval} are equal if their endpoints are equal according to
+     * {@link Bound#equals(Object)} and their endpoints have the same inclusivity.
+     * </p>
+     *
+     * @param object the object to compare with this instance
+     * @return {@code true} if the given object is an equal interval, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof ImmutableInterval other)) {
+            return false;
+        }
+
+        return flags == other.flags && lowerBound.equals(other.lowerBound) && upperBound.equals(other.upperBound);
+    }
+
+    /**
+     * Returns a string representation of this interval in mathematical notation, for example:
+     *
+     * <pre>
+     * [FiniteBound{java.lang.Long: 1}, Positive InfiniteBound)
+     * </pre>
+     *
+     * @return a string representation of this interval
+     */
+    @Override
+    public String toString() {
+        return (isLowerClosed() ? "[" : "(") + lowerBound + ", " + upperBound + (isUpperClosed() ? "]" : ")");
+    }
+}
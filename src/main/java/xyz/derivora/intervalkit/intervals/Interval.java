@@ -0,0 +1,166 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.intervals;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+
+/**
+ * Represents a numerical interval, delimited by a lower and an upper {@link Bound}.
+ * <p>
+ * Each endpoint is either closed (the endpoint value belongs to the interval) or open (it does not).
+ * Infinite endpoints are always open, since no number is equal to an infinite boundary.
+ * </p>
+ *
+ * <p>
+ * The contract of this interface is defined by its endpoint accessors:
+ * <ul>
+ *   <li>{@link #getLowerBound()} and {@link #getUpperBound()} return the endpoints, where the lower bound
+ *       is never greater than the upper bound according to {@link BoundComparator}.</li>
+ *   <li>{@link #isLowerClosed()} and {@link #isUpperClosed()} report the inclusivity of the endpoints.</li>
+ * </ul>
+ * All other operations are derived from these methods and rely on {@link BoundComparator} for ordering,
+ * so finite and infinite endpoints are handled uniformly.
+ * </p>
+ *
+ * @see ImmutableInterval
+ * @see IntervalComparator
+ * @see BoundComparator
+ */
+public interface Interval {
+
+    /**
+     * Returns the lower endpoint of this interval.
+     *
+     * @return the lower boundary, never {@code null}
+     */
+    Bound getLowerBound();
+
+    /**
+     * Returns the upper endpoint of this interval.
+     *
+     * @return the upper boundary, never {@code null}
+     */
+    Bound getUpperBound();
+
+    /**
+     * Determines whether the lower endpoint belongs to this interval.
+     *
+     * @return {@code true} if the lower endpoint is closed, {@code false} if it is open
+     */
+    boolean isLowerClosed();
+
+    /**
+     * Determines whether the upper endpoint belongs to this interval.
+     *
+     * @return {@code true} if the upper endpoint is closed, {@code false} if it is open
+     */
+    boolean isUpperClosed();
+
+    /**
+     * Determines whether this interval contains no numbers.
+     * <p>
+     * An interval is empty if its endpoints are equal and at least one of them is open,
+     * for example {@code [1, 1)} or {@code (1, 1)}.
+     * </p>
+     *
+     * @return {@code true} if this interval is empty, {@code false} otherwise
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    default boolean isEmpty() {
+        return BoundComparator.getInstance().compare(getLowerBound(), getUpperBound()) == 0
+                && !(isLowerClosed() && isUpperClosed());
+    }
+
+    /**
+     * Determines whether this interval contains the specified number.
+     * <p>
+     * The value is compared with the endpoints directly, without being wrapped into a boundary.
+     * Infinite and {@code NaN} floating-point values are never contained in an interval.
+     * </p>
+     *
+     * @param value the number to check
+     * @return {@code true} if {@code value} lies within this interval, {@code false} otherwise
+     * @throws NullPointerException        if {@code value} is {@code null}
+     * @throws IncomparableBoundsException if {@code value} cannot be compared with the endpoints
+     */
+    default boolean contains(Number value) {
+        if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+            return false;
+        }
+
+        BoundComparator comparator = BoundComparator.getInstance();
+
+        int lowerComparison = comparator.compareToValue(getLowerBound(), value);
+        if (lowerComparison > 0 || lowerComparison == 0 && !isLowerClosed()) {
+            return false;
+        }
+
+        int upperComparison = comparator.compareToValue(getUpperBound(), value);
+        return upperComparison > 0 || upperComparison == 0 && isUpperClosed();
+    }
+
+    /**
+     * Determines whether this interval and the specified interval have at least one number in common.
+     * <p>
+     * Intervals that merely touch at an endpoint overlap only if both touching endpoints are closed,
+     * so {@code [1, 2]} overlaps {@code [2, 3]}, while {@code [1, 2)} does not.
+     * Empty intervals do not overlap any interval.
+     * </p>
+     *
+     * @param other the interval to check
+     * @return {@code true} if the intervals intersect, {@code false} otherwise
+     * @throws NullPointerException        if {@code other} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    default boolean overlaps(Interval other) {
+        if (isEmpty() || other.isEmpty()) {
+            return false;
+        }
+
+        return IntervalComparator.isLowerBeforeUpper(
+                getLowerBound(), isLowerClosed(), other.getUpperBound(), other.isUpperClosed()
+        ) && IntervalComparator.isLowerBeforeUpper(
+                other.getLowerBound(), other.isLowerClosed(), getUpperBound(), isUpperClosed()
+        );
+    }
+
+    /**
+     * Determines whether this interval contains every number of the specified interval.
+     * <p>
+     * An empty interval is enclosed by every interval. Otherwise, the lower endpoint of this interval
+     * must not start after the lower endpoint of {@code other}, and the upper endpoint of this interval
+     * must not end before the upper endpoint of {@code other}, taking the inclusivity of equal endpoints
+     * into account.
+     * </p>
+     *
+     * @param other the interval to check
+     * @return {@code true} if {@code other} is a subset of this interval, {@code false} otherwise
+     * @throws NullPointerException        if {@code other} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    default boolean encloses(Interval other) {
+        if (other.isEmpty()) {
+            return true;
+        }
+
+        return IntervalComparator.compareLowerEndpoints(this, other) <= 0
+                && IntervalComparator.compareUpperEndpoints(this, other) >= 0;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.intervals;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A comparator for {@link Interval} instances, ordering intervals by their lower endpoints
+ * and then by their upper endpoints.
+ * <p>
+ * Endpoints are compared with {@link BoundComparator}. When two endpoints are equal, their inclusivity
+ * decides the order:
+ * </p>
+ * <ul>
+ *     <li>A closed lower endpoint precedes an open one, since {@code [1, ...} starts before {@code (1, ...}.</li>
+ *     <li>An open upper endpoint precedes a closed one, since {@code ..., 1)} ends before {@code ..., 1]}.</li>
+ * </ul>
+ *
+ * <p>
+ * The endpoint orderings are also available separately through {@link #compareLowerEndpoints(Interval, Interval)}
+ * and {@link #compareUpperEndpoints(Interval, Interval)}.
+ * </p>
+ *
+ * <p>
+ * The singleton instance of this comparator is accessible via {@link #getInstance()}.
+ * </p>
+ *
+ * @see Interval
+ * @see BoundComparator
+ */
+public final class IntervalComparator implements Comparator<Interval> {
+
+    /**
+     * A singleton instance of {@link IntervalComparator}.
+     */
+    private static final IntervalComparator SINGLETON = new IntervalComparator();
+
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private IntervalComparator() {
+    }
+
+    /**
+     * Returns the singleton instance of {@link IntervalComparator}.
+     *
+     * @return the singleton instance of {@link IntervalComparator}
+     */
+    public static IntervalComparator getInstance() {
+        return SINGLETON;
+    }
+
+    /**
+     * Compares two intervals by their lower endpoints and then by their upper endpoints.
+     *
+     * @param firstInterval  the first interval to compare
+     * @param secondInterval the second interval to compare
+     * @return a negative integer, zero, or a positive integer as {@code firstInterval} is ordered before,
+     * equal to, or after {@code secondInterval}
+     * @throws NullPointerException        if either {@code firstInterval} or {@code secondInterval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    @Override
+    public int compare(Interval firstInterval, Interval secondInterval) {
+        int result = compareLowerEndpoints(firstInterval, secondInterval);
+        return result != 0 ? result : compareUpperEndpoints(firstInterval, secondInterval);
+    }
+
+    /**
+     * Compares the lower endpoints of two intervals.
+     * <p>
+     * A negative result means that {@code firstInterval} starts before {@code secondInterval}.
+     * Equal closed and open endpoints are ordered closed first.
+     * </p>
+     *
+     * @param firstInterval  the first interval
+     * @param secondInterval the second interval
+     * @return a negative integer, zero, or a positive integer as the lower endpoint of {@code firstInterval}
+     * is ordered before, equal to, or after the lower endpoint of {@code secondInterval}
+     * @throws NullPointerException        if either {@code firstInterval} or {@code secondInterval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static int compareLowerEndpoints(Interval firstInterval, Interval secondInterval) {
+        Objects.requireNonNull(firstInterval, "First interval cannot be null");
+        Objects.requireNonNull(secondInterval, "Second interval cannot be null");
+
+        return compareLowerEndpoints(
+                firstInterval.getLowerBound(), firstInterval.isLowerClosed(),
+                secondInterval.getLowerBound(), secondInterval.isLowerClosed()
+        );
+    }
+
+    /**
+     * Compares two lower endpoints given by their boundaries and inclusivity.
+     * <p>
+     * Equal closed and open endpoints are ordered closed first.
+     * </p>
+     *
+     * @param firstBound   the first lower endpoint
+     * @param firstClosed  whether the first lower endpoint is closed
+     * @param secondBound  the second lower endpoint
+     * @param secondClosed whether the second lower endpoint is closed
+     * @return a negative integer, zero, or a positive integer as the first lower endpoint
+     * is ordered before, equal to, or after the second one
+     * @throws NullPointerException        if either {@code firstBound} or {@code secondBound} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static int compareLowerEndpoints(Bound firstBound, boolean firstClosed, Bound secondBound, boolean secondClosed) {
+        int result = BoundComparator.getInstance().compare(firstBound, secondBound);
+        return result != 0 ? result : Boolean.compare(secondClosed, firstClosed);
+    }
+
+    /**
+     * Compares the upper endpoints of two intervals.
+     * <p>
+     * A negative result means that {@code firstInterval} ends before {@code secondInterval}.
+     * Equal open and closed endpoints are ordered open first.
+     * </p>
+     *
+     * @param firstInterval  the first interval
+     * @param secondInterval the second interval
+     * @return a negative integer, zero, or a positive integer as the upper endpoint of {@code firstInterval}
+     * is ordered before, equal to, or after the upper endpoint of {@code secondInterval}
+     * @throws NullPointerException        if either {@code firstInterval} or {@code secondInterval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static int compareUpperEndpoints(Interval firstInterval, Interval secondInterval) {
+        Objects.requireNonNull(firstInterval, "First interval cannot be null");
+        Objects.requireNonNull(secondInterval, "Second interval cannot be null");
+
+        return compareUpperEndpoints(
+                firstInterval.getUpperBound(), firstInterval.isUpperClosed(),
+                secondInterval.getUpperBound(), secondInterval.isUpperClosed()
+        );
+    }
+
+    /**
+     * Compares two upper endpoints given by their boundaries and inclusivity.
+     * <p>
+     * Equal open and closed endpoints are ordered open first.
+     * </p>
+     *
+     * @param firstBound   the first upper endpoint
+     * @param firstClosed  whether the first upper endpoint is closed
+     * @param secondBound  the second upper endpoint
+     * @param secondClosed whether the second upper endpoint is closed
+     * @return a negative integer, zero, or a positive integer as the first upper endpoint
+     * is ordered before, equal to, or after the second one
+     * @throws NullPointerException        if either {@code firstBound} or {@code secondBound} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static int compareUpperEndpoints(Bound firstBound, boolean firstClosed, Bound secondBound, boolean secondClosed) {
+        int result = BoundComparator.getInstance().compare(firstBound, secondBound);
+        return result != 0 ? result : Boolean.compare(firstClosed, secondClosed);
+    }
+
+    /**
+     * Determines whether a lower endpoint lies before an upper endpoint, so that the range between them
+     * contains at least one number.
+     * <p>
+     * Equal endpoints satisfy this condition only if both are closed.
+     * </p>
+     *
+     * @param lowerBound  the lower endpoint
+     * @param lowerClosed whether the lower endpoint is closed
+     * @param upperBound  the upper endpoint
+     * @param upperClosed whether the upper endpoint is closed
+     * @return {@code true} if the range from the lower to the upper endpoint is not empty, {@code false} otherwise
+     * @throws NullPointerException        if either {@code lowerBound} or {@code upperBound} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public static boolean isLowerBeforeUpper(Bound lowerBound, boolean lowerClosed, Bound upperBound, boolean upperClosed) {
+        int result = BoundComparator.getInstance().compare(lowerBound, upperBound);
+        return result < 0 || result == 0 && lowerClosed && upperClosed;
+    }
+}
@@ -0,0 +1,647 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.intervals;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable set of numbers represented as a sorted sequence of disjoint, non-adjacent intervals.
+ * <p>
+ * Intervals added to the set are normalized: empty intervals are dropped, and overlapping or adjacent
+ * intervals are coalesced, so {@code [1, 2)} and {@code [2, 3]} become {@code [1, 3]}. Intervals that only
+ * touch at an endpoint excluded from both, such as {@code [1, 2)} and {@code (2, 3]}, remain separate.
+ * </p>
+ *
+ * <p>
+ * The normalized intervals are stored in parallel arrays of lower endpoints, upper endpoints and
+ * inclusivity flags, without an object per interval. Because the intervals are sorted and disjoint,
+ * membership queries use binary search in {@code O(log n)}, and {@link #union(IntervalSet)},
+ * {@link #intersection(IntervalSet)}, {@link #difference(IntervalSet)} and {@link #complement()} are
+ * computed by a single linear merge of the operands.
+ * </p>
+ *
+ * <p>
+ * Endpoints are compared with {@link BoundComparator}, so sets may contain unbounded intervals.
+ * </p>
+ *
+ * @see Interval
+ * @see IntervalComparator
+ */
+public final class IntervalSet {
+
+    /**
+     * The flag bit indicating that the lower endpoint of an interval is closed.
+     */
+    private static final byte LOWER_CLOSED = 1;
+
+    /**
+     * The flag bit indicating that the upper endpoint of an interval is closed.
+     */
+    private static final byte UPPER_CLOSED = 1 << 1;
+
+    /**
+     * The empty interval set.
+     */
+    private static final IntervalSet EMPTY = new IntervalSet(new Bound[0], new Bound[0], new byte[0], 0);
+
+    /**
+     * The canonical negative infinite bound, used as the lower endpoint of complements.
+     */
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+
+    /**
+     * The canonical positive infinite bound, used as the upper endpoint of complements.
+     */
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    /**
+     * The lower endpoints of the intervals, in ascending order.
+     */
+    private final Bound[] lowerBounds;
+
+    /**
+     * The upper endpoints of the intervals, in ascending order.
+     */
+    private final Bound[] upperBounds;
+
+    /**
+     * The inclusivity flags of the intervals.
+     */
+    private final byte[] flags;
+
+    /**
+     * The number of intervals in this set.
+     */
+    private final int size;
+
+    private IntervalSet(Bound[] lowerBounds, Bound[] upperBounds, byte[] flags, int size) {
+        this.lowerBounds = lowerBounds;
+        this.upperBounds = upperBounds;
+        this.flags = flags;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty interval set.
+     *
+     * @return the empty interval set
+     */
+    public static IntervalSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates an interval set containing the numbers of all specified intervals.
+     *
+     * @param intervals the intervals to include, in any order
+     * @return a new normalized interval set
+     * @throws NullPointerException        if {@code intervals} or any of its elements is {@code null}
+     * @throws IncomparableBoundsException if the endpoints of the intervals cannot be compared
+     */
+    public static IntervalSet of(Interval... intervals) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+        return of(Arrays.asList(intervals));
+    }
+
+    /**
+     * Creates an interval set containing the numbers of all specified intervals.
+     * <p>
+     * The intervals are sorted once by {@link IntervalComparator} and coalesced in a single pass.
+     * </p>
+     *
+     * @param intervals the intervals to include, in any order
+     * @return a new normalized interval set
+     * @throws NullPointerException        if {@code intervals} or any of its elements is {@code null}
+     * @throws IncomparableBoundsException if the endpoints of the intervals cannot be compared
+     */
+    public static IntervalSet of(Collection<? extends Interval> intervals) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+
+        Interval[] sortedIntervals = intervals.toArray(new Interval[0]);
+        for (Interval interval : sortedIntervals) {
+            Objects.requireNonNull(interval, "Interval cannot be null");
+        }
+
+        Arrays.sort(sortedIntervals, IntervalComparator.getInstance());
+
+        Builder builder = new Builder(sortedIntervals.length);
+        for (Interval interval : sortedIntervals) {
+            builder.append(
+                    interval.getLowerBound(), interval.isLowerClosed(),
+                    interval.getUpperBound(), interval.isUpperClosed()
+            );
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of disjoint intervals in this set.
+     *
+     * @return the number of intervals
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines whether this set contains no numbers.
+     *
+     * @return {@code true} if this set is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the lower endpoint of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the lower endpoint of the interval
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Bound getLowerBound(int index) {
+        return lowerBounds[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Returns the upper endpoint of the interval at the specified position.
+     *
+     * @param index the position of the interval
+     * @return the upper endpoint of the interval
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Bound getUpperBound(int index) {
+        return upperBounds[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Determines whether the lower endpoint of the interval at the specified position is closed.
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the lower endpoint is closed, {@code false} if it is open
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean isLowerClosed(int index) {
+        return (flags[Objects.checkIndex(index, size)] & LOWER_CLOSED) != 0;
+    }
+
+    /**
+     * Determines whether the upper endpoint of the interval at the specified position is closed.
+     *
+     * @param index the position of the interval
+     * @return {@code true} if the upper endpoint is closed, {@code false} if it is open
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public boolean isUpperClosed(int index) {
+        return (flags[Objects.checkIndex(index, size)] & UPPER_CLOSED) != 0;
+    }
+
+    /**
+     * Returns the disjoint intervals of this set in ascending order.
+     * <p>
+     * The returned list is an unmodifiable view that creates interval instances on access.
+     * </p>
+     *
+     * @return the intervals of this set
+     */
+    public List<Interval> intervals() {
+        return new IntervalList();
+    }
+
+    /**
+     * Determines whether this set contains the specified number.
+     * <p>
+     * The interval that may contain the value is located by binary search over the lower endpoints.
+     * Infinite and {@code NaN} floating-point values are never contained.
+     * </p>
+     *
+     * @param value the number to check
+     * @return {@code true} if {@code value} belongs to this set, {@code false} otherwise
+     * @throws NullPointerException        if {@code value} is {@code null}
+     * @throws IncomparableBoundsException if {@code value} cannot be compared with the endpoints
+     */
+    public boolean contains(Number value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+
+        if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+            return false;
+        }
+
+        BoundComparator comparator = BoundComparator.getInstance();
+
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparator.compareToValue(lowerBounds[middle], value);
+            if (result < 0 || result == 0 && (flags[middle] & LOWER_CLOSED) != 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        if (high < 0) {
+            return false;
+        }
+
+        int result = comparator.compareToValue(upperBounds[high], value);
+        return result > 0 || result == 0 && (flags[high] & UPPER_CLOSED) != 0;
+    }
+
+    /**
+     * Determines whether this set contains every number of the specified interval.
+     *
+     * @param interval the interval to check
+     * @return {@code true} if {@code interval} is a subset of this set, {@code false} otherwise
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public boolean encloses(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        if (interval.isEmpty()) {
+            return true;
+        }
+
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = IntervalComparator.compareLowerEndpoints(
+                    lowerBounds[middle], isLowerClosedAt(middle), interval.getLowerBound(), interval.isLowerClosed()
+            );
+            if (result <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return high >= 0 && IntervalComparator.compareUpperEndpoints(
+                upperBounds[high], isUpperClosedAt(high), interval.getUpperBound(), interval.isUpperClosed()
+        ) >= 0;
+    }
+
+    /**
+     * Determines whether this set and the specified interval have at least one number in common.
+     *
+     * @param interval the interval to check
+     * @return {@code true} if {@code interval} intersects this set, {@code false} otherwise
+     * @throws NullPointerException        if {@code interval} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public boolean overlaps(Interval interval) {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+
+        if (interval.isEmpty()) {
+            return false;
+        }
+
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (IntervalComparator.isLowerBeforeUpper(
+                    lowerBounds[middle], isLowerClosedAt(middle), interval.getUpperBound(), interval.isUpperClosed()
+            )) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return high >= 0 && IntervalComparator.isLowerBeforeUpper(
+                interval.getLowerBound(), interval.isLowerClosed(), upperBounds[high], isUpperClosedAt(high)
+        );
+    }
+
+    /**
+     * Returns the set of numbers contained in this set or in the specified set.
+     * <p>
+     * Both sets are merged by their lower endpoints and coalesced in a single linear pass.
+     * </p>
+     *
+     * @param other the set to unite with
+     * @return the union of both sets
+     * @throws NullPointerException        if {@code other} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public IntervalSet union(IntervalSet other) {
+        Objects.requireNonNull(other, "Other set cannot be null");
+
+        if (other.isEmpty()) {
+            return this;
+        }
+
+        if (isEmpty()) {
+            return other;
+        }
+
+        Builder builder = new Builder(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            boolean takeThis = j == other.size || i < size && IntervalComparator.compareLowerEndpoints(
+                    lowerBounds[i], isLowerClosedAt(i), other.lowerBounds[j], other.isLowerClosedAt(j)
+            ) <= 0;
+
+            if (takeThis) {
+                builder.append(this, i++);
+            } else {
+                builder.append(other, j++);
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the set of numbers contained in both this set and the specified set.
+     * <p>
+     * The intervals of both sets are traversed simultaneously, advancing past whichever interval ends first.
+     * </p>
+     *
+     * @param other the set to intersect with
+     * @return the intersection of both sets
+     * @throws NullPointerException        if {@code other} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public IntervalSet intersection(IntervalSet other) {
+        Objects.requireNonNull(other, "Other set cannot be null");
+
+        Builder builder = new Builder(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            boolean thisStartsLater = IntervalComparator.compareLowerEndpoints(
+                    lowerBounds[i], isLowerClosedAt(i), other.lowerBounds[j], other.isLowerClosedAt(j)
+            ) >= 0;
+            int upperResult = IntervalComparator.compareUpperEndpoints(
+                    upperBounds[i], isUpperClosedAt(i), other.upperBounds[j], other.isUpperClosedAt(j)
+            );
+
+            Bound lowerBound = thisStartsLater ? lowerBounds[i] : other.lowerBounds[j];
+            boolean lowerClosed = thisStartsLater ? isLowerClosedAt(i) : other.isLowerClosedAt(j);
+            Bound upperBound = upperResult <= 0 ? upperBounds[i] : other.upperBounds[j];
+            boolean upperClosed = upperResult <= 0 ? isUpperClosedAt(i) : other.isUpperClosedAt(j);
+            builder.append(lowerBound, lowerClosed, upperBound, upperClosed);
+
+            if (upperResult <= 0) {
+                i++;
+            }
+
+            if (upperResult >= 0) {
+                j++;
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the set of numbers contained in this set but not in the specified set.
+     *
+     * @param other the set to subtract
+     * @return the difference of both sets
+     * @throws NullPointerException        if {@code other} is {@code null}
+     * @throws IncomparableBoundsException if the endpoints cannot be compared
+     */
+    public IntervalSet difference(IntervalSet other) {
+        Objects.requireNonNull(other, "Other set cannot be null");
+
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+
+        return intersection(other.complement());
+    }
+
+    /**
+     * Returns the set of all numbers not contained in this set.
+     * <p>
+     * The complement consists of the gaps between consecutive intervals, plus the unbounded ranges before
+     * the first and after the last interval. Each gap endpoint has the opposite inclusivity of the interval
+     * endpoint it borders.
+     * </p>
+     *
+     * @return the complement of this set
+     */
+    public IntervalSet complement() {
+        Builder builder = new Builder(size + 1);
+
+        Bound lowerBound = NEGATIVE_INFINITY;
+        boolean lowerClosed = false;
+        for (int i = 0; i < size; i++) {
+            if (i > 0 || lowerBounds[i].isFinite()) {
+                builder.appendDisjoint(lowerBound, lowerClosed, lowerBounds[i], !isLowerClosedAt(i));
+            }
+
+            lowerBound = upperBounds[i];
+            lowerClosed = !isUpperClosedAt(i);
+        }
+
+        if (lowerBound.isFinite() || size == 0) {
+            builder.appendDisjoint(lowerBound, lowerClosed, POSITIVE_INFINITY, false);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the hash code for this set, derived from its normalized intervals.
+     *
+     * @return the hash code of this set
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + lowerBounds[i].hashCode();
+            result = 31 * result + upperBounds[i].hashCode();
+            result = 31 * result + flags[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks whether this set is equal to another object.
+     * <p>
+     * Two interval sets are equal if their normalized intervals have equal endpoints according to
+     * {@link Bound#equals(Object)} and the same inclusivity.
+     * </p>
+     *
+     * @param object the object to compare with this instance
+     * @return {@code true} if the given object is an equal interval set, {@code false} otherwise
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof IntervalSet other) || size != other.size) {
+            return false;
+        }
+
+        return Arrays.equals(flags, 0, size, other.flags, 0, size)
+                && Arrays.equals(lowerBounds, 0, size, other.lowerBounds, 0, size)
+                && Arrays.equals(upperBounds, 0, size, other.upperBounds, 0, size);
+    }
+
+    /**
+     * Returns a string representation of this set, listing its intervals in ascending order.
+     *
+     * @return a string representation of this set
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(isLowerClosedAt(i) ? '[' : '(')
+                    .append(lowerBounds[i])
+                    .append(", ")
+                    .append(upperBounds[i])
+                    .append(isUpperClosedAt(i) ? ']' : ')');
+        }
+
+        return builder.append('}').toString();
+    }
+
+    private boolean isLowerClosedAt(int index) {
+        return (flags[index] & LOWER_CLOSED) != 0;
+    }
+
+    private boolean isUpperClosedAt(int index) {
+        return (flags[index] & UPPER_CLOSED) != 0;
+    }
+
+    /**
+     * An unmodifiable list view of the intervals of this set.
+     */
+    private final class IntervalList extends AbstractList<Interval> implements RandomAccess {
+
+        @Override
+        public Interval get(int index) {
+            Objects.checkIndex(index, size);
+            return ImmutableInterval.of(
+                    lowerBounds[index], isLowerClosedAt(index), upperBounds[index], isUpperClosedAt(index)
+            );
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Accumulates intervals appended in ascending order of their lower endpoints into parallel arrays,
+     * dropping empty intervals and coalescing overlapping or adjacent ones.
+     */
+    private static final class Builder {
+
+        private Bound[] lowerBounds;
+
+        private Bound[] upperBounds;
+
+        private byte[] flags;
+
+        private int size;
+
+        private Builder(int capacity) {
+            capacity = Math.max(capacity, 1);
+            lowerBounds = new Bound[capacity];
+            upperBounds = new Bound[capacity];
+            flags = new byte[capacity];
+        }
+
+        private void append(IntervalSet set, int index) {
+            append(set.lowerBounds[index], set.isLowerClosedAt(index), set.upperBounds[index], set.isUpperClosedAt(index));
+        }
+
+        private void append(Bound lowerBound, boolean lowerClosed, Bound upperBound, boolean upperClosed) {
+            lowerClosed &= lowerBound.isFinite();
+            upperClosed &= upperBound.isFinite();
+
+            if (!IntervalComparator.isLowerBeforeUpper(lowerBound, lowerClosed, upperBound, upperClosed)) {
+                return;
+            }
+
+            if (size > 0) {
+                int last = size - 1;
+                boolean lastUpperClosed = (flags[last] & UPPER_CLOSED) != 0;
+                int result = BoundComparator.getInstance().compare(lowerBound, upperBounds[last]);
+
+                if (result < 0 || result == 0 && (lowerClosed || lastUpperClosed)) {
+                    if (IntervalComparator.compareUpperEndpoints(
+                            upperBound, upperClosed, upperBounds[last], lastUpperClosed
+                    ) > 0) {
+                        upperBounds[last] = upperBound;
+                        flags[last] = (byte) ((flags[last] & LOWER_CLOSED) | (upperClosed ? UPPER_CLOSED : 0));
+                    }
+
+                    return;
+                }
+            }
+
+            appendDisjoint(lowerBound, lowerClosed, upperBound, upperClosed);
+        }
+
+        /**
+         * Appends a non-empty interval known to be disjoint from and not adjacent to the previous one.
+         */
+        private void appendDisjoint(Bound lowerBound, boolean lowerClosed, Bound upperBound, boolean upperClosed) {
+            if (size == lowerBounds.length) {
+                int capacity = size * 2;
+                lowerBounds = Arrays.copyOf(lowerBounds, capacity);
+                upperBounds = Arrays.copyOf(upperBounds, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+            }
+
+            lowerBounds[size] = lowerBound;
+            upperBounds[size] = upperBound;
+            flags[size] = (byte) ((lowerClosed ? LOWER_CLOSED : 0) | (upperClosed ? UPPER_CLOSED : 0));
+            size++;
+        }
+
+        private IntervalSet build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            return new IntervalSet(lowerBounds, upperBounds, flags, size);
+        }
+    }
+}
@@ -0,0 +1,505 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.intervals;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Classifies batches of primitive points against the intervals of an {@link IntervalSet}.
+ * <p>
+ * On creation, every interval of the set is translated into a pair of closed primitive thresholds per point
+ * type: the least {@code double} (or {@code long}) value the interval contains and the greatest one. Intervals
+ * that contain no value of a type, such as {@code (0.1, 0.1000000000000000001)} for {@code double} or
+ * {@code (1, 2)} for {@code long}, are left out for that type. Classifying a point then needs no
+ * {@link Bound} comparisons: if {@code L} thresholds of lower endpoints are at most the point and {@code U}
+ * thresholds of upper endpoints are below it, the point lies in the interval {@code L - 1} exactly when
+ * {@code L - U == 1}, because the intervals are sorted and disjoint.
+ * </p>
+ *
+ * <p>
+ * If the {@code jdk.incubator.vector} module is resolved, for example with
+ * {@code --add-modules jdk.incubator.vector}, and the platform offers vectors of at least two {@code double}
+ * lanes, sets of up to {@link #VECTOR_THRESHOLD} intervals are classified a whole vector of points at a time
+ * by counting thresholds with lane-wise comparisons. Otherwise, and for larger sets, each point is classified
+ * by binary search over the thresholds. Both paths yield identical results, which equal those of
+ * {@link IntervalSet#contains(Number)}: in particular, infinite and {@code NaN} points are never contained.
+ * The module does not require {@code jdk.incubator.vector}: the vector kernels are compiled from a separate
+ * source root and loaded reflectively.
+ * </p>
+ *
+ * <p>
+ * Instances are immutable and safe for concurrent use.
+ * </p>
+ *
+ * @see IntervalSet
+ */
+public final class PointClassifier {
+
+    /**
+     * The maximum number of intervals for which points are classified with vector operations.
+     * <p>
+     * Counting thresholds takes time linear in the number of intervals, so beyond this size binary search
+     * is faster even though it handles one point at a time.
+     * </p>
+     */
+    public static final int VECTOR_THRESHOLD = 32;
+
+    /**
+     * The name of the module providing vector operations.
+     */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /**
+     * The name of the class implementing {@link PointKernels} with vector operations.
+     */
+    private static final String VECTOR_KERNELS_CLASS = "xyz.derivora.intervalkit.intervals.VectorPointKernels";
+
+    /**
+     * The vector kernels, or {@code null} if vector operations are unavailable or not worthwhile.
+     */
+    private static final PointKernels VECTOR_KERNELS = loadVectorKernels();
+
+    /**
+     * Whether the vector operations of {@code jdk.incubator.vector} are available and worthwhile.
+     */
+    private static final boolean VECTORIZED = VECTOR_KERNELS != null;
+
+    /**
+     * The classified interval set.
+     */
+    private final IntervalSet intervalSet;
+
+    /**
+     * The least {@code double} value of each interval containing {@code double} values, in ascending order.
+     */
+    private final double[] doubleLowers;
+
+    /**
+     * The greatest {@code double} value of each interval containing {@code double} values, in ascending order.
+     */
+    private final double[] doubleUppers;
+
+    /**
+     * The positions in the set of the intervals containing {@code double} values, or {@code null} if these
+     * are all intervals of the set.
+     */
+    private final int[] doublePositions;
+
+    /**
+     * The least {@code long} value of each interval containing {@code long} values, in ascending order.
+     */
+    private final long[] longLowers;
+
+    /**
+     * The greatest {@code long} value of each interval containing {@code long} values, in ascending order.
+     */
+    private final long[] longUppers;
+
+    /**
+     * The positions in the set of the intervals containing {@code long} values, or {@code null} if these
+     * are all intervals of the set.
+     */
+    private final int[] longPositions;
+
+    /**
+     * Creates a classifier for the given interval set.
+     *
+     * @param intervalSet the interval set
+     * @throws IllegalArgumentException if a finite endpoint of the set is not of a standard numeric type
+     */
+    private PointClassifier(IntervalSet intervalSet) {
+        this.intervalSet = intervalSet;
+
+        int size = intervalSet.size();
+        double[] lowerDoubles = new double[size];
+        double[] upperDoubles = new double[size];
+        int[] doubleIndexes = new int[size];
+        long[] lowerLongs = new long[size];
+        long[] upperLongs = new long[size];
+        int[] longIndexes = new int[size];
+        int doubleCount = 0;
+        int longCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            BigDecimal lower = toBigDecimal(intervalSet.getLowerBound(i));
+            BigDecimal upper = toBigDecimal(intervalSet.getUpperBound(i));
+            boolean lowerClosed = intervalSet.isLowerClosed(i);
+            boolean upperClosed = intervalSet.isUpperClosed(i);
+
+            double lowerDouble = lower == null ? -Double.MAX_VALUE : leastDouble(lower, lowerClosed);
+            double upperDouble = upper == null ? Double.MAX_VALUE : greatestDouble(upper, upperClosed);
+            if (lowerDouble <= upperDouble) {
+                lowerDoubles[doubleCount] = lowerDouble;
+                upperDoubles[doubleCount] = upperDouble;
+                doubleIndexes[doubleCount++] = i;
+            }
+
+            BigDecimal lowerLong = lower == null ? BigDecimal.valueOf(Long.MIN_VALUE) : leastInteger(lower, lowerClosed);
+            BigDecimal upperLong = upper == null ? BigDecimal.valueOf(Long.MAX_VALUE) : greatestInteger(upper, upperClosed);
+            lowerLong = lowerLong.max(BigDecimal.valueOf(Long.MIN_VALUE));
+            upperLong = upperLong.min(BigDecimal.valueOf(Long.MAX_VALUE));
+            if (lowerLong.compareTo(upperLong) <= 0) {
+                lowerLongs[longCount] = lowerLong.longValueExact();
+                upperLongs[longCount] = upperLong.longValueExact();
+                longIndexes[longCount++] = i;
+            }
+        }
+
+        this.doubleLowers = Arrays.copyOf(lowerDoubles, doubleCount);
+        this.doubleUppers = Arrays.copyOf(upperDoubles, doubleCount);
+        this.doublePositions = doubleCount == size ? null : Arrays.copyOf(doubleIndexes, doubleCount);
+        this.longLowers = Arrays.copyOf(lowerLongs, longCount);
+        this.longUppers = Arrays.copyOf(upperLongs, longCount);
+        this.longPositions = longCount == size ? null : Arrays.copyOf(longIndexes, longCount);
+    }
+
+    /**
+     * Creates a classifier for the given interval set.
+     *
+     * @param intervalSet the interval set to classify points against
+     * @return a new classifier
+     * @throws NullPointerException     if {@code intervalSet} is {@code null}
+     * @throws IllegalArgumentException if a finite endpoint of the set is not of a standard numeric type
+     */
+    public static PointClassifier of(IntervalSet intervalSet) {
+        Objects.requireNonNull(intervalSet, "Interval set cannot be null");
+        return new PointClassifier(intervalSet);
+    }
+
+    /**
+     * Checks whether points are classified with the vector operations of {@code jdk.incubator.vector}
+     * in this runtime.
+     *
+     * @return {@code true} if vector operations are used for small sets, {@code false} otherwise
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Returns the interval set this classifier classifies points against.
+     *
+     * @return the interval set
+     */
+    public IntervalSet getIntervalSet() {
+        return intervalSet;
+    }
+
+    /**
+     * Finds the interval of the set containing each of the given points.
+     *
+     * @param points  the points to classify
+     * @param indexes the array receiving, for each point, the position of the interval containing it,
+     *                or {@code -1} if no interval contains it
+     * @throws NullPointerException     if {@code points} or {@code indexes} is {@code null}
+     * @throws IllegalArgumentException if {@code indexes} is shorter than {@code points}
+     */
+    public void classify(double[] points, int[] indexes) {
+        Objects.requireNonNull(points, "Points cannot be null");
+        Objects.requireNonNull(indexes, "Indexes cannot be null");
+        checkLength(points.length, indexes.length);
+
+        int from = 0;
+        if (VECTORIZED && doubleLowers.length <= VECTOR_THRESHOLD) {
+            from = VECTOR_KERNELS.classify(doubleLowers, doubleUppers, points, indexes);
+        }
+        for (int i = from; i < points.length; i++) {
+            indexes[i] = find(doubleLowers, doubleUppers, points[i]);
+        }
+
+        remap(indexes, points.length, doublePositions);
+    }
+
+    /**
+     * Finds the interval of the set containing each of the given points.
+     *
+     * @param points  the points to classify
+     * @param indexes the array receiving, for each point, the position of the interval containing it,
+     *                or {@code -1} if no interval contains it
+     * @throws NullPointerException     if {@code points} or {@code indexes} is {@code null}
+     * @throws IllegalArgumentException if {@code indexes} is shorter than {@code points}
+     */
+    public void classify(long[] points, int[] indexes) {
+        Objects.requireNonNull(points, "Points cannot be null");
+        Objects.requireNonNull(indexes, "Indexes cannot be null");
+        checkLength(points.length, indexes.length);
+
+        int from = 0;
+        if (VECTORIZED && longLowers.length <= VECTOR_THRESHOLD) {
+            from = VECTOR_KERNELS.classify(longLowers, longUppers, points, indexes);
+        }
+        for (int i = from; i < points.length; i++) {
+            indexes[i] = find(longLowers, longUppers, points[i]);
+        }
+
+        remap(indexes, points.length, longPositions);
+    }
+
+    /**
+     * Determines for each of the given points whether the set contains it.
+     *
+     * @param points  the points to check
+     * @param results the array receiving, for each point, whether the set contains it
+     * @throws NullPointerException     if {@code points} or {@code results} is {@code null}
+     * @throws IllegalArgumentException if {@code results} is shorter than {@code points}
+     */
+    public void contains(double[] points, boolean[] results) {
+        Objects.requireNonNull(points, "Points cannot be null");
+        Objects.requireNonNull(results, "Results cannot be null");
+        checkLength(points.length, results.length);
+
+        int from = 0;
+        if (VECTORIZED && doubleLowers.length <= VECTOR_THRESHOLD) {
+            from = VECTOR_KERNELS.contains(doubleLowers, doubleUppers, points, results);
+        }
+        for (int i = from; i < points.length; i++) {
+            results[i] = find(doubleLowers, doubleUppers, points[i]) >= 0;
+        }
+    }
+
+    /**
+     * Determines for each of the given points whether the set contains it.
+     *
+     * @param points  the points to check
+     * @param results the array receiving, for each point, whether the set contains it
+     * @throws NullPointerException     if {@code points} or {@code results} is {@code null}
+     * @throws IllegalArgumentException if {@code results} is shorter than {@code points}
+     */
+    public void contains(long[] points, boolean[] results) {
+        Objects.requireNonNull(points, "Points cannot be null");
+        Objects.requireNonNull(results, "Results cannot be null");
+        checkLength(points.length, results.length);
+
+        int from = 0;
+        if (VECTORIZED && longLowers.length <= VECTOR_THRESHOLD) {
+            from = VECTOR_KERNELS.contains(longLowers, longUppers, points, results);
+        }
+        for (int i = from; i < points.length; i++) {
+            results[i] = find(longLowers, longUppers, points[i]) >= 0;
+        }
+    }
+
+    /**
+     * Loads the vector kernels if {@code jdk.incubator.vector} is resolved in the boot layer.
+     * <p>
+     * The module descriptor does not require the incubating module, so this module is made to read it before
+     * the kernels, which are compiled separately, are loaded reflectively.
+     * </p>
+     *
+     * @return the vector kernels, or {@code null} if they are unavailable or not supported on this platform
+     */
+    private static PointKernels loadVectorKernels() {
+        Module vectorModule = ModuleLayer.boot().findModule(VECTOR_MODULE).orElse(null);
+        if (vectorModule == null) {
+            return null;
+        }
+
+        PointClassifier.class.getModule().addReads(vectorModule);
+        try {
+            PointKernels kernels = (PointKernels) Class.forName(VECTOR_KERNELS_CLASS)
+                    .getDeclaredConstructor()
+                    .newInstance();
+            return kernels.isSupported() ? kernels : null;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the threshold pair containing a point by binary search over the lower thresholds.
+     *
+     * @param lowers the lower thresholds, in ascending order
+     * @param uppers the upper thresholds, in ascending order
+     * @param point  the point
+     * @return the position of the pair containing {@code point}, or {@code -1} if there is none
+     */
+    private static int find(double[] lowers, double[] uppers, double point) {
+        int low = 0;
+        int high = lowers.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lowers[middle] <= point) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && point <= uppers[high] ? high : -1;
+    }
+
+    /**
+     * Finds the threshold pair containing a point by binary search over the lower thresholds.
+     *
+     * @param lowers the lower thresholds, in ascending order
+     * @param uppers the upper thresholds, in ascending order
+     * @param point  the point
+     * @return the position of the pair containing {@code point}, or {@code -1} if there is none
+     */
+    private static int find(long[] lowers, long[] uppers, long point) {
+        int low = 0;
+        int high = lowers.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (lowers[middle] <= point) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= 0 && point <= uppers[high] ? high : -1;
+    }
+
+    /**
+     * Translates positions of threshold pairs into positions of intervals in the set.
+     *
+     * @param indexes   the positions to translate in place; {@code -1} is kept
+     * @param length    the number of positions
+     * @param positions the positions of the intervals in the set, or {@code null} if they are the same
+     */
+    private static void remap(int[] indexes, int length, int[] positions) {
+        if (positions == null) {
+            return;
+        }
+
+        for (int i = 0; i < length; i++) {
+            int index = indexes[i];
+            if (index >= 0) {
+                indexes[i] = positions[index];
+            }
+        }
+    }
+
+    /**
+     * Checks that the output array of a batch operation can hold a result for every point.
+     *
+     * @param pointCount   the length of the input array
+     * @param resultLength the length of the output array
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     */
+    private static void checkLength(int pointCount, int resultLength) {
+        if (resultLength < pointCount) {
+            throw new IllegalArgumentException(String.format(
+                    "Result array of length %d cannot hold %d points", resultLength, pointCount
+            ));
+        }
+    }
+
+    /**
+     * Returns the exact value of a finite boundary.
+     *
+     * @param bound the boundary
+     * @return the value of {@code bound}, or {@code null} if it is infinite
+     * @throws IllegalArgumentException if the value is not of a standard numeric type
+     */
+    private static BigDecimal toBigDecimal(Bound bound) {
+        if (bound.isInfinite()) {
+            return null;
+        }
+
+        Number value = ((FiniteBound<?>) bound).getValue();
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(value.longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return new BigDecimal(value.doubleValue());
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        }
+        if (value instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        }
+
+        throw new IllegalArgumentException(String.format(
+                "Endpoint value %s of type %s is not of a standard numeric type", value, value.getClass().getName()
+        ));
+    }
+
+    /**
+     * Returns the least {@code double} value at or above (or strictly above) the given value.
+     *
+     * @param value  the value
+     * @param closed whether {@code value} itself qualifies
+     * @return the least qualifying finite {@code double}, or positive infinity if there is none
+     */
+    private static double leastDouble(BigDecimal value, boolean closed) {
+        double result = value.doubleValue();
+        if (result == Double.NEGATIVE_INFINITY) {
+            return -Double.MAX_VALUE;
+        }
+        if (result == Double.POSITIVE_INFINITY) {
+            return result;
+        }
+
+        int comparison = new BigDecimal(result).compareTo(value);
+        return comparison < 0 || comparison == 0 && !closed ? Math.nextUp(result) : result;
+    }
+
+    /**
+     * Returns the greatest {@code double} value at or below (or strictly below) the given value.
+     *
+     * @param value  the value
+     * @param closed whether {@code value} itself qualifies
+     * @return the greatest qualifying finite {@code double}, or negative infinity if there is none
+     */
+    private static double greatestDouble(BigDecimal value, boolean closed) {
+        double result = value.doubleValue();
+        if (result == Double.POSITIVE_INFINITY) {
+            return Double.MAX_VALUE;
+        }
+        if (result == Double.NEGATIVE_INFINITY) {
+            return result;
+        }
+
+        int comparison = new BigDecimal(result).compareTo(value);
+        return comparison > 0 || comparison == 0 && !closed ? Math.nextDown(result) : result;
+    }
+
+    /**
+     * Returns the least integer at or above (or strictly above) the given value.
+     *
+     * @param value  the value
+     * @param closed whether {@code value} itself qualifies
+     * @return the least qualifying integer
+     */
+    private static BigDecimal leastInteger(BigDecimal value, boolean closed) {
+        return closed
+                ? value.setScale(0, RoundingMode.CEILING)
+                : value.setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE);
+    }
+
+    /**
+     * Returns the greatest integer at or below (or strictly below) the given value.
+     *
+     * @param value  the value
+     * @param closed whether {@code value} itself qualifies
+     * @return the greatest qualifying integer
+     */
+    private static BigDecimal greatestInteger(BigDecimal value, boolean closed) {
+        return closed
+                ? value.setScale(0, RoundingMode.FLOOR)
+                : value.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE);
+    }
+}
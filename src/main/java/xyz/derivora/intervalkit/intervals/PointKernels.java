@@ -0,0 +1,81 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.intervals;
+
+/**
+ * Bulk kernels of {@link PointClassifier} that classify whole vectors of points at a time.
+ * <p>
+ * The module contains no implementation built into its main source root; the vector implementation is
+ * compiled separately against the incubating {@code jdk.incubator.vector} module and loaded reflectively
+ * by {@link PointClassifier} when that module is available. Each kernel processes a leading run of the points
+ * and returns its length, leaving the remaining tail to the caller.
+ * </p>
+ */
+interface PointKernels {
+
+    /**
+     * Checks whether the kernels are worthwhile on this platform.
+     *
+     * @return {@code true} if the kernels should be used, {@code false} otherwise
+     */
+    boolean isSupported();
+
+    /**
+     * Finds the threshold pair containing each point, for a leading run of the points.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param indexes the array receiving the position of the pair containing each point, or {@code -1}
+     * @return the number of leading points processed
+     */
+    int classify(double[] lowers, double[] uppers, double[] points, int[] indexes);
+
+    /**
+     * Finds the threshold pair containing each point, for a leading run of the points.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param indexes the array receiving the position of the pair containing each point, or {@code -1}
+     * @return the number of leading points processed
+     */
+    int classify(long[] lowers, long[] uppers, long[] points, int[] indexes);
+
+    /**
+     * Determines whether a threshold pair contains each point, for a leading run of the points.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param results the array receiving whether a pair contains each point
+     * @return the number of leading points processed
+     */
+    int contains(double[] lowers, double[] uppers, double[] points, boolean[] results);
+
+    /**
+     * Determines whether a threshold pair contains each point, for a leading run of the points.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param results the array receiving whether a pair contains each point
+     * @return the number of leading points processed
+     */
+    int contains(long[] lowers, long[] uppers, long[] points, boolean[] results);
+}
@@ -0,0 +1,45 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides abstractions for representing and handling numerical intervals.
+ * <p>
+ * An interval is delimited by two {@link xyz.derivora.intervalkit.bounds.Bound} instances, each of which
+ * is either closed or open. The package includes:
+ * </p>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.intervals.Interval} – the interval abstraction with membership,
+ *         overlap and enclosure operations.</li>
+ *     <li>{@link xyz.derivora.intervalkit.intervals.ImmutableInterval} – a compact immutable implementation.</li>
+ *     <li>{@link xyz.derivora.intervalkit.intervals.IntervalComparator} – orders intervals by their endpoints.</li>
+ *     <li>{@link xyz.derivora.intervalkit.intervals.IntervalSet} – an immutable set of disjoint, coalesced intervals
+ *         supporting union, intersection, difference and complement.</li>
+ *     <li>{@link xyz.derivora.intervalkit.intervals.PointClassifier} – classifies batches of primitive points
+ *         against an interval set, with vector operations where available.</li>
+ * </ul>
+ *
+ * <p>
+ * All operations rely on {@link xyz.derivora.intervalkit.bounds.comparison.BoundComparator}, ensuring that
+ * finite and infinite endpoints are handled consistently with boundary comparison.
+ * </p>
+ *
+ * @see xyz.derivora.intervalkit.intervals.Interval
+ * @see xyz.derivora.intervalkit.intervals.ImmutableInterval
+ * @see xyz.derivora.intervalkit.intervals.IntervalComparator
+ * @see xyz.derivora.intervalkit.intervals.IntervalSet
+ */
+package xyz.derivora.intervalkit.intervals;
@@ -0,0 +1,169 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the comparisons performed through a {@link CountingBoundComparator}.
+ * <p>
+ * Every counter is a {@link LongAdder}, so threads comparing boundaries concurrently update separate cells
+ * instead of contending on a shared variable. While the metrics are disabled, recording costs a single read
+ * of a {@code volatile} flag.
+ * </p>
+ *
+ * @see CountingBoundComparator
+ * @see BoundComparisonMetricsMXBean
+ */
+public final class BoundComparisonMetrics implements BoundComparisonMetricsMXBean {
+
+    /**
+     * The value of the {@code type} key of the object name under which the metrics are registered.
+     */
+    private static final String MBEAN_TYPE = "BoundComparator";
+
+    /**
+     * The number of kinds of boundaries.
+     */
+    private static final int TYPES = ValueType.VALUES.length;
+
+    /**
+     * The number of comparisons per ordered pair of {@link ValueType}s, indexed by
+     * {@code first.ordinal() * TYPES + second.ordinal()}.
+     */
+    private final LongAdder[] counts = new LongAdder[TYPES * TYPES];
+
+    /**
+     * The number of comparisons of incomparable boundaries.
+     */
+    private final LongAdder incomparableCount = new LongAdder();
+
+    /**
+     * Indicates whether comparisons are counted.
+     */
+    private volatile boolean enabled = true;
+
+    /**
+     * Constructs metrics with all counts set to zero.
+     */
+    BoundComparisonMetrics() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getComparisonCount() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getComparisonCountsByTypes() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            long count = counts[i].sum();
+            if (count != 0) {
+                result.put(ValueType.VALUES[i / TYPES].name() + ':' + ValueType.VALUES[i % TYPES].name(), count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long getIncomparableCount() {
+        return incomparableCount.sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Counts recorded concurrently with the reset may be lost.
+     * </p>
+     */
+    @Override
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+        incomparableCount.reset();
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server.
+     * <p>
+     * The object name is {@code xyz.derivora.intervalkit:type=BoundComparator,name="<name>"}.
+     * </p>
+     * <p>
+     * JMX is optional: this method needs the {@code java.management} module at runtime, while the counters
+     * work without it.
+     * </p>
+     *
+     * @param name the name distinguishing these metrics from the metrics of other comparators
+     * @return the object name under which the metrics were registered
+     * @throws NullPointerException  if {@code name} is {@code null}
+     * @throws IllegalStateException if the {@code java.management} module is not available at runtime
+     * @throws JMException           if the metrics cannot be registered, for example because the name is taken
+     */
+    @SuppressWarnings("exports") // java.management is optional, callers of this method resolve it themselves
+    public ObjectName register(String name) throws JMException {
+        return MBeans.register(this, MBEAN_TYPE, name);
+    }
+
+    /**
+     * Records a completed comparison.
+     * <p>
+     * The caller checks {@link #isEnabled()} before comparing, so that disabled metrics skip the classification.
+     * </p>
+     *
+     * @param firstBound  the first compared boundary
+     * @param secondBound the second compared boundary
+     */
+    void recordComparison(Bound firstBound, Bound secondBound) {
+        counts[ValueType.of(firstBound).ordinal() * TYPES + ValueType.of(secondBound).ordinal()].increment();
+    }
+
+    /**
+     * Records a comparison of incomparable boundaries.
+     * <p>
+     * The caller checks {@link #isEnabled()} before comparing.
+     * </p>
+     */
+    void recordIncomparable() {
+        incomparableCount.increment();
+    }
+}
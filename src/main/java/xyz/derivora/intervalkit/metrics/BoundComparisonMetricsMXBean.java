@@ -0,0 +1,73 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link BoundComparisonMetrics}, published through JMX.
+ * <p>
+ * Counts are recorded only while the metrics are enabled. The keys of {@link #getComparisonCountsByTypes()}
+ * name the kinds of both compared boundaries, such as {@code LONG:DOUBLE} or {@code INFINITE:BIG_DECIMAL},
+ * where finite boundaries are named after the type of their value.
+ * </p>
+ *
+ * @see BoundComparisonMetrics
+ */
+public interface BoundComparisonMetricsMXBean {
+
+    /**
+     * Determines whether comparisons are currently counted.
+     *
+     * @return {@code true} if the metrics are enabled, {@code false} otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables counting.
+     *
+     * @param enabled {@code true} to count comparisons, {@code false} to stop counting
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of completed comparisons.
+     *
+     * @return the number of comparisons
+     */
+    long getComparisonCount();
+
+    /**
+     * Returns the number of completed comparisons per pair of boundary kinds.
+     *
+     * @return a new map from pairs of kinds to counts, omitting pairs that were never compared
+     */
+    Map<String, Long> getComparisonCountsByTypes();
+
+    /**
+     * Returns the number of comparisons that failed because the boundaries were incomparable.
+     *
+     * @return the number of incomparable comparisons
+     */
+    long getIncomparableCount();
+
+    /**
+     * Resets all counts to zero.
+     */
+    void reset();
+}
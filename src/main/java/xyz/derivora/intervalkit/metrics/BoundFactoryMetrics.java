@@ -0,0 +1,217 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.factory.InterningBoundFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the boundaries created through an {@link InstrumentedBoundFactory}.
+ * <p>
+ * Every counter is a {@link LongAdder}, so threads creating boundaries concurrently update separate cells
+ * instead of contending on a shared variable. While the metrics are disabled, recording costs a single read
+ * of a {@code volatile} flag.
+ * </p>
+ *
+ * <p>
+ * If the instrumented factory is an {@link InterningBoundFactory}, its cache hits and misses are reported
+ * as well. They are read from the factory on demand and are not affected by disabling the metrics.
+ * </p>
+ *
+ * @see InstrumentedBoundFactory
+ * @see BoundFactoryMetricsMXBean
+ */
+public final class BoundFactoryMetrics implements BoundFactoryMetricsMXBean {
+
+    /**
+     * The value of the {@code type} key of the object name under which the metrics are registered.
+     */
+    private static final String MBEAN_TYPE = "BoundFactory";
+
+    /**
+     * The number of boundaries requested per {@link ValueType}, indexed by ordinal.
+     */
+    private final LongAdder[] counts = new LongAdder[ValueType.VALUES.length];
+
+    /**
+     * The interning factory whose cache statistics are reported, or {@code null} if there is none.
+     */
+    private final InterningBoundFactory cache;
+
+    /**
+     * Indicates whether calls are counted.
+     */
+    private volatile boolean enabled = true;
+
+    /**
+     * The cache hit count of {@link #cache} at the last reset.
+     */
+    private volatile long hitBaseline;
+
+    /**
+     * The cache miss count of {@link #cache} at the last reset.
+     */
+    private volatile long missBaseline;
+
+    /**
+     * Constructs the metrics of a factory.
+     *
+     * @param factory the instrumented factory
+     */
+    BoundFactoryMetrics(BoundFactory factory) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+        cache = factory instanceof InterningBoundFactory interningFactory ? interningFactory : null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public long getInfiniteBoundCount() {
+        return counts[ValueType.INFINITE.ordinal()].sum();
+    }
+
+    @Override
+    public long getFiniteBoundCount() {
+        long total = 0;
+        for (ValueType type : ValueType.VALUES) {
+            if (type != ValueType.INFINITE) {
+                total += counts[type.ordinal()].sum();
+            }
+        }
+        return total;
+    }
+
+    @Override
+    public Map<String, Long> getFiniteBoundCountsByType() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (ValueType type : ValueType.VALUES) {
+            long count = counts[type.ordinal()].sum();
+            if (type != ValueType.INFINITE && count != 0) {
+                result.put(type.name(), count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long getCacheHitCount() {
+        return cache == null ? 0 : cache.getHitCount() - hitBaseline;
+    }
+
+    @Override
+    public long getCacheMissCount() {
+        return cache == null ? 0 : cache.getMissCount() - missBaseline;
+    }
+
+    @Override
+    public double getCacheHitRate() {
+        long hits = getCacheHitCount();
+        long lookups = hits + getCacheMissCount();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Counts recorded concurrently with the reset may be lost. The cache statistics of an interning
+     * factory are reported relative to their values at the time of the reset.
+     * </p>
+     */
+    @Override
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+        if (cache != null) {
+            hitBaseline = cache.getHitCount();
+            missBaseline = cache.getMissCount();
+        }
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server.
+     * <p>
+     * The object name is {@code xyz.derivora.intervalkit:type=BoundFactory,name="<name>"}.
+     * </p>
+     * <p>
+     * JMX is optional: this method needs the {@code java.management} module at runtime, while the counters
+     * work without it.
+     * </p>
+     *
+     * @param name the name distinguishing these metrics from the metrics of other factories
+     * @return the object name under which the metrics were registered
+     * @throws NullPointerException  if {@code name} is {@code null}
+     * @throws IllegalStateException if the {@code java.management} module is not available at runtime
+     * @throws JMException           if the metrics cannot be registered, for example because the name is taken
+     */
+    @SuppressWarnings("exports") // java.management is optional, callers of this method resolve it themselves
+    public ObjectName register(String name) throws JMException {
+        return MBeans.register(this, MBEAN_TYPE, name);
+    }
+
+    /**
+     * Records the request of a single boundary of a known kind.
+     *
+     * @param type the kind of the boundary
+     */
+    void record(ValueType type) {
+        if (enabled) {
+            counts[type.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Records the request of several boundaries of a known kind.
+     *
+     * @param type  the kind of the boundaries
+     * @param count the number of boundaries
+     */
+    void record(ValueType type, int count) {
+        if (enabled) {
+            counts[type.ordinal()].add(count);
+        }
+    }
+
+    /**
+     * Records the creation of a boundary whose kind is determined from the boundary itself.
+     *
+     * @param bound the created boundary
+     */
+    void record(Bound bound) {
+        if (enabled) {
+            counts[ValueType.of(bound).ordinal()].increment();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link BoundFactoryMetrics}, published through JMX.
+ * <p>
+ * Counts are recorded only while the metrics are enabled. The keys of {@link #getFiniteBoundCountsByType()}
+ * are {@code LONG}, {@code INTEGER}, {@code SHORT}, {@code BYTE}, {@code DOUBLE}, {@code FLOAT},
+ * {@code BIG_DECIMAL}, {@code BIG_INTEGER} and {@code OTHER}.
+ * </p>
+ *
+ * @see BoundFactoryMetrics
+ */
+public interface BoundFactoryMetricsMXBean {
+
+    /**
+     * Determines whether calls are currently counted.
+     *
+     * @return {@code true} if the metrics are enabled, {@code false} otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables counting.
+     *
+     * @param enabled {@code true} to count calls, {@code false} to stop counting
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of infinite boundaries requested.
+     *
+     * @return the number of infinite boundaries
+     */
+    long getInfiniteBoundCount();
+
+    /**
+     * Returns the number of finite boundaries requested, including those created in batches.
+     *
+     * @return the number of finite boundaries
+     */
+    long getFiniteBoundCount();
+
+    /**
+     * Returns the number of finite boundaries requested per value type.
+     *
+     * @return a new map from value types to counts, omitting types that were never requested
+     */
+    Map<String, Long> getFiniteBoundCountsByType();
+
+    /**
+     * Returns the number of requests answered from the cache of an interning factory.
+     *
+     * @return the number of cache hits, or {@code 0} if the factory has no cache
+     */
+    long getCacheHitCount();
+
+    /**
+     * Returns the number of requests that missed the cache of an interning factory.
+     *
+     * @return the number of cache misses, or {@code 0} if the factory has no cache
+     */
+    long getCacheMissCount();
+
+    /**
+     * Returns the fraction of cache lookups that were hits.
+     *
+     * @return the cache hit rate between {@code 0.0} and {@code 1.0}, or {@code 0.0} if nothing was looked up
+     */
+    double getCacheHitRate();
+
+    /**
+     * Resets all counts to zero.
+     */
+    void reset();
+}
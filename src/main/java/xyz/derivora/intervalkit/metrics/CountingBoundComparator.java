@@ -0,0 +1,96 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+
+import java.util.Comparator;
+
+/**
+ * A comparator that delegates to {@link BoundComparator} and counts the comparisons it performs.
+ * <p>
+ * Every completed comparison is counted per pair of boundary kinds, and every comparison that fails with
+ * an {@link IncomparableBoundsException} is counted separately before the exception is rethrown. The counts
+ * are available through {@link #getMetrics()}, which can be registered as a JMX MBean.
+ * </p>
+ *
+ * <p>
+ * While the metrics are disabled, this comparator costs one read of a {@code volatile} flag more than
+ * {@link BoundComparator}. Instances are thread-safe.
+ * </p>
+ *
+ * @see BoundComparator
+ * @see BoundComparisonMetrics
+ */
+public final class CountingBoundComparator implements Comparator<Bound> {
+
+    /**
+     * The comparator performing the comparisons.
+     */
+    private static final BoundComparator COMPARATOR = BoundComparator.getInstance();
+
+    /**
+     * The counters of this comparator.
+     */
+    private final BoundComparisonMetrics metrics = new BoundComparisonMetrics();
+
+    /**
+     * Constructs a comparator with enabled metrics.
+     */
+    public CountingBoundComparator() {
+    }
+
+    /**
+     * Returns the counters of this comparator.
+     *
+     * @return the metrics of this comparator
+     */
+    public BoundComparisonMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Compares two boundaries with {@link BoundComparator#compare(Bound, Bound)}, counting the comparison.
+     *
+     * @param firstBound  the first boundary to compare
+     * @param secondBound the second boundary to compare
+     * @return a negative integer, zero, or a positive integer as {@code firstBound} is less than, equal to,
+     * or greater than {@code secondBound}
+     * @throws NullPointerException        if either boundary is {@code null}
+     * @throws IncomparableBoundsException if the boundaries cannot be compared
+     */
+    @Override
+    public int compare(Bound firstBound, Bound secondBound) {
+        if (!metrics.isEnabled()) {
+            return COMPARATOR.compare(firstBound, secondBound);
+        }
+
+        int result;
+        try {
+            result = COMPARATOR.compare(firstBound, secondBound);
+        } catch (IncomparableBoundsException e) {
+            metrics.recordIncomparable();
+            throw e;
+        }
+
+        metrics.recordComparison(firstBound, secondBound);
+        return result;
+    }
+}
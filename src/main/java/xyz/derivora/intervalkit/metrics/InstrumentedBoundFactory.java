@@ -0,0 +1,173 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link BoundFactory} that delegates to another factory and counts the boundaries it creates.
+ * <p>
+ * Every method of {@link BoundFactory} is forwarded to the delegate, so specialized implementations of the
+ * delegate, such as the cache of an {@link xyz.derivora.intervalkit.bounds.factory.InterningBoundFactory},
+ * remain in effect. Boundaries are counted per value type of the created boundary, so a {@link Short}
+ * value that the delegate widens to an {@code int} boundary is counted as {@code INTEGER}. The counts are
+ * available through {@link #getMetrics()}, which can be registered as a JMX MBean.
+ * </p>
+ *
+ * <p>
+ * While the metrics are disabled, every call costs one read of a {@code volatile} flag more than a call
+ * to the delegate. This factory is thread-safe if the delegate is.
+ * </p>
+ *
+ * @see BoundFactory
+ * @see BoundFactoryMetrics
+ */
+public final class InstrumentedBoundFactory implements BoundFactory {
+
+    /**
+     * The factory creating the boundaries.
+     */
+    private final BoundFactory delegate;
+
+    /**
+     * The counters of this factory.
+     */
+    private final BoundFactoryMetrics metrics;
+
+    /**
+     * Constructs a factory counting the boundaries created by the given factory.
+     *
+     * @param delegate the factory to instrument
+     * @throws NullPointerException if {@code delegate} is {@code null}
+     */
+    public InstrumentedBoundFactory(BoundFactory delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "Delegate factory cannot be null");
+        this.metrics = new BoundFactoryMetrics(delegate);
+    }
+
+    /**
+     * Returns the factory creating the boundaries.
+     *
+     * @return the instrumented factory
+     */
+    public BoundFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the counters of this factory.
+     *
+     * @return the metrics of this factory
+     */
+    public BoundFactoryMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public InfiniteBound getInfiniteBound(boolean isPositive) {
+        metrics.record(ValueType.INFINITE);
+        return delegate.getInfiniteBound(isPositive);
+    }
+
+    @Override
+    public InfiniteBound getPositiveInfiniteBound() {
+        metrics.record(ValueType.INFINITE);
+        return delegate.getPositiveInfiniteBound();
+    }
+
+    @Override
+    public InfiniteBound getNegativeInfiniteBound() {
+        metrics.record(ValueType.INFINITE);
+        return delegate.getNegativeInfiniteBound();
+    }
+
+    @Override
+    public FiniteBound<?> getFiniteBound(Number number) {
+        FiniteBound<?> bound = delegate.getFiniteBound(number);
+        metrics.record(bound);
+        return bound;
+    }
+
+    @Override
+    public FiniteBound<Long> getFiniteBound(long value) {
+        FiniteBound<Long> bound = delegate.getFiniteBound(value);
+        metrics.record(bound);
+        return bound;
+    }
+
+    @Override
+    public FiniteBound<Integer> getFiniteBound(int value) {
+        FiniteBound<Integer> bound = delegate.getFiniteBound(value);
+        metrics.record(bound);
+        return bound;
+    }
+
+    @Override
+    public FiniteBound<Double> getFiniteBound(double value) {
+        FiniteBound<Double> bound = delegate.getFiniteBound(value);
+        metrics.record(bound);
+        return bound;
+    }
+
+    @Override
+    public FiniteBound<Long>[] getFiniteBounds(long[] values) {
+        FiniteBound<Long>[] bounds = delegate.getFiniteBounds(values);
+        metrics.record(ValueType.LONG, bounds.length);
+        return bounds;
+    }
+
+    @Override
+    public FiniteBound<Double>[] getFiniteBounds(double[] values) {
+        FiniteBound<Double>[] bounds = delegate.getFiniteBounds(values);
+        metrics.record(ValueType.DOUBLE, bounds.length);
+        return bounds;
+    }
+
+    @Override
+    public FiniteBound<Long>[] getFiniteBounds(LongStream values) {
+        FiniteBound<Long>[] bounds = delegate.getFiniteBounds(values);
+        metrics.record(ValueType.LONG, bounds.length);
+        return bounds;
+    }
+
+    @Override
+    public FiniteBound<?> getFiniteBound(String number) {
+        FiniteBound<?> bound = delegate.getFiniteBound(number);
+        metrics.record(bound);
+        return bound;
+    }
+
+    @Override
+    public FiniteBound<?> parseFiniteBound(CharSequence text) {
+        FiniteBound<?> bound = delegate.parseFiniteBound(text);
+        metrics.record(bound);
+        return bound;
+    }
+
+    @Override
+    public FiniteBound<?> parseFiniteBound(CharSequence text, int start, int end) {
+        FiniteBound<?> bound = delegate.parseFiniteBound(text, start, end);
+        metrics.record(bound);
+        return bound;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.Objects;
+
+/**
+ * Registers metrics with the platform MBean server.
+ * <p>
+ * The module requires {@code java.management} only statically, so this class checks at runtime that the module
+ * is resolved and readable before touching any of its classes. The counters themselves never depend on it.
+ * </p>
+ */
+final class MBeans {
+
+    /**
+     * The name of the module providing the platform MBean server.
+     */
+    private static final String MANAGEMENT_MODULE = "java.management";
+
+    /**
+     * The domain of the object names of all metrics of this module.
+     */
+    static final String DOMAIN = "xyz.derivora.intervalkit";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MBeans() {
+    }
+
+    /**
+     * Checks whether the {@code java.management} module is present at runtime and readable by this module.
+     *
+     * @return {@code true} if MBeans can be registered, {@code false} otherwise
+     */
+    static boolean isAvailable() {
+        Module self = MBeans.class.getModule();
+        return ModuleLayer.boot().findModule(MANAGEMENT_MODULE)
+                .map(self::canRead)
+                .orElse(false);
+    }
+
+    /**
+     * Registers an MBean with the platform MBean server.
+     *
+     * @param mbean the MBean to register
+     * @param type  the value of the {@code type} key of the object name
+     * @param name  the value of the {@code name} key of the object name
+     * @return the object name of the registered MBean
+     * @throws NullPointerException  if {@code name} is {@code null}
+     * @throws IllegalStateException if the {@code java.management} module is not available at runtime
+     * @throws JMException           if the MBean cannot be registered, for example because the name is taken
+     */
+    static ObjectName register(Object mbean, String type, String name) throws JMException {
+        Objects.requireNonNull(name, "Name cannot be null");
+        if (!isAvailable()) {
+            throw new IllegalStateException(String.format(
+                    "Cannot register %s MBean: module %s is not available", type, MANAGEMENT_MODULE));
+        }
+
+        Hashtable<String, String> properties = new Hashtable<>();
+        properties.put("type", type);
+        properties.put("name", ObjectName.quote(name));
+
+        ObjectName objectName = new ObjectName(DOMAIN, properties);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, objectName);
+        return objectName;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.metrics;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * The kinds of boundaries distinguished by the type histograms of the metrics.
+ * <p>
+ * Finite boundaries are classified by the type of their value, and all infinite boundaries share one kind.
+ * Primitive-backed boundaries are classified by their class, without boxing their values.
+ * </p>
+ */
+enum ValueType {
+
+    /**
+     * Infinite boundaries.
+     */
+    INFINITE,
+
+    /**
+     * Finite boundaries with {@link Long} values.
+     */
+    LONG,
+
+    /**
+     * Finite boundaries with {@link Integer} values.
+     */
+    INTEGER,
+
+    /**
+     * Finite boundaries with {@link Short} values.
+     */
+    SHORT,
+
+    /**
+     * Finite boundaries with {@link Byte} values.
+     */
+    BYTE,
+
+    /**
+     * Finite boundaries with {@link Double} values.
+     */
+    DOUBLE,
+
+    /**
+     * Finite boundaries with {@link Float} values.
+     */
+    FLOAT,
+
+    /**
+     * Finite boundaries with {@link BigDecimal} values.
+     */
+    BIG_DECIMAL,
+
+    /**
+     * Finite boundaries with {@link BigInteger} values.
+     */
+    BIG_INTEGER,
+
+    /**
+     * Finite boundaries with values of any other type.
+     */
+    OTHER;
+
+    /**
+     * The constants of this enum, cached to avoid copying {@link #values()}.
+     */
+    static final ValueType[] VALUES = values();
+
+    /**
+     * Classifies a boundary.
+     *
+     * @param bound the boundary to classify
+     * @return the kind of {@code bound}
+     */
+    static ValueType of(Bound bound) {
+        if (bound.isInfinite()) {
+            return INFINITE;
+        }
+
+        if (bound instanceof LongFiniteBound) {
+            return LONG;
+        }
+
+        if (bound instanceof IntFiniteBound) {
+            return INTEGER;
+        }
+
+        if (bound instanceof DoubleFiniteBound) {
+            return DOUBLE;
+        }
+
+        if (bound instanceof FiniteBound<?> finiteBound && finiteBound.getValue() != null) {
+            return of(finiteBound.getValue().getClass());
+        }
+
+        return OTHER;
+    }
+
+    /**
+     * Classifies a value type.
+     *
+     * @param type the class of a finite value
+     * @return the kind of finite boundaries with values of {@code type}
+     */
+    static ValueType of(Class<?> type) {
+        if (type == Long.class) {
+            return LONG;
+        }
+
+        if (type == Integer.class) {
+            return INTEGER;
+        }
+
+        if (type == Short.class) {
+            return SHORT;
+        }
+
+        if (type == Byte.class) {
+            return BYTE;
+        }
+
+        if (type == Double.class) {
+            return DOUBLE;
+        }
+
+        if (type == Float.class) {
+            return FLOAT;
+        }
+
+        if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        }
+
+        if (type == BigInteger.class) {
+            return BIG_INTEGER;
+        }
+
+        return OTHER;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides optional instrumentation of boundary creation and comparison.
+ * <p>
+ * Instrumented components decorate the regular factory and comparator and count their calls with
+ * {@link java.util.concurrent.atomic.LongAdder} counters. The counters can be read directly or published
+ * as JMX MBeans, and can be disabled at runtime, which reduces their cost to one {@code volatile} read per call.
+ * </p>
+ * <p>
+ * The module requires {@code java.management} only statically. Applications that publish the counters through JMX
+ * must resolve it themselves, for example with {@code requires java.management} or
+ * {@code --add-modules java.management}; registering without it fails with an {@link IllegalStateException}.
+ * </p>
+ *
+ * <h2>Key Components:</h2>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.metrics.InstrumentedBoundFactory} -
+ *         A factory decorator counting created boundaries by value type.</li>
+ *     <li>{@link xyz.derivora.intervalkit.metrics.CountingBoundComparator} -
+ *         A comparator counting comparisons by the kinds of the compared boundaries.</li>
+ *     <li>{@link xyz.derivora.intervalkit.metrics.BoundFactoryMetrics} and
+ *         {@link xyz.derivora.intervalkit.metrics.BoundComparisonMetrics} -
+ *         The counters, published through JMX as
+ *         {@link xyz.derivora.intervalkit.metrics.BoundFactoryMetricsMXBean} and
+ *         {@link xyz.derivora.intervalkit.metrics.BoundComparisonMetricsMXBean}.</li>
+ * </ul>
+ *
+ * @see xyz.derivora.intervalkit.bounds.factory.BoundFactory
+ * @see xyz.derivora.intervalkit.bounds.comparison.BoundComparator
+ */
+package xyz.derivora.intervalkit.metrics;
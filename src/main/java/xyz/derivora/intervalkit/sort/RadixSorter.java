@@ -0,0 +1,372 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.sort;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * A utility for sorting large arrays of boundaries and intervals with a least-significant-digit radix sort
+ * over {@link SortKeyEncoding} keys.
+ * <p>
+ * Each element is reduced to an unsigned 64-bit key and a small rank that resolves ties between keys:
+ * </p>
+ * <ul>
+ *     <li>For boundaries, the rank separates the negative infinite boundary, finite boundaries and the positive
+ *         infinite boundary, which {@link SortKeyEncoding#LONG} maps to the same keys as {@link Long#MIN_VALUE}
+ *         and {@link Long#MAX_VALUE}.</li>
+ *     <li>For interval endpoints, the rank additionally encodes closedness: closed lower endpoints precede open
+ *         ones, and open upper endpoints precede closed ones, as in {@link IntervalComparator}.</li>
+ * </ul>
+ * <p>
+ * Keys are then sorted one byte at a time with stable counting passes, starting from the least significant
+ * byte. Passes over bytes that are equal for all keys are skipped, so narrow value ranges need only a few
+ * passes. Intervals are sorted by upper endpoints first and by lower endpoints last.
+ * </p>
+ *
+ * <p>
+ * The sort is stable, and its result is identical to a sort with {@link Arrays#sort(Object[], Comparator)} and
+ * {@link BoundComparator} or {@link IntervalComparator}. Arrays shorter than {@link #RADIX_THRESHOLD} and arrays
+ * with values outside both encoding domains, such as {@link java.math.BigDecimal} values, are sorted with the
+ * comparator. The radix sort allocates about 24 bytes per element of temporary memory.
+ * </p>
+ *
+ * @see SortKeyEncoding
+ * @see BoundComparator
+ * @see IntervalComparator
+ */
+public final class RadixSorter {
+
+    /**
+     * The minimum array length for which elements are sorted by their keys.
+     */
+    public static final int RADIX_THRESHOLD = 1 << 10;
+
+    /**
+     * The rank of negative infinite boundaries.
+     */
+    private static final int NEGATIVE_INFINITE = 0;
+
+    /**
+     * The rank of finite boundaries.
+     */
+    private static final int FINITE = 1;
+
+    /**
+     * The rank of positive infinite boundaries.
+     */
+    private static final int POSITIVE_INFINITE = 2;
+
+    /**
+     * The number of distinct boundary ranks.
+     */
+    private static final int BOUND_RANKS = 3;
+
+    /**
+     * The number of distinct endpoint ranks, combining boundary rank and closedness.
+     */
+    private static final int ENDPOINT_RANKS = 2 * BOUND_RANKS;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private RadixSorter() {
+    }
+
+    /**
+     * Sorts the given boundaries in the order of {@link BoundComparator}.
+     *
+     * @param bounds the boundaries to sort
+     * @throws NullPointerException if {@code bounds} or any of its elements is {@code null}
+     */
+    public static void sort(Bound[] bounds) {
+        Objects.requireNonNull(bounds, "Bounds cannot be null");
+
+        SortKeyEncoding encoding = SortKeyEncoding.select(bounds);
+        if (bounds.length < RADIX_THRESHOLD || encoding == null) {
+            Arrays.sort(bounds, BoundComparator.getInstance());
+            return;
+        }
+
+        int length = bounds.length;
+        long[] keys = new long[length];
+        byte[] ranks = new byte[length];
+        for (int i = 0; i < length; i++) {
+            keys[i] = encoding.encodeChecked(bounds[i]);
+            ranks[i] = (byte) boundRank(bounds[i]);
+        }
+
+        Passes passes = new Passes(keys);
+        passes.sortByRank(ranks, BOUND_RANKS);
+        passes.sortByKey();
+        passes.permute(bounds);
+    }
+
+    /**
+     * Sorts the given intervals in the order of {@link IntervalComparator}.
+     *
+     * @param intervals the intervals to sort
+     * @param <I>       the type of the intervals
+     * @throws NullPointerException if {@code intervals} or any of its elements is {@code null}
+     */
+    public static <I extends Interval> void sort(I[] intervals) {
+        Objects.requireNonNull(intervals, "Intervals cannot be null");
+
+        SortKeyEncoding encoding = select(intervals);
+        if (intervals.length < RADIX_THRESHOLD || encoding == null) {
+            Arrays.sort(intervals, IntervalComparator.getInstance());
+            return;
+        }
+
+        int length = intervals.length;
+        long[] lowerKeys = new long[length];
+        long[] upperKeys = new long[length];
+        byte[] lowerRanks = new byte[length];
+        byte[] upperRanks = new byte[length];
+        for (int i = 0; i < length; i++) {
+            Interval interval = intervals[i];
+            lowerKeys[i] = encoding.encodeChecked(interval.getLowerBound());
+            upperKeys[i] = encoding.encodeChecked(interval.getUpperBound());
+            lowerRanks[i] = (byte) (2 * boundRank(interval.getLowerBound()) + (interval.isLowerClosed() ? 0 : 1));
+            upperRanks[i] = (byte) (2 * boundRank(interval.getUpperBound()) + (interval.isUpperClosed() ? 1 : 0));
+        }
+
+        Passes passes = new Passes(upperKeys);
+        passes.sortByRank(upperRanks, ENDPOINT_RANKS);
+        passes.sortByKey();
+
+        passes.load(lowerKeys);
+        passes.sortByRank(lowerRanks, ENDPOINT_RANKS);
+        passes.sortByKey();
+
+        passes.permute(intervals);
+    }
+
+    /**
+     * Selects the encoding that can encode both endpoints of all given intervals, preferring
+     * {@link SortKeyEncoding#LONG}.
+     *
+     * @param intervals the intervals to encode
+     * @return the encoding for the endpoints, or {@code null} if no encoding can encode all of them
+     * @throws NullPointerException if any of the intervals is {@code null}
+     */
+    private static SortKeyEncoding select(Interval[] intervals) {
+        for (Interval interval : intervals) {
+            Objects.requireNonNull(interval, "Interval cannot be null");
+        }
+
+        for (SortKeyEncoding encoding : SortKeyEncoding.values()) {
+            boolean encodable = true;
+            for (int i = 0; i < intervals.length && encodable; i++) {
+                encodable = encoding.canEncode(intervals[i].getLowerBound())
+                        && encoding.canEncode(intervals[i].getUpperBound());
+            }
+            if (encodable) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the rank of a boundary among boundaries with the same key.
+     *
+     * @param bound the boundary
+     * @return {@link #NEGATIVE_INFINITE}, {@link #FINITE} or {@link #POSITIVE_INFINITE}
+     */
+    private static int boundRank(Bound bound) {
+        if (bound.isFinite()) {
+            return FINITE;
+        }
+        return ((InfiniteBound) bound).isPositive() ? POSITIVE_INFINITE : NEGATIVE_INFINITE;
+    }
+
+    /**
+     * The state of a least-significant-digit radix sort: the current keys and the permutation of the original
+     * elements they belong to, together with spare arrays that receive the output of each pass.
+     */
+    private static final class Passes {
+
+        /**
+         * The number of bits in a digit.
+         */
+        private static final int DIGIT_BITS = 8;
+
+        /**
+         * The number of distinct digit values.
+         */
+        private static final int DIGIT_VALUES = 1 << DIGIT_BITS;
+
+        /**
+         * The number of digits in a key.
+         */
+        private static final int DIGITS = Long.SIZE / DIGIT_BITS;
+
+        /**
+         * The keys in the current order.
+         */
+        private long[] keys;
+
+        /**
+         * The original positions of the elements in the current order.
+         */
+        private int[] order;
+
+        /**
+         * The spare array that receives the keys of the next pass.
+         */
+        private long[] spareKeys;
+
+        /**
+         * The spare array that receives the positions of the next pass.
+         */
+        private int[] spareOrder;
+
+        /**
+         * Creates the state for sorting elements with the given keys, starting from their original order.
+         *
+         * @param keys the keys of the elements in their original order; the array is reused for the sort
+         */
+        Passes(long[] keys) {
+            int length = keys.length;
+            this.keys = keys;
+            this.spareKeys = new long[length];
+            this.order = new int[length];
+            this.spareOrder = new int[length];
+            for (int i = 0; i < length; i++) {
+                order[i] = i;
+            }
+        }
+
+        /**
+         * Replaces the current keys with new keys of the same elements, arranged in the current order.
+         *
+         * @param source the new keys of the elements in their original order
+         */
+        void load(long[] source) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = source[order[i]];
+            }
+        }
+
+        /**
+         * Stably sorts the elements by their ranks. Does nothing if all elements have the same rank.
+         *
+         * @param ranks     the ranks of the elements in their original order
+         * @param rankCount the number of distinct ranks
+         */
+        void sortByRank(byte[] ranks, int rankCount) {
+            int length = keys.length;
+            int[] offsets = new int[rankCount];
+            for (int i = 0; i < length; i++) {
+                offsets[ranks[order[i]]]++;
+            }
+
+            int offset = 0;
+            for (int rank = 0; rank < rankCount; rank++) {
+                int count = offsets[rank];
+                if (count == length) {
+                    return;
+                }
+                offsets[rank] = offset;
+                offset += count;
+            }
+
+            for (int i = 0; i < length; i++) {
+                int position = offsets[ranks[order[i]]]++;
+                spareKeys[position] = keys[i];
+                spareOrder[position] = order[i];
+            }
+            swap();
+        }
+
+        /**
+         * Stably sorts the elements by their keys, compared as unsigned values, one digit at a time.
+         * Digits that are equal for all keys are skipped.
+         */
+        void sortByKey() {
+            int length = keys.length;
+            if (length == 0) {
+                return;
+            }
+
+            int[][] counts = new int[DIGITS][DIGIT_VALUES];
+            for (long key : keys) {
+                for (int digit = 0; digit < DIGITS; digit++) {
+                    counts[digit][(int) (key >>> (digit * DIGIT_BITS)) & (DIGIT_VALUES - 1)]++;
+                }
+            }
+
+            for (int digit = 0; digit < DIGITS; digit++) {
+                int shift = digit * DIGIT_BITS;
+                int[] offsets = counts[digit];
+                if (offsets[(int) (keys[0] >>> shift) & (DIGIT_VALUES - 1)] == length) {
+                    continue;
+                }
+
+                int offset = 0;
+                for (int value = 0; value < DIGIT_VALUES; value++) {
+                    int count = offsets[value];
+                    offsets[value] = offset;
+                    offset += count;
+                }
+
+                for (int i = 0; i < length; i++) {
+                    long key = keys[i];
+                    int position = offsets[(int) (key >>> shift) & (DIGIT_VALUES - 1)]++;
+                    spareKeys[position] = key;
+                    spareOrder[position] = order[i];
+                }
+                swap();
+            }
+        }
+
+        /**
+         * Rearranges the given elements into the current order.
+         *
+         * @param elements the elements in their original order
+         * @param <T>      the type of the elements
+         */
+        <T> void permute(T[] elements) {
+            T[] original = elements.clone();
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = original[order[i]];
+            }
+        }
+
+        /**
+         * Exchanges the current arrays with the spare arrays after a pass.
+         */
+        private void swap() {
+            long[] nextKeys = spareKeys;
+            spareKeys = keys;
+            keys = nextKeys;
+
+            int[] nextOrder = spareOrder;
+            spareOrder = order;
+            order = nextOrder;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.sort;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+
+import java.util.Objects;
+
+/**
+ * Encodings of boundaries as unsigned 64-bit sort keys that preserve the order of {@link BoundComparator}.
+ * <p>
+ * A key is a {@code long} to be compared with {@link Long#compareUnsigned(long, long)}, or digit by digit in a
+ * radix sort. If two encodable boundaries compare less with {@link BoundComparator}, their keys compare less
+ * or equal, and equal boundaries, such as {@code 1L} and {@code 1.0}, have equal keys.
+ * </p>
+ *
+ * <p>
+ * No single 64-bit encoding preserves the order of all {@code long} and {@code double} values at once, since
+ * there are more such values than keys. Each encoding therefore covers one domain:
+ * </p>
+ * <ul>
+ *     <li>{@link #LONG} encodes integral values exactly, so every distinct value has a distinct key. The
+ *         infinite boundaries share their keys with {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}.</li>
+ *     <li>{@link #DOUBLE} encodes floating-point values and integral values that are exactly representable
+ *         as a {@code double}, including both infinities, with a distinct key per distinct value.</li>
+ * </ul>
+ *
+ * @see BoundComparator
+ * @see RadixSorter
+ */
+public enum SortKeyEncoding {
+
+    /**
+     * Encodes infinite boundaries and boundaries with {@code long}, {@code int}, {@code short} or {@code byte}
+     * values.
+     * <p>
+     * A finite value {@code v} is encoded as {@code v ^ Long.MIN_VALUE}. The negative infinite boundary is encoded
+     * as {@code 0}, like {@link Long#MIN_VALUE}, and the positive one as {@code -1}, like {@link Long#MAX_VALUE},
+     * so keys alone do not distinguish infinite boundaries from these two values.
+     * </p>
+     */
+    LONG {
+        @Override
+        public boolean canEncode(Bound bound) {
+            if (bound.isInfinite()) {
+                return bound instanceof InfiniteBound;
+            }
+
+            return bound instanceof LongFiniteBound
+                    || bound instanceof IntFiniteBound
+                    || bound instanceof FiniteBound<?> finiteBound && isIntegral(finiteBound.getValue());
+        }
+
+        @Override
+        long encodeChecked(Bound bound) {
+            if (bound.isInfinite()) {
+                return ((InfiniteBound) bound).isPositive() ? -1L : 0L;
+            }
+
+            return longValue(bound) ^ Long.MIN_VALUE;
+        }
+    },
+
+    /**
+     * Encodes infinite boundaries, boundaries with finite {@code double} or {@code float} values, and boundaries
+     * with integral values that are exactly representable as a {@code double}.
+     * <p>
+     * Values are encoded through their IEEE 754 bit patterns, with negative values inverted so that the unsigned
+     * order of the keys equals the numeric order. Negative zero is encoded like positive zero.
+     * </p>
+     */
+    DOUBLE {
+        @Override
+        public boolean canEncode(Bound bound) {
+            if (bound.isInfinite()) {
+                return bound instanceof InfiniteBound;
+            }
+
+            if (bound instanceof DoubleFiniteBound || bound instanceof IntFiniteBound) {
+                return true;
+            }
+
+            if (bound instanceof LongFiniteBound longBound) {
+                return isExactDouble(longBound.longValue());
+            }
+
+            if (!(bound instanceof FiniteBound<?> finiteBound)) {
+                return false;
+            }
+
+            Number value = finiteBound.getValue();
+            if (value instanceof Double || value instanceof Float) {
+                return Double.isFinite(value.doubleValue());
+            }
+
+            return value instanceof Integer || value instanceof Short || value instanceof Byte
+                    || value instanceof Long && isExactDouble(value.longValue());
+        }
+
+        @Override
+        long encodeChecked(Bound bound) {
+            double value;
+            if (bound.isInfinite()) {
+                value = ((InfiniteBound) bound).isPositive() ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+            } else if (bound instanceof DoubleFiniteBound doubleBound) {
+                value = doubleBound.doubleValue();
+            } else if (bound instanceof LongFiniteBound || bound instanceof IntFiniteBound) {
+                value = longValue(bound);
+            } else {
+                value = ((FiniteBound<?>) bound).getValue().doubleValue();
+            }
+
+            long bits = Double.doubleToRawLongBits(value == 0.0 ? 0.0 : value);
+            return bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+    };
+
+    /**
+     * Determines whether the given boundary can be encoded with this encoding.
+     *
+     * @param bound the boundary to check
+     * @return {@code true} if {@code bound} belongs to the domain of this encoding, {@code false} otherwise
+     * @throws NullPointerException if {@code bound} is {@code null}
+     */
+    public abstract boolean canEncode(Bound bound);
+
+    /**
+     * Encodes the given boundary as an unsigned sort key.
+     *
+     * @param bound the boundary to encode
+     * @return the sort key of {@code bound}
+     * @throws NullPointerException     if {@code bound} is {@code null}
+     * @throws IllegalArgumentException if {@code bound} cannot be encoded with this encoding
+     * @see #canEncode(Bound)
+     */
+    public long encode(Bound bound) {
+        Objects.requireNonNull(bound, "Bound cannot be null");
+
+        if (!canEncode(bound)) {
+            throw new IllegalArgumentException(String.format("Bound %s cannot be encoded as %s", bound, this));
+        }
+
+        return encodeChecked(bound);
+    }
+
+    /**
+     * Encodes a boundary that is known to belong to the domain of this encoding.
+     *
+     * @param bound the boundary to encode
+     * @return the sort key of {@code bound}
+     */
+    abstract long encodeChecked(Bound bound);
+
+    /**
+     * Selects the encoding that can encode all given boundaries, preferring {@link #LONG}.
+     *
+     * @param bounds the boundaries to encode
+     * @return the encoding for {@code bounds}, or {@code null} if no encoding can encode all of them
+     * @throws NullPointerException if {@code bounds} or any of its elements is {@code null}
+     */
+    public static SortKeyEncoding select(Bound... bounds) {
+        Objects.requireNonNull(bounds, "Bounds cannot be null");
+
+        for (Bound bound : bounds) {
+            Objects.requireNonNull(bound, "Bound cannot be null");
+        }
+
+        for (SortKeyEncoding encoding : values()) {
+            if (encoding.canEncodeAll(bounds)) {
+                return encoding;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Determines whether all given boundaries can be encoded with this encoding.
+     *
+     * @param bounds the non-null boundaries to check
+     * @return {@code true} if every boundary belongs to the domain of this encoding, {@code false} otherwise
+     */
+    private boolean canEncodeAll(Bound[] bounds) {
+        for (Bound bound : bounds) {
+            if (!canEncode(bound)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether a number is of a standard integral type.
+     *
+     * @param value the number to check
+     * @return {@code true} if {@code value} is a {@link Long}, {@link Integer}, {@link Short} or {@link Byte}
+     */
+    private static boolean isIntegral(Number value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Determines whether a {@code long} value is exactly representable as a {@code double}.
+     *
+     * @param value the value to check
+     * @return {@code true} if converting {@code value} to {@code double} loses no information
+     */
+    private static boolean isExactDouble(long value) {
+        double converted = value;
+        return converted != 0x1p63 && (long) converted == value;
+    }
+
+    /**
+     * Returns the value of a finite integral boundary, without boxing primitive-backed boundaries.
+     *
+     * @param bound the finite integral boundary
+     * @return the value of the boundary
+     */
+    private static long longValue(Bound bound) {
+        if (bound instanceof LongFiniteBound longBound) {
+            return longBound.longValue();
+        }
+
+        if (bound instanceof IntFiniteBound intBound) {
+            return intBound.intValue();
+        }
+
+        return ((FiniteBound<?>) bound).getValue().longValue();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides order-preserving sort keys for boundaries and radix sorting of boundaries and intervals.
+ * <h2>Key Components:</h2>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.sort.SortKeyEncoding} -
+ *         Encodes boundaries with primitive values as unsigned 64-bit keys in the order of
+ *         {@link xyz.derivora.intervalkit.bounds.comparison.BoundComparator}.</li>
+ *     <li>{@link xyz.derivora.intervalkit.sort.RadixSorter} -
+ *         Sorts large arrays of boundaries and intervals by their keys without comparisons.</li>
+ * </ul>
+ *
+ * @see xyz.derivora.intervalkit.bounds.comparison.BoundComparator
+ * @see xyz.derivora.intervalkit.intervals.IntervalComparator
+ */
+package xyz.derivora.intervalkit.sort;
@@ -0,0 +1,47 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.sweep;
+
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+
+import java.util.Objects;
+
+/**
+ * A maximal interval over which a constant, positive number of input intervals overlap,
+ * reported by {@link SweepLine#coverage(java.util.Iterator)}.
+ *
+ * @param interval the non-empty interval of constant coverage
+ * @param depth    the number of input intervals containing every number of {@code interval}
+ */
+public record CoverageSegment(ImmutableInterval interval, int depth) {
+
+    /**
+     * Creates a coverage segment.
+     *
+     * @param interval the non-empty interval of constant coverage
+     * @param depth    the number of input intervals containing every number of {@code interval}
+     * @throws NullPointerException     if {@code interval} is {@code null}
+     * @throws IllegalArgumentException if {@code depth} is not positive
+     */
+    public CoverageSegment {
+        Objects.requireNonNull(interval, "Interval cannot be null");
+        if (depth <= 0) {
+            throw new IllegalArgumentException("Depth must be positive: " + depth);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.sweep;
+
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.util.Objects;
+
+/**
+ * A pair of overlapping intervals reported by {@link SweepLine#overlappingPairs(java.util.Iterator)}.
+ *
+ * @param first  the interval that was encountered first in the input
+ * @param second the interval that was encountered second in the input
+ * @param <I>    the type of the intervals
+ */
+public record IntervalPair<I extends Interval>(I first, I second) {
+
+    /**
+     * Creates a pair of intervals.
+     *
+     * @param first  the interval that was encountered first in the input
+     * @param second the interval that was encountered second in the input
+     * @throws NullPointerException if either interval is {@code null}
+     */
+    public IntervalPair {
+        Objects.requireNonNull(first, "First interval cannot be null");
+        Objects.requireNonNull(second, "Second interval cannot be null");
+    }
+}
@@ -0,0 +1,460 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.sweep;
+
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming sweep-line operators over intervals sorted by their lower endpoints.
+ * <p>
+ * The operators sweep a point from negative to positive infinity over the input. Intervals enter the
+ * active set when the sweep reaches their lower endpoint and leave it once the sweep has passed their
+ * upper endpoint. The active set is a heap ordered by upper endpoint with {@link BoundComparator}, so
+ * each interval is added and removed in {@code O(log d)}, where {@code d} is the number of intervals
+ * active at that time. Only the active set and one interval of look-ahead are held in memory, which
+ * makes the operators suitable for inputs far larger than the heap.
+ * </p>
+ *
+ * <p>
+ * The input must be sorted by lower endpoint in the order of
+ * {@link IntervalComparator#compareLowerEndpoints(Interval, Interval)}; intervals with equal lower endpoints
+ * may appear in any order. The order is verified while the input is consumed. Empty intervals contain no
+ * numbers and are skipped.
+ * </p>
+ *
+ * <p>
+ * The returned streams are sequential and lazy: the input is consumed only as far as needed to produce
+ * the requested elements.
+ * </p>
+ *
+ * @see IntervalPair
+ * @see CoverageSegment
+ */
+public final class SweepLine {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SweepLine() {
+    }
+
+    /**
+     * Reports every pair of overlapping intervals of a sorted input.
+     * <p>
+     * Each pair is reported exactly once, as the interval encountered first followed by the interval
+     * encountered second. Pairs are reported in the order in which their second interval appears in the
+     * input. The total running time is {@code O(n log d + k)} for {@code n} intervals, a maximum overlap
+     * depth {@code d} and {@code k} reported pairs.
+     * </p>
+     *
+     * @param sortedIntervals the intervals, sorted by lower endpoint
+     * @param <I>             the type of the intervals
+     * @return a sequential stream of the overlapping pairs
+     * @throws NullPointerException        if {@code sortedIntervals} is {@code null}, or contains {@code null}
+     *                                     elements while the stream is consumed
+     * @throws IllegalArgumentException    if the input turns out not to be sorted while the stream is consumed
+     * @throws IncomparableBoundsException if endpoints cannot be compared while the stream is consumed
+     */
+    public static <I extends Interval> Stream<IntervalPair<I>> overlappingPairs(Iterator<? extends I> sortedIntervals) {
+        return StreamSupport.stream(new OverlapSpliterator<>(new SortedInput<>(sortedIntervals)), false);
+    }
+
+    /**
+     * Reports every pair of overlapping intervals of a sorted stream.
+     * <p>
+     * Closing the returned stream closes {@code sortedIntervals}.
+     * </p>
+     *
+     * @param sortedIntervals the intervals, sorted by lower endpoint
+     * @param <I>             the type of the intervals
+     * @return a sequential stream of the overlapping pairs
+     * @throws NullPointerException if {@code sortedIntervals} is {@code null}
+     * @see #overlappingPairs(Iterator)
+     */
+    public static <I extends Interval> Stream<IntervalPair<I>> overlappingPairs(Stream<? extends I> sortedIntervals) {
+        Objects.requireNonNull(sortedIntervals, "Intervals cannot be null");
+        return SweepLine.<I>overlappingPairs(sortedIntervals.iterator()).onClose(sortedIntervals::close);
+    }
+
+    /**
+     * Reports the coverage depth of a sorted input as maximal segments of constant positive depth.
+     * <p>
+     * The depth of a number is the number of input intervals containing it. Segments are reported in
+     * ascending order; adjacent segments always differ in depth, and numbers not covered by any segment
+     * have a depth of zero. Endpoints that are shared by several intervals are resolved exactly, so a
+     * closed endpoint may form a single-point segment of its own.
+     * </p>
+     *
+     * @param sortedIntervals the intervals, sorted by lower endpoint
+     * @return a sequential stream of the coverage segments
+     * @throws NullPointerException        if {@code sortedIntervals} is {@code null}, or contains {@code null}
+     *                                     elements while the stream is consumed
+     * @throws IllegalArgumentException    if the input turns out not to be sorted while the stream is consumed
+     * @throws IncomparableBoundsException if endpoints cannot be compared while the stream is consumed
+     */
+    public static Stream<CoverageSegment> coverage(Iterator<? extends Interval> sortedIntervals) {
+        return StreamSupport.stream(new CoverageSpliterator(new SortedInput<>(sortedIntervals)), false);
+    }
+
+    /**
+     * Reports the coverage depth of a sorted stream as maximal segments of constant positive depth.
+     * <p>
+     * Closing the returned stream closes {@code sortedIntervals}.
+     * </p>
+     *
+     * @param sortedIntervals the intervals, sorted by lower endpoint
+     * @return a sequential stream of the coverage segments
+     * @throws NullPointerException if {@code sortedIntervals} is {@code null}
+     * @see #coverage(Iterator)
+     */
+    public static Stream<CoverageSegment> coverage(Stream<? extends Interval> sortedIntervals) {
+        Objects.requireNonNull(sortedIntervals, "Intervals cannot be null");
+        return coverage(sortedIntervals.iterator()).onClose(sortedIntervals::close);
+    }
+
+    /**
+     * Creates the active set, a heap of intervals ordered by their upper endpoints.
+     *
+     * @param <I> the type of the intervals
+     * @return a new empty heap
+     */
+    private static <I extends Interval> PriorityQueue<I> newActiveSet() {
+        return new PriorityQueue<>(IntervalComparator::compareUpperEndpoints);
+    }
+
+    /**
+     * A look-ahead view of the input that skips empty intervals and verifies the order of lower endpoints.
+     *
+     * @param <I> the type of the intervals
+     */
+    private static final class SortedInput<I extends Interval> {
+
+        /**
+         * The underlying input.
+         */
+        private final Iterator<? extends I> iterator;
+
+        /**
+         * The next non-empty interval, or {@code null} if it has not been fetched yet or the input is exhausted.
+         */
+        private I next;
+
+        /**
+         * The last interval read from the underlying input, including empty ones.
+         */
+        private I last;
+
+        /**
+         * The number of intervals read from the underlying input.
+         */
+        private long position;
+
+        /**
+         * Creates a view of the given input.
+         *
+         * @param iterator the input
+         * @throws NullPointerException if {@code iterator} is {@code null}
+         */
+        SortedInput(Iterator<? extends I> iterator) {
+            this.iterator = Objects.requireNonNull(iterator, "Intervals cannot be null");
+        }
+
+        /**
+         * Returns the next non-empty interval without consuming it.
+         *
+         * @return the next non-empty interval, or {@code null} if the input is exhausted
+         */
+        I peek() {
+            while (next == null && iterator.hasNext()) {
+                I interval = Objects.requireNonNull(iterator.next(), "Interval cannot be null");
+                if (last != null && IntervalComparator.compareLowerEndpoints(last, interval) > 0) {
+                    throw new IllegalArgumentException(String.format(
+                            "Intervals are not sorted by lower endpoint: %s at position %d follows %s",
+                            interval, position, last
+                    ));
+                }
+                last = interval;
+                position++;
+                if (!interval.isEmpty()) {
+                    next = interval;
+                }
+            }
+
+            return next;
+        }
+
+        /**
+         * Consumes and returns the next non-empty interval.
+         *
+         * @return the next non-empty interval, or {@code null} if the input is exhausted
+         */
+        I poll() {
+            I interval = peek();
+            next = null;
+            return interval;
+        }
+    }
+
+    /**
+     * Produces overlapping pairs by pairing each interval with the active set at its lower endpoint.
+     *
+     * @param <I> the type of the intervals
+     */
+    private static final class OverlapSpliterator<I extends Interval> extends Spliterators.AbstractSpliterator<IntervalPair<I>> {
+
+        /**
+         * The sorted input.
+         */
+        private final SortedInput<I> input;
+
+        /**
+         * The intervals whose upper endpoints the sweep has not passed yet.
+         */
+        private final PriorityQueue<I> active = newActiveSet();
+
+        /**
+         * The interval currently being paired, or {@code null} before the next one is read.
+         */
+        private I current;
+
+        /**
+         * The remaining active intervals to pair with {@link #current}.
+         */
+        private Iterator<I> partners;
+
+        /**
+         * Creates a spliterator over the given input.
+         *
+         * @param input the sorted input
+         */
+        OverlapSpliterator(SortedInput<I> input) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.input = input;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super IntervalPair<I>> action) {
+            Objects.requireNonNull(action, "Action cannot be null");
+            while (true) {
+                if (partners != null) {
+                    if (partners.hasNext()) {
+                        action.accept(new IntervalPair<>(partners.next(), current));
+                        return true;
+                    }
+
+                    active.add(current);
+                    partners = null;
+                }
+
+                current = input.poll();
+                if (current == null) {
+                    return false;
+                }
+
+                while (!active.isEmpty() && !IntervalComparator.isLowerBeforeUpper(
+                        current.getLowerBound(), current.isLowerClosed(),
+                        active.peek().getUpperBound(), active.peek().isUpperClosed())) {
+                    active.poll();
+                }
+                partners = active.iterator();
+            }
+        }
+    }
+
+    /**
+     * Produces coverage segments by visiting the distinct endpoint values in ascending order.
+     * <p>
+     * Between two consecutive endpoint values the depth equals the size of the active set. At an endpoint
+     * value, intervals ending there with an open endpoint are excluded and intervals starting there with a
+     * closed endpoint are included. Consecutive pieces of equal depth are merged before being reported.
+     * </p>
+     */
+    private static final class CoverageSpliterator extends Spliterators.AbstractSpliterator<CoverageSegment> {
+
+        /**
+         * The sorted input.
+         */
+        private final SortedInput<Interval> input;
+
+        /**
+         * The intervals whose upper endpoints the sweep has not passed yet.
+         */
+        private final PriorityQueue<Interval> active = newActiveSet();
+
+        /**
+         * Completed segments waiting to be reported.
+         */
+        private final Queue<CoverageSegment> ready = new ArrayDeque<>();
+
+        /**
+         * The last endpoint value visited, or {@code null} before the first one.
+         */
+        private Bound previous;
+
+        /**
+         * The depth of the segment being extended, or {@code 0} if there is none.
+         */
+        private int pendingDepth;
+
+        /**
+         * The lower endpoint of the segment being extended.
+         */
+        private Bound pendingLower;
+
+        /**
+         * Whether the lower endpoint of the segment being extended is closed.
+         */
+        private boolean pendingLowerClosed;
+
+        /**
+         * The upper endpoint of the segment being extended.
+         */
+        private Bound pendingUpper;
+
+        /**
+         * Whether the upper endpoint of the segment being extended is closed.
+         */
+        private boolean pendingUpperClosed;
+
+        /**
+         * Creates a spliterator over the given input.
+         *
+         * @param input the sorted input
+         */
+        @SuppressWarnings("unchecked")
+        CoverageSpliterator(SortedInput<? extends Interval> input) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.input = (SortedInput<Interval>) input;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super CoverageSegment> action) {
+            Objects.requireNonNull(action, "Action cannot be null");
+            while (ready.isEmpty()) {
+                if (!advance()) {
+                    addPiece(null, false, null, false, 0);
+                    if (ready.isEmpty()) {
+                        return false;
+                    }
+                }
+            }
+
+            action.accept(ready.poll());
+            return true;
+        }
+
+        /**
+         * Moves the sweep to the next endpoint value and records the pieces before and at it.
+         *
+         * @return {@code false} if the input is exhausted and the active set is empty
+         */
+        private boolean advance() {
+            BoundComparator comparator = BoundComparator.getInstance();
+            Interval next = input.peek();
+            if (next == null && active.isEmpty()) {
+                return false;
+            }
+
+            Bound value;
+            if (active.isEmpty()) {
+                value = next.getLowerBound();
+            } else if (next == null) {
+                value = active.peek().getUpperBound();
+            } else {
+                Bound lower = next.getLowerBound();
+                Bound upper = active.peek().getUpperBound();
+                value = comparator.compare(lower, upper) <= 0 ? lower : upper;
+            }
+
+            int gapDepth = active.size();
+            if (previous != null) {
+                addPiece(previous, false, value, false, gapDepth);
+            }
+
+            int endingOpen = 0;
+            while (!active.isEmpty() && comparator.compare(active.peek().getUpperBound(), value) == 0) {
+                if (!active.poll().isUpperClosed()) {
+                    endingOpen++;
+                }
+            }
+
+            int startingClosed = 0;
+            while ((next = input.peek()) != null && comparator.compare(next.getLowerBound(), value) == 0) {
+                input.poll();
+                if (next.isLowerClosed()) {
+                    startingClosed++;
+                }
+                if (comparator.compare(next.getUpperBound(), value) != 0) {
+                    active.add(next);
+                }
+            }
+
+            if (value.isFinite()) {
+                addPiece(value, true, value, true, gapDepth - endingOpen + startingClosed);
+            }
+            previous = value;
+            return true;
+        }
+
+        /**
+         * Appends a piece of constant depth that directly follows the previous piece.
+         *
+         * @param lower       the lower endpoint of the piece
+         * @param lowerClosed whether the lower endpoint is closed
+         * @param upper       the upper endpoint of the piece
+         * @param upperClosed whether the upper endpoint is closed
+         * @param depth       the depth of the piece
+         */
+        private void addPiece(Bound lower, boolean lowerClosed, Bound upper, boolean upperClosed, int depth) {
+            if (depth == pendingDepth && depth > 0) {
+                pendingUpper = upper;
+                pendingUpperClosed = upperClosed;
+                return;
+            }
+
+            if (pendingDepth > 0) {
+                ready.add(new CoverageSegment(
+                        ImmutableInterval.of(pendingLower, pendingLowerClosed, pendingUpper, pendingUpperClosed),
+                        pendingDepth
+                ));
+            }
+
+            pendingDepth = depth;
+            pendingLower = lower;
+            pendingLowerClosed = lowerClosed;
+            pendingUpper = upper;
+            pendingUpperClosed = upperClosed;
+        }
+    }
+}
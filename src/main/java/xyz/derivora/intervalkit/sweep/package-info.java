@@ -0,0 +1,39 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+/**
+ * Provides streaming sweep-line operators over intervals sorted by their lower endpoints.
+ * <p>
+ * Operators consume their input lazily and keep only the currently active intervals in memory, so their
+ * memory use is bounded by the maximum number of simultaneously overlapping intervals rather than by the
+ * size of the input.
+ * </p>
+ *
+ * <h2>Key Components:</h2>
+ * <ul>
+ *     <li>{@link xyz.derivora.intervalkit.sweep.SweepLine} -
+ *         Reports overlapping pairs and coverage depth of sorted interval streams.</li>
+ *     <li>{@link xyz.derivora.intervalkit.sweep.IntervalPair} -
+ *         A pair of overlapping intervals.</li>
+ *     <li>{@link xyz.derivora.intervalkit.sweep.CoverageSegment} -
+ *         A maximal interval of constant coverage depth.</li>
+ * </ul>
+ *
+ * @see xyz.derivora.intervalkit.intervals.Interval
+ * @see xyz.derivora.intervalkit.intervals.IntervalComparator
+ */
+package xyz.derivora.intervalkit.sweep;
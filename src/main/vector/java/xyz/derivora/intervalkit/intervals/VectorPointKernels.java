@@ -0,0 +1,218 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.intervals;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector kernels of {@link PointClassifier}, built on the incubating {@code jdk.incubator.vector} module.
+ * <p>
+ * This class lives in the separate {@code src/main/vector/java} source root, which is compiled with
+ * {@code --add-modules jdk.incubator.vector} after the module itself, so that the module neither requires
+ * nor references the incubating module. {@link PointClassifier} loads this class reflectively, and only if
+ * the incubating module is resolved in the boot layer. Each kernel processes whole vectors of points and
+ * leaves the remaining tail to the caller. For every lane, it counts the lower thresholds at most the point and the upper thresholds below
+ * it; the point is contained in the interval {@code L - 1} exactly when the counts differ by one.
+ * </p>
+ */
+final class VectorPointKernels implements PointKernels {
+
+    /**
+     * The preferred species of {@code double} vectors.
+     */
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * The species of {@code long} vectors with the same number of lanes as {@link #DOUBLES}.
+     */
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    /**
+     * The species of {@code int} vectors with the same number of lanes as {@link #DOUBLES}.
+     */
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+
+    /**
+     * Constructs the kernels; invoked reflectively by {@link PointClassifier}.
+     */
+    VectorPointKernels() {
+    }
+
+    /**
+     * Checks whether vectors hold enough lanes to make the kernels worthwhile.
+     *
+     * @return {@code true} if the preferred vectors have at least two {@code double} lanes
+     */
+    @Override
+    public boolean isSupported() {
+        return DOUBLES.length() >= 2 && LONGS.length() == DOUBLES.length();
+    }
+
+    /**
+     * Finds the threshold pair containing each point, for all points in whole vectors.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param indexes the array receiving the position of the pair containing each point, or {@code -1}
+     * @return the number of leading points processed
+     */
+    @Override
+    public int classify(double[] lowers, double[] uppers, double[] points, int[] indexes) {
+        int bound = DOUBLES.loopBound(points.length);
+        for (int i = 0; i < bound; i += DOUBLES.length()) {
+            DoubleVector point = DoubleVector.fromArray(DOUBLES, points, i);
+            LongVector reached = countReached(lowers, point);
+            VectorMask<Long> inside = reached.sub(countPassed(uppers, point)).compare(VectorOperators.EQ, 1L);
+            LongVector index = reached.sub(1L).blend(-1L, inside.not());
+            ((IntVector) index.convertShape(VectorOperators.L2I, INTS, 0)).intoArray(indexes, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Finds the threshold pair containing each point, for all points in whole vectors.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param indexes the array receiving the position of the pair containing each point, or {@code -1}
+     * @return the number of leading points processed
+     */
+    @Override
+    public int classify(long[] lowers, long[] uppers, long[] points, int[] indexes) {
+        int bound = LONGS.loopBound(points.length);
+        for (int i = 0; i < bound; i += LONGS.length()) {
+            LongVector point = LongVector.fromArray(LONGS, points, i);
+            LongVector reached = countReached(lowers, point);
+            VectorMask<Long> inside = reached.sub(countPassed(uppers, point)).compare(VectorOperators.EQ, 1L);
+            LongVector index = reached.sub(1L).blend(-1L, inside.not());
+            ((IntVector) index.convertShape(VectorOperators.L2I, INTS, 0)).intoArray(indexes, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Determines whether a threshold pair contains each point, for all points in whole vectors.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param results the array receiving whether a pair contains each point
+     * @return the number of leading points processed
+     */
+    @Override
+    public int contains(double[] lowers, double[] uppers, double[] points, boolean[] results) {
+        int bound = DOUBLES.loopBound(points.length);
+        for (int i = 0; i < bound; i += DOUBLES.length()) {
+            DoubleVector point = DoubleVector.fromArray(DOUBLES, points, i);
+            countReached(lowers, point).sub(countPassed(uppers, point))
+                    .compare(VectorOperators.EQ, 1L)
+                    .intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Determines whether a threshold pair contains each point, for all points in whole vectors.
+     *
+     * @param lowers  the lower thresholds, in ascending order
+     * @param uppers  the upper thresholds, in ascending order
+     * @param points  the points
+     * @param results the array receiving whether a pair contains each point
+     * @return the number of leading points processed
+     */
+    @Override
+    public int contains(long[] lowers, long[] uppers, long[] points, boolean[] results) {
+        int bound = LONGS.loopBound(points.length);
+        for (int i = 0; i < bound; i += LONGS.length()) {
+            LongVector point = LongVector.fromArray(LONGS, points, i);
+            countReached(lowers, point).sub(countPassed(uppers, point))
+                    .compare(VectorOperators.EQ, 1L)
+                    .intoArray(results, i);
+        }
+        return bound;
+    }
+
+    /**
+     * Counts, per lane, the lower thresholds at most the point.
+     *
+     * @param lowers the lower thresholds
+     * @param point  the points
+     * @return the counts
+     */
+    private static LongVector countReached(double[] lowers, DoubleVector point) {
+        LongVector count = LongVector.zero(LONGS);
+        for (double lower : lowers) {
+            count = count.add(1L, point.compare(VectorOperators.GE, lower).cast(LONGS));
+        }
+        return count;
+    }
+
+    /**
+     * Counts, per lane, the upper thresholds below the point.
+     *
+     * @param uppers the upper thresholds
+     * @param point  the points
+     * @return the counts
+     */
+    private static LongVector countPassed(double[] uppers, DoubleVector point) {
+        LongVector count = LongVector.zero(LONGS);
+        for (double upper : uppers) {
+            count = count.add(1L, point.compare(VectorOperators.GT, upper).cast(LONGS));
+        }
+        return count;
+    }
+
+    /**
+     * Counts, per lane, the lower thresholds at most the point.
+     *
+     * @param lowers the lower thresholds
+     * @param point  the points
+     * @return the counts
+     */
+    private static LongVector countReached(long[] lowers, LongVector point) {
+        LongVector count = LongVector.zero(LONGS);
+        for (long lower : lowers) {
+            count = count.add(1L, point.compare(VectorOperators.GE, lower));
+        }
+        return count;
+    }
+
+    /**
+     * Counts, per lane, the upper thresholds below the point.
+     *
+     * @param uppers the upper thresholds
+     * @param point  the points
+     * @return the counts
+     */
+    private static LongVector countPassed(long[] uppers, LongVector point) {
+        LongVector count = LongVector.zero(LONGS);
+        for (long upper : uppers) {
+            count = count.add(1L, point.compare(VectorOperators.GT, upper));
+        }
+        return count;
+    }
+}
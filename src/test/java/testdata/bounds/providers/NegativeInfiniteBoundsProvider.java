@@ -29,7 +29,8 @@ import java.util.stream.Stream;
 public class NegativeInfiniteBoundsProvider implements ArgumentsProvider {
 
     static final InfiniteBound[] NEGATIVE_INFINITE_BOUNDS = {
-            new ImmutableInfiniteBound(false)
+            new ImmutableInfiniteBound(false),
+            ImmutableInfiniteBound.getInstance(false)
     };
 
     @Override
@@ -22,7 +22,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import testdata.numbers.ComparableNumber;
 import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
 import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -40,7 +43,10 @@ public class OneBoundsProvider implements ArgumentsProvider {
             new ImmutableFiniteBound<>(1.0),
             new ImmutableFiniteBound<>(BigInteger.ONE),
             new ImmutableFiniteBound<>(BigDecimal.ONE),
-            new ImmutableFiniteBound<>(ComparableNumber.ONE)
+            new ImmutableFiniteBound<>(ComparableNumber.ONE),
+            new IntFiniteBound(1),
+            new LongFiniteBound(1L),
+            new DoubleFiniteBound(1.0)
     };
 
     @Override
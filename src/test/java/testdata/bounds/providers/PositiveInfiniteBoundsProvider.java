@@ -29,7 +29,8 @@ import java.util.stream.Stream;
 public class PositiveInfiniteBoundsProvider implements ArgumentsProvider {
 
     static final InfiniteBound[] POSITIVE_INFINITE_BOUNDS = {
-            new ImmutableInfiniteBound(true)
+            new ImmutableInfiniteBound(true),
+            ImmutableInfiniteBound.getInstance(true)
     };
 
     @Override
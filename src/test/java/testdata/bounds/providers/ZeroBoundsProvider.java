@@ -22,7 +22,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import testdata.numbers.ComparableNumber;
 import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
 import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -40,7 +43,10 @@ public class ZeroBoundsProvider implements ArgumentsProvider {
             new ImmutableFiniteBound<>(0.0),
             new ImmutableFiniteBound<>(BigInteger.ZERO),
             new ImmutableFiniteBound<>(BigDecimal.ZERO),
-            new ImmutableFiniteBound<>(ComparableNumber.ZERO)
+            new ImmutableFiniteBound<>(ComparableNumber.ZERO),
+            new IntFiniteBound(0),
+            new LongFiniteBound(0L),
+            new DoubleFiniteBound(0.0)
     };
 
     @Override
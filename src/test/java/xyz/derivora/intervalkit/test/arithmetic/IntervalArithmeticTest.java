@@ -0,0 +1,512 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.arithmetic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.arithmetic.DoubleRounding;
+import xyz.derivora.intervalkit.arithmetic.IntervalArithmetic;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalSet;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/arithmetic")
+@DisplayName("Tests for IntervalArithmetic")
+class IntervalArithmeticTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private final IntervalArithmetic arithmetic = IntervalArithmetic.getInstance();
+
+    private final IntervalArithmetic outward = IntervalArithmetic.of(BoundFactory.immutable(), DoubleRounding.OUTWARD);
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    private static Bound decimal(String value) {
+        return new ImmutableFiniteBound<>(new BigDecimal(value));
+    }
+
+    private static ImmutableInterval interval(Bound lower, boolean lowerClosed, Bound upper, boolean upperClosed) {
+        return ImmutableInterval.of(lower, lowerClosed, upper, upperClosed);
+    }
+
+    private static ImmutableInterval closed(long lower, long upper) {
+        return ImmutableInterval.closed(bound(lower), bound(upper));
+    }
+
+    private static ImmutableInterval point(double value) {
+        return ImmutableInterval.closed(new DoubleFiniteBound(value), new DoubleFiniteBound(value));
+    }
+
+    private static double value(Bound bound) {
+        return ((FiniteBound<?>) bound).getValue().doubleValue();
+    }
+
+    private static void assertInterval(Bound lower, boolean lowerClosed, Bound upper, boolean upperClosed,
+                                       Interval actual) {
+        if (actual.isEmpty()
+                || actual.getLowerBound().compareTo(lower) != 0 || actual.isLowerClosed() != lowerClosed
+                || actual.getUpperBound().compareTo(upper) != 0 || actual.isUpperClosed() != upperClosed) {
+            fail(String.format("Expected %s but was %s", interval(lower, lowerClosed, upper, upperClosed), actual));
+        }
+    }
+
+    @Test
+    @DisplayName("Should add endpoints and keep closedness only where both endpoints are closed")
+    void add_halfOpenIntervals_shouldCombineClosedness() {
+        ImmutableInterval sum = arithmetic.add(
+                interval(bound(1), true, bound(2), false),
+                interval(bound(3), true, bound(4), true)
+        );
+
+        assertInterval(bound(4), true, bound(6), false, sum);
+    }
+
+    @Test
+    @DisplayName("Should subtract the opposite endpoints")
+    void subtract_closedAndHalfOpen_shouldSubtractOppositeEndpoints() {
+        ImmutableInterval difference = arithmetic.subtract(closed(1, 2), interval(bound(0), false, bound(1), true));
+
+        assertInterval(bound(0), true, bound(2), false, difference);
+    }
+
+    @Test
+    @DisplayName("Should multiply intervals of mixed signs")
+    void multiply_mixedSigns_shouldTakeExtremeCornerProducts() {
+        ImmutableInterval product = arithmetic.multiply(closed(-2, 3), closed(-1, 4));
+
+        assertInterval(bound(-8), true, bound(12), true, product);
+    }
+
+    @Test
+    @DisplayName("Should keep zero open if it is only reached through an open endpoint")
+    void multiply_openZeroEndpoint_shouldKeepZeroOpen() {
+        ImmutableInterval product = arithmetic.multiply(interval(bound(0), false, bound(1), true), closed(2, 3));
+
+        assertInterval(bound(0), false, bound(3), true, product);
+    }
+
+    @Test
+    @DisplayName("Should take the product of zero and an infinite endpoint as zero")
+    void multiply_zeroAndInfinity_shouldYieldZero() {
+        ImmutableInterval line = interval(NEGATIVE_INFINITY, false, POSITIVE_INFINITY, false);
+        ImmutableInterval halfLine = interval(bound(2), true, POSITIVE_INFINITY, false);
+
+        ImmutableInterval zero = arithmetic.multiply(closed(0, 0), line);
+        ImmutableInterval unbounded = arithmetic.multiply(closed(0, 1), halfLine);
+
+        assertInterval(bound(0), true, bound(0), true, zero);
+        assertInterval(bound(0), true, POSITIVE_INFINITY, false, unbounded);
+    }
+
+    @Test
+    @DisplayName("Should propagate infinite endpoints through sums and products")
+    void addAndMultiply_infiniteEndpoints_shouldYieldInfiniteEndpoints() {
+        ImmutableInterval sum = arithmetic.add(
+                interval(NEGATIVE_INFINITY, false, bound(1), true),
+                interval(bound(2), true, POSITIVE_INFINITY, false)
+        );
+        ImmutableInterval product = arithmetic.multiply(
+                interval(NEGATIVE_INFINITY, false, bound(0), true),
+                interval(NEGATIVE_INFINITY, false, bound(0), true)
+        );
+
+        assertInterval(NEGATIVE_INFINITY, false, POSITIVE_INFINITY, false, sum);
+        assertInterval(bound(0), true, POSITIVE_INFINITY, false, product);
+    }
+
+    @Test
+    @DisplayName("Should negate and swap the endpoints")
+    void negate_halfOpenInterval_shouldSwapEndpoints() {
+        ImmutableInterval negated = arithmetic.negate(interval(bound(-3), false, POSITIVE_INFINITY, false));
+
+        assertInterval(NEGATIVE_INFINITY, false, bound(3), false, negated);
+    }
+
+    @Test
+    @DisplayName("Should return absolute values with zero closed when the interval straddles zero")
+    void abs_straddlingZero_shouldStartAtClosedZero() {
+        assertInterval(bound(0), true, bound(3), false, arithmetic.abs(interval(bound(-3), false, bound(2), true)));
+        assertInterval(bound(0), true, bound(2), true, arithmetic.abs(interval(bound(-2), true, bound(2), false)));
+        assertInterval(bound(1), false, bound(4), true, arithmetic.abs(interval(bound(-4), true, bound(-1), false)));
+    }
+
+    @Test
+    @DisplayName("Should raise intervals to even and odd powers")
+    void pow_positiveExponents_shouldRespectMonotonicity() {
+        ImmutableInterval straddling = interval(bound(-1), false, bound(2), true);
+
+        assertInterval(bound(0), true, bound(4), true, arithmetic.pow(straddling, 2));
+        assertInterval(bound(-8), true, bound(1), true, arithmetic.pow(closed(-2, 1), 3));
+        assertInterval(bound(1), true, bound(1), true, arithmetic.pow(closed(-2, 1), 0));
+    }
+
+    @Test
+    @DisplayName("Should raise intervals to negative powers through division")
+    void pow_negativeExponent_shouldDivideOne() {
+        assertInterval(decimal("0.0625"), true, decimal("0.25"), true, arithmetic.pow(closed(2, 4), -2));
+        assertInterval(bound(1), true, POSITIVE_INFINITY, false, arithmetic.pow(closed(-1, 1), -2));
+    }
+
+    @Test
+    @DisplayName("Should reject the exponent Integer.MIN_VALUE")
+    void pow_minimumExponent_shouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> arithmetic.pow(closed(1, 2), Integer.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should divide exactly when all quotients are integers")
+    void divide_integralQuotients_shouldStayExact() {
+        ImmutableInterval quotient = arithmetic.divide(closed(6, 12), closed(2, 3));
+
+        assertInterval(bound(2), true, bound(6), true, quotient);
+        assertInstanceOf(LongFiniteBound.class, quotient.getLowerBound());
+    }
+
+    @Test
+    @DisplayName("Should enclose quotients without a terminating decimal expansion")
+    void divide_nonTerminatingQuotient_shouldEncloseExactValue() {
+        ImmutableInterval quotient = arithmetic.divide(closed(1, 1), closed(3, 3));
+
+        BigDecimal lower = (BigDecimal) ((FiniteBound<?>) quotient.getLowerBound()).getValue();
+        BigDecimal upper = (BigDecimal) ((FiniteBound<?>) quotient.getUpperBound()).getValue();
+        assertTrue(lower.multiply(BigDecimal.valueOf(3)).compareTo(BigDecimal.ONE) < 0);
+        assertTrue(upper.multiply(BigDecimal.valueOf(3)).compareTo(BigDecimal.ONE) > 0);
+        assertEquals(34, lower.precision());
+        assertEquals(34, upper.precision());
+    }
+
+    @Test
+    @DisplayName("Should split a divisor containing zero into its negative and positive parts")
+    void divideToSet_divisorStraddlingZero_shouldReturnTwoIntervals() {
+        IntervalSet quotient = arithmetic.divideToSet(closed(1, 2), closed(-1, 1));
+
+        assertEquals(2, quotient.size());
+        assertInterval(NEGATIVE_INFINITY, false, bound(-1), true, quotient.intervals().get(0));
+        assertInterval(bound(1), true, POSITIVE_INFINITY, false, quotient.intervals().get(1));
+        assertInterval(NEGATIVE_INFINITY, false, POSITIVE_INFINITY, false,
+                arithmetic.divide(closed(1, 2), closed(-1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should divide by a divisor with a zero endpoint")
+    void divide_zeroEndpoint_shouldYieldUnboundedQuotient() {
+        assertInterval(decimal("0.5"), true, POSITIVE_INFINITY, false,
+                arithmetic.divide(closed(1, 2), closed(0, 2)));
+        assertInterval(NEGATIVE_INFINITY, false, decimal("-0.5"), true,
+                arithmetic.divide(closed(1, 2), interval(bound(-2), true, bound(0), false)));
+        assertInterval(bound(1), true, POSITIVE_INFINITY, false,
+                arithmetic.divide(closed(1, 2), interval(bound(0), false, bound(1), true)));
+    }
+
+    @Test
+    @DisplayName("Should divide zero by a divisor containing zero to zero")
+    void divideToSet_zeroDividend_shouldYieldZero() {
+        IntervalSet quotient = arithmetic.divideToSet(closed(0, 0), closed(-1, 1));
+
+        assertEquals(1, quotient.size());
+        assertInterval(bound(0), true, bound(0), true, quotient.intervals().get(0));
+    }
+
+    @Test
+    @DisplayName("Should return an empty result when dividing by [0, 0]")
+    void divide_zeroDivisor_shouldBeEmpty() {
+        assertTrue(arithmetic.divide(closed(1, 2), closed(0, 0)).isEmpty());
+        assertTrue(arithmetic.divideToSet(closed(1, 2), closed(0, 0)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return an empty result for an empty operand")
+    void operations_emptyOperand_shouldBeEmpty() {
+        ImmutableInterval empty = ImmutableInterval.open(bound(1), bound(1));
+
+        assertTrue(arithmetic.add(empty, closed(1, 2)).isEmpty());
+        assertTrue(arithmetic.multiply(closed(1, 2), empty).isEmpty());
+        assertTrue(arithmetic.divide(empty, closed(1, 2)).isEmpty());
+        assertTrue(arithmetic.negate(empty).isEmpty());
+        assertTrue(arithmetic.abs(empty).isEmpty());
+        assertTrue(arithmetic.pow(empty, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should fall back to exact decimal results when long arithmetic overflows")
+    void add_longOverflow_shouldFallBackToDecimal() {
+        ImmutableInterval sum = arithmetic.add(closed(Long.MAX_VALUE - 1, Long.MAX_VALUE), closed(10, 10));
+
+        BigDecimal max = BigDecimal.valueOf(Long.MAX_VALUE);
+        assertInterval(new ImmutableFiniteBound<>(max.add(BigDecimal.valueOf(9))), true,
+                new ImmutableFiniteBound<>(max.add(BigDecimal.TEN)), true, sum);
+    }
+
+    @Test
+    @DisplayName("Should fall back to exact decimal results when long products and powers overflow")
+    void multiplyAndPow_longOverflow_shouldFallBackToDecimal() {
+        BigDecimal product = BigDecimal.valueOf(1L << 32).pow(2);
+        BigDecimal power = BigDecimal.valueOf(3).pow(41);
+
+        assertInterval(new ImmutableFiniteBound<>(product), true, new ImmutableFiniteBound<>(product), true,
+                arithmetic.multiply(closed(1L << 32, 1L << 32), closed(1L << 32, 1L << 32)));
+        assertInterval(new ImmutableFiniteBound<>(power.negate()), true, new ImmutableFiniteBound<>(power), true,
+                arithmetic.pow(closed(-3, 3), 41));
+        assertInterval(bound(0), true, new ImmutableFiniteBound<>(power.multiply(BigDecimal.valueOf(3))), true,
+                arithmetic.pow(closed(-3, 2), 42));
+    }
+
+    @Test
+    @DisplayName("Should keep the negation of the smallest supported long finite")
+    void negate_smallestSupportedLong_shouldFallBackToDecimal() {
+        ImmutableInterval negation = arithmetic.negate(closed(Long.MIN_VALUE + 1, 0));
+
+        assertTrue(negation.getUpperBound().isFinite());
+        assertInterval(bound(0), true, new ImmutableFiniteBound<>(BigDecimal.valueOf(Long.MAX_VALUE)), true,
+                negation);
+    }
+
+    @Test
+    @DisplayName("Should divide exactly when a quotient terminates beyond the division precision")
+    void divide_longTerminatingQuotient_shouldStayExact() {
+        BigDecimal expected = BigDecimal.ONE.divide(BigDecimal.valueOf(1L << 60));
+        ImmutableInterval quotient = arithmetic.divide(closed(1, 1), closed(1L << 60, 1L << 60));
+
+        assertTrue(expected.precision() > 34);
+        assertInterval(new ImmutableFiniteBound<>(expected), true, new ImmutableFiniteBound<>(expected), true,
+                quotient);
+    }
+
+    @Test
+    @DisplayName("Should compute in double when an endpoint is a double")
+    void add_doubleEndpoint_shouldYieldDoubleEndpoints() {
+        ImmutableInterval sum = arithmetic.add(
+                ImmutableInterval.closed(new DoubleFiniteBound(0.5), new DoubleFiniteBound(1.5)),
+                closed(1, 1)
+        );
+
+        assertInterval(new DoubleFiniteBound(1.5), true, new DoubleFiniteBound(2.5), true, sum);
+        assertInstanceOf(DoubleFiniteBound.class, sum.getUpperBound());
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException for null operands")
+    void operations_nullOperand_shouldThrowNullPointerException() {
+        assertThrows(NullPointerException.class, () -> arithmetic.add(null, closed(1, 2)));
+        assertThrows(NullPointerException.class, () -> arithmetic.divide(closed(1, 2), null));
+        assertThrows(NullPointerException.class, () -> arithmetic.pow(null, 2));
+        assertThrows(NullPointerException.class, () -> IntervalArithmetic.of(null));
+    }
+
+    @Test
+    @DisplayName("Should enclose every combination of members for random operands")
+    void operations_randomOperands_shouldEncloseMemberResults() {
+        Random random = new Random(24);
+        for (int i = 0; i < 2_000; i++) {
+            ImmutableInterval first = randomInterval(random);
+            ImmutableInterval second = randomInterval(random);
+
+            assertEncloses(first, second, arithmetic.add(first, second), BigDecimal::add);
+            assertEncloses(first, second, arithmetic.subtract(first, second), BigDecimal::subtract);
+            assertEncloses(first, second, arithmetic.multiply(first, second), BigDecimal::multiply);
+        }
+    }
+
+    private static ImmutableInterval randomInterval(Random random) {
+        int lower = random.nextInt(41) - 20;
+        int upper = lower + 1 + random.nextInt(10);
+        Bound lowerBound = random.nextBoolean() ? bound(lower) : decimal(lower + ".5");
+        Bound upperBound = random.nextBoolean() ? bound(upper) : decimal(upper + ".5");
+        return interval(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean());
+    }
+
+    private static void assertEncloses(Interval first, Interval second, Interval result,
+                                       BinaryOperator<BigDecimal> operation) {
+        for (BigDecimal x : members(first)) {
+            for (BigDecimal y : members(second)) {
+                BigDecimal value = operation.apply(x, y);
+                if (!result.contains(value)) {
+                    fail(String.format("%s and %s yield %s, which is not in %s", x, y, value, result));
+                }
+            }
+        }
+    }
+
+    private static BigDecimal[] members(Interval interval) {
+        BigDecimal lower = (BigDecimal) toDecimal(interval.getLowerBound());
+        BigDecimal upper = (BigDecimal) toDecimal(interval.getUpperBound());
+        BigDecimal epsilon = new BigDecimal("0.001");
+        return new BigDecimal[]{
+                interval.isLowerClosed() ? lower : lower.add(epsilon),
+                lower.add(upper).divide(BigDecimal.valueOf(2)),
+                interval.isUpperClosed() ? upper : upper.subtract(epsilon)
+        };
+    }
+
+    private static Number toDecimal(Bound bound) {
+        Number value = ((FiniteBound<?>) bound).getValue();
+        return value instanceof BigDecimal ? value : BigDecimal.valueOf(value.longValue());
+    }
+
+    @Test
+    @DisplayName("Should round double results to nearest by default")
+    void getInstance_default_shouldRoundToNearest() {
+        ImmutableInterval sum = arithmetic.add(point(0.1), point(0.2));
+
+        assertEquals(DoubleRounding.NEAREST, arithmetic.getDoubleRounding());
+        assertInterval(new DoubleFiniteBound(0.1 + 0.2), true, new DoubleFiniteBound(0.1 + 0.2), true, sum);
+    }
+
+    @Test
+    @DisplayName("Should round double sums outwards to adjacent values enclosing the exact sum")
+    void add_outwardRounding_shouldEncloseExactSum() {
+        ImmutableInterval sum = outward.add(point(0.1), point(0.2));
+
+        BigDecimal exact = new BigDecimal(0.1).add(new BigDecimal(0.2));
+        double lower = value(sum.getLowerBound());
+        double upper = value(sum.getUpperBound());
+        assertTrue(new BigDecimal(lower).compareTo(exact) < 0);
+        assertTrue(new BigDecimal(upper).compareTo(exact) > 0);
+        assertEquals(Double.valueOf(Math.nextUp(lower)), Double.valueOf(upper));
+        assertTrue(sum.isLowerClosed() && sum.isUpperClosed());
+    }
+
+    @Test
+    @DisplayName("Should keep exact double results as single points")
+    void multiply_outwardRoundingExactProduct_shouldNotWiden() {
+        ImmutableInterval product = outward.multiply(point(1.5), point(-2.0));
+
+        assertInterval(new DoubleFiniteBound(-3.0), true, new DoubleFiniteBound(-3.0), true, product);
+    }
+
+    @Test
+    @DisplayName("Should enclose one third with adjacent doubles")
+    void divide_outwardRounding_shouldEncloseThird() {
+        ImmutableInterval quotient = outward.divide(point(1.0), point(3.0));
+
+        double lower = value(quotient.getLowerBound());
+        double upper = value(quotient.getUpperBound());
+        assertTrue(new BigDecimal(lower).multiply(BigDecimal.valueOf(3)).compareTo(BigDecimal.ONE) < 0);
+        assertTrue(new BigDecimal(upper).multiply(BigDecimal.valueOf(3)).compareTo(BigDecimal.ONE) > 0);
+        assertEquals(Double.valueOf(Math.nextUp(lower)), Double.valueOf(upper));
+    }
+
+    @Test
+    @DisplayName("Should round overflowing double results to an infinite upper and a finite lower endpoint")
+    void add_outwardRoundingOverflow_shouldYieldInfiniteBound() {
+        ImmutableInterval sum = outward.add(point(Double.MAX_VALUE), point(Double.MAX_VALUE));
+
+        assertInterval(new DoubleFiniteBound(Double.MAX_VALUE), true, POSITIVE_INFINITY, false, sum);
+    }
+
+    @Test
+    @DisplayName("Should convert long endpoints that are not exact doubles outwards")
+    void add_outwardRoundingInexactLong_shouldConvertOutwards() {
+        long value = (1L << 53) + 1;
+        ImmutableInterval sum = outward.add(closed(value, value), point(0.5));
+
+        assertEquals(Double.valueOf(0x1p53), Double.valueOf(value(sum.getLowerBound())));
+        assertEquals(Double.valueOf(0x1p53 + 4), Double.valueOf(value(sum.getUpperBound())));
+    }
+
+    @Test
+    @DisplayName("Should enclose exact results of random double operands")
+    void operations_outwardRoundingRandomDoubles_shouldEncloseExactResults() {
+        Random random = new Random(25);
+        for (int i = 0; i < 20_000; i++) {
+            double x = randomDouble(random);
+            double y = randomDouble(random);
+            BigDecimal exactX = new BigDecimal(x);
+            BigDecimal exactY = new BigDecimal(y);
+
+            ImmutableInterval sum = outward.add(point(x), point(y));
+            ImmutableInterval difference = outward.subtract(point(x), point(y));
+            ImmutableInterval product = outward.multiply(point(x), point(y));
+            assertEnclosesExact(exactX.add(exactY), sum);
+            assertEnclosesExact(exactX.subtract(exactY), difference);
+            assertEnclosesExact(exactX.multiply(exactY), product);
+            assertTight(sum);
+            assertTight(difference);
+            assertTight(product);
+
+            int exponent = 2 + random.nextInt(4);
+            assertEnclosesExact(exactX.pow(exponent), outward.pow(point(x), exponent));
+            if (y != 0) {
+                ImmutableInterval quotient = outward.divide(point(x), point(y));
+                assertEnclosesQuotient(exactX, exactY, quotient);
+                assertTight(quotient);
+            }
+        }
+    }
+
+    private static double randomDouble(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> random.nextDouble() - 0.5;
+            case 1 -> (random.nextDouble() - 0.5) * 0x1p-1000;
+            case 2 -> Math.scalb(random.nextDouble() - 0.5, random.nextInt(2001) - 1000);
+            default -> random.nextInt(2001) - 1000;
+        };
+    }
+
+    private static void assertEnclosesExact(BigDecimal exact, Interval result) {
+        Bound lower = result.getLowerBound();
+        Bound upper = result.getUpperBound();
+        boolean lowerBelow = lower.isInfinite() || new BigDecimal(value(lower)).compareTo(exact) <= 0;
+        boolean upperAbove = upper.isInfinite() || new BigDecimal(value(upper)).compareTo(exact) >= 0;
+        if (!lowerBelow || !upperAbove || !result.isLowerClosed() && lower.isFinite()
+                || !result.isUpperClosed() && upper.isFinite()) {
+            fail(String.format("%s does not enclose %s", result, exact));
+        }
+    }
+
+    private static void assertEnclosesQuotient(BigDecimal dividend, BigDecimal divisor, Interval result) {
+        Bound lower = result.getLowerBound();
+        Bound upper = result.getUpperBound();
+        int sign = divisor.signum();
+        boolean lowerBelow = lower.isInfinite()
+                || new BigDecimal(value(lower)).multiply(divisor).compareTo(dividend) * sign <= 0;
+        boolean upperAbove = upper.isInfinite()
+                || new BigDecimal(value(upper)).multiply(divisor).compareTo(dividend) * sign >= 0;
+        if (!lowerBelow || !upperAbove) {
+            fail(String.format("%s does not enclose %s / %s", result, dividend, divisor));
+        }
+    }
+
+    private static void assertTight(Interval result) {
+        if (result.getLowerBound().isFinite() && result.getUpperBound().isFinite()) {
+            double lower = value(result.getLowerBound());
+            double upper = value(result.getUpperBound());
+            if (upper > Math.nextUp(Math.nextUp(lower))) {
+                fail(String.format("%s is wider than two ulps", result));
+            }
+        }
+    }
+}
@@ -19,10 +19,30 @@ package xyz.derivora.intervalkit.test.bounds.comparison;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import testdata.bounds.providers.EqualBoundsProvider;
+import testdata.bounds.providers.LessThanPairsProvider;
+import testdata.numbers.ComparableNumber;
 import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
 import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
 import xyz.derivora.intervalkit.test.bounds.BoundComparisonTest;
 
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @Tag("xyz/derivora/intervalkit/bounds/comparison")
 @DisplayName("Tests for BoundComparator")
 class BoundComparatorTest extends BoundComparisonTest {
@@ -33,4 +53,149 @@ class BoundComparatorTest extends BoundComparisonTest {
     protected int compare(Bound firstBound, Bound secondBound) {
         return BOUND_COMPARATOR.compare(firstBound, secondBound);
     }
+
+    private static ComparableNumber unorderableNumber(String number) {
+        return new ComparableNumber(number) {
+            @Override
+            public int compareTo(ComparableNumber other) {
+                throw new UnsupportedOperationException("Comparison not supported");
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                return other != null && other.getClass() == getClass() && other.toString().equals(toString());
+            }
+
+            @Override
+            public int hashCode() {
+                return toString().hashCode();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should compare large long values exactly")
+    void compare_withAdjacentLargeLongs_shouldReturnExactOrder() {
+        Bound lesser = new LongFiniteBound(Long.MAX_VALUE - 1);
+        Bound greater = new ImmutableFiniteBound<>(Long.MAX_VALUE);
+
+        assertTrue(compare(lesser, greater) < 0);
+        assertTrue(compare(greater, lesser) > 0);
+        assertTrue(compare(new IntFiniteBound(Integer.MAX_VALUE), new LongFiniteBound(Integer.MAX_VALUE + 1L)) < 0);
+    }
+
+    @Test
+    @DisplayName("Should consider positive and negative zero equal")
+    void compare_withSignedZeroes_shouldReturnZero() {
+        assertEquals(0, compare(new DoubleFiniteBound(-0.0), new DoubleFiniteBound(0.0)));
+        assertEquals(0, compare(new ImmutableFiniteBound<>(-0.0), new ImmutableFiniteBound<>(0.0)));
+        assertEquals(0, compare(new ImmutableFiniteBound<>(-0.0f), new ImmutableFiniteBound<>(0.0f)));
+    }
+
+    @Test
+    @DisplayName("Should compare BigDecimal values regardless of scale")
+    void compare_withBigDecimalsOfDifferentScale_shouldReturnZero() {
+        Bound first = new ImmutableFiniteBound<>(new BigDecimal("1.0"));
+        Bound second = new ImmutableFiniteBound<>(new BigDecimal("1.00"));
+
+        assertEquals(0, compare(first, second));
+    }
+
+    @Test
+    @DisplayName("Should consider bounds with equal values of an unorderable custom type equal")
+    void compare_withEqualCustomValues_shouldReturnZero() {
+        Bound first = new ImmutableFiniteBound<>(unorderableNumber("1"));
+        Bound second = new ImmutableFiniteBound<>(unorderableNumber("1"));
+        Bound different = new ImmutableFiniteBound<>(unorderableNumber("2"));
+
+        assertEquals(0, compare(first, second));
+        assertEquals(0, BOUND_COMPARATOR.tryCompare(first, second));
+        assertThrows(IncomparableBoundsException.class, () -> compare(first, different));
+    }
+
+    @Test
+    @DisplayName("Should compare a bound with a value of the same type")
+    void compareToValue_withSameType_shouldReturnOrder() {
+        assertTrue(BOUND_COMPARATOR.compareToValue(new LongFiniteBound(1L), 2L) < 0);
+        assertEquals(0, BOUND_COMPARATOR.compareToValue(new IntFiniteBound(2), 2));
+        assertTrue(BOUND_COMPARATOR.compareToValue(new DoubleFiniteBound(2.5), 2.0) > 0);
+        assertEquals(0, BOUND_COMPARATOR.compareToValue(new ImmutableFiniteBound<>(new BigDecimal("1.0")), BigDecimal.ONE));
+    }
+
+    @Test
+    @DisplayName("Should compare a bound with a value of a different type")
+    void compareToValue_withMixedTypes_shouldReturnOrder() {
+        assertTrue(BOUND_COMPARATOR.compareToValue(new LongFiniteBound(Long.MAX_VALUE - 1), Long.MAX_VALUE) < 0);
+        assertEquals(0, BOUND_COMPARATOR.compareToValue(new IntFiniteBound(3), 3.0));
+        assertTrue(BOUND_COMPARATOR.compareToValue(new DoubleFiniteBound(0.5), new BigDecimal("0.25")) > 0);
+    }
+
+    @Test
+    @DisplayName("Should order infinite bounds around any value")
+    void compareToValue_withInfiniteBound_shouldReturnSign() {
+        assertTrue(BOUND_COMPARATOR.compareToValue(ImmutableInfiniteBound.getInstance(true), Long.MAX_VALUE) > 0);
+        assertTrue(BOUND_COMPARATOR.compareToValue(ImmutableInfiniteBound.getInstance(false), -Double.MAX_VALUE) < 0);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for infinite or NaN values")
+    void compareToValue_withNonFiniteValue_shouldThrowIllegalArgumentException() {
+        Bound bound = new DoubleFiniteBound(1.0);
+
+        assertThrows(IllegalArgumentException.class, () -> BOUND_COMPARATOR.compareToValue(bound, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> BOUND_COMPARATOR.compareToValue(bound, Float.POSITIVE_INFINITY));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(LessThanPairsProvider.class)
+    @DisplayName("Should return normalized results for comparable bounds")
+    void tryCompare_withLessThanPairs_shouldReturnNormalizedResults(Bound lesserBound, Bound greaterBound) {
+        assertEquals(-1, BOUND_COMPARATOR.tryCompare(lesserBound, greaterBound));
+        assertEquals(1, BOUND_COMPARATOR.tryCompare(greaterBound, lesserBound));
+        assertTrue(BOUND_COMPARATOR.isComparable(lesserBound, greaterBound));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(EqualBoundsProvider.class)
+    @DisplayName("Should return zero for equal bounds")
+    void tryCompare_withEqualBounds_shouldReturnZero(Bound firstBound, Bound secondBound) {
+        assertEquals(0, BOUND_COMPARATOR.tryCompare(firstBound, secondBound));
+    }
+
+    @Test
+    @DisplayName("Should return INCOMPARABLE instead of throwing for incomparable values")
+    void tryCompare_withIncomparableValues_shouldReturnIncomparable() {
+        Bound firstBound = new ImmutableFiniteBound<>(ComparableNumber.getIncomparableInstance("-1"));
+        Bound secondBound = new ImmutableFiniteBound<>(ComparableNumber.getIncomparableInstance("1"));
+
+        assertEquals(BoundComparator.INCOMPARABLE, BOUND_COMPARATOR.tryCompare(firstBound, secondBound));
+        assertEquals(BoundComparator.INCOMPARABLE, BOUND_COMPARATOR.tryCompare(ILLEGAL_BOUND, ZERO_BOUND));
+        assertFalse(BOUND_COMPARATOR.isComparable(ZERO_BOUND, ILLEGAL_BOUND));
+    }
+
+    @Test
+    @DisplayName("Should return INCOMPARABLE for bounds violating the structural assumptions")
+    void tryCompare_withMalformedBound_shouldReturnIncomparable() {
+        Bound malformedBound = new InfiniteBound() {
+            @Override
+            public boolean isPositive() {
+                return true;
+            }
+
+            @Override
+            public boolean isFinite() {
+                return true;
+            }
+        };
+
+        assertEquals(BoundComparator.INCOMPARABLE, BOUND_COMPARATOR.tryCompare(malformedBound, ZERO_BOUND));
+        assertEquals(BoundComparator.INCOMPARABLE, BOUND_COMPARATOR.tryCompare(ZERO_BOUND, malformedBound));
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException for null bounds")
+    void tryCompare_withNullBound_shouldThrowNullPointerException() {
+        assertThrows(NullPointerException.class, () -> BOUND_COMPARATOR.tryCompare(null, ZERO_BOUND));
+        assertThrows(NullPointerException.class, () -> BOUND_COMPARATOR.isComparable(ZERO_BOUND, null));
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.bounds.comparison;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/bounds/comparison")
+@DisplayName("Tests for IncomparableBoundsException")
+class IncomparableBoundsExceptionTest {
+
+    private static final Bound FIRST_BOUND = new ImmutableFiniteBound<>(1);
+    private static final Bound SECOND_BOUND = ImmutableInfiniteBound.getInstance(true);
+
+    @Test
+    @DisplayName("Should format the default message from the bounds")
+    void getMessage_withoutCustomMessage_shouldReturnDefaultMessage() {
+        IncomparableBoundsException exception = new IncomparableBoundsException(FIRST_BOUND, SECOND_BOUND);
+
+        assertEquals("Bounds " + FIRST_BOUND + " and " + SECOND_BOUND + " cannot be compared", exception.getMessage());
+        assertSame(exception.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should format the default message with null bounds")
+    void getMessage_withoutBounds_shouldReturnDefaultMessage() {
+        assertEquals("Bounds null and null cannot be compared", new IncomparableBoundsException().getMessage());
+    }
+
+    @Test
+    @DisplayName("Should return the custom message")
+    void getMessage_withCustomMessage_shouldReturnCustomMessage() {
+        assertEquals("custom", new IncomparableBoundsException(FIRST_BOUND, SECOND_BOUND, "custom").getMessage());
+        assertNull(new IncomparableBoundsException((String) null).getMessage());
+    }
+
+    @Test
+    @DisplayName("Should not capture a stack trace in stackless mode")
+    void constructor_withoutWritableStackTrace_shouldHaveEmptyStackTrace() {
+        Throwable cause = new ClassCastException();
+        IncomparableBoundsException exception = new IncomparableBoundsException(FIRST_BOUND, SECOND_BOUND, cause, false);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertSame(cause, exception.getCause());
+        assertSame(FIRST_BOUND, exception.getFirstBound());
+        assertSame(SECOND_BOUND, exception.getSecondBound());
+        assertTrue(exception.getMessage().startsWith("Bounds "));
+    }
+
+    @Test
+    @DisplayName("Should capture a stack trace by default")
+    void constructor_withCause_shouldCaptureStackTrace() {
+        IncomparableBoundsException exception = new IncomparableBoundsException(FIRST_BOUND, SECOND_BOUND, new ClassCastException());
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+}
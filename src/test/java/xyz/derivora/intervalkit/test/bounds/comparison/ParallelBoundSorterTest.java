@@ -0,0 +1,211 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.bounds.comparison;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import testdata.numbers.ComparableNumber;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.bounds.comparison.ParallelBoundSorter;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/bounds/comparison")
+@DisplayName("Tests for ParallelBoundSorter")
+class ParallelBoundSorterTest {
+
+    private static final BoundComparator BOUND_COMPARATOR = BoundComparator.getInstance();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, ParallelBoundSorter.PARALLEL_THRESHOLD, 50_000})
+    @DisplayName("Should sort mixed bounds in comparator order, keeping every element")
+    void sort_withMixedBounds_shouldMatchComparatorOrder(int size) {
+        Bound[] bounds = randomBounds(size, 1_000, new SplittableRandom(size));
+        Bound[] original = bounds.clone();
+
+        ParallelBoundSorter.sort(bounds);
+
+        assertSorted(bounds);
+        assertSameElements(original, bounds);
+    }
+
+    @Test
+    @DisplayName("Should sort bounds spanning the full long and double ranges")
+    void sort_withWideKeyRanges_shouldMatchComparatorOrder() {
+        SplittableRandom random = new SplittableRandom(17);
+        Bound[] bounds = new Bound[ParallelBoundSorter.PARALLEL_THRESHOLD * 2];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = switch (i % 4) {
+                case 0 -> new LongFiniteBound(random.nextLong());
+                case 1 -> new ImmutableFiniteBound<>(random.nextLong());
+                case 2 -> new DoubleFiniteBound(random.nextDouble(-1e300, 1e300));
+                default -> new DoubleFiniteBound(random.nextLong() + random.nextDouble());
+            };
+        }
+        bounds[0] = new LongFiniteBound(Long.MAX_VALUE);
+        bounds[1] = new LongFiniteBound(Long.MIN_VALUE);
+        bounds[2] = new DoubleFiniteBound(-0.0);
+
+        ParallelBoundSorter.sort(bounds);
+
+        assertSorted(bounds);
+    }
+
+    @Test
+    @DisplayName("Should keep equal bounds of the same kind in their original order")
+    void sort_withEqualBoundsOfSameKind_shouldBeStable() {
+        Bound[] bounds = new Bound[ParallelBoundSorter.PARALLEL_THRESHOLD * 2];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = i % 2 == 0 ? new LongFiniteBound(i % 7) : new DoubleFiniteBound(i % 5 + 0.5);
+        }
+        Bound[] expected = bounds.clone();
+        Arrays.sort(expected, BOUND_COMPARATOR);
+
+        ParallelBoundSorter.sort(bounds);
+
+        assertArrayEquals(expected, bounds);
+    }
+
+    @Test
+    @DisplayName("Should merge groups of very different sizes with many equal values across groups")
+    void sort_withSkewedGroupsAndCrossGroupTies_shouldMatchComparatorOrder() {
+        SplittableRandom random = new SplittableRandom(29);
+        Bound[] bounds = new Bound[ParallelBoundSorter.PARALLEL_THRESHOLD * 8];
+        for (int i = 0; i < bounds.length; i++) {
+            int value = random.nextInt(-3, 3);
+            bounds[i] = switch (random.nextInt(100)) {
+                case 0 -> new LongFiniteBound(value);
+                case 1 -> new DoubleFiniteBound(value);
+                default -> new ImmutableFiniteBound<>(BigDecimal.valueOf(value));
+            };
+        }
+        Bound[] original = bounds.clone();
+
+        ParallelBoundSorter.sort(bounds);
+
+        assertSorted(bounds);
+        assertSameElements(original, bounds);
+    }
+
+    @Test
+    @DisplayName("Should place infinite bounds at both ends")
+    void sort_withInfiniteBounds_shouldPlaceThemAtEnds() {
+        Bound[] bounds = randomBounds(ParallelBoundSorter.PARALLEL_THRESHOLD, 10, new SplittableRandom(3));
+        bounds[10] = ImmutableInfiniteBound.getInstance(true);
+        bounds[20] = ImmutableInfiniteBound.getInstance(false);
+
+        ParallelBoundSorter.sort(bounds);
+
+        assertTrue(bounds[0].isInfinite());
+        assertTrue(bounds[bounds.length - 1].isInfinite());
+        assertSorted(bounds);
+    }
+
+    @Test
+    @DisplayName("Should keep every element when boundaries cannot be compared")
+    void sort_withIncomparableBounds_shouldLeavePermutation() {
+        Bound[] otherGroupFailure = randomBounds(ParallelBoundSorter.PARALLEL_THRESHOLD * 2, 1_000,
+                new SplittableRandom(31));
+        otherGroupFailure[7] = new ImmutableFiniteBound<>(ComparableNumber.getIncomparableInstance("1"));
+        otherGroupFailure[11] = new ImmutableFiniteBound<>(ComparableNumber.getIncomparableInstance("2"));
+        Bound[] mergeFailure = new Bound[ParallelBoundSorter.PARALLEL_THRESHOLD * 2];
+        for (int i = 0; i < mergeFailure.length; i++) {
+            mergeFailure[i] = i % 2 == 0 ? new LongFiniteBound(i) : new DoubleFiniteBound(i + 0.5);
+        }
+        mergeFailure[mergeFailure.length / 2] = new ImmutableFiniteBound<>(ComparableNumber.ILLEGAL_NUMBER);
+
+        for (Bound[] bounds : new Bound[][]{otherGroupFailure, mergeFailure}) {
+            Bound[] original = bounds.clone();
+
+            assertThrows(IncomparableBoundsException.class, () -> ParallelBoundSorter.sort(bounds));
+
+            assertSameElements(original, bounds);
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException for null array or elements")
+    void sort_withNulls_shouldThrowNullPointerException() {
+        Bound[] small = {new LongFiniteBound(1), null};
+        Bound[] large = randomBounds(ParallelBoundSorter.PARALLEL_THRESHOLD, 10, new SplittableRandom(5));
+        large[large.length / 2] = null;
+
+        assertThrows(NullPointerException.class, () -> ParallelBoundSorter.sort(null));
+        assertThrows(NullPointerException.class, () -> ParallelBoundSorter.sort(small));
+        assertThrows(NullPointerException.class, () -> ParallelBoundSorter.sort(large));
+    }
+
+    private static Bound[] randomBounds(int size, int range, SplittableRandom random) {
+        Bound[] bounds = new Bound[size];
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt(-range, range);
+            bounds[i] = switch (random.nextInt(12)) {
+                case 0 -> new LongFiniteBound(value);
+                case 1 -> new IntFiniteBound(value);
+                case 2 -> new DoubleFiniteBound(value / 4.0);
+                case 3 -> new ImmutableFiniteBound<>((long) value);
+                case 4 -> new ImmutableFiniteBound<>((short) (value % Short.MAX_VALUE));
+                case 5 -> new ImmutableFiniteBound<>(value / 8.0);
+                case 6 -> new ImmutableFiniteBound<>(value / 2.0f);
+                case 7 -> new ImmutableFiniteBound<>(BigDecimal.valueOf(value, 1));
+                case 8 -> new ImmutableFiniteBound<>(BigInteger.valueOf(value));
+                case 9 -> ImmutableInfiniteBound.getInstance(random.nextBoolean());
+                default -> new LongFiniteBound(value);
+            };
+        }
+        return bounds;
+    }
+
+    private static void assertSorted(Bound[] bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (BOUND_COMPARATOR.compare(bounds[i - 1], bounds[i]) > 0) {
+                fail(String.format("Bounds at %d and %d are out of order: %s, %s",
+                        i - 1, i, bounds[i - 1], bounds[i]));
+            }
+        }
+    }
+
+    private static void assertSameElements(Bound[] expected, Bound[] actual) {
+        Map<Bound, Integer> counts = new IdentityHashMap<>();
+        for (Bound bound : expected) {
+            counts.merge(bound, 1, Integer::sum);
+        }
+        for (Bound bound : actual) {
+            counts.merge(bound, -1, Integer::sum);
+        }
+        assertEquals(expected.length, actual.length);
+        assertTrue(counts.values().stream().allMatch(count -> count == 0));
+    }
+}
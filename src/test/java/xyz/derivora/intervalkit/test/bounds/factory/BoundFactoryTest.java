@@ -19,15 +19,20 @@ package xyz.derivora.intervalkit.test.bounds.factory;
 
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.FieldSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import testdata.numbers.ComparableNumber;
 import testdata.numbers.SimpleNumber;
 import xyz.derivora.intervalkit.bounds.FiniteBound;
 import xyz.derivora.intervalkit.bounds.InfiniteBound;
 import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.utilkit.validation.ValidationException;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -133,6 +138,25 @@ abstract class BoundFactoryTest {
             );
         }
 
+        @Test
+        @DisplayName("Should throw ClassCastException on every call if number is not comparable")
+        void getFiniteBound_withNotComparableNumberTwice_shouldThrowClassCastExceptionTwice() {
+            Number illegalNumber = SimpleNumber.ONE;
+            assertThrows(ClassCastException.class, () -> BOUND_FACTORY.getFiniteBound(illegalNumber));
+            assertThrows(ClassCastException.class, () -> BOUND_FACTORY.getFiniteBound(illegalNumber));
+        }
+
+        @Test
+        @DisplayName("Should return correct bound if superclass of number implements Comparable of itself")
+        void getFiniteBound_withComparableSuperclass_shouldReturnCorrectBound() {
+            Number value = new ComparableNumber("2") {
+            };
+            FiniteBound<?> result = BOUND_FACTORY.getFiniteBound(value);
+
+            assertSame(value, result.getValue());
+            assertEquals(value.getClass(), result.getValueType());
+        }
+
         @ParameterizedTest
         @FieldSource("ZERO_NUMBERS")
         @DisplayName("Should return correct bound if number is valid")
@@ -142,5 +166,219 @@ abstract class BoundFactoryTest {
             assertEquals(value, result.getValue());
             assertEquals(value.getClass(), result.getValueType());
         }
+
+        @Test
+        @DisplayName("Should return bound with correct value for primitive long")
+        void getFiniteBound_withPrimitiveLong_shouldReturnCorrectBound() {
+            FiniteBound<Long> result = BOUND_FACTORY.getFiniteBound(Long.MAX_VALUE);
+
+            assertEquals(Long.valueOf(Long.MAX_VALUE), result.getValue());
+            assertEquals(Long.class, result.getValueType());
+        }
+
+        @Test
+        @DisplayName("Should return bound with correct value for primitive int")
+        void getFiniteBound_withPrimitiveInt_shouldReturnCorrectBound() {
+            FiniteBound<Integer> result = BOUND_FACTORY.getFiniteBound(Integer.MIN_VALUE);
+
+            assertEquals(Integer.valueOf(Integer.MIN_VALUE), result.getValue());
+            assertEquals(Integer.class, result.getValueType());
+        }
+
+        @Test
+        @DisplayName("Should return bound with correct value for primitive double")
+        void getFiniteBound_withPrimitiveDouble_shouldReturnCorrectBound() {
+            FiniteBound<Double> result = BOUND_FACTORY.getFiniteBound(0.5);
+
+            assertEquals(Double.valueOf(0.5), result.getValue());
+            assertEquals(Double.class, result.getValueType());
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NaN})
+        @DisplayName("Should throw ValidationException when primitive double is infinite or NaN")
+        void getFiniteBound_withInvalidPrimitiveDouble_shouldThrowValidationException(double value) {
+            assertThrows(
+                    ValidationException.class,
+                    () -> BOUND_FACTORY.getFiniteBound(value)
+            );
+        }
+    
+        @Test
+        @DisplayName("Should return bounds for all values of a long array")
+        void getFiniteBounds_withLongArray_shouldReturnBoundsInOrder() {
+            long[] values = {Long.MIN_VALUE, -1L, 0L, 1L, 1L, Long.MAX_VALUE};
+            FiniteBound<Long>[] result = BOUND_FACTORY.getFiniteBounds(values);
+
+            assertEquals(values.length, result.length);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(Long.valueOf(values[i]), result[i].getValue());
+                assertEquals(BOUND_FACTORY.getFiniteBound(values[i]), result[i]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should return bounds for all values of a double array")
+        void getFiniteBounds_withDoubleArray_shouldReturnBoundsInOrder() {
+            double[] values = {-Double.MAX_VALUE, -0.0, 0.0, 0.5, Double.MIN_VALUE};
+            FiniteBound<Double>[] result = BOUND_FACTORY.getFiniteBounds(values);
+
+            assertEquals(values.length, result.length);
+            for (int i = 0; i < values.length; i++) {
+                assertEquals(Double.valueOf(values[i]), result[i].getValue());
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(doubles = {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NaN})
+        @DisplayName("Should throw ValidationException when a double array contains an infinite or NaN value")
+        void getFiniteBounds_withInvalidDouble_shouldThrowValidationException(double value) {
+            assertThrows(
+                    ValidationException.class,
+                    () -> BOUND_FACTORY.getFiniteBounds(new double[]{1.0, 2.0, value, 3.0})
+            );
+        }
+
+        @Test
+        @DisplayName("Should return bounds for all values of a long stream")
+        void getFiniteBounds_withLongStream_shouldReturnBoundsInOrder() {
+            FiniteBound<Long>[] result = BOUND_FACTORY.getFiniteBounds(LongStream.range(0, 100));
+
+            assertEquals(100, result.length);
+            assertEquals(Long.valueOf(42L), result[42].getValue());
+        }
+
+        @Test
+        @DisplayName("Should return empty arrays for empty input")
+        void getFiniteBounds_withEmptyInput_shouldReturnEmptyArray() {
+            assertEquals(0, BOUND_FACTORY.getFiniteBounds(new long[0]).length);
+            assertEquals(0, BOUND_FACTORY.getFiniteBounds(new double[0]).length);
+            assertEquals(0, BOUND_FACTORY.getFiniteBounds(LongStream.empty()).length);
+        }
+
+        @Test
+        @DisplayName("Should throw NullPointerException for null arrays and streams")
+        void getFiniteBounds_withNull_shouldThrowNullPointerException() {
+            assertThrows(NullPointerException.class, () -> BOUND_FACTORY.getFiniteBounds((long[]) null));
+            assertThrows(NullPointerException.class, () -> BOUND_FACTORY.getFiniteBounds((double[]) null));
+            assertThrows(NullPointerException.class, () -> BOUND_FACTORY.getFiniteBounds((LongStream) null));
+        }
+    }
+
+    @Nested
+    @Tag("xyz/derivora/intervalkit/bounds/factory")
+    @Tag("FiniteBoundParsing")
+    @DisplayName("Tests for parsing FiniteBounds")
+    class FiniteBoundParsingTests {
+
+        @ParameterizedTest
+        @CsvSource({
+                "42, 42", "-7, -7", "+5, 5", "0, 0", "-0, 0", "007, 7",
+                "9223372036854775807, 9223372036854775807",
+                "-9223372036854775808, -9223372036854775808",
+                "000000000000000000000001, 1"
+        })
+        @DisplayName("Should return long-backed bound for integer literals that fit in a long")
+        void parseFiniteBound_withLongLiteral_shouldReturnLongBound(String text, long expected) {
+            FiniteBound<?> bound = BOUND_FACTORY.parseFiniteBound(text);
+
+            assertEquals(Long.valueOf(expected), bound.getValue());
+            assertEquals(BOUND_FACTORY.getFiniteBound(expected), bound);
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "2.5, 2.5", "-0.125, -0.125", "1e3, 1000.0", "1.5E+2, 150.0", "0.0, 0.0",
+                ".5, 0.5", "5., 5.0", "12345.5, 12345.5", "2.0, 2.0", "9007199254740992.0, 9007199254740992.0",
+                "3814697265625e-18, 3.814697265625E-6", "18014398509481984.0, 18014398509481984.0"
+        })
+        @DisplayName("Should return double-backed bound for decimal literals exactly representable as double")
+        void parseFiniteBound_withExactDecimal_shouldReturnDoubleBound(String text, double expected) {
+            FiniteBound<?> bound = BOUND_FACTORY.parseFiniteBound(text);
+
+            assertEquals(Double.valueOf(expected), bound.getValue());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"-0.0", "-0.000", "-0e5", "-.0", "+0.0"})
+        @DisplayName("Should normalize negative zero decimal literals to positive zero")
+        void parseFiniteBound_withNegativeZero_shouldReturnPositiveZero(String text) {
+            FiniteBound<?> bound = BOUND_FACTORY.parseFiniteBound(text);
+
+            assertEquals(Double.valueOf(0.0), bound.getValue());
+            assertEquals(BOUND_FACTORY.parseFiniteBound("0.0"), bound);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "0.1", "19.99", "-0.3", "1e400", "1e-400", "1.5E-1",
+                "9223372036854775808", "-9223372036854775809",
+                "1.2345678901234567890", "9007199254740993.0", "3814697265625e-20"
+        })
+        @DisplayName("Should return BigDecimal-backed bound when the value needs BigDecimal precision")
+        void parseFiniteBound_withInexactLiteral_shouldReturnBigDecimalBound(String text) {
+            FiniteBound<?> bound = BOUND_FACTORY.parseFiniteBound(text);
+
+            assertInstanceOf(BigDecimal.class, bound.getValue());
+            assertEquals(0, new BigDecimal(text).compareTo((BigDecimal) bound.getValue()));
+        }
+
+        @Test
+        @DisplayName("Should parse literals from a range of a larger character sequence")
+        void parseFiniteBound_withRange_shouldParseOnlyRange() {
+            StringBuilder buffer = new StringBuilder("x=42;y=2.5;z=0.1");
+
+            assertEquals(Long.valueOf(42L), BOUND_FACTORY.parseFiniteBound(buffer, 2, 4).getValue());
+            assertEquals(Double.valueOf(2.5), BOUND_FACTORY.parseFiniteBound(buffer, 7, 10).getValue());
+            assertEquals(new BigDecimal("0.1"), BOUND_FACTORY.parseFiniteBound(buffer, 13, 16).getValue());
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "-", "+", ".", "1e", "1e+", "abc", "1.2.3", "--1", "1 ", " 1", "0x10", "NaN", "Infinity"})
+        @DisplayName("Should throw NumberFormatException if text is not a valid numeric representation")
+        void parseFiniteBound_withInvalidText_shouldThrowNumberFormatException(String text) {
+            assertThrows(NumberFormatException.class, () -> BOUND_FACTORY.parseFiniteBound(text));
+        }
+
+        @Test
+        @DisplayName("Should throw IndexOutOfBoundsException if range is out of bounds")
+        void parseFiniteBound_withInvalidRange_shouldThrowIndexOutOfBoundsException() {
+            assertThrows(IndexOutOfBoundsException.class, () -> BOUND_FACTORY.parseFiniteBound("42", -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> BOUND_FACTORY.parseFiniteBound("42", 0, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> BOUND_FACTORY.parseFiniteBound("42", 2, 1));
+        }
+
+        @Test
+        @DisplayName("Should throw NullPointerException when text is null")
+        void parseFiniteBound_withNull_shouldThrowNullPointerException() {
+            assertThrows(NullPointerException.class, () -> BOUND_FACTORY.parseFiniteBound(null));
+            assertThrows(NullPointerException.class, () -> BOUND_FACTORY.parseFiniteBound(null, 0, 0));
+        }
+
+        @Test
+        @DisplayName("Should return bounds numerically equal to BigDecimal parsing for random literals")
+        void parseFiniteBound_withRandomLiterals_shouldMatchBigDecimal() {
+            SplittableRandom random = new SplittableRandom(13);
+            for (int i = 0; i < 10_000; i++) {
+                String text = switch (i % 4) {
+                    case 0 -> Long.toString(random.nextLong());
+                    case 1 -> Double.toString(random.nextDouble(-1e6, 1e6));
+                    case 2 -> random.nextInt(-100_000, 100_000) / 8 + "." + random.nextInt(1_000);
+                    default -> random.nextInt(1, 10_000) + "e" + random.nextInt(-30, 30);
+                };
+                Number value = BOUND_FACTORY.parseFiniteBound(text).getValue();
+                assertEquals(0, new BigDecimal(text).compareTo(toBigDecimal(value)), text);
+            }
+        }
+
+        private static BigDecimal toBigDecimal(Number value) {
+            if (value instanceof BigDecimal decimal) {
+                return decimal;
+            }
+            if (value instanceof Double d) {
+                return new BigDecimal(d);
+            }
+            return BigDecimal.valueOf(value.longValue());
+        }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+package xyz.derivora.intervalkit.test.bounds.factory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("xyz/derivora/intervalkit/bounds/factory")
+@DisplayName("Tests for the default methods of a custom BoundFactory")
+class CustomBoundFactoryTest extends BoundFactoryTest {
+
+    private RecordingBoundFactory factory;
+
+    @Override
+    protected BoundFactory createBoundFactory() {
+        factory = new RecordingBoundFactory();
+        return factory;
+    }
+
+    @Test
+    @DisplayName("Should pass primitive values to getFiniteBound(Number) with their own wrapper type")
+    void getFiniteBound_withPrimitives_shouldDelegateToNumberOverload() {
+        BOUND_FACTORY.getFiniteBound((byte) 1);
+        BOUND_FACTORY.getFiniteBound((short) 2);
+        BOUND_FACTORY.getFiniteBound(3);
+        BOUND_FACTORY.getFiniteBound(4L);
+        BOUND_FACTORY.getFiniteBound(5.5f);
+        BOUND_FACTORY.getFiniteBound(6.5);
+
+        List<Number> expected = List.of((byte) 1, (short) 2, 3, 4L, 5.5f, 6.5);
+        assertEquals(expected, factory.numbers);
+    }
+
+    @Test
+    @DisplayName("Should keep the value type of short and float arguments")
+    void getFiniteBound_withShortAndFloat_shouldKeepValueType() {
+        assertEquals(Short.class, BOUND_FACTORY.getFiniteBound((short) 5).getValueType());
+        assertEquals(Float.class, BOUND_FACTORY.getFiniteBound(1.5f).getValueType());
+        assertEquals(Integer.class, BOUND_FACTORY.getFiniteBound(5).getValueType());
+    }
+
+    /**
+     * A factory that implements only the abstract methods of {@link BoundFactory} and records the numbers
+     * passed to {@link #getFiniteBound(Number)}.
+     */
+    private static final class RecordingBoundFactory implements BoundFactory {
+
+        private final BoundFactory delegate = BoundFactory.immutable();
+
+        private final List<Number> numbers = new ArrayList<>();
+
+        @Override
+        public InfiniteBound getInfiniteBound(boolean isPositive) {
+            return delegate.getInfiniteBound(isPositive);
+        }
+
+        @Override
+        public FiniteBound<?> getFiniteBound(Number number) {
+            FiniteBound<?> bound = delegate.getFiniteBound(number);
+            numbers.add(number);
+            return bound;
+        }
+    }
+}
@@ -22,10 +22,15 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import xyz.derivora.intervalkit.bounds.FiniteBound;
 import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
 
 import java.math.BigDecimal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @Tag("xyz/derivora/intervalkit/bounds/factory")
 @DisplayName("Tests for ImmutableBoundFactory")
@@ -45,4 +50,19 @@ public class ImmutableBoundFactoryTest extends BoundFactoryTest {
         assertEquals(new BigDecimal(number), result.getValue());
         assertEquals(BigDecimal.class, result.getValueType());
     }
+
+    @Test
+    @DisplayName("Should return primitive-backed bounds for Long, Integer and Double")
+    void getFiniteBound_withPrimitiveWrapper_shouldReturnPrimitiveBound() {
+        assertInstanceOf(LongFiniteBound.class, BOUND_FACTORY.getFiniteBound((Number) 1L));
+        assertInstanceOf(IntFiniteBound.class, BOUND_FACTORY.getFiniteBound((Number) 1));
+        assertInstanceOf(DoubleFiniteBound.class, BOUND_FACTORY.getFiniteBound((Number) 1.0));
+    }
+
+    @Test
+    @DisplayName("Should return canonical instances for infinite bounds")
+    void getInfiniteBound_calledTwice_shouldReturnSameInstance() {
+        assertSame(BOUND_FACTORY.getPositiveInfiniteBound(), BOUND_FACTORY.getInfiniteBound(true));
+        assertSame(BOUND_FACTORY.getNegativeInfiniteBound(), BOUND_FACTORY.getInfiniteBound(false));
+    }
 }
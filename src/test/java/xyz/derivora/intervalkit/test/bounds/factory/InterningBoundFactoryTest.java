@@ -0,0 +1,140 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.bounds.factory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import testdata.numbers.ComparableNumber;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.factory.InterningBoundFactory;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/bounds/factory")
+@DisplayName("Tests for InterningBoundFactory")
+class InterningBoundFactoryTest extends BoundFactoryTest {
+
+    private static final int CAPACITY = 64;
+
+    @Override
+    protected BoundFactory createBoundFactory() {
+        return BoundFactory.interning(CAPACITY);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0})
+    @DisplayName("Should throw IllegalArgumentException when capacity is not positive")
+    void interning_withNonPositiveCapacity_shouldThrowIllegalArgumentException(int capacity) {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> BoundFactory.interning(capacity)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 100, 1024})
+    @DisplayName("Should round the capacity up to a power of two")
+    void interning_withCapacity_shouldRoundUpToPowerOfTwo(int capacity) {
+        int actual = BoundFactory.interning(capacity).getCapacity();
+
+        assertTrue(actual >= capacity);
+        assertEquals(1, Integer.bitCount(actual));
+    }
+
+    @Test
+    @DisplayName("Should return the same instance for repeated values")
+    void getFiniteBound_withRepeatedValue_shouldReturnSameInstance() {
+        assertSame(BOUND_FACTORY.getFiniteBound((Number) 7L), BOUND_FACTORY.getFiniteBound((Number) 7L));
+        assertSame(BOUND_FACTORY.getFiniteBound(7), BOUND_FACTORY.getFiniteBound(7));
+        assertSame(BOUND_FACTORY.getFiniteBound(0.25), BOUND_FACTORY.getFiniteBound(0.25));
+        assertSame(BOUND_FACTORY.getFiniteBound("1.50"), BOUND_FACTORY.getFiniteBound("1.50"));
+    }
+
+    @Test
+    @DisplayName("Should share cache entries between boxed and primitive requests")
+    void getFiniteBound_withBoxedAndPrimitiveValue_shouldReturnSameInstance() {
+        assertSame(BOUND_FACTORY.getFiniteBound(123_456_789L), BOUND_FACTORY.getFiniteBound((Number) 123_456_789L));
+        assertSame(BOUND_FACTORY.getFiniteBound((Number) 42), BOUND_FACTORY.getFiniteBound(42));
+        assertSame(BOUND_FACTORY.getFiniteBound(-3.5), BOUND_FACTORY.getFiniteBound((Number) (-3.5)));
+    }
+
+    @Test
+    @DisplayName("Should distinguish values of different types and scales")
+    void getFiniteBound_withEqualValuesOfDifferentTypes_shouldReturnDistinctBounds() {
+        FiniteBound<?> longBound = BOUND_FACTORY.getFiniteBound((Number) 1L);
+        FiniteBound<?> intBound = BOUND_FACTORY.getFiniteBound((Number) 1);
+        FiniteBound<?> scaledBound = BOUND_FACTORY.getFiniteBound(new BigDecimal("1.0"));
+        FiniteBound<?> unscaledBound = BOUND_FACTORY.getFiniteBound(new BigDecimal("1"));
+
+        assertEquals(Long.class, longBound.getValueType());
+        assertEquals(Integer.class, intBound.getValueType());
+        assertEquals(new BigDecimal("1.0"), scaledBound.getValue());
+        assertEquals(new BigDecimal("1"), unscaledBound.getValue());
+    }
+
+    @Test
+    @DisplayName("Should distinguish positive and negative zero")
+    void getFiniteBound_withSignedZeroes_shouldReturnDistinctBounds() {
+        FiniteBound<Double> positiveZero = BOUND_FACTORY.getFiniteBound(0.0);
+        FiniteBound<Double> negativeZero = BOUND_FACTORY.getFiniteBound(-0.0);
+
+        assertEquals(Double.valueOf(0.0), positiveZero.getValue());
+        assertEquals(Double.valueOf(-0.0), negativeZero.getValue());
+    }
+
+    @Test
+    @DisplayName("Should return correct values when entries are evicted")
+    void getFiniteBound_withMoreValuesThanCapacity_shouldReturnCorrectValues() {
+        BoundFactory factory = BoundFactory.interning(2);
+        for (long value = 0; value < 1_000; value++) {
+            assertEquals(Long.valueOf(value), factory.getFiniteBound(value).getValue());
+            assertEquals(Long.valueOf(value), factory.getFiniteBound((Number) value).getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Should count cache hits and misses")
+    void getFiniteBound_shouldUpdateHitAndMissCounters() {
+        InterningBoundFactory factory = BoundFactory.interning(CAPACITY);
+        factory.getFiniteBound(10L);
+        factory.getFiniteBound(10L);
+        factory.getFiniteBound((Number) 10L);
+        factory.getFiniteBound(11L);
+
+        assertEquals(2, factory.getHitCount());
+        assertEquals(2, factory.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should not intern or count values of non-standard types")
+    void getFiniteBound_withCustomNumber_shouldNotIntern() {
+        InterningBoundFactory factory = BoundFactory.interning(CAPACITY);
+        FiniteBound<?> first = factory.getFiniteBound(ComparableNumber.ONE);
+        FiniteBound<?> second = factory.getFiniteBound(ComparableNumber.ONE);
+
+        assertNotSame(first, second);
+        assertEquals(0, factory.getHitCount());
+        assertEquals(0, factory.getMissCount());
+    }
+}
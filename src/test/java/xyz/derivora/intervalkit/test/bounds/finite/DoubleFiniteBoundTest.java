@@ -0,0 +1,107 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.bounds.finite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.utilkit.validation.ValidationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/bounds/finite")
+@DisplayName("Tests for DoubleFiniteBound")
+class DoubleFiniteBoundTest {
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-Double.MAX_VALUE, -1.0, -0.0, 0.0, Double.MIN_VALUE, 1.0, Double.MAX_VALUE})
+    @DisplayName("Should return the primitive value")
+    void doubleValue_shouldReturnValue(double value) {
+        DoubleFiniteBound bound = new DoubleFiniteBound(value);
+        assertEquals(value, bound.doubleValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-Double.MAX_VALUE, -1.0, -0.0, 0.0, Double.MIN_VALUE, 1.0, Double.MAX_VALUE})
+    @DisplayName("Should return the boxed value and Double type")
+    void getValue_shouldReturnBoxedValueAndDoubleType(double value) {
+        DoubleFiniteBound bound = new DoubleFiniteBound(value);
+
+        assertEquals(Double.valueOf(value), bound.getValue());
+        assertEquals(Double.class, bound.getValueType());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.NaN})
+    @DisplayName("Should throw ValidationException when value is infinite or NaN")
+    void constructor_withInvalidDouble_shouldThrowValidationException(double value) {
+        assertThrows(
+                ValidationException.class,
+                () -> new DoubleFiniteBound(value)
+        );
+    }
+
+    @Test
+    @DisplayName("Should be equal to a bound with the same value")
+    void equals_withSameValue_shouldReturnTrue() {
+        DoubleFiniteBound first = new DoubleFiniteBound(0.5);
+        DoubleFiniteBound second = new DoubleFiniteBound(0.5);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should distinguish positive and negative zero like Double.equals")
+    void equals_withSignedZeroes_shouldReturnFalse() {
+        assertNotEquals(new DoubleFiniteBound(0.0), new DoubleFiniteBound(-0.0));
+    }
+
+    @Test
+    @DisplayName("Should have the same string representation as ImmutableFiniteBound")
+    void toString_shouldMatchImmutableFiniteBound() {
+        assertEquals(new ImmutableFiniteBound<>(0.5).toString(), new DoubleFiniteBound(0.5).toString());
+    }
+
+    @Test
+    @DisplayName("Should create bounds for all values of an array")
+    void arrayOf_withFiniteValues_shouldReturnBounds() {
+        FiniteBound<Double>[] bounds = DoubleFiniteBound.arrayOf(new double[]{-1.5, 0.0, 2.5});
+
+        assertArrayEquals(
+                new Object[]{new DoubleFiniteBound(-1.5), new DoubleFiniteBound(0.0), new DoubleFiniteBound(2.5)},
+                bounds
+        );
+    }
+
+    @Test
+    @DisplayName("Should report the index of the first invalid value")
+    void arrayOf_withInvalidValue_shouldThrowValidationException() {
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> DoubleFiniteBound.arrayOf(new double[]{1.0, Double.NaN, Double.POSITIVE_INFINITY})
+        );
+
+        assertTrue(exception.getMessage().contains("index 1"));
+    }
+}
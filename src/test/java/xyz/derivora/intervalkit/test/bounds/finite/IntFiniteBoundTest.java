@@ -0,0 +1,73 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.bounds.finite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/bounds/finite")
+@DisplayName("Tests for IntFiniteBound")
+class IntFiniteBoundTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE})
+    @DisplayName("Should return the primitive value")
+    void intValue_shouldReturnValue(int value) {
+        IntFiniteBound bound = new IntFiniteBound(value);
+        assertEquals(value, bound.intValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE})
+    @DisplayName("Should return the boxed value and Integer type")
+    void getValue_shouldReturnBoxedValueAndIntegerType(int value) {
+        IntFiniteBound bound = new IntFiniteBound(value);
+
+        assertEquals(Integer.valueOf(value), bound.getValue());
+        assertEquals(Integer.class, bound.getValueType());
+    }
+
+    @Test
+    @DisplayName("Should be equal to a bound with the same value")
+    void equals_withSameValue_shouldReturnTrue() {
+        IntFiniteBound first = new IntFiniteBound(42);
+        IntFiniteBound second = new IntFiniteBound(42);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should not be equal to a bound with a different value")
+    void equals_withDifferentValue_shouldReturnFalse() {
+        assertNotEquals(new IntFiniteBound(42), new IntFiniteBound(43));
+    }
+
+    @Test
+    @DisplayName("Should have the same string representation as ImmutableFiniteBound")
+    void toString_shouldMatchImmutableFiniteBound() {
+        assertEquals(new ImmutableFiniteBound<>(42).toString(), new IntFiniteBound(42).toString());
+    }
+}
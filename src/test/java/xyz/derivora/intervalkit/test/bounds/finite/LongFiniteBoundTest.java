@@ -0,0 +1,84 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.bounds.finite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/bounds/finite")
+@DisplayName("Tests for LongFiniteBound")
+class LongFiniteBoundTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE})
+    @DisplayName("Should return the primitive value")
+    void longValue_shouldReturnValue(long value) {
+        LongFiniteBound bound = new LongFiniteBound(value);
+        assertEquals(value, bound.longValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MIN_VALUE, -1L, 0L, 1L, Long.MAX_VALUE})
+    @DisplayName("Should return the boxed value and Long type")
+    void getValue_shouldReturnBoxedValueAndLongType(long value) {
+        LongFiniteBound bound = new LongFiniteBound(value);
+
+        assertEquals(Long.valueOf(value), bound.getValue());
+        assertEquals(Long.class, bound.getValueType());
+    }
+
+    @Test
+    @DisplayName("Should be equal to a bound with the same value")
+    void equals_withSameValue_shouldReturnTrue() {
+        LongFiniteBound first = new LongFiniteBound(42L);
+        LongFiniteBound second = new LongFiniteBound(42L);
+
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should not be equal to a bound with a different value")
+    void equals_withDifferentValue_shouldReturnFalse() {
+        assertNotEquals(new LongFiniteBound(42L), new LongFiniteBound(43L));
+    }
+
+    @Test
+    @DisplayName("Should have the same string representation as ImmutableFiniteBound")
+    void toString_shouldMatchImmutableFiniteBound() {
+        assertEquals(new ImmutableFiniteBound<>(42L).toString(), new LongFiniteBound(42L).toString());
+    }
+
+    @Test
+    @DisplayName("Should create bounds for all values of an array that accepts other bounds")
+    void arrayOf_shouldReturnModifiableBounds() {
+        FiniteBound<Long>[] bounds = LongFiniteBound.arrayOf(new long[]{3L, Long.MIN_VALUE});
+
+        assertEquals(new LongFiniteBound(3L), bounds[0]);
+        assertEquals(new LongFiniteBound(Long.MIN_VALUE), bounds[1]);
+        assertDoesNotThrow(() -> bounds[0] = new ImmutableFiniteBound<>(3L));
+    }
+}
@@ -23,7 +23,7 @@ import org.junit.jupiter.api.Test;
 import xyz.derivora.intervalkit.bounds.InfiniteBound;
 import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 @Tag("xyz/derivora/intervalkit/bounds/infinite")
 @DisplayName("Tests for ImmutableInfiniteBoundTest")
@@ -49,4 +49,19 @@ class ImmutableInfiniteBoundTest extends AbstractInfiniteBoundTest {
         boolean isNegative = bound.isNegative();
         assertTrue(isNegative);
     }
+
+    @Test
+    @DisplayName("Should return the same canonical instance for the same sign")
+    void getInstance_withSameSign_shouldReturnSameInstance() {
+        assertSame(ImmutableInfiniteBound.getInstance(true), ImmutableInfiniteBound.getInstance(true));
+        assertSame(ImmutableInfiniteBound.getInstance(false), ImmutableInfiniteBound.getInstance(false));
+    }
+
+    @Test
+    @DisplayName("Should return canonical instances equal to newly created bounds of the same sign")
+    void getInstance_shouldReturnBoundEqualToNewInstance() {
+        assertEquals(new ImmutableInfiniteBound(true), ImmutableInfiniteBound.getInstance(true));
+        assertEquals(new ImmutableInfiniteBound(false), ImmutableInfiniteBound.getInstance(false));
+        assertNotEquals(ImmutableInfiniteBound.getInstance(true), ImmutableInfiniteBound.getInstance(false));
+    }
 }
@@ -0,0 +1,238 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import testdata.numbers.ComparableNumber;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.codec.BoundCodec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/codec")
+@DisplayName("Tests for BoundCodec")
+class BoundCodecTest {
+
+    private static final BoundFactory BOUND_FACTORY = BoundFactory.immutable();
+
+    private static List<Bound> sampleBounds() {
+        List<Bound> bounds = new ArrayList<>(List.of(
+                ImmutableInfiniteBound.getInstance(false),
+                ImmutableInfiniteBound.getInstance(true),
+                BOUND_FACTORY.getFiniteBound(Byte.valueOf((byte) -7)),
+                BOUND_FACTORY.getFiniteBound(Short.valueOf((short) 1234)),
+                BOUND_FACTORY.getFiniteBound(Integer.MIN_VALUE),
+                BOUND_FACTORY.getFiniteBound(Long.MAX_VALUE),
+                BOUND_FACTORY.getFiniteBound(Long.MIN_VALUE),
+                BOUND_FACTORY.getFiniteBound(Float.valueOf(1.5f)),
+                BOUND_FACTORY.getFiniteBound(-0.0),
+                BOUND_FACTORY.getFiniteBound(Double.MAX_VALUE),
+                BOUND_FACTORY.getFiniteBound(BigInteger.ZERO),
+                BOUND_FACTORY.getFiniteBound(BigInteger.TWO.pow(200).negate()),
+                BOUND_FACTORY.getFiniteBound(new BigDecimal("19.99")),
+                BOUND_FACTORY.getFiniteBound(new BigDecimal("-1E+300")),
+                BOUND_FACTORY.getFiniteBound(new BigDecimal("123456789012345678901234567890.123456789"))
+        ));
+        bounds.add(new ImmutableFiniteBound<>(42L));
+        return bounds;
+    }
+
+    private static Bound randomBound(Random random) {
+        return switch (random.nextInt(8)) {
+            case 0 -> ImmutableInfiniteBound.getInstance(random.nextBoolean());
+            case 1 -> BOUND_FACTORY.getFiniteBound(random.nextInt(21) - 10);
+            case 2 -> BOUND_FACTORY.getFiniteBound((long) random.nextInt(21) - 10);
+            case 3 -> BOUND_FACTORY.getFiniteBound(Short.valueOf((short) (random.nextInt(21) - 10)));
+            case 4 -> BOUND_FACTORY.getFiniteBound((random.nextInt(41) - 20) / 2.0);
+            case 5 -> BOUND_FACTORY.getFiniteBound(Float.valueOf((random.nextInt(41) - 20) / 4.0f));
+            case 6 -> BOUND_FACTORY.getFiniteBound(BigInteger.valueOf(random.nextInt(21) - 10));
+            default -> BOUND_FACTORY.getFiniteBound(BigDecimal.valueOf(random.nextInt(201) - 100, 1));
+        };
+    }
+
+    @Test
+    @DisplayName("Should decode every encoded bound to an equal value and advance the position")
+    void decode_afterEncode_shouldRoundTrip() {
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            List<Bound> bounds = sampleBounds();
+            ByteBuffer buffer = ByteBuffer.allocate(1024).order(order);
+            for (Bound bound : bounds) {
+                int position = buffer.position();
+                BoundCodec.encode(bound, buffer);
+                assertEquals(BoundCodec.encodedSize(bound), buffer.position() - position);
+            }
+            buffer.flip();
+
+            for (Bound bound : bounds) {
+                int position = buffer.position();
+                Bound decoded = BoundCodec.decode(buffer);
+                assertEquals(BoundCodec.encodedSize(bound), buffer.position() - position);
+                assertEquals(0, BoundComparator.getInstance().compare(bound, decoded));
+                assertEquals(bound.isFinite(), decoded.isFinite());
+                if (bound.isFinite()) {
+                    assertEquals(((FiniteBound<?>) bound).getValue(), ((FiniteBound<?>) decoded).getValue());
+                }
+            }
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    @DisplayName("Should write multi-byte values in big-endian order regardless of the buffer order")
+    void encode_withLittleEndianBuffer_shouldWriteBigEndian() {
+        ByteBuffer buffer = ByteBuffer.allocate(9).order(ByteOrder.LITTLE_ENDIAN);
+        BoundCodec.encode(BOUND_FACTORY.getFiniteBound(0x0102030405060708L), buffer);
+
+        assertArrayEquals(
+                new byte[]{BoundCodec.LONG, 1, 2, 3, 4, 5, 6, 7, 8},
+                buffer.array()
+        );
+    }
+
+    @Test
+    @DisplayName("Should encode infinite bounds as a single tag byte")
+    void encode_withInfiniteBounds_shouldWriteTagOnly() {
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+        BoundCodec.encode(ImmutableInfiniteBound.getInstance(false), buffer);
+        BoundCodec.encode(ImmutableInfiniteBound.getInstance(true), buffer);
+
+        assertArrayEquals(new byte[]{BoundCodec.NEGATIVE_INFINITE, BoundCodec.POSITIVE_INFINITE}, buffer.array());
+    }
+
+    @Test
+    @DisplayName("Should encode BigDecimal as zigzag scale followed by length-prefixed unscaled value")
+    void encode_withBigDecimal_shouldWriteVarintHeader() {
+        ByteBuffer buffer = ByteBuffer.allocate(5);
+        BoundCodec.encode(BOUND_FACTORY.getFiniteBound(new BigDecimal("19.99")), buffer);
+
+        assertArrayEquals(new byte[]{BoundCodec.BIG_DECIMAL, 4, 2, 0x07, (byte) 0xCF}, buffer.array());
+    }
+
+    @Test
+    @DisplayName("Should read encoded bounds in place without changing the position")
+    void accessors_shouldReadInPlace() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        int longIndex = 3;
+        int doubleIndex = longIndex + BoundCodec.encode(BOUND_FACTORY.getFiniteBound(-5L), buffer, longIndex);
+        int infiniteIndex = doubleIndex + BoundCodec.encode(BOUND_FACTORY.getFiniteBound(2.5), buffer, doubleIndex);
+        BoundCodec.encode(ImmutableInfiniteBound.getInstance(true), buffer, infiniteIndex);
+
+        assertEquals(0, buffer.position());
+        assertEquals(BoundCodec.LONG, BoundCodec.tagAt(buffer, longIndex));
+        assertEquals(-5L, BoundCodec.longValueAt(buffer, longIndex));
+        assertEquals(2.5, BoundCodec.doubleValueAt(buffer, doubleIndex));
+        assertEquals(9, BoundCodec.encodedSizeAt(buffer, doubleIndex));
+        assertTrue(BoundCodec.isFiniteAt(buffer, doubleIndex));
+        assertFalse(BoundCodec.isFiniteAt(buffer, infiniteIndex));
+        assertEquals(1, BoundCodec.encodedSizeAt(buffer, infiniteIndex));
+        assertThrows(IllegalArgumentException.class, () -> BoundCodec.longValueAt(buffer, doubleIndex));
+        assertThrows(IllegalArgumentException.class, () -> BoundCodec.doubleValueAt(buffer, longIndex));
+    }
+
+    @Test
+    @DisplayName("Should compare encoded bounds consistently with BoundComparator")
+    void compareAt_shouldMatchBoundComparator() {
+        Random random = new Random(14);
+        ByteBuffer first = ByteBuffer.allocate(32);
+        ByteBuffer second = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 2_000; i++) {
+            Bound firstBound = randomBound(random);
+            Bound secondBound = randomBound(random);
+            BoundCodec.encode(firstBound, first, 0);
+            BoundCodec.encode(secondBound, second, 5);
+
+            assertEquals(
+                    Integer.signum(BoundComparator.getInstance().compare(firstBound, secondBound)),
+                    Integer.signum(BoundCodec.compareAt(first, 0, second, 5)),
+                    firstBound + " vs " + secondBound
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("Should create bounds with the given factory")
+    void decode_withInterningFactory_shouldReturnCachedInstances() {
+        BoundFactory factory = BoundFactory.interning(16);
+        ByteBuffer buffer = ByteBuffer.allocate(9);
+        BoundCodec.encode(BOUND_FACTORY.getFiniteBound(7L), buffer, 0);
+
+        assertSame(BoundCodec.decode(buffer, 0, factory), BoundCodec.decode(buffer, 0, factory));
+    }
+
+    @Test
+    @DisplayName("Should throw BufferOverflowException and leave the position unchanged if the bound does not fit")
+    void encode_withInsufficientSpace_shouldThrowBufferOverflowException() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        buffer.position(1);
+
+        assertThrows(BufferOverflowException.class,
+                () -> BoundCodec.encode(BOUND_FACTORY.getFiniteBound(1L), buffer));
+        assertEquals(1, buffer.position());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> BoundCodec.encode(BOUND_FACTORY.getFiniteBound(1L), buffer, 0));
+    }
+
+    @Test
+    @DisplayName("Should throw BufferUnderflowException and leave the position unchanged if the buffer is truncated")
+    void decode_withTruncatedBuffer_shouldThrowBufferUnderflowException() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        BoundCodec.encode(BOUND_FACTORY.getFiniteBound(new BigDecimal("123456789.123456789")), buffer);
+        int size = buffer.position();
+
+        for (int limit = 0; limit < size; limit++) {
+            buffer.position(0).limit(limit);
+            assertThrows(BufferUnderflowException.class, () -> BoundCodec.decode(buffer));
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for an unknown tag")
+    void decode_withInvalidTag_shouldThrowIllegalArgumentException() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{0x7F, 0, 0, 0});
+
+        assertThrows(IllegalArgumentException.class, () -> BoundCodec.decode(buffer));
+        assertThrows(IllegalArgumentException.class, () -> BoundCodec.tagAt(buffer, 0));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for an unsupported value type")
+    void encode_withUnsupportedValueType_shouldThrowIllegalArgumentException() {
+        Bound bound = BOUND_FACTORY.getFiniteBound(ComparableNumber.ZERO);
+
+        assertThrows(IllegalArgumentException.class, () -> BoundCodec.encodedSize(bound));
+        assertThrows(IllegalArgumentException.class, () -> BoundCodec.encode(bound, ByteBuffer.allocate(64)));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.codec.BoundCodec;
+import xyz.derivora.intervalkit.codec.IntervalCodec;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/codec")
+@DisplayName("Tests for IntervalCodec")
+class IntervalCodecTest {
+
+    private static final BoundFactory BOUND_FACTORY = BoundFactory.immutable();
+
+    private static final List<ImmutableInterval> INTERVALS = List.of(
+            ImmutableInterval.closed(BOUND_FACTORY.getFiniteBound(1L), BOUND_FACTORY.getFiniteBound(5L)),
+            ImmutableInterval.open(BOUND_FACTORY.getFiniteBound(1L), BOUND_FACTORY.getFiniteBound(1L)),
+            ImmutableInterval.closedOpen(BOUND_FACTORY.getFiniteBound(-2.5), ImmutableInfiniteBound.getInstance(true)),
+            ImmutableInterval.openClosed(
+                    ImmutableInfiniteBound.getInstance(false),
+                    BOUND_FACTORY.getFiniteBound(new BigDecimal("19.99"))
+            ),
+            ImmutableInterval.open(ImmutableInfiniteBound.getInstance(false), ImmutableInfiniteBound.getInstance(true))
+    );
+
+    @Test
+    @DisplayName("Should decode every encoded interval to an equal interval")
+    void decode_afterEncode_shouldRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        for (ImmutableInterval interval : INTERVALS) {
+            int position = buffer.position();
+            IntervalCodec.encode(interval, buffer);
+            assertEquals(IntervalCodec.encodedSize(interval), buffer.position() - position);
+        }
+        buffer.flip();
+
+        for (ImmutableInterval interval : INTERVALS) {
+            ImmutableInterval decoded = IntervalCodec.decode(buffer);
+            assertEquals(interval, decoded);
+            assertEquals(interval.isEmpty(), decoded.isEmpty());
+        }
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    @DisplayName("Should locate and read encoded endpoints in place")
+    void accessors_shouldReadInPlace() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        ImmutableInterval interval = INTERVALS.get(2);
+        int size = IntervalCodec.encode(interval, buffer, 10);
+
+        assertEquals(size, IntervalCodec.encodedSizeAt(buffer, 10));
+        assertTrue(IntervalCodec.isLowerClosedAt(buffer, 10));
+        assertFalse(IntervalCodec.isUpperClosedAt(buffer, 10));
+        assertEquals(-2.5, BoundCodec.doubleValueAt(buffer, IntervalCodec.lowerBoundIndex(buffer, 10)));
+        assertEquals(
+                BoundCodec.POSITIVE_INFINITE,
+                BoundCodec.tagAt(buffer, IntervalCodec.upperBoundIndex(buffer, 10))
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException if reserved flag bits are set")
+    void decode_withInvalidFlags_shouldThrowIllegalArgumentException() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        IntervalCodec.encode(INTERVALS.get(0), buffer, 0);
+        buffer.put(0, (byte) 0x08);
+
+        assertThrows(IllegalArgumentException.class, () -> IntervalCodec.decode(buffer));
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException if the lower bound is greater than the upper bound")
+    void decode_withReversedBounds_shouldThrowIllegalArgumentException() {
+        Bound five = BOUND_FACTORY.getFiniteBound(5L);
+        Bound one = BOUND_FACTORY.getFiniteBound(1L);
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.put((byte) 3);
+        BoundCodec.encode(five, buffer);
+        BoundCodec.encode(one, buffer);
+        buffer.flip();
+
+        assertThrows(IllegalArgumentException.class, () -> IntervalCodec.decode(buffer));
+    }
+
+    @Test
+    @DisplayName("Should throw BufferUnderflowException and leave the position unchanged if the buffer is truncated")
+    void decode_withTruncatedBuffer_shouldThrowBufferUnderflowException() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        IntervalCodec.encode(INTERVALS.get(3), buffer);
+        int size = buffer.position();
+
+        for (int limit = 0; limit < size; limit++) {
+            buffer.position(0).limit(limit);
+            assertThrows(BufferUnderflowException.class, () -> IntervalCodec.decode(buffer));
+            assertEquals(0, buffer.position());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.columns;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.columns.DoubleIntervalColumns;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/columns")
+@DisplayName("Tests for DoubleIntervalColumns")
+class DoubleIntervalColumnsTest {
+
+    @Test
+    @DisplayName("Should filter the same intervals as the interval views")
+    void filterContaining_shouldMatchIntervalViews() {
+        Random random = new Random(2);
+        DoubleIntervalColumns columns = new DoubleIntervalColumns(1);
+        for (int i = 0; i < 700; i++) {
+            double lower = random.nextInt(40) / 4.0 - 5;
+            double upper = lower + random.nextInt(8) / 4.0;
+            columns.add(
+                    random.nextInt(12) == 0 ? Double.NEGATIVE_INFINITY : lower, random.nextBoolean(),
+                    random.nextInt(12) == 0 ? Double.POSITIVE_INFINITY : upper, random.nextBoolean()
+            );
+        }
+
+        for (double value = -6; value <= 8; value += 0.125) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).contains(value)) {
+                    expected.set(i);
+                }
+            }
+
+            assertEquals(expected, columns.filterContaining(value), "Value " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not contain infinite or NaN values")
+    void filterContaining_withNonFiniteValues_shouldReturnEmptyBitSet() {
+        DoubleIntervalColumns columns = new DoubleIntervalColumns();
+        columns.add(Double.NEGATIVE_INFINITY, true, Double.POSITIVE_INFINITY, true);
+
+        assertTrue(columns.filterContaining(Double.POSITIVE_INFINITY).isEmpty());
+        assertTrue(columns.filterContaining(Double.NaN).isEmpty());
+        assertTrue(columns.filterContaining(Double.MAX_VALUE).get(0));
+        assertFalse(columns.isLowerClosed(0));
+    }
+
+    @Test
+    @DisplayName("Should store infinite endpoints as canonical infinite bounds")
+    void add_withInfiniteValues_shouldExposeInfiniteBounds() {
+        DoubleIntervalColumns columns = new DoubleIntervalColumns();
+        columns.add(ImmutableInterval.closed(new ImmutableFiniteBound<>(1), ImmutableInfiniteBound.getInstance(true)));
+
+        Interval interval = columns.get(0);
+
+        assertEquals(new DoubleFiniteBound(1.0), interval.getLowerBound());
+        assertSame(ImmutableInfiniteBound.getInstance(true), interval.getUpperBound());
+        assertTrue(interval.contains(1));
+    }
+
+    @Test
+    @DisplayName("Should reject values that are not exactly representable")
+    void add_withInexactValue_shouldThrowIllegalArgumentException() {
+        DoubleIntervalColumns columns = new DoubleIntervalColumns();
+
+        assertThrows(IllegalArgumentException.class, () -> columns.add(ImmutableInterval.closed(
+                new ImmutableFiniteBound<>(new BigDecimal("0.1")), new DoubleFiniteBound(1.0))));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(ImmutableInterval.closed(
+                new ImmutableFiniteBound<>(Long.MAX_VALUE - 1), ImmutableInfiniteBound.getInstance(true))));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(Double.NaN, true, 1.0, true));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(Double.POSITIVE_INFINITY, false, Double.POSITIVE_INFINITY, false));
+
+        columns.add(ImmutableInterval.closed(new ImmutableFiniteBound<>(new BigDecimal("0.5")), new ImmutableFiniteBound<>(1L << 60)));
+        assertEquals(1, columns.size());
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.columns;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.columns.LongIntervalColumns;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/columns")
+@DisplayName("Tests for LongIntervalColumns")
+class LongIntervalColumnsTest {
+
+    private static LongIntervalColumns randomColumns(Random random, int count) {
+        LongIntervalColumns columns = new LongIntervalColumns(4);
+        for (int i = 0; i < count; i++) {
+            long lower = random.nextInt(100) - 50;
+            long upper = lower + random.nextInt(10);
+            switch (random.nextInt(10)) {
+                case 0 -> columns.add(ImmutableInterval.openClosed(
+                        ImmutableInfiniteBound.getInstance(false), new LongFiniteBound(upper)));
+                case 1 -> columns.add(ImmutableInterval.closedOpen(
+                        new ImmutableFiniteBound<>(lower), ImmutableInfiniteBound.getInstance(true)));
+                default -> columns.add(lower, random.nextBoolean(), upper, random.nextBoolean());
+            }
+        }
+
+        return columns;
+    }
+
+    @Test
+    @DisplayName("Should filter the same intervals as the interval views")
+    void filterContaining_shouldMatchIntervalViews() {
+        LongIntervalColumns columns = randomColumns(new Random(1), 1000);
+
+        for (long value = -60; value <= 60; value++) {
+            BitSet expected = new BitSet();
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).contains(value)) {
+                    expected.set(i);
+                }
+            }
+
+            assertEquals(expected, columns.filterContaining(value), "Value " + value);
+            assertEquals(expected, columns.filterContaining((Number) (int) value));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to interval views for non-integral values")
+    void filterContaining_withDecimalValue_shouldUseIntervalViews() {
+        LongIntervalColumns columns = new LongIntervalColumns();
+        columns.add(0, false, 1, false);
+        columns.add(1, true, 2, true);
+
+        BitSet result = columns.filterContaining(new BigDecimal("0.5"));
+
+        assertTrue(result.get(0));
+        assertFalse(result.get(1));
+    }
+
+    @Test
+    @DisplayName("Should contain extreme values in unbounded intervals")
+    void filterContaining_withExtremeValues_shouldRespectInfinity() {
+        LongIntervalColumns columns = new LongIntervalColumns();
+        columns.add(ImmutableInterval.open(ImmutableInfiniteBound.getInstance(false), new LongFiniteBound(0)));
+        columns.add(Long.MIN_VALUE, false, 0, true);
+        columns.add(ImmutableInterval.open(new LongFiniteBound(0), ImmutableInfiniteBound.getInstance(true)));
+
+        BitSet minimum = columns.filterContaining(Long.MIN_VALUE);
+        BitSet maximum = columns.filterContaining(Long.MAX_VALUE);
+
+        assertTrue(minimum.get(0));
+        assertFalse(minimum.get(1));
+        assertTrue(maximum.get(2));
+    }
+
+    @Test
+    @DisplayName("Should report infinite endpoints from the flags, not from the stored values")
+    void isInfinite_withExtremeValues_shouldMatchBoundViews() {
+        LongIntervalColumns columns = new LongIntervalColumns();
+        columns.add(ImmutableInterval.open(ImmutableInfiniteBound.getInstance(false), new LongFiniteBound(0)));
+        columns.add(Long.MIN_VALUE, true, Long.MAX_VALUE, true);
+        columns.add(ImmutableInterval.open(new LongFiniteBound(0), ImmutableInfiniteBound.getInstance(true)));
+
+        for (int i = 0; i < columns.size(); i++) {
+            assertEquals(columns.getLowerBound(i).isInfinite(), columns.isLowerInfinite(i));
+            assertEquals(columns.getUpperBound(i).isInfinite(), columns.isUpperInfinite(i));
+        }
+        assertTrue(columns.isLowerInfinite(0));
+        assertFalse(columns.isLowerInfinite(1));
+        assertFalse(columns.isUpperInfinite(1));
+        assertTrue(columns.isUpperInfinite(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.isLowerInfinite(3));
+    }
+
+    @Test
+    @DisplayName("Should expose primitive-backed and canonical infinite bound views")
+    void getBounds_shouldReturnBoundViews() {
+        LongIntervalColumns columns = new LongIntervalColumns();
+        columns.add(ImmutableInterval.closed(ImmutableInfiniteBound.getInstance(false), new LongFiniteBound(5)));
+
+        Interval interval = columns.get(0);
+
+        assertSame(ImmutableInfiniteBound.getInstance(false), interval.getLowerBound());
+        assertEquals(new LongFiniteBound(5), interval.getUpperBound());
+        assertFalse(interval.isLowerClosed());
+        assertTrue(interval.isUpperClosed());
+        assertEquals(Long.valueOf(Long.MIN_VALUE), Long.valueOf(columns.getLowerValue(0)));
+    }
+
+    @Test
+    @DisplayName("Should grow beyond the initial capacity")
+    void add_beyondCapacity_shouldKeepAllIntervals() {
+        LongIntervalColumns columns = new LongIntervalColumns(0);
+        for (int i = 0; i < 200; i++) {
+            columns.add(i, i % 2 == 0, i + 1, i % 3 == 0);
+        }
+
+        assertEquals(200, columns.size());
+        assertEquals(Long.valueOf(199), Long.valueOf(columns.getLowerValue(199)));
+        assertTrue(columns.isLowerClosed(198));
+        assertFalse(columns.isUpperClosed(199));
+    }
+
+    @Test
+    @DisplayName("Should reject intervals that cannot be stored")
+    void add_withUnrepresentableInterval_shouldThrowIllegalArgumentException() {
+        LongIntervalColumns columns = new LongIntervalColumns();
+
+        assertThrows(IllegalArgumentException.class, () -> columns.add(2, true, 1, true));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(ImmutableInterval.closed(
+                new ImmutableFiniteBound<>(new BigDecimal("0.5")), new LongFiniteBound(1))));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(ImmutableInterval.closed(
+                ImmutableInfiniteBound.getInstance(true), ImmutableInfiniteBound.getInstance(true))));
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.get(0));
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.index.ConcurrentIntervalMap;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/index")
+@DisplayName("Tests for ConcurrentIntervalMap")
+class ConcurrentIntervalMapTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static final int THREADS = 8;
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    private static Interval closedOpen(long lower, long upper) {
+        return ImmutableInterval.closedOpen(bound(lower), bound(upper));
+    }
+
+    @Test
+    @DisplayName("Should insert disjoint intervals and reject overlapping ones")
+    void putIfNoOverlap_shouldRejectOverlappingIntervals() {
+        ConcurrentIntervalMap<String> map = new ConcurrentIntervalMap<>();
+
+        assertTrue(map.putIfNoOverlap(closedOpen(0, 10), "a"));
+        assertTrue(map.putIfNoOverlap(closedOpen(10, 20), "b"));
+        assertFalse(map.putIfNoOverlap(closedOpen(5, 15), "c"));
+        assertFalse(map.putIfNoOverlap(closedOpen(0, 10), "d"));
+        assertFalse(map.putIfNoOverlap(ImmutableInterval.closed(bound(19), bound(30)), "e"));
+        assertFalse(map.putIfNoOverlap(ImmutableInterval.closed(NEGATIVE_INFINITY, bound(0)), "f"));
+        assertTrue(map.putIfNoOverlap(ImmutableInterval.open(NEGATIVE_INFINITY, bound(0)), "g"));
+        assertTrue(map.putIfNoOverlap(ImmutableInterval.closedOpen(bound(20), POSITIVE_INFINITY), "h"));
+
+        assertEquals(4, map.size());
+        assertEquals(List.of("g", "a", "b", "h"),
+                map.stream().map(Map.Entry::getValue).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should distinguish intervals touching at open and closed endpoints")
+    void putIfNoOverlap_withTouchingEndpoints_shouldRespectInclusivity() {
+        ConcurrentIntervalMap<String> map = new ConcurrentIntervalMap<>();
+
+        assertTrue(map.putIfNoOverlap(ImmutableInterval.closed(bound(1), bound(1)), "point"));
+        assertTrue(map.putIfNoOverlap(ImmutableInterval.open(bound(1), bound(2)), "open"));
+        assertTrue(map.putIfNoOverlap(ImmutableInterval.closed(bound(2), bound(3)), "closed"));
+        assertFalse(map.putIfNoOverlap(ImmutableInterval.closed(bound(0), bound(1)), "overlap"));
+
+        assertEquals("point", map.get(1L));
+        assertEquals("open", map.get(1.5));
+        assertEquals("closed", map.get(2));
+        assertNull(map.get(0L));
+    }
+
+    @Test
+    @DisplayName("Should reject empty intervals")
+    void putIfNoOverlap_withEmptyInterval_shouldThrowIllegalArgumentException() {
+        ConcurrentIntervalMap<String> map = new ConcurrentIntervalMap<>();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> map.putIfNoOverlap(ImmutableInterval.open(bound(1), bound(1)), "empty"));
+        assertThrows(NullPointerException.class, () -> map.putIfNoOverlap(null, "value"));
+        assertThrows(NullPointerException.class, () -> map.putIfNoOverlap(closedOpen(0, 1), null));
+    }
+
+    @Test
+    @DisplayName("Should remove only intervals with equal endpoints")
+    void remove_shouldRequireEqualEndpoints() {
+        ConcurrentIntervalMap<String> map = new ConcurrentIntervalMap<>();
+        map.putIfNoOverlap(closedOpen(0, 10), "a");
+
+        assertNull(map.remove(closedOpen(0, 5)));
+        assertNull(map.remove(ImmutableInterval.closed(bound(0), bound(10))));
+        assertEquals("a", map.remove(closedOpen(0, 10)));
+        assertNull(map.remove(closedOpen(0, 10)));
+        assertTrue(map.isEmpty());
+        assertTrue(map.putIfNoOverlap(closedOpen(5, 15), "b"));
+    }
+
+    @Test
+    @DisplayName("Should find the interval containing a point")
+    void entryContaining_shouldReturnContainingInterval() {
+        ConcurrentIntervalMap<String> map = new ConcurrentIntervalMap<>();
+        map.putIfNoOverlap(closedOpen(0, 10), "a");
+        map.putIfNoOverlap(closedOpen(20, 30), "b");
+
+        Map.Entry<Interval, String> entry = map.entryContaining(25.5);
+
+        assertEquals(closedOpen(20, 30), entry.getKey());
+        assertEquals("b", entry.getValue());
+        assertNull(map.entryContaining(10L));
+        assertNull(map.entryContaining(Double.NaN));
+        assertNull(map.get(Double.POSITIVE_INFINITY));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+    }
+
+    @Test
+    @DisplayName("Should throw ClassCastException for numbers that are not comparable")
+    void get_withNonComparableNumber_shouldThrowClassCastException() {
+        ConcurrentIntervalMap<String> map = new ConcurrentIntervalMap<>();
+        map.putIfNoOverlap(closedOpen(0, 10), "a");
+
+        assertThrows(ClassCastException.class, () -> map.get(new AtomicLong(5)));
+        assertThrows(ClassCastException.class, () -> map.entryContaining(new AtomicLong(5)));
+    }
+
+    @Test
+    @DisplayName("Should report the intervals overlapping a query in ascending order")
+    void overlapping_shouldReturnOverlappingIntervals() {
+        ConcurrentIntervalMap<String> map = new ConcurrentIntervalMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.putIfNoOverlap(closedOpen(i * 10L, i * 10L + 5), "v" + i);
+        }
+
+        assertEquals(List.of("v1", "v2", "v3"), map.overlapping(closedOpen(14, 31))
+                .map(Map.Entry::getValue).collect(Collectors.toList()));
+        assertTrue(map.overlaps(closedOpen(3, 4)));
+        assertFalse(map.overlaps(closedOpen(5, 10)));
+        assertFalse(map.overlaps(ImmutableInterval.open(bound(3), bound(3))));
+        assertEquals(10, map.overlapping(ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY)).count());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of several concurrent overlapping insertions succeed")
+    void putIfNoOverlap_withConcurrentOverlappingIntervals_shouldInsertExactlyOne() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 200; round++) {
+                ConcurrentIntervalMap<Integer> map = new ConcurrentIntervalMap<>();
+                CyclicBarrier barrier = new CyclicBarrier(THREADS);
+                List<Callable<Boolean>> tasks = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int thread = t;
+                    tasks.add(() -> {
+                        barrier.await();
+                        return map.putIfNoOverlap(closedOpen(thread, thread + THREADS), thread);
+                    });
+                }
+
+                int inserted = 0;
+                for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                    inserted += result.get() ? 1 : 0;
+                }
+
+                assertEquals(1, inserted);
+                assertEquals(1, map.size());
+            }
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Should never contain overlapping intervals under concurrent insertions and removals")
+    void putIfNoOverlap_withConcurrentWriters_shouldKeepIntervalsDisjoint() throws Exception {
+        ConcurrentIntervalMap<Long> map = new ConcurrentIntervalMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Long>> tasks = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                SplittableRandom random = new SplittableRandom(t);
+                tasks.add(() -> {
+                    long balance = 0;
+                    List<Interval> owned = new ArrayList<>();
+                    for (int i = 0; i < 20_000; i++) {
+                        if (!owned.isEmpty() && random.nextInt(3) == 0) {
+                            Interval interval = owned.remove(random.nextInt(owned.size()));
+                            assertNotNull(map.remove(interval));
+                            balance--;
+                        } else {
+                            long lower = random.nextInt(1_000);
+                            Interval interval = closedOpen(lower, lower + 1 + random.nextInt(5));
+                            if (map.putIfNoOverlap(interval, lower)) {
+                                owned.add(interval);
+                                balance++;
+                            }
+                        }
+                    }
+                    return balance;
+                });
+            }
+
+            long expectedSize = 0;
+            for (Future<Long> result : executor.invokeAll(tasks)) {
+                expectedSize += result.get();
+            }
+
+            List<Interval> intervals = map.stream().map(Map.Entry::getKey).collect(Collectors.toList());
+            assertEquals(expectedSize, intervals.size());
+            assertEquals(Long.valueOf(expectedSize), Long.valueOf(map.size()));
+            for (int i = 1; i < intervals.size(); i++) {
+                assertFalse(intervals.get(i - 1).overlaps(intervals.get(i)));
+            }
+        } finally {
+            executor.shutdownNow();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.index.EytzingerIntervalIndex;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/index")
+@DisplayName("Tests for EytzingerIntervalIndex")
+class EytzingerIntervalIndexTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    private static List<Interval> randomIntervals(Random random, int count, boolean integral) {
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long lower = random.nextInt(100);
+            long upper = lower + random.nextInt(20);
+            Bound lowerBound = random.nextInt(20) == 0 ? NEGATIVE_INFINITY : bound(lower);
+            Bound upperBound = random.nextInt(20) == 0 ? POSITIVE_INFINITY
+                    : integral ? new ImmutableFiniteBound<>((int) upper) : new DoubleFiniteBound(upper + 0.5);
+            intervals.add(ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean()));
+        }
+
+        return intervals;
+    }
+
+    private static List<Interval> sorted(List<Interval> intervals) {
+        List<Interval> result = new ArrayList<>(intervals);
+        result.sort(IntervalComparator.getInstance());
+        return result;
+    }
+
+    private static void assertMatchesLinearScan(List<Interval> intervals, Number value) {
+        EytzingerIntervalIndex<Interval> index = EytzingerIntervalIndex.of(intervals);
+        List<Interval> expected = sorted(intervals.stream().filter(interval -> interval.contains(value)).toList());
+        assertEquals(expected, index.containing(value).toList(), "Point " + value);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 7, 8, 500})
+    @DisplayName("Should find the same intervals as a linear scan for integral endpoints")
+    void containing_withIntegralEndpoints_shouldMatchLinearScan(int size) {
+        Random random = new Random(size);
+        List<Interval> intervals = randomIntervals(random, size, true);
+        EytzingerIntervalIndex<Interval> index = EytzingerIntervalIndex.of(intervals);
+
+        assertEquals(size, index.size());
+        for (long point = -5; point <= 125; point++) {
+            long value = point;
+            List<Interval> expected = sorted(intervals.stream().filter(interval -> interval.contains(value)).toList());
+            assertEquals(expected, index.containing(point).toList(), "Point " + point);
+            assertEquals(expected, index.containing(point + 0.0).toList(), "Point " + point + ".0");
+            assertEquals(expected, index.containing(BigDecimal.valueOf(point)).toList(), "Point " + point + " as BigDecimal");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 500})
+    @DisplayName("Should find the same intervals as a linear scan for mixed endpoints")
+    void containing_withMixedEndpoints_shouldMatchLinearScan(int size) {
+        Random random = new Random(size);
+        List<Interval> intervals = randomIntervals(random, size, false);
+        EytzingerIntervalIndex<Interval> index = EytzingerIntervalIndex.of(intervals);
+
+        for (int step = -10; step <= 250; step++) {
+            double value = step / 2.0;
+            List<Interval> expected = sorted(intervals.stream().filter(interval -> interval.contains(value)).toList());
+            assertEquals(expected, index.containing(value).toList(), "Point " + value);
+            assertEquals(expected, index.containing((float) value).toList(), "Point " + value + "f");
+        }
+        for (long point = -5; point <= 125; point++) {
+            long value = point;
+            List<Interval> expected = sorted(intervals.stream().filter(interval -> interval.contains(value)).toList());
+            assertEquals(expected, index.containing(point).toList(), "Point " + point);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 500})
+    @DisplayName("Should find the same intervals as a linear scan for floating-point endpoints and any query type")
+    void containing_withFloatingPointEndpoints_shouldMatchLinearScan(int size) {
+        Random random = new Random(size);
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            double lower = random.nextInt(200) / 4.0 - 10;
+            double upper = lower + random.nextInt(40) / 4.0;
+            Bound lowerBound = random.nextInt(20) == 0 ? NEGATIVE_INFINITY
+                    : random.nextBoolean() ? new DoubleFiniteBound(lower) : new ImmutableFiniteBound<>(lower);
+            Bound upperBound = random.nextInt(20) == 0 ? POSITIVE_INFINITY
+                    : upper == Math.rint(upper) && random.nextBoolean() ? bound((long) upper)
+                    : new DoubleFiniteBound(upper);
+            intervals.add(ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean()));
+        }
+
+        for (int step = -60; step <= 260; step++) {
+            double value = step / 4.0;
+            assertMatchesLinearScan(intervals, value);
+            assertMatchesLinearScan(intervals, BigDecimal.valueOf(step, 2).multiply(BigDecimal.valueOf(25)));
+            assertMatchesLinearScan(intervals, new BigDecimal(value).add(new BigDecimal("1e-30")));
+            assertMatchesLinearScan(intervals, new BigDecimal(value).subtract(new BigDecimal("1e-30")));
+        }
+        for (long point = -15; point <= 65; point++) {
+            assertMatchesLinearScan(intervals, point);
+        }
+    }
+
+    @Test
+    @DisplayName("Should compare long queries exactly against floating-point endpoints they cannot be converted to")
+    void containing_withInexactLongQuery_shouldMatchLinearScan() {
+        double edge = 0x1p53;
+        List<Interval> intervals = List.of(
+                ImmutableInterval.closedOpen(NEGATIVE_INFINITY, new DoubleFiniteBound(edge)),
+                ImmutableInterval.openClosed(new DoubleFiniteBound(edge), POSITIVE_INFINITY),
+                ImmutableInterval.closed(new DoubleFiniteBound(edge), new DoubleFiniteBound(edge))
+        );
+
+        for (long value : new long[]{(long) edge - 1, (long) edge, (long) edge + 1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertMatchesLinearScan(intervals, value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should respect open endpoints at the edges of the long range")
+    void containing_withOpenEndpointsAtLongRange_shouldMatchLinearScan() {
+        List<Interval> intervals = List.of(
+                ImmutableInterval.open(bound(Long.MAX_VALUE - 1), bound(Long.MAX_VALUE)),
+                ImmutableInterval.openClosed(bound(Long.MAX_VALUE - 2), bound(Long.MAX_VALUE)),
+                ImmutableInterval.closedOpen(bound(Long.MIN_VALUE), bound(Long.MIN_VALUE + 1)),
+                ImmutableInterval.open(NEGATIVE_INFINITY, bound(Long.MIN_VALUE))
+        );
+
+        for (long value : new long[]{Long.MIN_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE - 1, Long.MAX_VALUE}) {
+            assertMatchesLinearScan(intervals, value);
+        }
+        assertMatchesLinearScan(intervals.subList(0, 3), Long.MAX_VALUE);
+        assertMatchesLinearScan(intervals.subList(0, 3), Long.MIN_VALUE);
+        assertMatchesLinearScan(intervals, -1e19);
+    }
+
+    @Test
+    @DisplayName("Should answer queries with infinite endpoints")
+    void containing_withInfiniteEndpoints_shouldFindUnboundedIntervals() {
+        Interval lower = ImmutableInterval.open(NEGATIVE_INFINITY, bound(0));
+        Interval upper = ImmutableInterval.closed(bound(0), POSITIVE_INFINITY);
+        Interval all = ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY);
+        EytzingerIntervalIndex<Interval> index = EytzingerIntervalIndex.of(List.of(upper, all, lower));
+
+        assertEquals(List.of(lower, all), index.containing(-Double.MAX_VALUE).toList());
+        assertEquals(List.of(all, upper), index.containing(0).toList());
+        assertEquals(List.of(all, upper), index.containing(Long.MAX_VALUE).toList());
+        assertEquals(0, index.containing(Double.POSITIVE_INFINITY).count());
+        assertEquals(0, index.containing(Double.NaN).count());
+    }
+
+    @Test
+    @DisplayName("Should keep duplicate intervals as separate entries")
+    void containing_withDuplicates_shouldReportAllEntries() {
+        Interval interval = ImmutableInterval.closed(bound(1), bound(2));
+        EytzingerIntervalIndex<Interval> index = EytzingerIntervalIndex.of(
+                List.of(interval, ImmutableInterval.closed(bound(1), bound(2)), ImmutableInterval.open(bound(1), bound(1)))
+        );
+
+        assertEquals(3, index.size());
+        assertEquals(2, index.containing(1).count());
+        assertEquals(0, index.containing(3).count());
+    }
+
+    @Test
+    @DisplayName("Should reject unsorted input and null arguments")
+    void ofSorted_withUnsortedIntervals_shouldThrowIllegalArgumentException() {
+        Interval[] intervals = {ImmutableInterval.closed(bound(2), bound(3)), ImmutableInterval.closed(bound(1), bound(2))};
+
+        assertThrows(IllegalArgumentException.class, () -> EytzingerIntervalIndex.ofSorted(intervals));
+        assertThrows(NullPointerException.class, () -> EytzingerIntervalIndex.ofSorted(new Interval[]{null}));
+        assertThrows(NullPointerException.class, () -> EytzingerIntervalIndex.of(null));
+        assertThrows(NullPointerException.class,
+                () -> EytzingerIntervalIndex.of(List.<Interval>of()).containing(null));
+        assertTrue(EytzingerIntervalIndex.of(List.<Interval>of()).isEmpty());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.index.IntervalTree;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/index")
+@DisplayName("Tests for IntervalTree")
+class IntervalTreeTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    private static List<Interval> randomIntervals(Random random, int count) {
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long lower = random.nextInt(100);
+            long upper = lower + random.nextInt(20);
+            Bound lowerBound = random.nextInt(20) == 0 ? NEGATIVE_INFINITY : bound(lower);
+            Bound upperBound = random.nextInt(20) == 0 ? POSITIVE_INFINITY : bound(upper);
+            intervals.add(ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean()));
+        }
+
+        return intervals;
+    }
+
+    private static List<Interval> sorted(List<Interval> intervals) {
+        List<Interval> result = new ArrayList<>(intervals);
+        result.sort(IntervalComparator.getInstance());
+        return result;
+    }
+
+    @Test
+    @DisplayName("Should find the same intervals as a linear scan for point queries")
+    void containing_shouldMatchLinearScan() {
+        Random random = new Random(42);
+        List<Interval> intervals = randomIntervals(random, 500);
+        IntervalTree<Interval> tree = IntervalTree.of(intervals);
+
+        for (int value = -5; value <= 125; value++) {
+            long point = value;
+            List<Interval> expected = sorted(intervals.stream().filter(interval -> interval.contains(point)).toList());
+            assertEquals(expected, tree.containing(point).toList(), "Point " + point);
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the same intervals as a linear scan for overlap queries")
+    void overlapping_shouldMatchLinearScan() {
+        Random random = new Random(7);
+        List<Interval> intervals = randomIntervals(random, 500);
+        IntervalTree<Interval> tree = new IntervalTree<>();
+        intervals.forEach(tree::add);
+
+        for (Interval query : randomIntervals(random, 200)) {
+            List<Interval> expected = sorted(intervals.stream().filter(interval -> interval.overlaps(query)).toList());
+            assertEquals(expected, tree.overlapping(query).toList(), "Query " + query);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep answering correctly after removals")
+    void remove_shouldKeepQueriesConsistent() {
+        Random random = new Random(3);
+        List<Interval> intervals = new ArrayList<>(randomIntervals(random, 300));
+        IntervalTree<Interval> tree = IntervalTree.of(intervals);
+
+        for (int i = 0; i < 150; i++) {
+            Interval interval = intervals.remove(random.nextInt(intervals.size()));
+            assertTrue(tree.remove(interval));
+        }
+
+        assertEquals(intervals.size(), tree.size());
+        assertEquals(sorted(intervals), tree.stream().toList());
+        for (long point = 0; point < 120; point += 3) {
+            long value = point;
+            List<Interval> expected = sorted(intervals.stream().filter(interval -> interval.contains(value)).toList());
+            assertEquals(expected, tree.containing(point).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep duplicate intervals as separate entries")
+    void add_withDuplicates_shouldKeepAllEntries() {
+        Interval interval = ImmutableInterval.closed(bound(1), bound(2));
+        IntervalTree<Interval> tree = new IntervalTree<>();
+        tree.add(interval);
+        tree.add(ImmutableInterval.closed(bound(1), bound(2)));
+
+        assertEquals(2, tree.containing(1).count());
+        assertTrue(tree.remove(interval));
+        assertEquals(1, tree.size());
+        assertFalse(tree.remove(ImmutableInterval.closed(bound(5), bound(6))));
+    }
+
+    @Test
+    @DisplayName("Should answer queries with infinite endpoints")
+    void containing_withInfiniteEndpoints_shouldFindUnboundedIntervals() {
+        Interval lower = ImmutableInterval.open(NEGATIVE_INFINITY, bound(0));
+        Interval upper = ImmutableInterval.closed(bound(0), POSITIVE_INFINITY);
+        Interval all = ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY);
+        IntervalTree<Interval> tree = IntervalTree.of(List.of(upper, all, lower));
+
+        assertEquals(List.of(lower, all), tree.containing(-Double.MAX_VALUE).toList());
+        assertEquals(List.of(all, upper), tree.containing(0).toList());
+        assertEquals(List.of(all, upper), tree.overlapping(ImmutableInterval.closed(new DoubleFiniteBound(1e300), POSITIVE_INFINITY)).toList());
+        assertEquals(0, tree.containing(Double.POSITIVE_INFINITY).count());
+    }
+
+    @Test
+    @DisplayName("Should build a tree from sorted intervals")
+    void ofSorted_withSortedIntervals_shouldContainAllIntervals() {
+        Interval[] intervals = sorted(randomIntervals(new Random(11), 100)).toArray(new Interval[0]);
+        IntervalTree<Interval> tree = IntervalTree.ofSorted(intervals);
+
+        assertEquals(100, tree.size());
+        assertEquals(List.of(intervals), tree.stream().toList());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException for unsorted intervals")
+    void ofSorted_withUnsortedIntervals_shouldThrowIllegalArgumentException() {
+        Interval[] intervals = {ImmutableInterval.closed(bound(2), bound(3)), ImmutableInterval.closed(bound(1), bound(3))};
+        assertThrows(IllegalArgumentException.class, () -> IntervalTree.ofSorted(intervals));
+    }
+
+    @Test
+    @DisplayName("Should return empty streams for an empty tree")
+    void containing_withEmptyTree_shouldReturnEmptyStream() {
+        IntervalTree<Interval> tree = new IntervalTree<>();
+
+        assertTrue(tree.isEmpty());
+        assertEquals(0, tree.containing(1).count());
+        assertEquals(0, tree.overlapping(ImmutableInterval.closed(bound(0), bound(1))).count());
+    }
+}
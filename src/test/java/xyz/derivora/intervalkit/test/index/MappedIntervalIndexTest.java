@@ -0,0 +1,270 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.columns.DoubleIntervalColumns;
+import xyz.derivora.intervalkit.columns.IntervalColumns;
+import xyz.derivora.intervalkit.columns.LongIntervalColumns;
+import xyz.derivora.intervalkit.index.MappedIntervalIndex;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/index")
+@DisplayName("Tests for MappedIntervalIndex")
+class MappedIntervalIndexTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static List<Interval> randomIntervals(Random random, int count, boolean doubles) {
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long lower = random.nextInt(100);
+            long upper = lower + random.nextInt(20);
+            Bound lowerBound = random.nextInt(20) == 0 ? NEGATIVE_INFINITY
+                    : (doubles ? new DoubleFiniteBound(lower / 4.0) : new LongFiniteBound(lower));
+            Bound upperBound = random.nextInt(20) == 0 ? POSITIVE_INFINITY
+                    : (doubles ? new DoubleFiniteBound(upper / 4.0) : new LongFiniteBound(upper));
+            intervals.add(ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean()));
+        }
+
+        return intervals;
+    }
+
+    private static MappedIntervalIndex writeAndOpen(IntervalColumns columns) throws IOException {
+        Path path = Files.createTempFile("intervals", ".idx");
+        path.toFile().deleteOnExit();
+        MappedIntervalIndex.write(path, columns);
+        return MappedIntervalIndex.open(path);
+    }
+
+    private static List<Interval> sorted(List<Interval> intervals) {
+        List<Interval> result = new ArrayList<>(intervals);
+        result.sort(IntervalComparator.getInstance());
+        return result;
+    }
+
+    private static void assertQuery(List<Interval> intervals, MappedIntervalIndex index,
+                                    Predicate<Interval> predicate, int[] positions, String message) {
+        for (int i = 1; i < positions.length; i++) {
+            assertTrue(positions[i - 1] < positions[i], message);
+        }
+
+        List<Interval> actual = new ArrayList<>();
+        for (int position : positions) {
+            actual.add(index.get(position));
+        }
+        assertEquals(sorted(intervals.stream().filter(predicate).toList()), sorted(actual), message);
+    }
+
+    @Test
+    @DisplayName("Should find the same intervals as a linear scan for point queries over long endpoints")
+    void containing_withLongKeys_shouldMatchLinearScan() throws IOException {
+        List<Interval> intervals = randomIntervals(new Random(15), 500, false);
+        LongIntervalColumns columns = new LongIntervalColumns();
+        intervals.forEach(columns::add);
+        MappedIntervalIndex index = writeAndOpen(columns);
+
+        assertEquals(MappedIntervalIndex.KeyType.LONG, index.getKeyType());
+        assertEquals(intervals.size(), index.size());
+        List<Number> points = new ArrayList<>();
+        for (int value = -5; value <= 125; value++) {
+            points.add((long) value);
+            points.add(value + 0.5);
+            points.add(new BigDecimal(value).subtract(new BigDecimal("0.001")));
+        }
+        points.add(BigInteger.TEN.pow(30));
+        points.add(-1e300);
+        for (Number point : points) {
+            assertQuery(intervals, index, interval -> interval.contains(point),
+                    index.containing(point).toArray(), "Point " + point);
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the same intervals as a linear scan for point queries over double endpoints")
+    void containing_withDoubleKeys_shouldMatchLinearScan() throws IOException {
+        List<Interval> intervals = randomIntervals(new Random(16), 500, true);
+        DoubleIntervalColumns columns = new DoubleIntervalColumns();
+        intervals.forEach(columns::add);
+        MappedIntervalIndex index = writeAndOpen(columns);
+
+        assertEquals(MappedIntervalIndex.KeyType.DOUBLE, index.getKeyType());
+        List<Number> points = new ArrayList<>();
+        for (int value = -5; value <= 130; value++) {
+            points.add(value / 4.0);
+            points.add(value / 4 + 0.1);
+            points.add(new BigDecimal(value).divide(new BigDecimal(4)).add(new BigDecimal("1E-30")));
+            points.add((long) value);
+        }
+        points.add(-0.0);
+        points.add(Long.MAX_VALUE);
+        points.add(BigDecimal.TEN.pow(400).negate());
+        for (Number point : points) {
+            assertQuery(intervals, index, interval -> interval.contains(point),
+                    index.containing(point).toArray(), "Point " + point);
+        }
+    }
+
+    @Test
+    @DisplayName("Should find the same intervals as a linear scan for overlap queries")
+    void overlapping_shouldMatchLinearScan() throws IOException {
+        for (boolean doubles : new boolean[]{false, true}) {
+            Random random = new Random(17);
+            List<Interval> intervals = randomIntervals(random, 500, doubles);
+            IntervalColumns columns = doubles ? new DoubleIntervalColumns() : new LongIntervalColumns();
+            intervals.forEach(columns::add);
+            MappedIntervalIndex index = writeAndOpen(columns);
+
+            for (Interval query : randomIntervals(random, 200, !doubles)) {
+                assertQuery(intervals, index, interval -> interval.overlaps(query),
+                        index.overlapping(query).toArray(), "Query " + query);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should return no intervals for infinite or NaN point queries")
+    void containing_withNonFiniteValue_shouldReturnEmptyStream() throws IOException {
+        LongIntervalColumns columns = new LongIntervalColumns();
+        columns.add(ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY));
+        MappedIntervalIndex index = writeAndOpen(columns);
+
+        assertEquals(0, index.containing(Double.NaN).count());
+        assertEquals(0, index.containing(Double.POSITIVE_INFINITY).count());
+        assertEquals(1, index.containing(Long.MIN_VALUE).count());
+    }
+
+    @Test
+    @DisplayName("Should materialize infinite endpoints natively")
+    void get_withInfiniteEndpoints_shouldReturnInfiniteBounds() throws IOException {
+        DoubleIntervalColumns columns = new DoubleIntervalColumns();
+        columns.add(ImmutableInterval.closedOpen(new DoubleFiniteBound(1.5), POSITIVE_INFINITY));
+        MappedIntervalIndex index = writeAndOpen(columns);
+
+        assertEquals(ImmutableInterval.closedOpen(new DoubleFiniteBound(1.5), POSITIVE_INFINITY), index.get(0));
+        assertTrue(index.getUpperBound(0).isInfinite());
+        assertTrue(index.isLowerClosed(0));
+        assertFalse(index.isUpperClosed(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(1));
+    }
+
+    @Test
+    @DisplayName("Should open an empty index")
+    void open_withEmptyColumns_shouldReturnEmptyIndex() throws IOException {
+        MappedIntervalIndex index = writeAndOpen(new LongIntervalColumns());
+
+        assertTrue(index.isEmpty());
+        assertEquals(0, index.containing(1L).count());
+    }
+
+    @Test
+    @DisplayName("Should throw IOException for a file that is not an index")
+    void open_withInvalidFile_shouldThrowIOException() throws IOException {
+        Path path = Files.createTempFile("intervals", ".idx");
+        path.toFile().deleteOnExit();
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> MappedIntervalIndex.open(path));
+
+        LongIntervalColumns columns = new LongIntervalColumns();
+        columns.add(1, true, 2, true);
+        MappedIntervalIndex.write(path, columns);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MappedIntervalIndex.open(path));
+    }
+
+    @Test
+    @DisplayName("Should throw IOException for a file with non-zero reserved header fields")
+    void open_withNonZeroReservedHeaderFields_shouldThrowIOException() throws IOException {
+        Path path = Files.createTempFile("intervals", ".idx");
+        path.toFile().deleteOnExit();
+        LongIntervalColumns columns = new LongIntervalColumns();
+        columns.add(1, true, 2, true);
+        MappedIntervalIndex.write(path, columns);
+        byte[] bytes = Files.readAllBytes(path);
+        assertEquals(1, MappedIntervalIndex.open(path).size());
+
+        for (int offset : new int[]{12, 15, 24, 31}) {
+            byte[] corrupted = bytes.clone();
+            corrupted[offset] = 1;
+            Files.write(path, corrupted);
+            assertThrows(IOException.class, () -> MappedIntervalIndex.open(path));
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer queries over direct memory exactly like a mapped file")
+    void allocate_shouldMatchMappedIndex() throws IOException {
+        for (boolean doubles : new boolean[]{false, true}) {
+            Random random = new Random(18);
+            List<Interval> intervals = randomIntervals(random, 500, doubles);
+            IntervalColumns columns = doubles ? new DoubleIntervalColumns() : new LongIntervalColumns();
+            intervals.forEach(columns::add);
+            MappedIntervalIndex mapped = writeAndOpen(columns);
+            MappedIntervalIndex allocated = MappedIntervalIndex.allocate(columns);
+
+            assertEquals(mapped.getKeyType(), allocated.getKeyType());
+            assertEquals(mapped.stream().toList(), allocated.stream().toList());
+            for (int value = -5; value <= 125; value++) {
+                assertArrayEquals(mapped.containing(value / 2.0).toArray(), allocated.containing(value / 2.0).toArray());
+            }
+            for (Interval query : randomIntervals(random, 200, !doubles)) {
+                assertArrayEquals(mapped.overlapping(query).toArray(), allocated.overlapping(query).toArray());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream all intervals ordered by lower endpoints")
+    void stream_shouldReturnSortedIntervals() {
+        List<Interval> intervals = randomIntervals(new Random(19), 200, false);
+        LongIntervalColumns columns = new LongIntervalColumns();
+        intervals.forEach(columns::add);
+        MappedIntervalIndex index = MappedIntervalIndex.allocate(columns);
+
+        List<ImmutableInterval> streamed = index.stream().toList();
+
+        assertEquals(sorted(intervals), sorted(new ArrayList<>(streamed)));
+        for (int i = 1; i < streamed.size(); i++) {
+            assertTrue(IntervalComparator.compareLowerEndpoints(streamed.get(i - 1), streamed.get(i)) <= 0);
+        }
+        assertEquals(0, MappedIntervalIndex.allocate(new DoubleIntervalColumns()).stream().count());
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.intervals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/intervals")
+@DisplayName("Tests for ImmutableInterval")
+class ImmutableIntervalTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("Should keep endpoints and inclusivity")
+        void of_withFiniteBounds_shouldKeepEndpointsAndInclusivity() {
+            Interval interval = ImmutableInterval.closedOpen(bound(1), bound(5));
+
+            assertEquals(bound(1), interval.getLowerBound());
+            assertEquals(bound(5), interval.getUpperBound());
+            assertTrue(interval.isLowerClosed());
+            assertFalse(interval.isUpperClosed());
+        }
+
+        @Test
+        @DisplayName("Should always store infinite endpoints as open")
+        void closed_withInfiniteBounds_shouldStoreOpenEndpoints() {
+            Interval interval = ImmutableInterval.closed(NEGATIVE_INFINITY, POSITIVE_INFINITY);
+
+            assertFalse(interval.isLowerClosed());
+            assertFalse(interval.isUpperClosed());
+            assertEquals(ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY), interval);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException if the lower bound is greater than the upper bound")
+        void of_withReversedBounds_shouldThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () -> ImmutableInterval.closed(bound(2), bound(1)));
+            assertThrows(IllegalArgumentException.class, () -> ImmutableInterval.open(POSITIVE_INFINITY, bound(1)));
+        }
+
+        @Test
+        @DisplayName("Should throw NullPointerException for null bounds")
+        void of_withNullBound_shouldThrowNullPointerException() {
+            assertThrows(NullPointerException.class, () -> ImmutableInterval.closed(null, bound(1)));
+            assertThrows(NullPointerException.class, () -> ImmutableInterval.closed(bound(1), null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Emptiness")
+    class Emptiness {
+
+        @Test
+        @DisplayName("Should be empty for equal endpoints unless both are closed")
+        void isEmpty_withEqualEndpoints_shouldDependOnInclusivity() {
+            assertFalse(ImmutableInterval.closed(bound(1), bound(1)).isEmpty());
+            assertTrue(ImmutableInterval.closedOpen(bound(1), bound(1)).isEmpty());
+            assertTrue(ImmutableInterval.openClosed(bound(1), bound(1)).isEmpty());
+            assertTrue(ImmutableInterval.open(bound(1), bound(1)).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should be empty for equal infinite endpoints")
+        void isEmpty_withEqualInfiniteEndpoints_shouldReturnTrue() {
+            assertTrue(ImmutableInterval.closed(POSITIVE_INFINITY, POSITIVE_INFINITY).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should agree with the default implementation of Interval")
+        void isEmpty_shouldMatchDefaultImplementation() {
+            ImmutableInterval interval = ImmutableInterval.closedOpen(bound(1), new ImmutableFiniteBound<>(1L));
+            Interval view = view(interval);
+
+            assertEquals(view.isEmpty(), interval.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Containment")
+    class Containment {
+
+        @ParameterizedTest
+        @CsvSource({
+                "0, false", "1, true", "3, true", "5, false", "6, false"
+        })
+        @DisplayName("Should respect the inclusivity of the endpoints")
+        void contains_withLongValues_shouldRespectInclusivity(long value, boolean expected) {
+            Interval interval = ImmutableInterval.closedOpen(bound(1), bound(5));
+            assertEquals(expected, interval.contains(value));
+        }
+
+        @Test
+        @DisplayName("Should compare values of different types with the endpoints")
+        void contains_withMixedTypes_shouldCompareNumerically() {
+            Interval interval = ImmutableInterval.openClosed(new DoubleFiniteBound(0.5), bound(2));
+
+            assertTrue(interval.contains(new BigDecimal("0.50001")));
+            assertTrue(interval.contains(2));
+            assertFalse(interval.contains(0.5));
+            assertFalse(interval.contains(2.0001));
+        }
+
+        @Test
+        @DisplayName("Should contain every finite value if unbounded")
+        void contains_withInfiniteEndpoints_shouldContainFiniteValues() {
+            Interval interval = ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY);
+
+            assertTrue(interval.contains(Long.MIN_VALUE));
+            assertTrue(interval.contains(Double.MAX_VALUE));
+            assertFalse(interval.contains(Double.POSITIVE_INFINITY));
+            assertFalse(interval.contains(Double.NaN));
+        }
+
+        @Test
+        @DisplayName("Should not contain any value if empty")
+        void contains_withEmptyInterval_shouldReturnFalse() {
+            assertFalse(ImmutableInterval.closedOpen(bound(1), bound(1)).contains(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Overlapping and enclosure")
+    class OverlappingAndEnclosure {
+
+        @Test
+        @DisplayName("Should overlap only if touching endpoints are both closed")
+        void overlaps_withTouchingIntervals_shouldDependOnInclusivity() {
+            Interval interval = ImmutableInterval.closed(bound(1), bound(2));
+
+            assertTrue(interval.overlaps(ImmutableInterval.closed(bound(2), bound(3))));
+            assertFalse(interval.overlaps(ImmutableInterval.openClosed(bound(2), bound(3))));
+            assertFalse(ImmutableInterval.closedOpen(bound(1), bound(2)).overlaps(ImmutableInterval.closed(bound(2), bound(3))));
+        }
+
+        @Test
+        @DisplayName("Should overlap symmetrically with infinite intervals")
+        void overlaps_withInfiniteIntervals_shouldBeSymmetric() {
+            Interval lower = ImmutableInterval.open(NEGATIVE_INFINITY, bound(0));
+            Interval upper = ImmutableInterval.closed(bound(-1), POSITIVE_INFINITY);
+
+            assertTrue(lower.overlaps(upper));
+            assertTrue(upper.overlaps(lower));
+            assertFalse(lower.overlaps(ImmutableInterval.closed(bound(0), POSITIVE_INFINITY)));
+        }
+
+        @Test
+        @DisplayName("Should not overlap an empty interval")
+        void overlaps_withEmptyInterval_shouldReturnFalse() {
+            Interval interval = ImmutableInterval.closed(bound(0), bound(10));
+            assertFalse(interval.overlaps(ImmutableInterval.open(bound(5), bound(5))));
+        }
+
+        @Test
+        @DisplayName("Should enclose intervals within its endpoints")
+        void encloses_withInnerIntervals_shouldReturnTrue() {
+            Interval interval = ImmutableInterval.closedOpen(bound(0), bound(10));
+
+            assertTrue(interval.encloses(ImmutableInterval.closed(bound(0), bound(9))));
+            assertTrue(interval.encloses(ImmutableInterval.open(bound(0), bound(10))));
+            assertTrue(interval.encloses(interval));
+            assertTrue(interval.encloses(ImmutableInterval.open(bound(20), bound(20))));
+            assertFalse(interval.encloses(ImmutableInterval.closed(bound(0), bound(10))));
+            assertFalse(interval.encloses(ImmutableInterval.closed(bound(-1), bound(5))));
+        }
+
+        @Test
+        @DisplayName("Should enclose any interval if unbounded")
+        void encloses_withUnboundedInterval_shouldReturnTrue() {
+            Interval interval = ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY);
+
+            assertTrue(interval.encloses(ImmutableInterval.closed(bound(Long.MIN_VALUE), bound(Long.MAX_VALUE))));
+            assertTrue(interval.encloses(ImmutableInterval.closed(NEGATIVE_INFINITY, bound(0))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality and representation")
+    class EqualityAndRepresentation {
+
+        @Test
+        @DisplayName("Should be equal to an interval with equal endpoints and inclusivity")
+        void equals_withEqualIntervals_shouldReturnTrue() {
+            Interval first = ImmutableInterval.closedOpen(bound(1), bound(5));
+            Interval second = ImmutableInterval.of(bound(1), true, bound(5), false);
+
+            assertEquals(first, second);
+            assertEquals(first.hashCode(), second.hashCode());
+        }
+
+        @Test
+        @DisplayName("Should not be equal to an interval with different inclusivity")
+        void equals_withDifferentInclusivity_shouldReturnFalse() {
+            assertNotEquals(ImmutableInterval.closed(bound(1), bound(5)), ImmutableInterval.closedOpen(bound(1), bound(5)));
+        }
+
+        @Test
+        @DisplayName("Should use mathematical notation")
+        void toString_shouldUseMathematicalNotation() {
+            Interval interval = ImmutableInterval.closedOpen(bound(1), POSITIVE_INFINITY);
+            assertEquals("[" + bound(1) + ", " + POSITIVE_INFINITY + ")", interval.toString());
+        }
+    }
+
+    private static Interval view(Interval interval) {
+        return new Interval() {
+            @Override
+            public Bound getLowerBound() {
+                return interval.getLowerBound();
+            }
+
+            @Override
+            public Bound getUpperBound() {
+                return interval.getUpperBound();
+            }
+
+            @Override
+            public boolean isLowerClosed() {
+                return interval.isLowerClosed();
+            }
+
+            @Override
+            public boolean isUpperClosed() {
+                return interval.isUpperClosed();
+            }
+        };
+    }
+}
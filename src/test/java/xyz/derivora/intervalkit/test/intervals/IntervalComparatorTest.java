@@ -0,0 +1,83 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.intervals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/intervals")
+@DisplayName("Tests for IntervalComparator")
+class IntervalComparatorTest {
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    @Test
+    @DisplayName("Should order closed lower endpoints before open ones")
+    void compareLowerEndpoints_withEqualBounds_shouldOrderClosedFirst() {
+        Interval closed = ImmutableInterval.closed(bound(1), bound(5));
+        Interval open = ImmutableInterval.openClosed(bound(1), bound(5));
+
+        assertTrue(IntervalComparator.compareLowerEndpoints(closed, open) < 0);
+        assertTrue(IntervalComparator.compareLowerEndpoints(open, closed) > 0);
+        assertEquals(0, IntervalComparator.compareLowerEndpoints(closed, closed));
+    }
+
+    @Test
+    @DisplayName("Should order open upper endpoints before closed ones")
+    void compareUpperEndpoints_withEqualBounds_shouldOrderOpenFirst() {
+        Interval closed = ImmutableInterval.closed(bound(1), bound(5));
+        Interval open = ImmutableInterval.closedOpen(bound(1), bound(5));
+
+        assertTrue(IntervalComparator.compareUpperEndpoints(open, closed) < 0);
+        assertTrue(IntervalComparator.compareUpperEndpoints(closed, open) > 0);
+    }
+
+    @Test
+    @DisplayName("Should sort intervals by lower and then by upper endpoints")
+    void compare_shouldSortByLowerThenUpperEndpoints() {
+        Interval unbounded = ImmutableInterval.open(ImmutableInfiniteBound.getInstance(false), bound(0));
+        Interval first = ImmutableInterval.closed(bound(1), bound(2));
+        Interval second = ImmutableInterval.closed(bound(1), bound(3));
+        Interval third = ImmutableInterval.open(bound(1), bound(2));
+
+        Interval[] intervals = {third, second, first, unbounded};
+        Arrays.sort(intervals, IntervalComparator.getInstance());
+
+        assertEquals(List.of(unbounded, first, second, third), List.of(intervals));
+    }
+
+    @Test
+    @DisplayName("Should return the same singleton instance")
+    void getInstance_shouldReturnSameInstance() {
+        assertSame(IntervalComparator.getInstance(), IntervalComparator.getInstance());
+    }
+}
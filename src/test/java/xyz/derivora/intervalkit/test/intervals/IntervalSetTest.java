@@ -0,0 +1,187 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.intervals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/intervals")
+@DisplayName("Tests for IntervalSet")
+class IntervalSetTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    private static IntervalSet randomSet(Random random) {
+        List<Interval> intervals = new ArrayList<>();
+        int count = random.nextInt(8);
+        for (int i = 0; i < count; i++) {
+            long lower = random.nextInt(40);
+            long upper = lower + random.nextInt(8);
+            Bound lowerBound = random.nextInt(15) == 0 ? NEGATIVE_INFINITY : bound(lower);
+            Bound upperBound = random.nextInt(15) == 0 ? POSITIVE_INFINITY : bound(upper);
+            intervals.add(ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean()));
+        }
+
+        return IntervalSet.of(intervals);
+    }
+
+    private static void assertNormalized(IntervalSet set) {
+        List<Interval> intervals = set.intervals();
+        for (int i = 0; i < intervals.size(); i++) {
+            assertFalse(intervals.get(i).isEmpty());
+            if (i > 0) {
+                Interval previous = intervals.get(i - 1);
+                Interval current = intervals.get(i);
+                int result = previous.getUpperBound().compareTo(current.getLowerBound());
+                assertTrue(result < 0 || result == 0 && !previous.isUpperClosed() && !current.isLowerClosed(),
+                        "Intervals are not disjoint and separated: " + set);
+            }
+        }
+    }
+
+    private static void assertOperation(BinaryOperator<IntervalSet> operation, BiPredicate<Boolean, Boolean> expected) {
+        Random random = new Random(17);
+        for (int iteration = 0; iteration < 300; iteration++) {
+            IntervalSet first = randomSet(random);
+            IntervalSet second = randomSet(random);
+            IntervalSet result = operation.apply(first, second);
+
+            assertNormalized(result);
+            for (int halves = -4; halves <= 100; halves++) {
+                double value = halves / 2.0;
+                Number point = halves % 2 == 0 ? (Number) (long) (halves / 2) : value;
+                assertEquals(expected.test(first.contains(point), second.contains(point)), result.contains(point),
+                        first + " and " + second + " at " + point);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should coalesce overlapping and adjacent intervals")
+    void of_withOverlappingIntervals_shouldCoalesce() {
+        IntervalSet set = IntervalSet.of(
+                ImmutableInterval.closedOpen(bound(1), bound(2)),
+                ImmutableInterval.closed(bound(2), bound(3)),
+                ImmutableInterval.open(bound(0), bound(1)),
+                ImmutableInterval.openClosed(bound(5), bound(6)),
+                ImmutableInterval.closedOpen(bound(7), bound(7))
+        );
+
+        assertEquals(List.of(ImmutableInterval.openClosed(bound(0), bound(3)), ImmutableInterval.openClosed(bound(5), bound(6))),
+                set.intervals());
+    }
+
+    @Test
+    @DisplayName("Should keep intervals separated by an excluded point")
+    void of_withTouchingOpenEndpoints_shouldKeepIntervalsSeparate() {
+        IntervalSet set = IntervalSet.of(
+                ImmutableInterval.closedOpen(bound(1), bound(2)),
+                ImmutableInterval.openClosed(bound(2), bound(3))
+        );
+
+        assertEquals(2, set.size());
+        assertFalse(set.contains(2));
+        assertTrue(set.contains(2.5));
+    }
+
+    @Test
+    @DisplayName("Should check membership, enclosure and overlap by binary search")
+    void contains_shouldRespectInclusivity() {
+        IntervalSet set = IntervalSet.of(
+                ImmutableInterval.closedOpen(bound(0), bound(10)),
+                ImmutableInterval.open(bound(20), POSITIVE_INFINITY)
+        );
+
+        assertTrue(set.contains(0));
+        assertFalse(set.contains(10));
+        assertFalse(set.contains(20));
+        assertTrue(set.contains(Long.MAX_VALUE));
+        assertFalse(set.contains(Double.POSITIVE_INFINITY));
+
+        assertTrue(set.encloses(ImmutableInterval.closed(bound(1), bound(9))));
+        assertFalse(set.encloses(ImmutableInterval.closed(bound(5), bound(25))));
+        assertTrue(set.encloses(ImmutableInterval.open(bound(20), POSITIVE_INFINITY)));
+
+        assertTrue(set.overlaps(ImmutableInterval.closed(bound(9), bound(15))));
+        assertFalse(set.overlaps(ImmutableInterval.closed(bound(10), bound(20))));
+        assertFalse(set.overlaps(ImmutableInterval.open(bound(5), bound(5))));
+    }
+
+    @Test
+    @DisplayName("Should compute the union as a pointwise disjunction")
+    void union_shouldMatchPointwiseDisjunction() {
+        assertOperation(IntervalSet::union, (first, second) -> first || second);
+    }
+
+    @Test
+    @DisplayName("Should compute the intersection as a pointwise conjunction")
+    void intersection_shouldMatchPointwiseConjunction() {
+        assertOperation(IntervalSet::intersection, (first, second) -> first && second);
+    }
+
+    @Test
+    @DisplayName("Should compute the difference pointwise")
+    void difference_shouldMatchPointwiseDifference() {
+        assertOperation(IntervalSet::difference, (first, second) -> first && !second);
+    }
+
+    @Test
+    @DisplayName("Should compute the complement pointwise")
+    void complement_shouldMatchPointwiseNegation() {
+        assertOperation((first, second) -> first.complement(), (first, second) -> !first);
+    }
+
+    @Test
+    @DisplayName("Should return the original set after a double complement")
+    void complement_twice_shouldReturnEqualSet() {
+        Random random = new Random(5);
+        for (int i = 0; i < 100; i++) {
+            IntervalSet set = randomSet(random);
+            assertEquals(set, set.complement().complement());
+        }
+    }
+
+    @Test
+    @DisplayName("Should complement the empty set to the whole number line")
+    void complement_withEmptySet_shouldReturnUnboundedInterval() {
+        IntervalSet whole = IntervalSet.empty().complement();
+
+        assertEquals(List.of(ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY)), whole.intervals());
+        assertTrue(whole.complement().isEmpty());
+    }
+}
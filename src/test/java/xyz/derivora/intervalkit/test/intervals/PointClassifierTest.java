@@ -0,0 +1,226 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.intervals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalSet;
+import xyz.derivora.intervalkit.intervals.PointClassifier;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/intervals")
+@DisplayName("Tests for PointClassifier")
+class PointClassifierTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static Bound randomBound(Random random, int value) {
+        return switch (random.nextInt(3)) {
+            case 0 -> new LongFiniteBound(value);
+            case 1 -> new DoubleFiniteBound(value / 4.0);
+            default -> new ImmutableFiniteBound<>(BigDecimal.valueOf(value, 1));
+        };
+    }
+
+    private static IntervalSet randomSet(Random random, int count) {
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int lower = random.nextInt(400) - 200;
+            int upper = lower + random.nextInt(40);
+            Bound lowerBound = random.nextInt(30) == 0 ? NEGATIVE_INFINITY : randomBound(random, lower);
+            Bound upperBound = random.nextInt(30) == 0 ? POSITIVE_INFINITY : randomBound(random, upper);
+            if (lowerBound.compareTo(upperBound) <= 0) {
+                intervals.add(ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean()));
+            }
+        }
+
+        return IntervalSet.of(intervals);
+    }
+
+    private static int expectedIndex(IntervalSet set, Number point) {
+        List<Interval> intervals = set.intervals();
+        for (int i = 0; i < intervals.size(); i++) {
+            if (intervals.get(i).contains(point)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void assertClassification(IntervalSet set) {
+        PointClassifier classifier = PointClassifier.of(set);
+
+        double[] doublePoints = new double[1_001];
+        long[] longPoints = new long[1_003];
+        for (int i = 0; i < doublePoints.length; i++) {
+            doublePoints[i] = (i - 500) / 8.0;
+        }
+        for (int i = 0; i < longPoints.length; i++) {
+            longPoints[i] = i - 501;
+        }
+        doublePoints[0] = Double.NaN;
+        doublePoints[1] = Double.POSITIVE_INFINITY;
+        doublePoints[2] = Double.NEGATIVE_INFINITY;
+        doublePoints[3] = -0.0;
+        doublePoints[4] = 0.0;
+        longPoints[0] = Long.MIN_VALUE;
+        longPoints[1] = Long.MAX_VALUE;
+
+        int[] doubleIndexes = new int[doublePoints.length];
+        boolean[] doubleResults = new boolean[doublePoints.length];
+        classifier.classify(doublePoints, doubleIndexes);
+        classifier.contains(doublePoints, doubleResults);
+        for (int i = 0; i < doublePoints.length; i++) {
+            int expected = expectedIndex(set, doublePoints[i]);
+            if (doubleIndexes[i] != expected || doubleResults[i] != set.contains(doublePoints[i])) {
+                fail(String.format("Point %s in %s classified as %d", doublePoints[i], set, doubleIndexes[i]));
+            }
+        }
+
+        int[] longIndexes = new int[longPoints.length];
+        boolean[] longResults = new boolean[longPoints.length];
+        classifier.classify(longPoints, longIndexes);
+        classifier.contains(longPoints, longResults);
+        for (int i = 0; i < longPoints.length; i++) {
+            int expected = expectedIndex(set, longPoints[i]);
+            if (longIndexes[i] != expected || longResults[i] != set.contains(longPoints[i])) {
+                fail(String.format("Point %d in %s classified as %d", longPoints[i], set, longIndexes[i]));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should classify points like IntervalSet.contains for small sets")
+    void classify_withSmallSets_shouldMatchContains() {
+        Random random = new Random(23);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            assertClassification(randomSet(random, random.nextInt(PointClassifier.VECTOR_THRESHOLD)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should classify points like IntervalSet.contains for large sets")
+    void classify_withLargeSets_shouldMatchContains() {
+        Random random = new Random(29);
+        for (int iteration = 0; iteration < 20; iteration++) {
+            assertClassification(randomSet(random, PointClassifier.VECTOR_THRESHOLD * 4));
+        }
+    }
+
+    @Test
+    @DisplayName("Should classify points at signed zeros and infinities like IntervalSet.contains")
+    void classify_withSignedZeroAndInfiniteEndpoints_shouldMatchContains() {
+        Bound zero = new DoubleFiniteBound(0.0);
+        Bound one = new DoubleFiniteBound(1.0);
+        Bound minusOne = new DoubleFiniteBound(-1.0);
+
+        assertClassification(IntervalSet.of(ImmutableInterval.closed(zero, one)));
+        assertClassification(IntervalSet.of(ImmutableInterval.open(zero, one)));
+        assertClassification(IntervalSet.of(ImmutableInterval.closedOpen(minusOne, zero)));
+        assertClassification(IntervalSet.of(ImmutableInterval.openClosed(NEGATIVE_INFINITY, zero)));
+        assertClassification(IntervalSet.of(ImmutableInterval.closedOpen(zero, POSITIVE_INFINITY)));
+        assertClassification(IntervalSet.of(ImmutableInterval.open(NEGATIVE_INFINITY, POSITIVE_INFINITY)));
+        assertClassification(IntervalSet.of(
+                ImmutableInterval.open(NEGATIVE_INFINITY, minusOne),
+                ImmutableInterval.closed(zero, zero),
+                ImmutableInterval.openClosed(one, POSITIVE_INFINITY)
+        ));
+    }
+
+    @Test
+    @Tag("vector-kernels")
+    @DisplayName("Should classify with vector operations when jdk.incubator.vector is resolved")
+    void isVectorized_withVectorModule_shouldReturnTrue() {
+        assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assertTrue(PointClassifier.isVectorized());
+    }
+
+    @Test
+    @DisplayName("Should skip intervals that contain no value of the point type")
+    void classify_withIntervalsWithoutPointsOfType_shouldSkipThem() {
+        IntervalSet set = IntervalSet.of(
+                ImmutableInterval.open(new LongFiniteBound(1L), new LongFiniteBound(2L)),
+                ImmutableInterval.closed(new ImmutableFiniteBound<>(new BigDecimal("3.1")), new ImmutableFiniteBound<>(new BigDecimal("3.9"))),
+                ImmutableInterval.closed(new LongFiniteBound(5L), new LongFiniteBound(6L))
+        );
+        PointClassifier classifier = PointClassifier.of(set);
+        int[] indexes = new int[4];
+
+        classifier.classify(new long[]{1L, 2L, 3L, 5L}, indexes);
+        assertArrayEquals(new int[]{-1, -1, -1, 2}, indexes);
+
+        classifier.classify(new double[]{1.5, 3.5, 4.0, 6.0}, indexes);
+        assertArrayEquals(new int[]{0, 1, -1, 2}, indexes);
+    }
+
+    @Test
+    @DisplayName("Should compare long points exactly with floating-point endpoints near the long range limits")
+    void classify_withEndpointsBeyondLongRange_shouldCompareExactly() {
+        Bound twoPow63 = new DoubleFiniteBound(0x1p63);
+        int[] indexes = new int[2];
+
+        PointClassifier.of(IntervalSet.of(ImmutableInterval.closedOpen(twoPow63, POSITIVE_INFINITY)))
+                .classify(new long[]{Long.MAX_VALUE, 0L}, indexes);
+        assertArrayEquals(new int[]{-1, -1}, indexes);
+
+        PointClassifier.of(IntervalSet.of(ImmutableInterval.open(NEGATIVE_INFINITY, twoPow63)))
+                .classify(new long[]{Long.MAX_VALUE, Long.MIN_VALUE}, indexes);
+        assertArrayEquals(new int[]{0, 0}, indexes);
+    }
+
+    @Test
+    @DisplayName("Should classify nothing against an empty set")
+    void classify_withEmptySet_shouldReturnMinusOne() {
+        PointClassifier classifier = PointClassifier.of(IntervalSet.empty());
+        int[] indexes = new int[9];
+        boolean[] results = new boolean[9];
+
+        classifier.classify(new double[9], indexes);
+        classifier.contains(new long[9], results);
+
+        assertArrayEquals(new int[]{-1, -1, -1, -1, -1, -1, -1, -1, -1}, indexes);
+        assertArrayEquals(new boolean[9], results);
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid arguments")
+    void classify_withInvalidArguments_shouldThrowException() {
+        PointClassifier classifier = PointClassifier.of(IntervalSet.empty());
+
+        assertThrows(NullPointerException.class, () -> PointClassifier.of(null));
+        assertThrows(NullPointerException.class, () -> classifier.classify((double[]) null, new int[0]));
+        assertThrows(NullPointerException.class, () -> classifier.contains(new long[0], null));
+        assertThrows(IllegalArgumentException.class, () -> classifier.classify(new long[3], new int[2]));
+        assertThrows(IllegalArgumentException.class, () -> classifier.contains(new double[3], new boolean[2]));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.InfiniteBound;
+import xyz.derivora.intervalkit.bounds.comparison.IncomparableBoundsException;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.metrics.BoundComparisonMetrics;
+import xyz.derivora.intervalkit.metrics.CountingBoundComparator;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/metrics")
+@DisplayName("Tests for CountingBoundComparator")
+class CountingBoundComparatorTest {
+
+    @Test
+    @DisplayName("Should compare like BoundComparator and count comparisons by type pair")
+    void compare_shouldCountComparisonsByTypes() {
+        CountingBoundComparator comparator = new CountingBoundComparator();
+
+        assertTrue(comparator.compare(new LongFiniteBound(1), new LongFiniteBound(2)) < 0);
+        assertEquals(0, comparator.compare(new LongFiniteBound(1), new DoubleFiniteBound(1.0)));
+        assertTrue(comparator.compare(ImmutableInfiniteBound.getInstance(true),
+                new ImmutableFiniteBound<>(BigDecimal.ONE)) > 0);
+        assertTrue(comparator.compare(new LongFiniteBound(3), new LongFiniteBound(2)) > 0);
+
+        BoundComparisonMetrics metrics = comparator.getMetrics();
+        Map<String, Long> counts = metrics.getComparisonCountsByTypes();
+
+        assertEquals(4, metrics.getComparisonCount());
+        assertEquals(Long.valueOf(2), counts.get("LONG:LONG"));
+        assertEquals(Long.valueOf(1), counts.get("LONG:DOUBLE"));
+        assertEquals(Long.valueOf(1), counts.get("INFINITE:BIG_DECIMAL"));
+        assertEquals(3, counts.size());
+    }
+
+    @Test
+    @DisplayName("Should count and rethrow incomparable boundaries")
+    void compare_withIncomparableBounds_shouldCountIncomparable() {
+        CountingBoundComparator comparator = new CountingBoundComparator();
+        Bound malformed = new InfiniteBound() {
+            @Override
+            public boolean isPositive() {
+                return true;
+            }
+
+            @Override
+            public boolean isFinite() {
+                return true;
+            }
+        };
+
+        assertThrows(IncomparableBoundsException.class, () -> comparator.compare(malformed, new LongFiniteBound(1)));
+        assertEquals(1, comparator.getMetrics().getIncomparableCount());
+        assertEquals(0, comparator.getMetrics().getComparisonCount());
+    }
+
+    @Test
+    @DisplayName("Should not count while disabled")
+    void compare_whenDisabled_shouldNotCount() {
+        CountingBoundComparator comparator = new CountingBoundComparator();
+        comparator.getMetrics().setEnabled(false);
+
+        assertTrue(comparator.compare(new LongFiniteBound(1), new LongFiniteBound(2)) < 0);
+        assertEquals(0, comparator.getMetrics().getComparisonCount());
+
+        comparator.getMetrics().setEnabled(true);
+        comparator.compare(new LongFiniteBound(1), new LongFiniteBound(2));
+        assertEquals(1, comparator.getMetrics().getComparisonCount());
+
+        comparator.getMetrics().reset();
+        assertEquals(0, comparator.getMetrics().getComparisonCount());
+        assertTrue(comparator.getMetrics().getComparisonCountsByTypes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should publish the metrics as an MBean")
+    void register_shouldPublishMBean() throws Exception {
+        CountingBoundComparator comparator = new CountingBoundComparator();
+        comparator.compare(new LongFiniteBound(1), new LongFiniteBound(2));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = comparator.getMetrics().register("counting-comparator-test");
+        try {
+            assertEquals(1L, server.getAttribute(name, "ComparisonCount"));
+            assertEquals(0L, server.getAttribute(name, "IncomparableCount"));
+            assertThrows(javax.management.InstanceAlreadyExistsException.class,
+                    () -> comparator.getMetrics().register("counting-comparator-test"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
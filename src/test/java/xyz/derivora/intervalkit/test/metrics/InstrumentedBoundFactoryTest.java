@@ -0,0 +1,165 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.FiniteBound;
+import xyz.derivora.intervalkit.bounds.factory.BoundFactory;
+import xyz.derivora.intervalkit.metrics.BoundFactoryMetrics;
+import xyz.derivora.intervalkit.metrics.InstrumentedBoundFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/metrics")
+@DisplayName("Tests for InstrumentedBoundFactory")
+class InstrumentedBoundFactoryTest {
+
+    @Test
+    @DisplayName("Should return the boundaries created by the delegate")
+    void getFiniteBound_shouldDelegate() {
+        InstrumentedBoundFactory factory = new InstrumentedBoundFactory(BoundFactory.immutable());
+
+        assertEquals(BoundFactory.immutable().getFiniteBound(5L), factory.getFiniteBound(5L));
+        assertEquals(BoundFactory.immutable().getFiniteBound(2.5), factory.getFiniteBound(2.5));
+        assertEquals(BoundFactory.immutable().parseFiniteBound("1.25"), factory.parseFiniteBound("1.25"));
+        assertSame(BoundFactory.immutable().getPositiveInfiniteBound(), factory.getPositiveInfiniteBound());
+        assertSame(BoundFactory.immutable(), factory.getDelegate());
+    }
+
+    @Test
+    @DisplayName("Should count created boundaries by the value type of the result")
+    void getFiniteBound_shouldCountByValueType() {
+        InstrumentedBoundFactory factory = new InstrumentedBoundFactory(BoundFactory.immutable());
+
+        factory.getFiniteBound(1L);
+        factory.getFiniteBound(2);
+        factory.getFiniteBound(3.0);
+        factory.getFiniteBound(new BigDecimal("4.5"));
+        factory.getFiniteBound((short) 5);
+        factory.getFiniteBounds(new long[]{1, 2, 3});
+        factory.getFiniteBounds(new double[]{1.5, 2.5});
+        factory.getFiniteBounds(LongStream.range(0, 4));
+        factory.getFiniteBound("6");
+        factory.getInfiniteBound(true);
+        factory.getNegativeInfiniteBound();
+
+        BoundFactoryMetrics metrics = factory.getMetrics();
+
+        assertEquals(2, metrics.getInfiniteBoundCount());
+        assertEquals(15, metrics.getFiniteBoundCount());
+        Map<String, Long> counts = metrics.getFiniteBoundCountsByType();
+        assertEquals(Long.valueOf(8), counts.get("LONG"));
+        assertEquals(Long.valueOf(1), counts.get("INTEGER"));
+        assertEquals(Long.valueOf(1), counts.get("SHORT"));
+        assertEquals(Long.valueOf(3), counts.get("DOUBLE"));
+        assertEquals(Long.valueOf(2), counts.get("BIG_DECIMAL"));
+        assertFalse(counts.containsKey("FLOAT"));
+    }
+
+    @Test
+    @DisplayName("Should not count while disabled and restart from zero after reset")
+    void setEnabled_withFalse_shouldStopCounting() {
+        InstrumentedBoundFactory factory = new InstrumentedBoundFactory(BoundFactory.immutable());
+        BoundFactoryMetrics metrics = factory.getMetrics();
+
+        metrics.setEnabled(false);
+        FiniteBound<Long> bound = factory.getFiniteBound(1L);
+        factory.getInfiniteBound(false);
+
+        assertEquals(Long.valueOf(1), bound.getValue());
+        assertFalse(metrics.isEnabled());
+        assertEquals(0, metrics.getFiniteBoundCount());
+        assertEquals(0, metrics.getInfiniteBoundCount());
+
+        metrics.setEnabled(true);
+        factory.getFiniteBound(1L);
+        assertEquals(1, metrics.getFiniteBoundCount());
+
+        metrics.reset();
+        assertEquals(0, metrics.getFiniteBoundCount());
+        assertTrue(metrics.getFiniteBoundCountsByType().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report the cache statistics of an interning delegate")
+    void getCacheHitRate_withInterningDelegate_shouldReportCacheStatistics() {
+        InstrumentedBoundFactory factory = new InstrumentedBoundFactory(BoundFactory.interning(64));
+        BoundFactoryMetrics metrics = factory.getMetrics();
+
+        factory.getFiniteBound(7L);
+        factory.getFiniteBound(7L);
+        factory.getFiniteBound(7L);
+        factory.getFiniteBound(8L);
+
+        assertEquals(2, metrics.getCacheHitCount());
+        assertEquals(2, metrics.getCacheMissCount());
+        assertEquals(0.5, metrics.getCacheHitRate());
+
+        metrics.reset();
+        assertEquals(0, metrics.getCacheHitCount());
+        assertEquals(0.0, metrics.getCacheHitRate());
+
+        factory.getFiniteBound(8L);
+        assertEquals(1.0, metrics.getCacheHitRate());
+    }
+
+    @Test
+    @DisplayName("Should report no cache statistics for a delegate without a cache")
+    void getCacheHitRate_withoutCache_shouldReturnZero() {
+        InstrumentedBoundFactory factory = new InstrumentedBoundFactory(BoundFactory.immutable());
+        factory.getFiniteBound(1L);
+
+        assertEquals(0, factory.getMetrics().getCacheHitCount());
+        assertEquals(0, factory.getMetrics().getCacheMissCount());
+        assertEquals(0.0, factory.getMetrics().getCacheHitRate());
+    }
+
+    @Test
+    @DisplayName("Should publish the metrics as an MBean")
+    void register_shouldPublishMBean() throws Exception {
+        InstrumentedBoundFactory factory = new InstrumentedBoundFactory(BoundFactory.immutable());
+        factory.getFiniteBound(1L);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = factory.getMetrics().register("instrumented-factory-test");
+        try {
+            assertEquals("xyz.derivora.intervalkit", name.getDomain());
+            assertEquals(1L, server.getAttribute(name, "FiniteBoundCount"));
+
+            server.setAttribute(name, new javax.management.Attribute("Enabled", false));
+            assertFalse(factory.getMetrics().isEnabled());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException for a null delegate")
+    void constructor_withNullDelegate_shouldThrowNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InstrumentedBoundFactory(null));
+    }
+}
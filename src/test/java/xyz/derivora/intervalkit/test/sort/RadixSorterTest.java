@@ -0,0 +1,170 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.sort;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+import xyz.derivora.intervalkit.sort.RadixSorter;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/sort")
+@DisplayName("Tests for RadixSorter")
+class RadixSorterTest {
+
+    private static final BoundComparator BOUND_COMPARATOR = BoundComparator.getInstance();
+
+    private static final IntervalComparator INTERVAL_COMPARATOR = IntervalComparator.getInstance();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, RadixSorter.RADIX_THRESHOLD, 20_000})
+    @DisplayName("Should sort integral bounds exactly like a stable comparator sort")
+    void sort_withIntegralBounds_shouldMatchComparatorSort(int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        Bound[] bounds = new Bound[size];
+        for (int i = 0; i < size; i++) {
+            bounds[i] = switch (random.nextInt(6)) {
+                case 0 -> new LongFiniteBound(random.nextLong());
+                case 1 -> new IntFiniteBound(random.nextInt(-100, 100));
+                case 2 -> new ImmutableFiniteBound<>(random.nextLong(-100, 100));
+                case 3 -> new LongFiniteBound(random.nextBoolean() ? Long.MIN_VALUE : Long.MAX_VALUE);
+                default -> ImmutableInfiniteBound.getInstance(random.nextBoolean());
+            };
+        }
+
+        assertSortedLikeComparator(bounds);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, RadixSorter.RADIX_THRESHOLD, 20_000})
+    @DisplayName("Should sort floating-point and mixed bounds exactly like a stable comparator sort")
+    void sort_withFloatingPointBounds_shouldMatchComparatorSort(int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        Bound[] bounds = new Bound[size];
+        for (int i = 0; i < size; i++) {
+            bounds[i] = switch (random.nextInt(6)) {
+                case 0 -> new DoubleFiniteBound(random.nextDouble(-1e300, 1e300));
+                case 1 -> new DoubleFiniteBound(random.nextInt(-20, 20) / 2.0);
+                case 2 -> new DoubleFiniteBound(random.nextBoolean() ? -0.0 : 0.0);
+                case 3 -> new IntFiniteBound(random.nextInt(-10, 10));
+                case 4 -> new ImmutableFiniteBound<>(random.nextInt(-10, 10) / 4.0f);
+                default -> ImmutableInfiniteBound.getInstance(random.nextBoolean());
+            };
+        }
+
+        assertSortedLikeComparator(bounds);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the comparator for bounds outside both encodings")
+    void sort_withUnencodableBounds_shouldMatchComparatorSort() {
+        SplittableRandom random = new SplittableRandom(11);
+        Bound[] bounds = new Bound[RadixSorter.RADIX_THRESHOLD * 2];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = i % 2 == 0
+                    ? new ImmutableFiniteBound<>(BigDecimal.valueOf(random.nextInt(-100, 100), 1))
+                    : new LongFiniteBound(random.nextLong(-100, 100));
+        }
+
+        assertSortedLikeComparator(bounds);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, RadixSorter.RADIX_THRESHOLD, 20_000})
+    @DisplayName("Should sort intervals exactly like a stable comparator sort")
+    void sort_withIntervals_shouldMatchComparatorSort(int size) {
+        SplittableRandom random = new SplittableRandom(size);
+        Interval[] intervals = new Interval[size];
+        for (int i = 0; i < size; i++) {
+            long lower = random.nextLong(-50, 50);
+            long upper = lower + random.nextLong(0, 10);
+            Bound lowerBound = random.nextInt(10) == 0
+                    ? ImmutableInfiniteBound.getInstance(false)
+                    : new LongFiniteBound(lower);
+            Bound upperBound = random.nextInt(10) == 0
+                    ? ImmutableInfiniteBound.getInstance(true)
+                    : random.nextBoolean() ? new LongFiniteBound(upper) : new DoubleFiniteBound(upper + 0.5);
+            intervals[i] = ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean());
+        }
+
+        Interval[] expected = intervals.clone();
+        Arrays.sort(expected, INTERVAL_COMPARATOR);
+
+        RadixSorter.sort(intervals);
+
+        assertArrayEquals(expected, intervals);
+    }
+
+    @Test
+    @DisplayName("Should order intervals with equal endpoint values by closedness")
+    void sort_withEqualEndpointValues_shouldOrderByClosedness() {
+        Bound zero = new LongFiniteBound(0L);
+        Bound one = new LongFiniteBound(1L);
+        Interval[] intervals = new Interval[RadixSorter.RADIX_THRESHOLD];
+        for (int i = 0; i < intervals.length; i++) {
+            intervals[i] = ImmutableInterval.of(zero, i % 2 == 0, one, i % 4 < 2);
+        }
+
+        Interval[] expected = intervals.clone();
+        Arrays.sort(expected, INTERVAL_COMPARATOR);
+
+        RadixSorter.sort(intervals);
+
+        assertArrayEquals(expected, intervals);
+        assertTrue(intervals[0].isLowerClosed() && !intervals[0].isUpperClosed());
+        assertTrue(!intervals[intervals.length - 1].isLowerClosed() && intervals[intervals.length - 1].isUpperClosed());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for null arrays and elements")
+    void sort_withNull_shouldThrowException() {
+        Bound[] bounds = {new LongFiniteBound(1L), null};
+        Interval[] intervals = {null};
+
+        assertThrows(NullPointerException.class, () -> RadixSorter.sort((Bound[]) null));
+        assertThrows(NullPointerException.class, () -> RadixSorter.sort((Interval[]) null));
+        assertThrows(NullPointerException.class, () -> RadixSorter.sort(bounds));
+        assertThrows(NullPointerException.class, () -> RadixSorter.sort(intervals));
+    }
+
+    private static void assertSortedLikeComparator(Bound[] bounds) {
+        Bound[] expected = bounds.clone();
+        Arrays.sort(expected, BOUND_COMPARATOR);
+
+        RadixSorter.sort(bounds);
+
+        assertArrayEquals(expected, bounds);
+    }
+}
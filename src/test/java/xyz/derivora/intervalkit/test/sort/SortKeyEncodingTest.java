@@ -0,0 +1,139 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.sort;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.comparison.BoundComparator;
+import xyz.derivora.intervalkit.bounds.finite.DoubleFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.ImmutableFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.IntFiniteBound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.sort.SortKeyEncoding;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/sort")
+@DisplayName("Tests for SortKeyEncoding")
+class SortKeyEncodingTest {
+
+    private static final BoundComparator BOUND_COMPARATOR = BoundComparator.getInstance();
+
+    @Test
+    @DisplayName("Should encode long bounds so that unsigned key order matches comparator order")
+    void encode_withLongBounds_shouldPreserveOrder() {
+        SplittableRandom random = new SplittableRandom(3);
+        Bound[] bounds = new Bound[2_000];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = switch (i % 4) {
+                case 0 -> new LongFiniteBound(random.nextLong());
+                case 1 -> new IntFiniteBound(random.nextInt(-10, 10));
+                case 2 -> new ImmutableFiniteBound<>((short) random.nextInt(-10, 10));
+                default -> new ImmutableFiniteBound<>(random.nextLong(-10, 10));
+            };
+        }
+        bounds[0] = new LongFiniteBound(Long.MIN_VALUE);
+        bounds[1] = new LongFiniteBound(Long.MAX_VALUE);
+
+        assertOrderPreserved(SortKeyEncoding.LONG, bounds, true);
+    }
+
+    @Test
+    @DisplayName("Should encode floating-point and exact integral bounds so that key order matches comparator order")
+    void encode_withDoubleBounds_shouldPreserveOrder() {
+        SplittableRandom random = new SplittableRandom(5);
+        Bound[] bounds = new Bound[2_000];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = switch (i % 5) {
+                case 0 -> new DoubleFiniteBound(random.nextDouble(-1e300, 1e300));
+                case 1 -> new DoubleFiniteBound(random.nextInt(-10, 10) / 4.0);
+                case 2 -> new ImmutableFiniteBound<>((float) random.nextInt(-10, 10) / 2);
+                case 3 -> new IntFiniteBound(random.nextInt(-10, 10));
+                default -> new LongFiniteBound(random.nextLong(-10, 10));
+            };
+        }
+        bounds[0] = ImmutableInfiniteBound.getInstance(true);
+        bounds[1] = ImmutableInfiniteBound.getInstance(false);
+        bounds[2] = new DoubleFiniteBound(-0.0);
+        bounds[3] = new DoubleFiniteBound(0.0);
+        bounds[4] = new DoubleFiniteBound(Double.MAX_VALUE);
+        bounds[5] = new DoubleFiniteBound(-Double.MIN_VALUE);
+
+        assertOrderPreserved(SortKeyEncoding.DOUBLE, bounds, false);
+    }
+
+    @Test
+    @DisplayName("Should share keys between infinite bounds and the extreme long values")
+    void encode_withInfiniteBoundsAsLong_shouldMatchExtremeValues() {
+        assertEquals(Long.valueOf(SortKeyEncoding.LONG.encode(new LongFiniteBound(Long.MIN_VALUE))),
+                Long.valueOf(SortKeyEncoding.LONG.encode(ImmutableInfiniteBound.getInstance(false))));
+        assertEquals(Long.valueOf(SortKeyEncoding.LONG.encode(new LongFiniteBound(Long.MAX_VALUE))),
+                Long.valueOf(SortKeyEncoding.LONG.encode(ImmutableInfiniteBound.getInstance(true))));
+    }
+
+    @Test
+    @DisplayName("Should reject bounds outside the domain of the encoding")
+    void encode_withUnsupportedBound_shouldThrowException() {
+        Bound bigDecimal = new ImmutableFiniteBound<>(BigDecimal.ONE);
+        Bound inexactLong = new LongFiniteBound((1L << 53) + 1);
+        Bound fraction = new DoubleFiniteBound(0.5);
+
+        assertFalse(SortKeyEncoding.LONG.canEncode(bigDecimal));
+        assertFalse(SortKeyEncoding.DOUBLE.canEncode(bigDecimal));
+        assertFalse(SortKeyEncoding.LONG.canEncode(fraction));
+        assertFalse(SortKeyEncoding.DOUBLE.canEncode(inexactLong));
+        assertFalse(SortKeyEncoding.DOUBLE.canEncode(new LongFiniteBound(Long.MAX_VALUE)));
+        assertTrue(SortKeyEncoding.DOUBLE.canEncode(new LongFiniteBound(Long.MIN_VALUE)));
+
+        assertThrows(IllegalArgumentException.class, () -> SortKeyEncoding.LONG.encode(fraction));
+        assertThrows(IllegalArgumentException.class, () -> SortKeyEncoding.DOUBLE.encode(inexactLong));
+        assertThrows(NullPointerException.class, () -> SortKeyEncoding.LONG.encode(null));
+    }
+
+    @Test
+    @DisplayName("Should select the narrowest encoding covering all bounds")
+    void select_withMixedBounds_shouldReturnNarrowestEncoding() {
+        Bound integral = new LongFiniteBound(7L);
+        Bound fraction = new DoubleFiniteBound(0.5);
+        Bound bigDecimal = new ImmutableFiniteBound<>(BigDecimal.ONE);
+
+        assertSame(SortKeyEncoding.LONG, SortKeyEncoding.select(integral, ImmutableInfiniteBound.getInstance(true)));
+        assertSame(SortKeyEncoding.DOUBLE, SortKeyEncoding.select(integral, fraction));
+        assertNull(SortKeyEncoding.select(integral, bigDecimal));
+        assertNull(SortKeyEncoding.select(new LongFiniteBound(Long.MAX_VALUE), fraction));
+        assertSame(SortKeyEncoding.LONG, SortKeyEncoding.select());
+    }
+
+    private static void assertOrderPreserved(SortKeyEncoding encoding, Bound[] bounds, boolean infiniteTies) {
+        for (int i = 0; i < bounds.length; i++) {
+            Bound first = bounds[i];
+            Bound second = bounds[(i * 31 + 7) % bounds.length];
+            int expected = Integer.signum(BOUND_COMPARATOR.compare(first, second));
+            int actual = Integer.signum(Long.compareUnsigned(encoding.encode(first), encoding.encode(second)));
+            if (expected != actual && !(infiniteTies && actual == 0 && (first.isInfinite() || second.isInfinite()))) {
+                fail(String.format("Keys of %s and %s compare as %d instead of %d", first, second, actual, expected));
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * This file is part of Derivora Interval Kit.
+ *
+ * Derivora Interval Kit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Derivora Interval Kit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Derivora Interval Kit. If not, see https://www.gnu.org/licenses/lgpl-3.0.html.
+ */
+
+package xyz.derivora.intervalkit.test.sweep;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import xyz.derivora.intervalkit.bounds.Bound;
+import xyz.derivora.intervalkit.bounds.finite.LongFiniteBound;
+import xyz.derivora.intervalkit.bounds.infinite.ImmutableInfiniteBound;
+import xyz.derivora.intervalkit.intervals.ImmutableInterval;
+import xyz.derivora.intervalkit.intervals.Interval;
+import xyz.derivora.intervalkit.intervals.IntervalComparator;
+import xyz.derivora.intervalkit.sweep.CoverageSegment;
+import xyz.derivora.intervalkit.sweep.IntervalPair;
+import xyz.derivora.intervalkit.sweep.SweepLine;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("xyz/derivora/intervalkit/sweep")
+@DisplayName("Tests for SweepLine")
+class SweepLineTest {
+
+    private static final Bound NEGATIVE_INFINITY = ImmutableInfiniteBound.getInstance(false);
+    private static final Bound POSITIVE_INFINITY = ImmutableInfiniteBound.getInstance(true);
+
+    private static Bound bound(long value) {
+        return new LongFiniteBound(value);
+    }
+
+    private static List<Interval> sortedRandomIntervals(Random random, int count) {
+        List<Interval> intervals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long lower = random.nextInt(100);
+            long upper = lower + random.nextInt(15);
+            Bound lowerBound = random.nextInt(25) == 0 ? NEGATIVE_INFINITY : bound(lower);
+            Bound upperBound = random.nextInt(25) == 0 ? POSITIVE_INFINITY : bound(upper);
+            intervals.add(ImmutableInterval.of(lowerBound, random.nextBoolean(), upperBound, random.nextBoolean()));
+        }
+        intervals.sort(IntervalComparator::compareLowerEndpoints);
+
+        return intervals;
+    }
+
+    @Test
+    @DisplayName("Should report every overlapping pair exactly once")
+    void overlappingPairs_shouldMatchAllPairsScan() {
+        for (int seed = 0; seed < 5; seed++) {
+            List<Interval> intervals = sortedRandomIntervals(new Random(seed), 300);
+            Map<Interval, Integer> positions = new IdentityHashMap<>();
+            for (int i = 0; i < intervals.size(); i++) {
+                positions.put(intervals.get(i), i);
+            }
+
+            Set<List<Integer>> expected = new HashSet<>();
+            for (int i = 0; i < intervals.size(); i++) {
+                for (int j = i + 1; j < intervals.size(); j++) {
+                    if (intervals.get(i).overlaps(intervals.get(j))) {
+                        expected.add(List.of(i, j));
+                    }
+                }
+            }
+
+            List<IntervalPair<Interval>> pairs = SweepLine.overlappingPairs(intervals.iterator()).toList();
+            Set<List<Integer>> actual = new HashSet<>();
+            for (IntervalPair<Interval> pair : pairs) {
+                int first = positions.get(pair.first());
+                int second = positions.get(pair.second());
+                assertTrue(first < second);
+                actual.add(List.of(first, second));
+            }
+
+            assertEquals(expected.size(), pairs.size());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report coverage segments matching the depth of every point")
+    void coverage_shouldMatchPointwiseDepth() {
+        for (int seed = 0; seed < 5; seed++) {
+            List<Interval> intervals = sortedRandomIntervals(new Random(seed), 200);
+            List<CoverageSegment> segments = SweepLine.coverage(intervals.stream()).toList();
+
+            for (int i = 1; i < segments.size(); i++) {
+                Interval previous = segments.get(i - 1).interval();
+                Interval current = segments.get(i).interval();
+                assertFalse(previous.overlaps(current));
+                assertTrue(IntervalComparator.compareLowerEndpoints(previous, current) < 0);
+                boolean adjacent = IntervalComparator.compareLowerEndpoints(
+                        previous.getUpperBound(), !previous.isUpperClosed(),
+                        current.getLowerBound(), current.isLowerClosed()) == 0;
+                if (adjacent) {
+                    assertNotEquals(segments.get(i - 1).depth(), segments.get(i).depth());
+                }
+            }
+
+            for (int twice = -10; twice <= 250; twice++) {
+                Number point = twice % 2 == 0 ? (Number) (long) (twice / 2) : (Number) (twice / 2.0);
+                long expected = intervals.stream().filter(interval -> interval.contains(point)).count();
+                long actual = segments.stream()
+                        .filter(segment -> segment.interval().contains(point))
+                        .mapToLong(CoverageSegment::depth)
+                        .sum();
+                assertEquals(Long.valueOf(expected), Long.valueOf(actual), "Point " + point);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should split coverage at shared closed and open endpoints")
+    void coverage_withTouchingIntervals_shouldResolveEndpoints() {
+        List<Interval> intervals = List.of(
+                ImmutableInterval.closed(bound(0), bound(2)),
+                ImmutableInterval.closedOpen(bound(2), bound(4)),
+                ImmutableInterval.open(bound(4), bound(6))
+        );
+
+        List<CoverageSegment> segments = SweepLine.coverage(intervals.iterator()).toList();
+
+        assertEquals(List.of(
+                new CoverageSegment(ImmutableInterval.closedOpen(bound(0), bound(2)), 1),
+                new CoverageSegment(ImmutableInterval.closed(bound(2), bound(2)), 2),
+                new CoverageSegment(ImmutableInterval.open(bound(2), bound(4)), 1),
+                new CoverageSegment(ImmutableInterval.open(bound(4), bound(6)), 1)
+        ), segments);
+    }
+
+    @Test
+    @DisplayName("Should consume an unbounded sorted stream lazily")
+    void coverage_withUnboundedStream_shouldProduceSegmentsLazily() {
+        Stream<Interval> intervals = Stream.iterate(0L, value -> value + 1)
+                .map(value -> ImmutableInterval.closed(bound(2 * value), bound(2 * value + 1)));
+
+        List<CoverageSegment> segments = SweepLine.coverage(intervals).limit(4).toList();
+        List<IntervalPair<Interval>> pairs = SweepLine.overlappingPairs(
+                Stream.iterate(0L, value -> value + 1)
+                        .map(value -> (Interval) ImmutableInterval.closedOpen(bound(value), bound(value + 2)))
+        ).limit(3).toList();
+
+        assertEquals(4, segments.size());
+        assertEquals(ImmutableInterval.closed(bound(6), bound(7)), segments.get(3).interval());
+        assertEquals(3, pairs.size());
+    }
+
+    @Test
+    @DisplayName("Should skip empty intervals")
+    void overlappingPairs_withEmptyIntervals_shouldIgnoreThem() {
+        List<Interval> intervals = List.of(
+                ImmutableInterval.closed(bound(0), bound(5)),
+                ImmutableInterval.open(bound(1), bound(1)),
+                ImmutableInterval.closed(bound(2), bound(3))
+        );
+
+        assertEquals(1, SweepLine.overlappingPairs(intervals.iterator()).count());
+        assertEquals(3, SweepLine.coverage(intervals.iterator()).count());
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the input is not sorted by lower endpoint")
+    void overlappingPairs_withUnsortedInput_shouldThrowIllegalArgumentException() {
+        List<Interval> intervals = List.of(
+                ImmutableInterval.closed(bound(5), bound(6)),
+                ImmutableInterval.closed(bound(1), bound(2))
+        );
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SweepLine.overlappingPairs(intervals.iterator()).count());
+        assertThrows(IllegalArgumentException.class,
+                () -> SweepLine.coverage(intervals.iterator()).count());
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when the input is null")
+    void overlappingPairs_withNull_shouldThrowNullPointerException() {
+        assertThrows(NullPointerException.class,
+                () -> SweepLine.overlappingPairs((Stream<Interval>) null));
+        assertThrows(NullPointerException.class,
+                () -> SweepLine.coverage((Stream<Interval>) null));
+    }
+}